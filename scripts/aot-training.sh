@@ -0,0 +1,66 @@
+#!/bin/sh
+# Entrenamiento de la caché AOT de la JVM (JEP 483/514).
+#
+# Arranca la aplicación extraída con -XX:AOTCacheOutput, ejercita los endpoints principales y la
+# detiene: al salir, la JVM escribe en app.aot las clases cargadas y enlazadas y los perfiles de
+# los métodos calientes. La caché solo vale para la misma JVM y el mismo classpath, así que el
+# entrenamiento debe hacerse con la JVM y en la ruta donde se ejecutará la aplicación.
+#
+# Uso: scripts/aot-training.sh <directorio con app.jar y lib/>
+# Necesita PostgreSQL y Redis accesibles con la configuración del perfil activo. SPRING_AOT_ENABLED
+# (true por defecto) debe coincidir con el modo en que se arrancará la aplicación, para entrenar
+# las mismas clases.
+set -eu
+
+APP_DIR=$1
+PORT=${TRAINING_PORT:-8080}
+BASE_URL="http://localhost:$PORT"
+REQUESTS=${TRAINING_REQUESTS:-50}
+
+cd "$APP_DIR"
+rm -f app.aot
+
+# shellcheck disable=SC2086 # JAVA_OPTS contiene varias opciones
+java ${JAVA_OPTS:-} -XX:AOTCacheOutput=app.aot -Dspring.aot.enabled="${SPRING_AOT_ENABLED:-true}" \
+  -Dserver.port="$PORT" -jar app.jar &
+APP_PID=$!
+trap 'kill "$APP_PID" 2>/dev/null || true' EXIT
+
+attempts=0
+until wget -q -O /dev/null "$BASE_URL/actuator/health"; do
+  attempts=$((attempts + 1))
+  if [ "$attempts" -ge 120 ] || ! kill -0 "$APP_PID" 2>/dev/null; then
+    echo "La aplicación no arrancó para el entrenamiento" >&2
+    exit 1
+  fi
+  sleep 1
+done
+
+post() {
+  wget -q -O - --header 'Content-Type: application/json' --post-data "$2" "$BASE_URL$1" |
+    sed -n 's/.*"id":"\([^"]*\)".*/\1/p'
+}
+
+FRANCHISE_ID=$(post /api/v1/franchises "{\"name\":\"Entrenamiento AOT $$\"}")
+BRANCH_ID=$(post /api/v1/branches "{\"franchiseId\":\"$FRANCHISE_ID\",\"name\":\"Sucursal\"}")
+post /api/v1/products "{\"branchId\":\"$BRANCH_ID\",\"name\":\"Producto\",\"stock\":10}" >/dev/null
+
+i=0
+while [ "$i" -lt "$REQUESTS" ]; do
+  wget -q -O /dev/null "$BASE_URL/api/v1/franchises/$FRANCHISE_ID"
+  wget -q -O /dev/null "$BASE_URL/api/v1/franchises/$FRANCHISE_ID/top-stock-products"
+  wget -q -O /dev/null "$BASE_URL/api/v1/branches/$BRANCH_ID/products"
+  wget -q -O /dev/null "$BASE_URL/api/v1/franchises?size=20"
+  i=$((i + 1))
+done
+
+# SIGTERM cierra la aplicación con normalidad y la JVM escribe la caché al salir
+kill -TERM "$APP_PID"
+wait "$APP_PID" || true
+trap - EXIT
+
+if [ ! -s app.aot ]; then
+  echo "No se generó la caché AOT" >&2
+  exit 1
+fi
+echo "Caché AOT generada en $APP_DIR/app.aot"
@@ -0,0 +1,82 @@
+#!/bin/sh
+# Mide el tiempo hasta la primera respuesta correcta de GET /api/v1/franchises/{id}, desde que se
+# lanza la JVM, con el jar normal (antes) y con el modo de arranque rápido (después).
+#
+# Uso: scripts/measure-startup.sh [ejecuciones]
+# Requisitos:
+#   - ./mvnw -Pfast-startup package (genera target/*.jar y target/fast-startup/)
+#   - PostgreSQL y Redis del perfil dev: docker compose up -d postgres redis
+#   - curl y date con nanosegundos (GNU coreutils)
+set -eu
+
+RUNS=${1:-5}
+PORT=${MEASURE_PORT:-8081}
+BASE_URL="http://localhost:$PORT"
+JAR=$(ls target/*.jar | head -n 1)
+FAST_DIR=target/fast-startup
+
+if [ ! -s "$FAST_DIR/app.aot" ]; then
+  echo "Falta $FAST_DIR/app.aot: ejecuta antes ./mvnw -Pfast-startup package" >&2
+  exit 1
+fi
+
+now_ms() {
+  echo $(($(date +%s%N) / 1000000))
+}
+
+# Lanza la aplicación con el comando recibido y espera a la primera respuesta 200 de $1
+first_success_ms() {
+  url=$1
+  shift
+  start=$(now_ms)
+  "$@" >/dev/null 2>&1 &
+  pid=$!
+  until curl -sf -o /dev/null "$url"; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "La aplicación terminó antes de responder" >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+  elapsed=$(($(now_ms) - start))
+  kill -TERM "$pid"
+  wait "$pid" || true
+  echo "$elapsed"
+}
+
+run_baseline() {
+  java -Dserver.port="$PORT" -jar "$JAR"
+}
+
+run_fast() {
+  cd "$FAST_DIR" &&
+    exec java -XX:AOTCache=app.aot -Dspring.aot.enabled=true -Dserver.port="$PORT" -jar app.jar
+}
+
+median() {
+  sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+# Franquicia de referencia, creada con una ejecución previa que no se mide
+run_baseline >/dev/null 2>&1 &
+seed_pid=$!
+until curl -sf -o /dev/null "$BASE_URL/actuator/health"; do sleep 0.2; done
+FRANCHISE_ID=$(curl -sf -H 'Content-Type: application/json' \
+  -d "{\"name\":\"Medición arranque $$\"}" "$BASE_URL/api/v1/franchises" |
+  sed -n 's/.*"id":"\([^"]*\)".*/\1/p')
+kill -TERM "$seed_pid"
+wait "$seed_pid" || true
+URL="$BASE_URL/api/v1/franchises/$FRANCHISE_ID"
+
+for mode in baseline fast; do
+  results=""
+  i=0
+  while [ "$i" -lt "$RUNS" ]; do
+    ms=$(first_success_ms "$URL" "run_$mode")
+    results="$results$ms
+"
+    i=$((i + 1))
+  done
+  printf '%-8s mediana %6s ms  (%s)\n' "$mode" \
+    "$(printf '%s' "$results" | median)" "$(printf '%s' "$results" | tr '\n' ' ')"
+done
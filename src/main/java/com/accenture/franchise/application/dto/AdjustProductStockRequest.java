@@ -0,0 +1,14 @@
+package com.accenture.franchise.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+/** DTO para ajustar el stock de un producto de forma relativa. */
+@Schema(description = "Ajuste relativo del stock de un producto")
+public record AdjustProductStockRequest(
+    @NotNull(message = "Delta is required.")
+        @Schema(
+            description = "Cantidad a sumar (positiva) o restar (negativa) del stock actual",
+            example = "-3",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+        Integer delta) {}
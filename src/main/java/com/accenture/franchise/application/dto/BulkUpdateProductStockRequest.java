@@ -0,0 +1,33 @@
+package com.accenture.franchise.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+
+/** DTO para actualizar el stock de muchos productos en una sola petición. */
+@Schema(description = "Lote de nuevos valores de stock")
+public record BulkUpdateProductStockRequest(
+    @NotEmpty(message = "Items are required.")
+        @Size(max = 10000, message = "A bulk update accepts at most 10000 items")
+        @Schema(
+            description = "Productos y su nuevo stock",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+        List<Item> items) {
+
+  /** Nuevo stock de un producto. Se valida por elemento para no rechazar el lote completo. */
+  @Schema(description = "Nuevo stock de un producto")
+  public record Item(
+      @Schema(
+              description = "ID del producto",
+              example = "123e4567-e89b-12d3-a456-426614174002",
+              requiredMode = Schema.RequiredMode.REQUIRED)
+          UUID productId,
+      @Schema(
+              description = "Nueva cantidad en stock",
+              example = "100",
+              requiredMode = Schema.RequiredMode.REQUIRED,
+              minimum = "0")
+          Integer stock) {}
+}
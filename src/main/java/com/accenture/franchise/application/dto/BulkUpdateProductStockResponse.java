@@ -0,0 +1,31 @@
+package com.accenture.franchise.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.UUID;
+
+/** DTO de respuesta de una actualización masiva de stock, con el resultado de cada elemento. */
+@Schema(description = "Resultado de una actualización masiva de stock")
+public record BulkUpdateProductStockResponse(
+    @Schema(description = "Productos actualizados", example = "998") int updated,
+    @Schema(description = "Productos inexistentes", example = "1") int notFound,
+    @Schema(description = "Elementos rechazados por datos inválidos", example = "1") int rejected,
+    @Schema(description = "Resultado por elemento, en el orden de la petición")
+        List<ItemResult> results) {
+
+  /** Resultado de un elemento del lote. */
+  public enum Status {
+    UPDATED,
+    NOT_FOUND,
+    REJECTED
+  }
+
+  /** Resultado de actualizar el stock de un producto. */
+  @Schema(description = "Resultado de un elemento del lote")
+  public record ItemResult(
+      @Schema(description = "ID del producto") UUID productId,
+      @Schema(description = "Resultado de la actualización") Status status,
+      @Schema(description = "Motivo del rechazo") @JsonInclude(JsonInclude.Include.NON_NULL)
+          String message) {}
+}
@@ -0,0 +1,23 @@
+package com.accenture.franchise.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.UUID;
+
+/** DTO de respuesta para el detalle de una franquicia con sus contadores. */
+@Schema(description = "Detalle de una franquicia con sus sucursales y contadores agregados")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record FranchiseSummaryResponse(
+    @Schema(
+            description = "ID único de la franquicia",
+            example = "123e4567-e89b-12d3-a456-426614174001")
+        UUID id,
+    @Schema(description = "Nombre de la franquicia", example = "Franquicia ABC") String name,
+    @Schema(description = "Sucursales de la franquicia, sin productos")
+        List<BranchResponse> branches,
+    @Schema(description = "Número de sucursales", example = "3") int branchCount,
+    @Schema(description = "Número de productos en todas las sucursales", example = "42")
+        long productCount,
+    @Schema(description = "Suma del stock de todos los productos", example = "1250")
+        long totalStock) {}
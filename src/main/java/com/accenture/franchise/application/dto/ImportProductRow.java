@@ -0,0 +1,4 @@
+package com.accenture.franchise.application.dto;
+
+/** Fila leída de un fichero de importación de productos, con su número de línea de origen. */
+public record ImportProductRow(long line, String name, Integer stock) {}
@@ -0,0 +1,45 @@
+package com.accenture.franchise.application.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Cursor opaco para paginación por clave: codifica en Base64 URL-safe los valores de la clave de
+ * ordenación del último elemento devuelto.
+ */
+public final class KeysetCursor {
+
+  private static final String SEPARATOR = "\u001F";
+  private static final String INVALID_CURSOR = "Invalid page cursor";
+
+  private KeysetCursor() {}
+
+  /** Codifica los valores de la clave de ordenación en un cursor. */
+  public static String encode(Object... parts) {
+    String joined = String.join(SEPARATOR, Arrays.stream(parts).map(String::valueOf).toList());
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodifica un cursor y comprueba que tenga el número de partes esperado.
+   *
+   * @throws IllegalArgumentException si el cursor no es válido
+   */
+  public static List<String> decode(String cursor, int expectedParts) {
+    byte[] bytes;
+    try {
+      bytes = Base64.getUrlDecoder().decode(cursor);
+    } catch (IllegalArgumentException ex) {
+      throw new IllegalArgumentException(INVALID_CURSOR, ex);
+    }
+    List<String> parts = List.of(new String(bytes, StandardCharsets.UTF_8).split(SEPARATOR, -1));
+    if (parts.size() != expectedParts) {
+      throw new IllegalArgumentException(INVALID_CURSOR);
+    }
+    return parts;
+  }
+}
@@ -0,0 +1,13 @@
+package com.accenture.franchise.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/** DTO de respuesta para una página de un listado paginado por cursor. */
+@Schema(description = "Página de un listado paginado por cursor")
+public record PageResponse<T>(
+    @Schema(description = "Elementos de la página") List<T> items,
+    @Schema(
+            description = "Cursor de la página siguiente; null si es la última",
+            example = "RnJhbnF1aWNpYSBBQkMfMTIzZTQ1NjctZTg5Yi0xMmQzLWE0NTYtNDI2NjE0MTc0MDAx")
+        String nextCursor) {}
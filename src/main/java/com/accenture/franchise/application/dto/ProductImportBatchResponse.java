@@ -0,0 +1,17 @@
+package com.accenture.franchise.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/** DTO con el resultado de un lote de una importación masiva de productos. */
+@Schema(description = "Resultado de un lote de la importación, confirmado en su propia transacción")
+public record ProductImportBatchResponse(
+    @Schema(description = "Número del lote, empezando en 1", example = "1") int number,
+    @Schema(description = "Primera línea del fichero incluida en el lote", example = "1")
+        long firstLine,
+    @Schema(description = "Última línea del fichero incluida en el lote", example = "503")
+        long lastLine,
+    @Schema(description = "Productos creados en el lote", example = "497") int imported,
+    @Schema(description = "Filas del lote omitidas por nombre ya existente", example = "3")
+        int duplicates,
+    @Schema(description = "Si el lote se guardó; si falló no queda nada de él", example = "true")
+        boolean committed) {}
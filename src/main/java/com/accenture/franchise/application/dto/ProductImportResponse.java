@@ -0,0 +1,20 @@
+package com.accenture.franchise.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * DTO de respuesta de una importación masiva de productos. Cada lote se confirma por separado: si
+ * uno falla, la importación se detiene, los anteriores quedan guardados y {@code completed} es
+ * falso.
+ */
+@Schema(description = "Resultado de una importación de productos")
+public record ProductImportResponse(
+    @Schema(description = "Productos creados", example = "4980") int imported,
+    @Schema(description = "Filas omitidas por nombre ya existente en la sucursal", example = "15")
+        int duplicates,
+    @Schema(description = "Filas rechazadas por datos inválidos", example = "5") int rejected,
+    @Schema(description = "Detalle de las primeras filas rechazadas") List<String> errors,
+    @Schema(description = "Si se procesó el fichero completo", example = "true") boolean completed,
+    @Schema(description = "Resultado de cada lote en orden")
+        List<ProductImportBatchResponse> batches) {}
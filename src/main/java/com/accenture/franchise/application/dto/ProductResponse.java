@@ -1,5 +1,6 @@
 package com.accenture.franchise.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.UUID;
 
@@ -13,4 +14,15 @@ public record ProductResponse(
     @Schema(
             description = "ID de la sucursal a la que pertenece",
             example = "123e4567-e89b-12d3-a456-426614174000")
-        UUID branchId) {}
+        UUID branchId,
+    @Schema(
+            description = "Versión del producto; se envía en If-Match para actualizar el stock",
+            example = "3")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Long version) {
+
+  /** Crea la respuesta sin versión conocida. */
+  public ProductResponse(UUID id, String name, Integer stock, UUID branchId) {
+    this(id, name, stock, branchId, null);
+  }
+}
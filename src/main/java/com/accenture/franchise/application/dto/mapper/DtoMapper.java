@@ -2,10 +2,12 @@ package com.accenture.franchise.application.dto.mapper;
 
 import com.accenture.franchise.application.dto.BranchResponse;
 import com.accenture.franchise.application.dto.FranchiseResponse;
+import com.accenture.franchise.application.dto.FranchiseSummaryResponse;
 import com.accenture.franchise.application.dto.ProductResponse;
 import com.accenture.franchise.application.dto.ProductStockResponse;
 import com.accenture.franchise.domain.model.Branch;
 import com.accenture.franchise.domain.model.Franchise;
+import com.accenture.franchise.domain.model.FranchiseSummary;
 import com.accenture.franchise.domain.model.Product;
 import com.accenture.franchise.domain.model.ProductStock;
 import java.util.Collections;
@@ -30,6 +32,28 @@ public class DtoMapper {
             : null);
   }
 
+  /** Convierte el resumen de una franquicia a su DTO de detalle. */
+  public FranchiseSummaryResponse toFranchiseSummaryResponse(FranchiseSummary summary) {
+    if (summary == null) {
+      return null;
+    }
+
+    return new FranchiseSummaryResponse(
+        summary.id(),
+        summary.name(),
+        !summary.branches().isEmpty()
+            ? summary.branches().stream()
+                .map(
+                    branch ->
+                        new BranchResponse(
+                            branch.id(), branch.name(), summary.id(), Collections.emptyList()))
+                .toList()
+            : null,
+        summary.branchCount(),
+        summary.productCount(),
+        summary.totalStock());
+  }
+
   /** Convierte una sucursal de dominio a su DTO de respuesta SIN productos (para listados). */
   public BranchResponse toBranchResponseWithoutProducts(Branch branch) {
     if (branch == null) {
@@ -64,7 +88,11 @@ public class DtoMapper {
     }
 
     return new ProductResponse(
-        product.getId(), product.getName(), product.getStock(), product.getBranchId());
+        product.getId(),
+        product.getName(),
+        product.getStock(),
+        product.getBranchId(),
+        product.getVersion());
   }
 
   /** Convierte un valor de stock de producto a su DTO de respuesta. */
@@ -31,11 +31,11 @@ public class UpdateBranchNameUseCase {
             .findById(branchId)
             .orElseThrow(() -> new EntityNotFoundException("Branch", branchId));
 
-    // Actualizar usando lógica de dominio
-    branch.updateName(request.name());
+    // Renombrar usando lógica de dominio; sin su franquicia cargada, sobre una copia
+    Branch renamed = branch.withName(request.name());
 
     // Persistir
-    Branch updatedBranch = branchRepository.save(branch);
+    Branch updatedBranch = branchRepository.save(renamed);
 
     log.info("Branch name updated successfully");
 
@@ -0,0 +1,50 @@
+package com.accenture.franchise.application.usecase.franchise;
+
+import com.accenture.franchise.application.dto.ProductStockResponse;
+import com.accenture.franchise.application.dto.mapper.DtoMapper;
+import com.accenture.franchise.domain.exception.EntityNotFoundException;
+import com.accenture.franchise.domain.repository.FranchiseRepository;
+import com.accenture.franchise.domain.repository.ProductRepository;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Caso de uso: Exportar el catálogo completo de una franquicia (sucursales y productos).
+ *
+ * <p>Las filas se entregan una a una a medida que se leen de la base de datos, sin construir el
+ * agregado en memoria. La transacción de solo lectura mantiene abierto el cursor durante la
+ * exportación.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ExportFranchiseCatalogUseCase {
+
+  private final FranchiseRepository franchiseRepository;
+  private final ProductRepository productRepository;
+  private final DtoMapper mapper;
+
+  /** Entrega cada producto de la franquicia a {@code sink}; devuelve el número de filas. */
+  public long execute(UUID franchiseId, Consumer<ProductStockResponse> sink) {
+    log.info("Exporting catalog of franchise: {}", franchiseId);
+    if (!franchiseRepository.existsById(franchiseId)) {
+      throw new EntityNotFoundException("Franchise", franchiseId);
+    }
+
+    long[] rows = {0};
+    productRepository.streamCatalogByFranchiseId(
+        franchiseId,
+        productStock -> {
+          sink.accept(mapper.toProductStockResponse(productStock));
+          rows[0]++;
+        });
+
+    log.info("Exported {} catalog rows of franchise: {}", rows[0], franchiseId);
+    return rows[0];
+  }
+}
@@ -1,34 +1,39 @@
 package com.accenture.franchise.application.usecase.franchise;
 
-import com.accenture.franchise.application.dto.FranchiseResponse;
+import com.accenture.franchise.application.dto.FranchiseSummaryResponse;
 import com.accenture.franchise.application.dto.mapper.DtoMapper;
 import com.accenture.franchise.domain.exception.EntityNotFoundException;
-import com.accenture.franchise.domain.model.Franchise;
-import com.accenture.franchise.domain.repository.FranchiseRepository;
+import com.accenture.franchise.domain.model.FranchiseSummary;
+import com.accenture.franchise.domain.repository.FranchiseSummaryRepository;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-/** Caso de uso: Obtener una franquicia por ID. */
+/**
+ * Caso de uso: Obtener una franquicia por ID.
+ *
+ * <p>Lee el modelo de lectura desnormalizado en lugar de reconstruir el agregado: una sola fila con
+ * las cabeceras de las sucursales y los contadores.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
 public class GetFranchiseUseCase {
 
-  private final FranchiseRepository franchiseRepository;
+  private final FranchiseSummaryRepository franchiseSummaryRepository;
   private final DtoMapper mapper;
 
   /** Obtiene una franquicia por su identificador. */
-  public FranchiseResponse execute(UUID franchiseId) {
+  public FranchiseSummaryResponse execute(UUID franchiseId) {
     log.info("Getting franchise with id: {}", franchiseId);
-    Franchise franchise =
-        franchiseRepository
+    FranchiseSummary summary =
+        franchiseSummaryRepository
             .findById(franchiseId)
             .orElseThrow(() -> new EntityNotFoundException("Franchise", franchiseId));
 
-    return mapper.toFranchiseResponse(franchise);
+    return mapper.toFranchiseSummaryResponse(summary);
   }
 }
@@ -0,0 +1,33 @@
+package com.accenture.franchise.application.usecase.franchise;
+
+import com.accenture.franchise.domain.exception.EntityNotFoundException;
+import com.accenture.franchise.domain.repository.FranchiseSummaryRepository;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Caso de uso: Obtener la versión de una franquicia.
+ *
+ * <p>La versión avanza con cada escritura sobre la franquicia, sus sucursales o sus productos, así
+ * que permite responder a una lectura condicional leyendo una sola columna, sin cargar la
+ * franquicia.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class GetFranchiseVersionUseCase {
+
+  private final FranchiseSummaryRepository franchiseSummaryRepository;
+
+  /** Obtiene la versión actual de una franquicia. */
+  public long execute(UUID franchiseId) {
+    log.debug("Getting version of franchise: {}", franchiseId);
+    return franchiseSummaryRepository
+        .findVersionById(franchiseId)
+        .orElseThrow(() -> new EntityNotFoundException("Franchise", franchiseId));
+  }
+}
@@ -3,8 +3,8 @@ package com.accenture.franchise.application.usecase.franchise;
 import com.accenture.franchise.application.dto.ProductStockResponse;
 import com.accenture.franchise.application.dto.mapper.DtoMapper;
 import com.accenture.franchise.domain.exception.EntityNotFoundException;
-import com.accenture.franchise.domain.model.Franchise;
 import com.accenture.franchise.domain.repository.FranchiseRepository;
+import com.accenture.franchise.domain.repository.ProductRepository;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -21,17 +21,18 @@ import org.springframework.transaction.annotation.Transactional;
 public class GetTopStockProductsByFranchiseUseCase {
 
   private final FranchiseRepository franchiseRepository;
+  private final ProductRepository productRepository;
   private final DtoMapper mapper;
 
   /** Obtiene los productos con mayor stock por sucursal para una franquicia. */
   public List<ProductStockResponse> execute(UUID franchiseId) {
     log.info("Getting top stock products for franchise: {}", franchiseId);
-    Franchise franchise =
-        franchiseRepository
-            .findById(franchiseId)
-            .orElseThrow(() -> new EntityNotFoundException("Franchise", franchiseId));
+    if (!franchiseRepository.existsById(franchiseId)) {
+      throw new EntityNotFoundException("Franchise", franchiseId);
+    }
 
-    return franchise.getTopStockProductsByBranch().stream()
+    // El cálculo se delega a la base de datos: una fila por sucursal, sin cargar el agregado
+    return productRepository.findTopStockByFranchiseId(franchiseId).stream()
         .map(mapper::toProductStockResponse)
         .collect(Collectors.toList());
   }
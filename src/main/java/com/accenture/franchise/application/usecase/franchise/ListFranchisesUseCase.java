@@ -0,0 +1,76 @@
+package com.accenture.franchise.application.usecase.franchise;
+
+import com.accenture.franchise.application.dto.FranchiseResponse;
+import com.accenture.franchise.application.dto.KeysetCursor;
+import com.accenture.franchise.application.dto.PageResponse;
+import com.accenture.franchise.application.dto.mapper.DtoMapper;
+import com.accenture.franchise.domain.model.Franchise;
+import com.accenture.franchise.domain.repository.FranchiseRepository;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Caso de uso: Listar franquicias ordenadas por nombre con paginación por cursor.
+ *
+ * <p>El cursor codifica el par {@code (name, id)} de la última franquicia devuelta, de modo que
+ * cada página cuesta lo mismo sin importar cuántas franquicias la preceden.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ListFranchisesUseCase {
+
+  /** Tamaño máximo de página admitido. */
+  public static final int MAX_PAGE_SIZE = 100;
+
+  private final FranchiseRepository franchiseRepository;
+  private final DtoMapper mapper;
+
+  /**
+   * Obtiene una página de franquicias.
+   *
+   * @param cursor cursor devuelto por la página anterior; null o vacío para la primera
+   * @param size número de franquicias por página, entre 1 y {@link #MAX_PAGE_SIZE}
+   */
+  public PageResponse<FranchiseResponse> execute(String cursor, int size) {
+    if (size < 1 || size > MAX_PAGE_SIZE) {
+      throw new IllegalArgumentException(
+          "Page size must be between 1 and " + MAX_PAGE_SIZE + ", got " + size);
+    }
+    log.debug("Listing franchises after cursor {} with size {}", cursor, size);
+
+    String afterName = null;
+    UUID afterId = null;
+    if (cursor != null && !cursor.isBlank()) {
+      List<String> parts = KeysetCursor.decode(cursor, 2);
+      afterName = parts.get(0);
+      afterId = parseId(parts.get(1));
+    }
+
+    // Se pide un elemento de más para saber si hay página siguiente sin una consulta de conteo
+    List<Franchise> franchises =
+        franchiseRepository.findPageOrderedByName(afterName, afterId, size + 1);
+    boolean hasNext = franchises.size() > size;
+    List<Franchise> page = hasNext ? franchises.subList(0, size) : franchises;
+
+    String nextCursor = null;
+    if (hasNext) {
+      Franchise last = page.get(page.size() - 1);
+      nextCursor = KeysetCursor.encode(last.getName(), last.getId());
+    }
+    return new PageResponse<>(page.stream().map(mapper::toFranchiseResponse).toList(), nextCursor);
+  }
+
+  private static UUID parseId(String value) {
+    try {
+      return UUID.fromString(value);
+    } catch (IllegalArgumentException ex) {
+      throw new IllegalArgumentException("Invalid page cursor", ex);
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package com.accenture.franchise.application.usecase.product;
+
+import com.accenture.franchise.application.dto.AdjustProductStockRequest;
+import com.accenture.franchise.application.dto.ProductResponse;
+import com.accenture.franchise.application.dto.mapper.DtoMapper;
+import com.accenture.franchise.domain.exception.BusinessRuleViolationException;
+import com.accenture.franchise.domain.exception.EntityNotFoundException;
+import com.accenture.franchise.domain.model.Product;
+import com.accenture.franchise.domain.repository.ProductRepository;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Caso de uso: Ajustar el stock de un producto sumando o restando una cantidad.
+ *
+ * <p>El ajuste bloquea la fila del producto hasta el commit; para no alargar la transacción, la
+ * comprobación de existencia solo se ejecuta si el ajuste falla.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class AdjustProductStockUseCase {
+
+  private final ProductRepository productRepository;
+  private final DtoMapper mapper;
+
+  /** Ejecuta el ajuste relativo del stock de un producto. */
+  public ProductResponse execute(UUID productId, AdjustProductStockRequest request) {
+    log.debug("Adjusting product stock with id: {} by {}", productId, request.delta());
+
+    // Validar usando lógica de dominio
+    Product.validateStockDelta(request.delta());
+
+    // Ajustar y leer el resultado en una sola sentencia
+    Optional<Product> adjustedProduct = productRepository.adjustStock(productId, request.delta());
+
+    if (adjustedProduct.isEmpty()) {
+      if (productRepository.existsById(productId)) {
+        throw new BusinessRuleViolationException(
+            String.format(
+                "Insufficient stock for product %s to apply a delta of %d",
+                productId, request.delta()));
+      }
+      throw new EntityNotFoundException("Product", productId);
+    }
+
+    return mapper.toProductResponse(adjustedProduct.get());
+  }
+}
@@ -0,0 +1,84 @@
+package com.accenture.franchise.application.usecase.product;
+
+import com.accenture.franchise.application.dto.BulkUpdateProductStockRequest;
+import com.accenture.franchise.application.dto.BulkUpdateProductStockResponse;
+import com.accenture.franchise.application.dto.BulkUpdateProductStockResponse.ItemResult;
+import com.accenture.franchise.application.dto.BulkUpdateProductStockResponse.Status;
+import com.accenture.franchise.domain.model.Product;
+import com.accenture.franchise.domain.model.StockChange;
+import com.accenture.franchise.domain.repository.ProductRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Caso de uso: Actualizar el stock de muchos productos a la vez.
+ *
+ * <p>Los elementos inválidos se rechazan individualmente y el resto se envía al repositorio en una
+ * sola llamada, que los escribe por lotes.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class BulkUpdateProductStockUseCase {
+
+  private final ProductRepository productRepository;
+
+  /** Ejecuta la actualización masiva y devuelve el resultado de cada elemento. */
+  public BulkUpdateProductStockResponse execute(BulkUpdateProductStockRequest request) {
+    log.info("Updating stock of {} products", request.items().size());
+
+    List<StockChange> changes = new ArrayList<>(request.items().size());
+    List<String> rejections = new ArrayList<>(request.items().size());
+    for (BulkUpdateProductStockRequest.Item item : request.items()) {
+      String rejection = validate(item);
+      rejections.add(rejection);
+      if (rejection == null) {
+        changes.add(new StockChange(item.productId(), item.stock()));
+      }
+    }
+
+    Set<UUID> updatedIds = changes.isEmpty() ? Set.of() : productRepository.updateStocks(changes);
+
+    List<ItemResult> results = new ArrayList<>(request.items().size());
+    int updated = 0;
+    int notFound = 0;
+    for (int i = 0; i < request.items().size(); i++) {
+      BulkUpdateProductStockRequest.Item item = request.items().get(i);
+      UUID productId = item != null ? item.productId() : null;
+      String rejection = rejections.get(i);
+      if (rejection != null) {
+        results.add(new ItemResult(productId, Status.REJECTED, rejection));
+      } else if (updatedIds.contains(productId)) {
+        results.add(new ItemResult(productId, Status.UPDATED, null));
+        updated++;
+      } else {
+        results.add(new ItemResult(productId, Status.NOT_FOUND, null));
+        notFound++;
+      }
+    }
+
+    log.info("Bulk stock update finished: {} updated, {} not found", updated, notFound);
+
+    return new BulkUpdateProductStockResponse(
+        updated, notFound, request.items().size() - updated - notFound, results);
+  }
+
+  private static String validate(BulkUpdateProductStockRequest.Item item) {
+    if (item == null || item.productId() == null) {
+      return "Product ID is required";
+    }
+    try {
+      Product.validateStock(item.stock());
+      return null;
+    } catch (IllegalArgumentException e) {
+      return e.getMessage();
+    }
+  }
+}
@@ -0,0 +1,146 @@
+package com.accenture.franchise.application.usecase.product;
+
+import com.accenture.franchise.application.dto.ImportProductRow;
+import com.accenture.franchise.application.dto.ProductImportBatchResponse;
+import com.accenture.franchise.application.dto.ProductImportResponse;
+import com.accenture.franchise.domain.exception.EntityNotFoundException;
+import com.accenture.franchise.domain.model.Product;
+import com.accenture.franchise.domain.repository.BranchRepository;
+import com.accenture.franchise.domain.repository.ProductRepository;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Caso de uso: Importar los productos de una sucursal desde un flujo de filas.
+ *
+ * <p>Las filas se consumen a medida que llegan y se insertan por lotes de tamaño fijo, de modo que
+ * la memoria usada no depende del tamaño del fichero. Los nombres repetidos se resuelven en la
+ * inserción mediante la restricción de unicidad, sin consultas previas por fila.
+ *
+ * <p>Cada lote se confirma en su propia transacción, así que una importación larga no retiene
+ * bloqueos ni una conexión durante todo el fichero. Si un lote falla la importación se detiene y la
+ * respuesta indica qué lotes quedaron guardados, para poder reanudarla desde la primera línea del
+ * lote fallido.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImportBranchProductsUseCase {
+
+  static final int BATCH_SIZE = 500;
+  static final int MAX_REPORTED_ERRORS = 100;
+  private static final int MAX_NAME_LENGTH = 100;
+
+  private final BranchRepository branchRepository;
+  private final ProductRepository productRepository;
+  private final TransactionOperations transactionOperations;
+
+  /** Ejecuta la importación y devuelve el recuento de productos creados, repetidos y rechazados. */
+  public ProductImportResponse execute(UUID branchId, Iterator<ImportProductRow> rows) {
+    log.info("Importing products into branch: {}", branchId);
+
+    // Validar la sucursal y resolver su franquicia una sola vez para todo el fichero
+    UUID franchiseId =
+        branchRepository
+            .findFranchiseIdById(branchId)
+            .orElseThrow(() -> new EntityNotFoundException("Branch", branchId));
+
+    List<Product> batch = new ArrayList<>(BATCH_SIZE);
+    List<ProductImportBatchResponse> batches = new ArrayList<>();
+    List<String> errors = new ArrayList<>();
+    int rejected = 0;
+    long firstLine = 0;
+    long lastLine = 0;
+
+    while (rows.hasNext()) {
+      ImportProductRow row = rows.next();
+      String error = validate(row);
+      if (error != null) {
+        rejected++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+          errors.add("Line " + row.line() + ": " + error);
+        }
+        continue;
+      }
+
+      if (batch.isEmpty()) {
+        firstLine = row.line();
+      }
+      lastLine = row.line();
+      batch.add(
+          Product.builder().name(row.name().trim()).stock(row.stock()).branchId(branchId).build());
+      if (batch.size() == BATCH_SIZE) {
+        ProductImportBatchResponse result =
+            saveBatch(franchiseId, batches.size() + 1, firstLine, lastLine, batch);
+        batches.add(result);
+        batch.clear();
+        if (!result.committed()) {
+          return finish(batches, rejected, errors, false);
+        }
+      }
+    }
+
+    if (!batch.isEmpty()) {
+      ProductImportBatchResponse result =
+          saveBatch(franchiseId, batches.size() + 1, firstLine, lastLine, batch);
+      batches.add(result);
+      if (!result.committed()) {
+        return finish(batches, rejected, errors, false);
+      }
+    }
+    return finish(batches, rejected, errors, true);
+  }
+
+  /** Inserta un lote en su propia transacción; si falla se revierte solo ese lote. */
+  private ProductImportBatchResponse saveBatch(
+      UUID franchiseId, int number, long firstLine, long lastLine, List<Product> batch) {
+    try {
+      int inserted =
+          transactionOperations.execute(
+              status -> productRepository.insertIfAbsent(franchiseId, batch));
+      return new ProductImportBatchResponse(
+          number, firstLine, lastLine, inserted, batch.size() - inserted, true);
+    } catch (RuntimeException e) {
+      log.warn("Product import batch {} (lines {}-{}) failed", number, firstLine, lastLine, e);
+      return new ProductImportBatchResponse(number, firstLine, lastLine, 0, 0, false);
+    }
+  }
+
+  private static ProductImportResponse finish(
+      List<ProductImportBatchResponse> batches,
+      int rejected,
+      List<String> errors,
+      boolean completed) {
+    int imported = batches.stream().mapToInt(ProductImportBatchResponse::imported).sum();
+    int duplicates = batches.stream().mapToInt(ProductImportBatchResponse::duplicates).sum();
+    log.info(
+        "Product import {}: {} imported, {} duplicates, {} rejected in {} batches",
+        completed ? "finished" : "stopped",
+        imported,
+        duplicates,
+        rejected,
+        batches.size());
+    return new ProductImportResponse(imported, duplicates, rejected, errors, completed, batches);
+  }
+
+  private static String validate(ImportProductRow row) {
+    if (row.name() == null || row.name().isBlank()) {
+      return "Product name cannot be blank";
+    }
+    if (row.name().trim().length() > MAX_NAME_LENGTH) {
+      return "Name must be between 1 and 100 characters";
+    }
+    try {
+      Product.validateStock(row.stock());
+      return null;
+    } catch (IllegalArgumentException e) {
+      return e.getMessage();
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package com.accenture.franchise.application.usecase.product;
+
+import com.accenture.franchise.application.dto.KeysetCursor;
+import com.accenture.franchise.application.dto.PageResponse;
+import com.accenture.franchise.application.dto.ProductResponse;
+import com.accenture.franchise.application.dto.mapper.DtoMapper;
+import com.accenture.franchise.domain.exception.EntityNotFoundException;
+import com.accenture.franchise.domain.model.Product;
+import com.accenture.franchise.domain.repository.BranchRepository;
+import com.accenture.franchise.domain.repository.ProductRepository;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Caso de uso: Listar los productos de una sucursal ordenados por stock con paginación por cursor.
+ *
+ * <p>El cursor codifica el par {@code (stock, id)} del último producto devuelto, de modo que cada
+ * página cuesta lo mismo aunque la sucursal tenga decenas de miles de productos.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ListBranchProductsUseCase {
+
+  /** Tamaño máximo de página admitido. */
+  public static final int MAX_PAGE_SIZE = 100;
+
+  private final BranchRepository branchRepository;
+  private final ProductRepository productRepository;
+  private final DtoMapper mapper;
+
+  /**
+   * Obtiene una página de productos de una sucursal.
+   *
+   * @param minStock stock mínimo incluido; null sin límite
+   * @param maxStock stock máximo incluido; null sin límite
+   * @param cursor cursor devuelto por la página anterior; null o vacío para la primera
+   * @param size número de productos por página, entre 1 y {@link #MAX_PAGE_SIZE}
+   */
+  public PageResponse<ProductResponse> execute(
+      UUID branchId, Integer minStock, Integer maxStock, String cursor, int size) {
+    if (size < 1 || size > MAX_PAGE_SIZE) {
+      throw new IllegalArgumentException(
+          "Page size must be between 1 and " + MAX_PAGE_SIZE + ", got " + size);
+    }
+    if (minStock != null && maxStock != null && minStock > maxStock) {
+      throw new IllegalArgumentException("Minimum stock cannot be greater than maximum stock");
+    }
+    log.debug("Listing products of branch {} after cursor {} with size {}", branchId, cursor, size);
+
+    Integer afterStock = null;
+    UUID afterId = null;
+    if (cursor != null && !cursor.isBlank()) {
+      List<String> parts = KeysetCursor.decode(cursor, 2);
+      try {
+        afterStock = Integer.valueOf(parts.get(0));
+        afterId = UUID.fromString(parts.get(1));
+      } catch (IllegalArgumentException ex) {
+        throw new IllegalArgumentException("Invalid page cursor", ex);
+      }
+    }
+
+    if (!branchRepository.existsById(branchId)) {
+      throw new EntityNotFoundException("Branch", branchId);
+    }
+
+    // Se pide un elemento de más para saber si hay página siguiente sin una consulta de conteo
+    List<Product> products =
+        productRepository.findPageByBranchId(
+            branchId, minStock, maxStock, afterStock, afterId, size + 1);
+    boolean hasNext = products.size() > size;
+    List<Product> page = hasNext ? products.subList(0, size) : products;
+
+    String nextCursor = null;
+    if (hasNext) {
+      Product last = page.get(page.size() - 1);
+      nextCursor = KeysetCursor.encode(last.getStock(), last.getId());
+    }
+    return new PageResponse<>(page.stream().map(mapper::toProductResponse).toList(), nextCursor);
+  }
+}
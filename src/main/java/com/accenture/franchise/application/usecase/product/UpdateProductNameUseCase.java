@@ -31,11 +31,11 @@ public class UpdateProductNameUseCase {
             .findById(productId)
             .orElseThrow(() -> new EntityNotFoundException("Product", productId));
 
-    // Actualizar usando lógica de dominio
-    product.updateName(request.name());
+    // Renombrar usando lógica de dominio; sin su sucursal cargada, sobre una copia
+    Product renamed = product.withName(request.name());
 
     // Persistir
-    Product updatedProduct = productRepository.save(product);
+    Product updatedProduct = productRepository.save(renamed);
 
     log.info("Product name updated successfully");
 
@@ -4,8 +4,10 @@ import com.accenture.franchise.application.dto.ProductResponse;
 import com.accenture.franchise.application.dto.UpdateProductStockRequest;
 import com.accenture.franchise.application.dto.mapper.DtoMapper;
 import com.accenture.franchise.domain.exception.EntityNotFoundException;
+import com.accenture.franchise.domain.exception.VersionConflictException;
 import com.accenture.franchise.domain.model.Product;
 import com.accenture.franchise.domain.repository.ProductRepository;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,21 +26,33 @@ public class UpdateProductStockUseCase {
 
   /** Ejecuta la actualización del stock de un producto. */
   public ProductResponse execute(UUID productId, UpdateProductStockRequest request) {
+    return execute(productId, request, null);
+  }
+
+  /**
+   * Ejecuta la actualización del stock solo si el producto sigue en {@code expectedVersion} ({@code
+   * null} acepta cualquier versión).
+   */
+  public ProductResponse execute(
+      UUID productId, UpdateProductStockRequest request, Long expectedVersion) {
     log.info("Updating product stock with id: {}", productId);
 
-    Product product =
-        productRepository
-            .findById(productId)
-            .orElseThrow(() -> new EntityNotFoundException("Product", productId));
+    // Validar usando lógica de dominio
+    Product.validateStock(request.stock());
 
-    // Actualizar usando lógica de dominio
-    product.updateStock(request.stock());
+    // Actualizar y leer el resultado en una sola sentencia
+    Optional<Product> updatedProduct =
+        productRepository.updateStock(productId, request.stock(), expectedVersion);
 
-    // Persistir
-    Product updatedProduct = productRepository.save(product);
+    if (updatedProduct.isEmpty()) {
+      if (expectedVersion != null && productRepository.existsById(productId)) {
+        throw new VersionConflictException("Product", productId, expectedVersion);
+      }
+      throw new EntityNotFoundException("Product", productId);
+    }
 
     log.info("Product stock updated successfully");
 
-    return mapper.toProductResponse(updatedProduct);
+    return mapper.toProductResponse(updatedProduct.get());
   }
 }
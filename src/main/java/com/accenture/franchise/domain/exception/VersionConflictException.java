@@ -0,0 +1,13 @@
+package com.accenture.franchise.domain.exception;
+
+import java.util.UUID;
+
+/** Excepción lanzada cuando la versión esperada de una entidad no coincide con la actual. */
+public class VersionConflictException extends DomainException {
+
+  /** Crea la excepción indicando la entidad y la versión que se esperaba. */
+  public VersionConflictException(String entityName, UUID id, Long expectedVersion) {
+    super(
+        String.format("%s with id %s is no longer at version %s", entityName, id, expectedVersion));
+  }
+}
@@ -0,0 +1,102 @@
+package com.accenture.franchise.domain.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Índices por identificador y por nombre de los hijos de un agregado, junto a su lista ordenada.
+ *
+ * <p>La lista sigue siendo la fuente de verdad y solo la modifica el agregado, que la copia al
+ * construirse y la expone como vista de solo lectura; los hijos solo cambian de nombre a través de
+ * él. Los índices se construyen completos en la primera consulta y se publican en un campo {@code
+ * volatile}: las consultas nunca escriben en unos mapas ya publicados, así que un agregado
+ * compartido, como los de la caché local, puede leerse desde varios hilos. Las altas, bajas y
+ * renombrados hechos a través del agregado los mantienen sin reconstruir y, como la propia lista,
+ * no admiten escrituras concurrentes. Si la lista se sustituye por otra (deserialización JSON por
+ * campos) los índices se reconstruyen. Los hijos sin identificador, aún no persistidos, solo se
+ * indexan por nombre.
+ */
+final class AggregateIndex<T> {
+
+  private final Function<T, UUID> idOf;
+  private final Function<T, String> nameOf;
+
+  private volatile Lookup<T> lookup;
+
+  AggregateIndex(Function<T, UUID> idOf, Function<T, String> nameOf) {
+    this.idOf = idOf;
+    this.nameOf = nameOf;
+  }
+
+  T byId(List<T> items, UUID id) {
+    return lookup(items).byId().get(id);
+  }
+
+  T byName(List<T> items, String name) {
+    return lookup(items).byName().get(name);
+  }
+
+  /** Registra un hijo recién añadido a {@code items}. */
+  void added(List<T> items, T item) {
+    Lookup<T> current = built(items);
+    if (current != null) {
+      put(current, item);
+    }
+  }
+
+  /** Quita un hijo recién eliminado de {@code items}. */
+  void removed(List<T> items, T item) {
+    Lookup<T> current = built(items);
+    if (current != null) {
+      UUID id = idOf.apply(item);
+      if (id != null) {
+        current.byId().remove(id, item);
+      }
+      current.byName().remove(nameOf.apply(item), item);
+    }
+  }
+
+  /** Mueve un hijo ya renombrado de su nombre anterior al actual. */
+  void renamed(List<T> items, T item, String previousName) {
+    Lookup<T> current = built(items);
+    if (current != null) {
+      current.byName().remove(previousName, item);
+      current.byName().put(nameOf.apply(item), item);
+    }
+  }
+
+  /**
+   * Índices de {@code items} ya construidos, o null si aún no se han consultado o indexan otra
+   * lista: la próxima consulta los construirá con el cambio ya aplicado.
+   */
+  private Lookup<T> built(List<T> items) {
+    Lookup<T> current = lookup;
+    return current != null && current.items() == items ? current : null;
+  }
+
+  /** Índices de {@code items}, construidos completos antes de publicarlos si hace falta. */
+  private Lookup<T> lookup(List<T> items) {
+    Lookup<T> current = lookup;
+    if (current == null || current.items() != items) {
+      current = new Lookup<>(items, new HashMap<>(), new HashMap<>());
+      for (T item : items) {
+        put(current, item);
+      }
+      lookup = current;
+    }
+    return current;
+  }
+
+  private void put(Lookup<T> current, T item) {
+    UUID id = idOf.apply(item);
+    if (id != null) {
+      current.byId().put(id, item);
+    }
+    current.byName().put(nameOf.apply(item), item);
+  }
+
+  private record Lookup<T>(List<T> items, Map<UUID, T> byId, Map<String, T> byName) {}
+}
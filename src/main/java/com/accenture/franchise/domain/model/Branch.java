@@ -1,65 +1,135 @@
 package com.accenture.franchise.domain.model;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 /** Sucursal que pertenece a una franquicia y gestiona un listado de productos. */
 @Getter
-@Builder
 @NoArgsConstructor
-@AllArgsConstructor
 public class Branch {
 
   private UUID id;
   private String name;
   private UUID franchiseId;
 
-  @Builder.Default private List<Product> products = new ArrayList<>();
+  private List<Product> products = new ArrayList<>();
+
+  /**
+   * Índices de {@link #products} por identificador y nombre. No es estado del agregado: no tiene
+   * getter ni entra en el builder, así que no cambia su forma en JSON ni en la caché.
+   */
+  @Getter(AccessLevel.NONE)
+  private final AggregateIndex<Product> productIndex =
+      new AggregateIndex<>(Product::getId, Product::getName);
+
+  /**
+   * Crea la sucursal con una copia de {@code products}, para que nadie más pueda modificar la lista
+   * que indexa.
+   */
+  @Builder
+  public Branch(UUID id, String name, UUID franchiseId, List<Product> products) {
+    this.id = id;
+    this.name = name;
+    this.franchiseId = franchiseId;
+    this.products = products == null ? new ArrayList<>() : new ArrayList<>(products);
+  }
+
+  /**
+   * Productos de la sucursal en su orden, como vista de solo lectura: se añaden, quitan y renombran
+   * a través de la sucursal.
+   */
+  public List<Product> getProducts() {
+    return Collections.unmodifiableList(products);
+  }
 
   /** Agrega un nuevo producto a la sucursal. */
   public void addProduct(Product product) {
     if (product == null) {
       throw new IllegalArgumentException("Product cannot be null");
     }
-    if (products.stream().anyMatch(p -> p.getName().equals(product.getName()))) {
+    if (productIndex.byName(products, product.getName()) != null) {
       throw new IllegalArgumentException("Product name already exists in this branch");
     }
     product.setBranchId(this.id);
     products.add(product);
+    productIndex.added(products, product);
   }
 
-  /** Elimina un producto de la sucursal. */
+  /**
+   * Elimina un producto de la sucursal. La búsqueda es por índice, pero quitarlo de la lista sigue
+   * recorriéndola para conservar el orden del resto.
+   */
   public void removeProduct(UUID productId) {
-    products.removeIf(p -> p.getId().equals(productId));
+    Product product = productIndex.byId(products, productId);
+    if (product != null) {
+      products.remove(product);
+      productIndex.removed(products, product);
+    }
   }
 
-  /** Actualiza el nombre de la sucursal. */
-  public void updateName(String newName) {
+  /**
+   * Renombra un producto de la sucursal comprobando que el nombre no lo use otro. Es la única forma
+   * de renombrar un producto en su sitio, así que el índice por nombre no queda desfasado.
+   */
+  public void renameProduct(UUID productId, String newName) {
+    Product product =
+        findProductById(productId)
+            .orElseThrow(() -> new IllegalArgumentException("Product not found in this branch"));
+    Product sameName = newName == null ? null : productIndex.byName(products, newName.trim());
+    if (sameName != null && sameName != product) {
+      throw new IllegalArgumentException("Product name already exists in this branch");
+    }
+    String previousName = product.getName();
+    product.updateName(newName);
+    productIndex.renamed(products, product, previousName);
+  }
+
+  /**
+   * Devuelve una copia de la sucursal con otro nombre, para renombrarla cuando no se ha cargado su
+   * franquicia.
+   */
+  public Branch withName(String newName) {
+    Branch renamed = new Branch(id, name, franchiseId, products);
+    renamed.updateName(newName);
+    return renamed;
+  }
+
+  /**
+   * Actualiza el nombre de la sucursal. Solo lo usan {@link Franchise#renameBranch}, que mantiene
+   * su índice, y {@link #withName}.
+   */
+  void updateName(String newName) {
     if (newName == null || newName.isBlank()) {
       throw new IllegalArgumentException("Branch name cannot be blank");
     }
     this.name = newName.trim();
   }
 
-  /** Obtiene el producto con mayor stock en esta sucursal. */
+  /**
+   * Obtiene el producto con mayor stock en esta sucursal. Ante un empate devuelve el primero de la
+   * lista, como {@code Stream.max}.
+   */
   public Optional<ProductStock> getProductWithMostStock() {
-    return products.stream()
-        .max(Comparator.comparing(Product::getStock))
-        .map(
-            product ->
-                new ProductStock(
-                    product.getId(), product.getName(), product.getStock(), this.id, this.name));
+    Product top = null;
+    for (Product product : products) {
+      if (top == null || product.getStock() > top.getStock()) {
+        top = product;
+      }
+    }
+    return top == null
+        ? Optional.empty()
+        : Optional.of(new ProductStock(top.getId(), top.getName(), top.getStock(), id, name));
   }
 
   /** Encuentra un producto por ID. */
   public Optional<Product> findProductById(UUID productId) {
-    return products.stream().filter(p -> p.getId().equals(productId)).findFirst();
+    return Optional.ofNullable(productIndex.byId(products, productId));
   }
 }
@@ -1,35 +1,79 @@
 package com.accenture.franchise.domain.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 /** Franquicia como entidad raíz del agregado que gestiona una lista de sucursales. */
 @Getter
-@Builder
 @NoArgsConstructor
-@AllArgsConstructor
 public class Franchise {
 
   private UUID id;
   private String name;
 
-  @Builder.Default private List<Branch> branches = new ArrayList<>();
+  private List<Branch> branches = new ArrayList<>();
+
+  /**
+   * Índices de {@link #branches} por identificador y nombre. No es estado del agregado: no tiene
+   * getter ni entra en el builder, así que no cambia su forma en JSON ni en la caché.
+   */
+  @Getter(AccessLevel.NONE)
+  private final AggregateIndex<Branch> branchIndex =
+      new AggregateIndex<>(Branch::getId, Branch::getName);
+
+  /**
+   * Crea la franquicia con una copia de {@code branches}, para que nadie más pueda modificar la
+   * lista que indexa.
+   */
+  @Builder
+  public Franchise(UUID id, String name, List<Branch> branches) {
+    this.id = id;
+    this.name = name;
+    this.branches = branches == null ? new ArrayList<>() : new ArrayList<>(branches);
+  }
+
+  /**
+   * Sucursales de la franquicia en su orden, como vista de solo lectura: se añaden y renombran a
+   * través de la franquicia.
+   */
+  public List<Branch> getBranches() {
+    return Collections.unmodifiableList(branches);
+  }
 
   /** Agrega una nueva sucursal a la franquicia. */
   public void addBranch(Branch branch) {
     if (branch == null) {
       throw new IllegalArgumentException("Branch cannot be null");
     }
-    if (branches.stream().anyMatch(b -> b.getName().equals(branch.getName()))) {
+    if (branchIndex.byName(branches, branch.getName()) != null) {
       throw new IllegalArgumentException("Branch name already exists in this franchise");
     }
     branches.add(branch);
+    branchIndex.added(branches, branch);
+  }
+
+  /**
+   * Renombra una sucursal de la franquicia comprobando que el nombre no lo use otra. Es la única
+   * forma de renombrar una sucursal en su sitio, así que el índice por nombre no queda desfasado.
+   */
+  public void renameBranch(UUID branchId, String newName) {
+    Branch branch =
+        findBranchById(branchId)
+            .orElseThrow(() -> new IllegalArgumentException("Branch not found in this franchise"));
+    Branch sameName = newName == null ? null : branchIndex.byName(branches, newName.trim());
+    if (sameName != null && sameName != branch) {
+      throw new IllegalArgumentException("Branch name already exists in this franchise");
+    }
+    String previousName = branch.getName();
+    branch.updateName(newName);
+    branchIndex.renamed(branches, branch, previousName);
   }
 
   /** Actualiza el nombre de la franquicia. */
@@ -51,6 +95,6 @@ public class Franchise {
 
   /** Encuentra una sucursal por ID. */
   public Optional<Branch> findBranchById(UUID branchId) {
-    return branches.stream().filter(b -> b.getId().equals(branchId)).findFirst();
+    return Optional.ofNullable(branchIndex.byId(branches, branchId));
   }
 }
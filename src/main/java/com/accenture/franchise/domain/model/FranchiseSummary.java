@@ -0,0 +1,20 @@
+package com.accenture.franchise.domain.model;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Modelo de lectura de una franquicia: cabeceras de sus sucursales y contadores agregados, sin
+ * productos.
+ */
+public record FranchiseSummary(
+    UUID id,
+    String name,
+    List<BranchHeader> branches,
+    int branchCount,
+    long productCount,
+    long totalStock) {
+
+  /** Identificador y nombre de una sucursal de la franquicia. */
+  public record BranchHeader(UUID id, String name) {}
+}
@@ -22,16 +22,44 @@ public class Product {
 
   @Setter private UUID branchId;
 
-  /** Actualiza el stock del producto. */
-  public void updateStock(Integer newStock) {
-    if (newStock == null || newStock < 0) {
+  /** Versión de concurrencia optimista; nula si el producto aún no se ha persistido. */
+  private Long version;
+
+  /** Valida que un valor de stock sea aceptable para un producto. */
+  public static void validateStock(Integer stock) {
+    if (stock == null || stock < 0) {
       throw new IllegalArgumentException("Stock must be a positive number");
     }
+  }
+
+  /** Valida que un ajuste relativo de stock sea un número distinto de cero. */
+  public static void validateStockDelta(Integer delta) {
+    if (delta == null || delta == 0) {
+      throw new IllegalArgumentException("Stock delta must be a non-zero number");
+    }
+  }
+
+  /** Actualiza el stock del producto. */
+  public void updateStock(Integer newStock) {
+    validateStock(newStock);
     this.stock = newStock;
   }
 
-  /** Actualiza el nombre del producto. */
-  public void updateName(String newName) {
+  /**
+   * Devuelve una copia del producto con otro nombre, para renombrarlo cuando no se ha cargado su
+   * sucursal.
+   */
+  public Product withName(String newName) {
+    Product renamed = new Product(id, name, stock, branchId, version);
+    renamed.updateName(newName);
+    return renamed;
+  }
+
+  /**
+   * Actualiza el nombre del producto. Solo lo usan {@link Branch#renameProduct}, que mantiene su
+   * índice, y {@link #withName}.
+   */
+  void updateName(String newName) {
     if (newName == null || newName.isBlank()) {
       throw new IllegalArgumentException("Product name cannot be blank");
     }
@@ -0,0 +1,6 @@
+package com.accenture.franchise.domain.model;
+
+import java.util.UUID;
+
+/** Value Object con el nuevo stock absoluto de un producto dentro de una actualización masiva. */
+public record StockChange(UUID productId, int stock) {}
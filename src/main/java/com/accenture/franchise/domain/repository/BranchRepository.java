@@ -25,4 +25,7 @@ public interface BranchRepository {
 
   /** Verifica si existe una sucursal por su identificador. */
   boolean existsById(UUID id);
+
+  /** Obtiene la franquicia de una sucursal, vacío si la sucursal no existe. */
+  Optional<UUID> findFranchiseIdById(UUID id);
 }
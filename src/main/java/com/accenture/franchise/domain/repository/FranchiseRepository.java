@@ -14,8 +14,14 @@ public interface FranchiseRepository {
   /** Busca una franquicia por su identificador. */
   Optional<Franchise> findById(UUID id);
 
-  /** Obtiene todas las franquicias. */
-  List<Franchise> findAll();
+  /**
+   * Obtiene una página de franquicias ordenadas por nombre e identificador, sin sus sucursales.
+   *
+   * @param afterName nombre de la última franquicia de la página anterior; null para la primera
+   * @param afterId identificador de la última franquicia de la página anterior
+   * @param limit número máximo de franquicias a devolver
+   */
+  List<Franchise> findPageOrderedByName(String afterName, UUID afterId, int limit);
 
   /** Elimina una franquicia por su identificador. */
   void deleteById(UUID id);
@@ -0,0 +1,21 @@
+package com.accenture.franchise.domain.repository;
+
+import com.accenture.franchise.domain.model.FranchiseSummary;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Port de salida para el modelo de lectura de franquicias. Se mantiene al escribir franquicias,
+ * sucursales y productos, por lo que solo expone consultas.
+ */
+public interface FranchiseSummaryRepository {
+
+  /** Busca el resumen de una franquicia por su identificador. */
+  Optional<FranchiseSummary> findById(UUID franchiseId);
+
+  /**
+   * Obtiene la versión de una franquicia, que avanza con cada escritura sobre ella, sus sucursales
+   * o sus productos.
+   */
+  Optional<Long> findVersionById(UUID franchiseId);
+}
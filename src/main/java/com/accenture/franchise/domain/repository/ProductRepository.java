@@ -1,9 +1,13 @@
 package com.accenture.franchise.domain.repository;
 
 import com.accenture.franchise.domain.model.Product;
+import com.accenture.franchise.domain.model.ProductStock;
+import com.accenture.franchise.domain.model.StockChange;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /** Port de salida para persistencia de productos. */
 public interface ProductRepository {
@@ -25,4 +29,57 @@ public interface ProductRepository {
 
   /** Verifica si existe un producto por su identificador. */
   boolean existsById(UUID id);
+
+  /**
+   * Fija el stock de un producto de forma atómica si su versión coincide con {@code
+   * expectedVersion} ({@code null} acepta cualquier versión). Devuelve vacío si el producto no
+   * existe o la versión no coincide.
+   */
+  Optional<Product> updateStock(UUID productId, int stock, Long expectedVersion);
+
+  /**
+   * Suma {@code delta} (positivo o negativo) al stock de un producto de forma atómica. Devuelve
+   * vacío si el producto no existe o si el stock resultante quedaría negativo.
+   */
+  Optional<Product> adjustStock(UUID productId, int delta);
+
+  /**
+   * Fija el stock de muchos productos escribiéndolos por lotes. Devuelve los identificadores de los
+   * productos actualizados; los que no existen se omiten.
+   */
+  Set<UUID> updateStocks(List<StockChange> changes);
+
+  /**
+   * Inserta un lote de productos nuevos de sucursales de {@code franchiseId} omitiendo los que ya
+   * existen con el mismo nombre en su sucursal. Devuelve cuántos se insertaron.
+   */
+  int insertIfAbsent(UUID franchiseId, List<Product> products);
+
+  /**
+   * Obtiene una página de productos de una sucursal ordenados por stock descendente y, a igual
+   * stock, por identificador.
+   *
+   * @param minStock stock mínimo incluido; null sin límite
+   * @param maxStock stock máximo incluido; null sin límite
+   * @param afterStock stock del último producto de la página anterior; null para la primera
+   * @param afterId identificador del último producto de la página anterior
+   * @param limit número máximo de productos a devolver
+   */
+  List<Product> findPageByBranchId(
+      UUID branchId,
+      Integer minStock,
+      Integer maxStock,
+      Integer afterStock,
+      UUID afterId,
+      int limit);
+
+  /** Obtiene el producto con más stock de cada sucursal de una franquicia. */
+  List<ProductStock> findTopStockByFranchiseId(UUID franchiseId);
+
+  /**
+   * Recorre las sucursales de una franquicia con sus productos y entrega cada fila a {@code
+   * consumer} a medida que se lee. Las sucursales sin productos aparecen una vez con los campos del
+   * producto nulos.
+   */
+  void streamCatalogByFranchiseId(UUID franchiseId, Consumer<ProductStock> consumer);
 }
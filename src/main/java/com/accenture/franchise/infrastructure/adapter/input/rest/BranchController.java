@@ -2,24 +2,35 @@ package com.accenture.franchise.infrastructure.adapter.input.rest;
 
 import com.accenture.franchise.application.dto.BranchResponse;
 import com.accenture.franchise.application.dto.CreateBranchRequest;
+import com.accenture.franchise.application.dto.PageResponse;
+import com.accenture.franchise.application.dto.ProductImportResponse;
+import com.accenture.franchise.application.dto.ProductResponse;
 import com.accenture.franchise.application.dto.UpdateBranchNameRequest;
 import com.accenture.franchise.application.usecase.branch.AddBranchToFranchiseUseCase;
 import com.accenture.franchise.application.usecase.branch.UpdateBranchNameUseCase;
+import com.accenture.franchise.application.usecase.product.ImportBranchProductsUseCase;
+import com.accenture.franchise.application.usecase.product.ListBranchProductsUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.io.InputStream;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.databind.json.JsonMapper;
 
 /** Controlador REST para Sucursales. */
 @RestController
@@ -30,6 +41,9 @@ public class BranchController {
 
   private final AddBranchToFranchiseUseCase addBranchToFranchiseUseCase;
   private final UpdateBranchNameUseCase updateBranchNameUseCase;
+  private final ImportBranchProductsUseCase importBranchProductsUseCase;
+  private final ListBranchProductsUseCase listBranchProductsUseCase;
+  private final JsonMapper jsonMapper;
 
   /** Agrega una nueva sucursal a una franquicia. */
   @PostMapping
@@ -60,4 +74,53 @@ public class BranchController {
     BranchResponse response = updateBranchNameUseCase.execute(branchId, request);
     return ResponseEntity.ok(response);
   }
+
+  /**
+   * Lista los productos de una sucursal de mayor a menor stock, opcionalmente dentro de un rango de
+   * stock. Para obtener la página siguiente se envía el {@code nextCursor} de la respuesta anterior
+   * con los mismos filtros.
+   */
+  @GetMapping("/{branchId}/products")
+  @Operation(summary = "Listar productos de una sucursal por stock, paginados por cursor")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Página de productos"),
+    @ApiResponse(responseCode = "400", description = "Cursor, filtros o tamaño inválidos"),
+    @ApiResponse(responseCode = "404", description = "Sucursal no encontrada")
+  })
+  public ResponseEntity<PageResponse<ProductResponse>> listProducts(
+      @PathVariable UUID branchId,
+      @RequestParam(required = false) Integer minStock,
+      @RequestParam(required = false) Integer maxStock,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "${franchise.pagination.default-size:20}") int size) {
+    PageResponse<ProductResponse> response =
+        listBranchProductsUseCase.execute(branchId, minStock, maxStock, cursor, size);
+    return ResponseEntity.ok(response);
+  }
+
+  /**
+   * Importa los productos de una sucursal desde NDJSON o CSV. El cuerpo se procesa a medida que
+   * llega, así que el tamaño del fichero no afecta a la memoria usada. Cada lote se confirma por
+   * separado y la respuesta detalla el resultado de cada uno.
+   */
+  @PostMapping(
+      value = "/{branchId}/products/import",
+      consumes = {ProductImportReader.NDJSON_VALUE, ProductImportReader.CSV_VALUE})
+  @Operation(summary = "Importar productos de una sucursal desde NDJSON o CSV")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "Importación terminada, o detenida en un lote fallido si completed es false"),
+    @ApiResponse(responseCode = "400", description = "Fichero mal formado"),
+    @ApiResponse(responseCode = "404", description = "Sucursal no encontrada")
+  })
+  public ResponseEntity<ProductImportResponse> importProducts(
+      @PathVariable UUID branchId,
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+      InputStream body) {
+    ProductImportResponse response =
+        importBranchProductsUseCase.execute(
+            branchId, ProductImportReader.open(body, contentType, jsonMapper));
+    return ResponseEntity.ok(response);
+  }
 }
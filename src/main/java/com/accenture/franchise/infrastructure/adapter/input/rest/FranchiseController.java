@@ -2,17 +2,24 @@ package com.accenture.franchise.infrastructure.adapter.input.rest;
 
 import com.accenture.franchise.application.dto.CreateFranchiseRequest;
 import com.accenture.franchise.application.dto.FranchiseResponse;
+import com.accenture.franchise.application.dto.FranchiseSummaryResponse;
+import com.accenture.franchise.application.dto.PageResponse;
 import com.accenture.franchise.application.dto.ProductStockResponse;
 import com.accenture.franchise.application.dto.UpdateFranchiseNameRequest;
 import com.accenture.franchise.application.usecase.franchise.CreateFranchiseUseCase;
+import com.accenture.franchise.application.usecase.franchise.ExportFranchiseCatalogUseCase;
 import com.accenture.franchise.application.usecase.franchise.GetFranchiseUseCase;
+import com.accenture.franchise.application.usecase.franchise.GetFranchiseVersionUseCase;
 import com.accenture.franchise.application.usecase.franchise.GetTopStockProductsByFranchiseUseCase;
+import com.accenture.franchise.application.usecase.franchise.ListFranchisesUseCase;
 import com.accenture.franchise.application.usecase.franchise.UpdateFranchiseNameUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -24,7 +31,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import tools.jackson.databind.json.JsonMapper;
 
 /** Controlador REST para Franquicias. */
 @RestController
@@ -35,8 +45,12 @@ public class FranchiseController {
 
   private final CreateFranchiseUseCase createFranchiseUseCase;
   private final GetFranchiseUseCase getFranchiseUseCase;
+  private final GetFranchiseVersionUseCase getFranchiseVersionUseCase;
   private final UpdateFranchiseNameUseCase updateFranchiseNameUseCase;
   private final GetTopStockProductsByFranchiseUseCase getTopStockProductsByFranchiseUseCase;
+  private final ExportFranchiseCatalogUseCase exportFranchiseCatalogUseCase;
+  private final ListFranchisesUseCase listFranchisesUseCase;
+  private final JsonMapper jsonMapper;
 
   /** Crea una nueva franquicia. */
   @PostMapping
@@ -52,16 +66,42 @@ public class FranchiseController {
     return ResponseEntity.status(HttpStatus.CREATED).body(response);
   }
 
-  /** Obtiene una franquicia por su identificador. */
+  /**
+   * Lista las franquicias ordenadas por nombre. Para obtener la página siguiente se envía el {@code
+   * nextCursor} de la respuesta anterior; la última página no lo incluye.
+   */
+  @GetMapping
+  @Operation(summary = "Listar franquicias paginadas por cursor")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Página de franquicias"),
+    @ApiResponse(responseCode = "400", description = "Cursor o tamaño de página inválido")
+  })
+  public ResponseEntity<PageResponse<FranchiseResponse>> listFranchises(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "${franchise.pagination.default-size:20}") int size) {
+    PageResponse<FranchiseResponse> response = listFranchisesUseCase.execute(cursor, size);
+    return ResponseEntity.ok(response);
+  }
+
+  /**
+   * Obtiene una franquicia por su identificador. Con {@code If-None-Match} igual a la versión
+   * actual responde 304 sin cargar la franquicia.
+   */
   @GetMapping("/{franchiseId}")
   @Operation(summary = "Obtener una franquicia por ID")
   @ApiResponses({
     @ApiResponse(responseCode = "200", description = "Franquicia encontrada"),
+    @ApiResponse(responseCode = "304", description = "Franquicia sin cambios"),
     @ApiResponse(responseCode = "404", description = "Franquicia no encontrada")
   })
-  public ResponseEntity<FranchiseResponse> getFranchise(@PathVariable UUID franchiseId) {
-    FranchiseResponse response = getFranchiseUseCase.execute(franchiseId);
-    return ResponseEntity.ok(response);
+  public ResponseEntity<FranchiseSummaryResponse> getFranchise(
+      @PathVariable UUID franchiseId, WebRequest request) {
+    String etag = etag(getFranchiseVersionUseCase.execute(franchiseId));
+    if (request.checkNotModified(etag)) {
+      return null;
+    }
+    FranchiseSummaryResponse response = getFranchiseUseCase.execute(franchiseId);
+    return ResponseEntity.ok().eTag(etag).body(response);
   }
 
   /** Actualiza el nombre de una franquicia. */
@@ -78,17 +118,53 @@ public class FranchiseController {
     return ResponseEntity.ok(response);
   }
 
-  /** Obtiene los productos con mayor stock de cada sucursal. */
+  /**
+   * Obtiene los productos con mayor stock de cada sucursal. Admite {@code If-None-Match} igual que
+   * {@link #getFranchise}.
+   */
   @GetMapping("/{franchiseId}/top-stock-products")
   @Operation(summary = "Obtener productos con más stock por sucursal")
   @ApiResponses({
     @ApiResponse(responseCode = "200", description = "Productos obtenidos exitosamente"),
+    @ApiResponse(responseCode = "304", description = "Productos sin cambios"),
     @ApiResponse(responseCode = "404", description = "Franquicia no encontrada")
   })
   public ResponseEntity<List<ProductStockResponse>> getTopStockProducts(
-      @PathVariable UUID franchiseId) {
+      @PathVariable UUID franchiseId, WebRequest request) {
+    String etag = etag(getFranchiseVersionUseCase.execute(franchiseId));
+    if (request.checkNotModified(etag)) {
+      return null;
+    }
     List<ProductStockResponse> response =
         getTopStockProductsByFranchiseUseCase.execute(franchiseId);
-    return ResponseEntity.ok(response);
+    return ResponseEntity.ok().eTag(etag).body(response);
+  }
+
+  /**
+   * Exporta el catálogo de una franquicia como NDJSON, una línea por producto y sucursal. Las filas
+   * se escriben en la respuesta a medida que se leen, así que la memoria no depende del tamaño del
+   * catálogo.
+   */
+  @GetMapping("/{franchiseId}/export")
+  @Operation(summary = "Exportar el catálogo de una franquicia en NDJSON")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Catálogo exportado"),
+    @ApiResponse(responseCode = "404", description = "Franquicia no encontrada")
+  })
+  public void exportFranchise(@PathVariable UUID franchiseId, HttpServletResponse response)
+      throws IOException {
+    response.setContentType(NdjsonWriter.MEDIA_TYPE);
+    try (NdjsonWriter writer = new NdjsonWriter(response.getOutputStream(), jsonMapper)) {
+      exportFranchiseCatalogUseCase.execute(franchiseId, writer::write);
+    }
+  }
+
+  /**
+   * ETag fuerte a partir de la versión de la franquicia. La versión se lee antes que el cuerpo: si
+   * una escritura se cuela entre ambas lecturas el cuerpo es más reciente que su ETag, lo que solo
+   * provoca una respuesta completa de más en la siguiente consulta, nunca un 304 con datos viejos.
+   */
+  private static String etag(long version) {
+    return "\"" + version + "\"";
   }
 }
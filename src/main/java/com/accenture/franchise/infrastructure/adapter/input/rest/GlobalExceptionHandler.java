@@ -3,12 +3,14 @@ package com.accenture.franchise.infrastructure.adapter.input.rest;
 import com.accenture.franchise.domain.exception.BusinessRuleViolationException;
 import com.accenture.franchise.domain.exception.DomainException;
 import com.accenture.franchise.domain.exception.EntityNotFoundException;
+import com.accenture.franchise.domain.exception.VersionConflictException;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -47,6 +49,34 @@ public class GlobalExceptionHandler {
     return problemDetail;
   }
 
+  /** Maneja actualizaciones condicionadas cuya versión esperada ya no es la actual. */
+  @ExceptionHandler(VersionConflictException.class)
+  public ProblemDetail handleVersionConflictException(VersionConflictException ex) {
+    log.error("Version conflict: {}", ex.getMessage());
+
+    ProblemDetail problemDetail =
+        ProblemDetail.forStatusAndDetail(HttpStatus.PRECONDITION_FAILED, ex.getMessage());
+    problemDetail.setTitle("Precondition Failed");
+    problemDetail.setProperty("timestamp", Instant.now());
+
+    return problemDetail;
+  }
+
+  /** Maneja escrituras concurrentes detectadas por el bloqueo optimista de JPA. */
+  @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+  public ProblemDetail handleOptimisticLockingFailureException(
+      ObjectOptimisticLockingFailureException ex) {
+    log.error("Optimistic locking failure: {}", ex.getMessage());
+
+    ProblemDetail problemDetail =
+        ProblemDetail.forStatusAndDetail(
+            HttpStatus.CONFLICT, "The resource was modified concurrently, please retry");
+    problemDetail.setTitle("Concurrent Modification");
+    problemDetail.setProperty("timestamp", Instant.now());
+
+    return problemDetail;
+  }
+
   /** Maneja errores de validación. */
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ProblemDetail handleValidationException(MethodArgumentNotValidException ex) {
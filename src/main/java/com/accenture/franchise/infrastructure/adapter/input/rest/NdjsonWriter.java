@@ -0,0 +1,55 @@
+package com.accenture.franchise.infrastructure.adapter.input.rest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.databind.SerializationFeature;
+
+/**
+ * Escribe objetos como NDJSON (un documento JSON por línea) directamente sobre un flujo de salida,
+ * sin acumular la respuesta en memoria.
+ *
+ * <p>Usa el mapper JSON de la aplicación, con un salto de línea como separador entre documentos en
+ * lugar del espacio que Jackson escribe por defecto.
+ *
+ * <p>No toca el flujo hasta el primer documento: si la operación falla antes, cerrar el escritor no
+ * confirma la respuesta y el error aún puede devolverse con su estado.
+ */
+final class NdjsonWriter implements Closeable {
+
+  static final String MEDIA_TYPE = "application/x-ndjson";
+
+  private static final String LINE_SEPARATOR = "\n";
+
+  private final OutputStream output;
+  private final ObjectMapper json;
+  private SequenceWriter sequence;
+
+  NdjsonWriter(OutputStream output, ObjectMapper json) {
+    this.output = output;
+    this.json = json;
+  }
+
+  /** Escribe un objeto en su propia línea. */
+  void write(Object value) {
+    if (sequence == null) {
+      sequence =
+          json.writer()
+              .withRootValueSeparator(LINE_SEPARATOR)
+              .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+              .without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+              .writeValues(output);
+    }
+    sequence.write(value);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (sequence != null) {
+      sequence.close();
+    }
+  }
+}
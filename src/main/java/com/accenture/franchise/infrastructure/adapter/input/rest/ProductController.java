@@ -1,10 +1,15 @@
 package com.accenture.franchise.infrastructure.adapter.input.rest;
 
+import com.accenture.franchise.application.dto.AdjustProductStockRequest;
+import com.accenture.franchise.application.dto.BulkUpdateProductStockRequest;
+import com.accenture.franchise.application.dto.BulkUpdateProductStockResponse;
 import com.accenture.franchise.application.dto.CreateProductRequest;
 import com.accenture.franchise.application.dto.ProductResponse;
 import com.accenture.franchise.application.dto.UpdateProductNameRequest;
 import com.accenture.franchise.application.dto.UpdateProductStockRequest;
 import com.accenture.franchise.application.usecase.product.AddProductToBranchUseCase;
+import com.accenture.franchise.application.usecase.product.AdjustProductStockUseCase;
+import com.accenture.franchise.application.usecase.product.BulkUpdateProductStockUseCase;
 import com.accenture.franchise.application.usecase.product.RemoveProductFromBranchUseCase;
 import com.accenture.franchise.application.usecase.product.UpdateProductNameUseCase;
 import com.accenture.franchise.application.usecase.product.UpdateProductStockUseCase;
@@ -15,6 +20,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -22,6 +28,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -36,6 +43,8 @@ public class ProductController {
   private final RemoveProductFromBranchUseCase removeProductFromBranchUseCase;
   private final UpdateProductStockUseCase updateProductStockUseCase;
   private final UpdateProductNameUseCase updateProductNameUseCase;
+  private final AdjustProductStockUseCase adjustProductStockUseCase;
+  private final BulkUpdateProductStockUseCase bulkUpdateProductStockUseCase;
 
   /** Agrega un nuevo producto a una sucursal. */
   @PostMapping
@@ -66,17 +75,60 @@ public class ProductController {
     return ResponseEntity.noContent().build();
   }
 
-  /** Actualiza el stock de un producto. */
+  /**
+   * Actualiza el stock de un producto. Con {@code If-Match} la actualización solo se aplica si el
+   * producto sigue en esa versión; la nueva versión se devuelve en {@code ETag}.
+   */
   @PatchMapping("/{productId}/stock")
   @Operation(summary = "Actualizar el stock de un producto")
   @ApiResponses({
     @ApiResponse(responseCode = "200", description = "Stock actualizado exitosamente"),
     @ApiResponse(responseCode = "404", description = "Producto no encontrado"),
-    @ApiResponse(responseCode = "400", description = "Solicitud inválida")
+    @ApiResponse(responseCode = "400", description = "Solicitud inválida"),
+    @ApiResponse(
+        responseCode = "412",
+        description = "El producto fue modificado y ya no está en la versión de If-Match")
   })
   public ResponseEntity<ProductResponse> updateProductStock(
-      @PathVariable UUID productId, @Valid @RequestBody UpdateProductStockRequest request) {
-    ProductResponse response = updateProductStockUseCase.execute(productId, request);
+      @PathVariable UUID productId,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+      @Valid @RequestBody UpdateProductStockRequest request) {
+    ProductResponse response =
+        updateProductStockUseCase.execute(productId, request, parseVersion(ifMatch));
+    return withETag(response);
+  }
+
+  /**
+   * Suma o resta una cantidad al stock de un producto de forma atómica, sin leerlo antes. Pensado
+   * para terminales que solo conocen movimientos ("vendidos 3").
+   */
+  @PostMapping("/{productId}/stock-adjustments")
+  @Operation(summary = "Ajustar el stock de un producto con una cantidad relativa")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Stock ajustado exitosamente"),
+    @ApiResponse(responseCode = "404", description = "Producto no encontrado"),
+    @ApiResponse(responseCode = "400", description = "Solicitud inválida"),
+    @ApiResponse(responseCode = "409", description = "El stock resultante sería negativo")
+  })
+  public ResponseEntity<ProductResponse> adjustProductStock(
+      @PathVariable UUID productId, @Valid @RequestBody AdjustProductStockRequest request) {
+    ProductResponse response = adjustProductStockUseCase.execute(productId, request);
+    return withETag(response);
+  }
+
+  /**
+   * Actualiza el stock de muchos productos en una sola petición. Los elementos inválidos o
+   * inexistentes no impiden actualizar el resto; cada uno se informa en la respuesta.
+   */
+  @PatchMapping("/stock")
+  @Operation(summary = "Actualizar el stock de muchos productos a la vez")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Lote procesado con resultado por elemento"),
+    @ApiResponse(responseCode = "400", description = "Solicitud inválida")
+  })
+  public ResponseEntity<BulkUpdateProductStockResponse> bulkUpdateProductStock(
+      @Valid @RequestBody BulkUpdateProductStockRequest request) {
+    BulkUpdateProductStockResponse response = bulkUpdateProductStockUseCase.execute(request);
     return ResponseEntity.ok(response);
   }
 
@@ -93,4 +145,28 @@ public class ProductController {
     ProductResponse response = updateProductNameUseCase.execute(productId, request);
     return ResponseEntity.ok(response);
   }
+
+  private static ResponseEntity<ProductResponse> withETag(ProductResponse response) {
+    if (response.version() == null) {
+      return ResponseEntity.ok(response);
+    }
+    return ResponseEntity.ok().eTag(String.valueOf(response.version())).body(response);
+  }
+
+  /** Extrae la versión de un {@code If-Match} ({@code "3"} o {@code W/"3"}); {@code *} es nulo. */
+  private static Long parseVersion(String ifMatch) {
+    if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+      return null;
+    }
+    String tag = ifMatch.trim();
+    if (tag.startsWith("W/")) {
+      tag = tag.substring(2);
+    }
+    tag = tag.replace("\"", "");
+    try {
+      return Long.valueOf(tag);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid If-Match header: " + ifMatch);
+    }
+  }
 }
@@ -0,0 +1,177 @@
+package com.accenture.franchise.infrastructure.adapter.input.rest;
+
+import com.accenture.franchise.application.dto.ImportProductRow;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.springframework.http.MediaType;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Lee las filas de una importación de productos línea a línea, sin cargar el cuerpo completo en
+ * memoria.
+ *
+ * <p>Admite NDJSON ({@code {"name": "Pizza", "stock": 10}} por línea) y CSV con las columnas {@code
+ * name,stock}, con cabecera opcional y campos entre comillas dobles. Una línea mal formada lanza
+ * {@link IllegalArgumentException} con su número de línea.
+ */
+final class ProductImportReader implements Iterator<ImportProductRow> {
+
+  static final String NDJSON_VALUE = "application/x-ndjson";
+  static final String CSV_VALUE = "text/csv";
+
+  private final BufferedReader reader;
+  private final boolean csv;
+  private final ObjectMapper json;
+  private long lineNumber;
+  private ImportProductRow next;
+
+  private ProductImportReader(InputStream body, boolean csv, ObjectMapper json) {
+    this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    this.csv = csv;
+    this.json = json;
+  }
+
+  /**
+   * Crea un lector para el tipo de contenido indicado. Las líneas NDJSON se leen con {@code json},
+   * el mapper de la aplicación.
+   */
+  static ProductImportReader open(InputStream body, String contentType, ObjectMapper json) {
+    MediaType mediaType = MediaType.parseMediaType(contentType);
+    if (MediaType.parseMediaType(CSV_VALUE).isCompatibleWith(mediaType)) {
+      return new ProductImportReader(body, true, json);
+    }
+    if (MediaType.parseMediaType(NDJSON_VALUE).isCompatibleWith(mediaType)) {
+      return new ProductImportReader(body, false, json);
+    }
+    throw new IllegalArgumentException("Unsupported import content type: " + contentType);
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null) {
+      next = readRow();
+    }
+    return next != null;
+  }
+
+  @Override
+  public ImportProductRow next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    ImportProductRow row = next;
+    next = null;
+    return row;
+  }
+
+  private ImportProductRow readRow() {
+    String line;
+    while ((line = readLine()) != null) {
+      if (line.isBlank()) {
+        continue;
+      }
+      if (csv && lineNumber == 1 && isCsvHeader(line)) {
+        continue;
+      }
+      return csv ? parseCsv(line) : parseJson(line);
+    }
+    return null;
+  }
+
+  private String readLine() {
+    try {
+      String line = reader.readLine();
+      if (line != null) {
+        lineNumber++;
+      }
+      return line;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private ImportProductRow parseJson(String line) {
+    JsonNode node;
+    try {
+      node = json.readTree(line);
+    } catch (JacksonException e) {
+      throw malformed("invalid JSON");
+    }
+    if (!node.isObject()) {
+      throw malformed("expected a JSON object");
+    }
+    JsonNode stock = node.path("stock");
+    if (!stock.isMissingNode()
+        && !stock.isNull()
+        && !(stock.isIntegralNumber() && stock.canConvertToInt())) {
+      throw malformed("stock must be an integer");
+    }
+    return new ImportProductRow(
+        lineNumber,
+        node.path("name").isString() ? node.path("name").asString() : null,
+        stock.isIntegralNumber() ? stock.intValue() : null);
+  }
+
+  private ImportProductRow parseCsv(String line) {
+    List<String> fields = splitCsv(line);
+    if (fields.size() != 2) {
+      throw malformed("expected 2 columns (name,stock) but found " + fields.size());
+    }
+    String stock = fields.get(1).trim();
+    try {
+      return new ImportProductRow(
+          lineNumber, fields.get(0), stock.isEmpty() ? null : Integer.valueOf(stock));
+    } catch (NumberFormatException e) {
+      throw malformed("stock must be an integer");
+    }
+  }
+
+  private List<String> splitCsv(String line) {
+    List<String> fields = new ArrayList<>(2);
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (quoted) {
+        if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+          field.append('"');
+          i++;
+        } else if (c == '"') {
+          quoted = false;
+        } else {
+          field.append(c);
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else {
+        field.append(c);
+      }
+    }
+    if (quoted) {
+      throw malformed("unterminated quoted field");
+    }
+    fields.add(field.toString());
+    return fields;
+  }
+
+  private static boolean isCsvHeader(String line) {
+    return line.replace(" ", "").equalsIgnoreCase("name,stock");
+  }
+
+  private IllegalArgumentException malformed(String reason) {
+    return new IllegalArgumentException("Malformed import at line " + lineNumber + ": " + reason);
+  }
+}
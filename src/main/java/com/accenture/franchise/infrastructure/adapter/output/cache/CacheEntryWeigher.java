@@ -0,0 +1,32 @@
+package com.accenture.franchise.infrastructure.adapter.output.cache;
+
+import com.accenture.franchise.domain.model.Branch;
+import com.accenture.franchise.domain.model.Franchise;
+import com.github.benmanes.caffeine.cache.Weigher;
+import java.util.Collection;
+
+/**
+ * Pesa las entradas de la caché local por el número de objetos de dominio que contienen, para que
+ * una franquicia con miles de productos ocupe proporcionalmente más que un producto suelto. Las
+ * copias serializadas ({@link LocalCacheEntry}) conservan el peso del valor original.
+ */
+public class CacheEntryWeigher implements Weigher<String, Object> {
+
+  @Override
+  public int weigh(String key, Object value) {
+    return value instanceof LocalCacheEntry entry ? entry.weight() : weightOf(value);
+  }
+
+  static int weightOf(Object value) {
+    if (value instanceof Franchise franchise) {
+      return 1 + franchise.getBranches().stream().mapToInt(CacheEntryWeigher::weightOf).sum();
+    }
+    if (value instanceof Branch branch) {
+      return 1 + branch.getProducts().size();
+    }
+    if (value instanceof Collection<?> collection) {
+      return Math.max(1, collection.stream().mapToInt(CacheEntryWeigher::weightOf).sum());
+    }
+    return 1;
+  }
+}
@@ -0,0 +1,33 @@
+package com.accenture.franchise.infrastructure.adapter.output.cache;
+
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+/** Aplica en la caché local las invalidaciones publicadas por otras instancias. */
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationListener implements MessageListener {
+
+  private final TwoTierCacheManager cacheManager;
+  private final String nodeId;
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    CacheInvalidationMessage invalidation;
+    try {
+      invalidation =
+          CacheInvalidationMessage.parse(new String(message.getBody(), StandardCharsets.UTF_8));
+    } catch (IllegalArgumentException e) {
+      log.warn(e.getMessage());
+      return;
+    }
+    if (nodeId.equals(invalidation.origin())) {
+      return;
+    }
+    log.debug("Remote cache invalidation {}", invalidation);
+    cacheManager.invalidateLocal(invalidation);
+  }
+}
@@ -0,0 +1,47 @@
+package com.accenture.franchise.infrastructure.adapter.output.cache;
+
+import java.util.List;
+
+/**
+ * Mensaje de invalidación intercambiado por pub/sub entre instancias.
+ *
+ * <p>Formato: {@code origen|caché|E|clave} para invalidar claves, separadas por saltos de línea si
+ * son varias, y {@code origen|caché|C|} para vaciar la caché completa.
+ */
+public record CacheInvalidationMessage(String origin, String cacheName, List<String> keys) {
+
+  private static final String SEPARATOR = "|";
+  private static final String KEY_SEPARATOR = "\n";
+  private static final String EVICT = "E";
+  private static final String CLEAR = "C";
+
+  public CacheInvalidationMessage {
+    keys = List.copyOf(keys);
+  }
+
+  /** Mensaje que invalida una sola clave. */
+  public CacheInvalidationMessage(String origin, String cacheName, String key) {
+    this(origin, cacheName, List.of(key));
+  }
+
+  /** Indica si el mensaje vacía la caché completa. */
+  public boolean isClear() {
+    return keys.isEmpty();
+  }
+
+  /** Serializa el mensaje para publicarlo en el canal. */
+  public String encode() {
+    return String.join(
+        SEPARATOR, origin, cacheName, isClear() ? CLEAR : EVICT, String.join(KEY_SEPARATOR, keys));
+  }
+
+  /** Reconstruye un mensaje publicado con {@link #encode()}. */
+  public static CacheInvalidationMessage parse(String payload) {
+    String[] parts = payload.split("\\|", 4);
+    if (parts.length != 4) {
+      throw new IllegalArgumentException("Invalid cache invalidation message: " + payload);
+    }
+    List<String> keys = CLEAR.equals(parts[2]) ? List.of() : List.of(parts[3].split(KEY_SEPARATOR));
+    return new CacheInvalidationMessage(parts[0], parts[1], keys);
+  }
+}
@@ -0,0 +1,13 @@
+package com.accenture.franchise.infrastructure.adapter.output.cache;
+
+import java.util.List;
+
+/** Difunde a las demás instancias las invalidaciones de la caché local. */
+public interface CacheInvalidationPublisher {
+
+  /**
+   * Publica en un solo mensaje la invalidación de las claves indicadas; sin claves indica que se
+   * vacía la caché.
+   */
+  void publish(String cacheName, List<String> keys);
+}
@@ -0,0 +1,128 @@
+package com.accenture.franchise.infrastructure.adapter.output.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Invalida únicamente las entradas de caché afectadas por una escritura: la entidad modificada y
+ * los agregados que la contienen.
+ *
+ * <p>Dentro de una transacción la invalidación se difiere hasta que esta termina, para que una
+ * lectura concurrente no vuelva a cachear el estado previo al commit.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidator {
+
+  private final CacheManager cacheManager;
+
+  /** Invalida un producto, su sucursal y su franquicia. */
+  public void evictProduct(UUID productId, UUID branchId, UUID franchiseId) {
+    evict(CacheNames.PRODUCTS, productId);
+    evictBranch(branchId, franchiseId);
+  }
+
+  /** Invalida una sucursal y su franquicia. */
+  public void evictBranch(UUID branchId, UUID franchiseId) {
+    evict(CacheNames.BRANCHES, branchId);
+    evictFranchise(franchiseId);
+  }
+
+  /** Invalida una franquicia. */
+  public void evictFranchise(UUID franchiseId) {
+    evict(CacheNames.FRANCHISES, franchiseId);
+  }
+
+  /**
+   * Invalida de una vez varios productos, p. ej. los eliminados en cascada con su sucursal: una
+   * sola sincronización, un solo borrado en Redis y un solo mensaje de invalidación.
+   */
+  public void evictProducts(Collection<UUID> productIds) {
+    evictAll(CacheNames.PRODUCTS, productIds);
+  }
+
+  /** Invalida de una vez varias sucursales, sin tocar sus franquicias. */
+  public void evictBranches(Collection<UUID> branchIds) {
+    evictAll(CacheNames.BRANCHES, branchIds);
+  }
+
+  /** Invalida de una vez varias franquicias. */
+  public void evictFranchises(Collection<UUID> franchiseIds) {
+    evictAll(CacheNames.FRANCHISES, franchiseIds);
+  }
+
+  /**
+   * Vacía las páginas del listado de franquicias. Solo lo afectan las altas, bajas y cambios de
+   * nombre de franquicias, no las escrituras sobre sucursales o productos.
+   */
+  public void evictFranchisePages() {
+    afterCompletion(
+        () -> {
+          Cache cache = cacheManager.getCache(CacheNames.FRANCHISE_PAGES);
+          if (cache != null) {
+            log.debug("Clearing cache {}", CacheNames.FRANCHISE_PAGES);
+            cache.clear();
+          }
+        });
+  }
+
+  private void evict(String cacheName, Object key) {
+    if (key == null) {
+      return;
+    }
+    afterCompletion(() -> doEvict(cacheName, key));
+  }
+
+  private void evictAll(String cacheName, Collection<UUID> keys) {
+    List<UUID> distinctKeys = keys.stream().filter(Objects::nonNull).distinct().toList();
+    if (distinctKeys.isEmpty()) {
+      return;
+    }
+    afterCompletion(() -> doEvictAll(cacheName, distinctKeys));
+  }
+
+  private void afterCompletion(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            action.run();
+          }
+        });
+  }
+
+  private void doEvict(String cacheName, Object key) {
+    Cache cache = cacheManager.getCache(cacheName);
+    if (cache != null) {
+      log.debug("Evicting cache entry {}::{}", cacheName, key);
+      cache.evict(key);
+    }
+  }
+
+  private void doEvictAll(String cacheName, List<UUID> keys) {
+    Cache cache = cacheManager.getCache(cacheName);
+    if (cache == null) {
+      return;
+    }
+    log.debug("Evicting {} cache entries from {}", keys.size(), cacheName);
+    if (cache instanceof TwoTierCache twoTierCache) {
+      twoTierCache.evictAll(keys);
+    } else {
+      keys.forEach(cache::evict);
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package com.accenture.franchise.infrastructure.adapter.output.cache;
+
+import java.time.Duration;
+
+/** Concesión de corta duración que coordina entre instancias quién carga una clave de caché. */
+public interface CacheLoadLease {
+
+  /** Intenta obtener la concesión; devuelve {@code false} si otra instancia ya la tiene. */
+  boolean tryAcquire(String key);
+
+  /** Indica si alguna instancia tiene la concesión. */
+  boolean isHeld(String key);
+
+  /** Libera la concesión si pertenece a esta instancia. */
+  void release(String key);
+
+  /** Duración máxima de la concesión y, por tanto, de la espera de las demás instancias. */
+  Duration ttl();
+}
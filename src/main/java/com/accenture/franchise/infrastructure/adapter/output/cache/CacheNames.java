@@ -0,0 +1,19 @@
+package com.accenture.franchise.infrastructure.adapter.output.cache;
+
+/** Nombres de las cachés usadas por los adapters de persistencia. */
+public final class CacheNames {
+
+  /** Caché de franquicias por ID (agregado completo). */
+  public static final String FRANCHISES = "franchises";
+
+  /** Caché de sucursales por ID con sus productos. */
+  public static final String BRANCHES = "branches";
+
+  /** Caché de productos por ID. */
+  public static final String PRODUCTS = "products";
+
+  /** Caché de páginas del listado de franquicias, por cursor y tamaño. */
+  public static final String FRANCHISE_PAGES = "franchise-pages";
+
+  private CacheNames() {}
+}
@@ -0,0 +1,276 @@
+package com.accenture.franchise.infrastructure.adapter.output.cache;
+
+import com.accenture.franchise.domain.model.Branch;
+import com.accenture.franchise.domain.model.Franchise;
+import com.accenture.franchise.domain.model.Product;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Serializador binario compacto para los agregados de dominio cacheados ({@link Franchise}, {@link
+ * Branch}, {@link Product} y listas de ellos).
+ *
+ * <p>Formato: {@code MAGIC | versión | flags [| longitud original] | cuerpo}. El cuerpo se comprime
+ * con LZ4 cuando supera {@code compressionThreshold} bytes. Cualquier otro valor se delega en
+ * {@code fallback} (JSON), que nunca empieza por {@code MAGIC}, de modo que también se leen las
+ * entradas escritas antes de activar este formato. Las entradas de otra versión del formato se
+ * tratan como fallos de caché.
+ */
+public class DomainBinaryRedisSerializer implements RedisSerializer<Object> {
+
+  static final byte MAGIC = (byte) 0xD5;
+  static final byte FORMAT_VERSION = 2;
+
+  private static final byte FLAG_LZ4 = 0x01;
+  private static final byte TYPE_FRANCHISE = 1;
+  private static final byte TYPE_BRANCH = 2;
+  private static final byte TYPE_PRODUCT = 3;
+  private static final byte TYPE_LIST = 4;
+
+  private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+  private static final LZ4SafeDecompressor DECOMPRESSOR =
+      LZ4Factory.fastestInstance().safeDecompressor();
+
+  private final RedisSerializer<Object> fallback;
+  private final int compressionThreshold;
+
+  public DomainBinaryRedisSerializer(RedisSerializer<Object> fallback, int compressionThreshold) {
+    this.fallback = fallback;
+    this.compressionThreshold = compressionThreshold;
+  }
+
+  @Override
+  public byte[] serialize(Object value) {
+    if (!isBinaryEncodable(value)) {
+      return fallback.serialize(value);
+    }
+    byte[] body;
+    try {
+      ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+      DataOutputStream out = new DataOutputStream(buffer);
+      writeValue(out, value);
+      out.flush();
+      body = buffer.toByteArray();
+    } catch (IOException e) {
+      throw new SerializationException("Could not serialize cache value", e);
+    }
+
+    if (body.length >= compressionThreshold) {
+      byte[] compressed = COMPRESSOR.compress(body);
+      if (compressed.length < body.length) {
+        return ByteBuffer.allocate(7 + compressed.length)
+            .put(MAGIC)
+            .put(FORMAT_VERSION)
+            .put(FLAG_LZ4)
+            .putInt(body.length)
+            .put(compressed)
+            .array();
+      }
+    }
+    return ByteBuffer.allocate(3 + body.length)
+        .put(MAGIC)
+        .put(FORMAT_VERSION)
+        .put((byte) 0)
+        .put(body)
+        .array();
+  }
+
+  @Override
+  public Object deserialize(byte[] bytes) {
+    if (bytes == null || bytes.length == 0) {
+      return null;
+    }
+    if (bytes[0] != MAGIC) {
+      return fallback.deserialize(bytes);
+    }
+    if (bytes.length < 3 || bytes[1] != FORMAT_VERSION) {
+      return null;
+    }
+    ByteBuffer header = ByteBuffer.wrap(bytes);
+    header.position(3);
+    byte[] body;
+    if ((bytes[2] & FLAG_LZ4) != 0) {
+      int originalLength = header.getInt();
+      body = new byte[originalLength];
+      DECOMPRESSOR.decompress(bytes, 7, bytes.length - 7, body, 0, originalLength);
+    } else {
+      body = new byte[bytes.length - 3];
+      header.get(body);
+    }
+    try {
+      return readValue(new DataInputStream(new ByteArrayInputStream(body)));
+    } catch (IOException | RuntimeException e) {
+      throw new SerializationException("Could not deserialize cache value", e);
+    }
+  }
+
+  private static boolean isBinaryEncodable(Object value) {
+    if (value instanceof List<?> list) {
+      return list.stream().allMatch(DomainBinaryRedisSerializer::isDomainObject);
+    }
+    return isDomainObject(value);
+  }
+
+  private static boolean isDomainObject(Object value) {
+    return value instanceof Franchise || value instanceof Branch || value instanceof Product;
+  }
+
+  private static void writeValue(DataOutputStream out, Object value) throws IOException {
+    switch (value) {
+      case Franchise franchise -> {
+        out.writeByte(TYPE_FRANCHISE);
+        writeFranchise(out, franchise);
+      }
+      case Branch branch -> {
+        out.writeByte(TYPE_BRANCH);
+        writeBranch(out, branch);
+      }
+      case Product product -> {
+        out.writeByte(TYPE_PRODUCT);
+        writeProduct(out, product);
+      }
+      case List<?> list -> {
+        out.writeByte(TYPE_LIST);
+        out.writeInt(list.size());
+        for (Object element : list) {
+          writeValue(out, element);
+        }
+      }
+      default -> throw new IllegalArgumentException("Unsupported type: " + value.getClass());
+    }
+  }
+
+  private static Object readValue(DataInputStream in) throws IOException {
+    byte type = in.readByte();
+    return switch (type) {
+      case TYPE_FRANCHISE -> readFranchise(in);
+      case TYPE_BRANCH -> readBranch(in);
+      case TYPE_PRODUCT -> readProduct(in);
+      case TYPE_LIST -> {
+        int size = in.readInt();
+        List<Object> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          list.add(readValue(in));
+        }
+        yield list;
+      }
+      default -> throw new IOException("Unknown type tag: " + type);
+    };
+  }
+
+  private static void writeFranchise(DataOutputStream out, Franchise franchise) throws IOException {
+    writeUuid(out, franchise.getId());
+    writeString(out, franchise.getName());
+    out.writeInt(franchise.getBranches().size());
+    for (Branch branch : franchise.getBranches()) {
+      writeBranch(out, branch);
+    }
+  }
+
+  private static Franchise readFranchise(DataInputStream in) throws IOException {
+    UUID id = readUuid(in);
+    String name = readString(in);
+    int size = in.readInt();
+    List<Branch> branches = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      branches.add(readBranch(in));
+    }
+    return Franchise.builder().id(id).name(name).branches(branches).build();
+  }
+
+  private static void writeBranch(DataOutputStream out, Branch branch) throws IOException {
+    writeUuid(out, branch.getId());
+    writeString(out, branch.getName());
+    writeUuid(out, branch.getFranchiseId());
+    out.writeInt(branch.getProducts().size());
+    for (Product product : branch.getProducts()) {
+      writeProduct(out, product);
+    }
+  }
+
+  private static Branch readBranch(DataInputStream in) throws IOException {
+    UUID id = readUuid(in);
+    String name = readString(in);
+    UUID franchiseId = readUuid(in);
+    int size = in.readInt();
+    List<Product> products = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      products.add(readProduct(in));
+    }
+    return Branch.builder().id(id).name(name).franchiseId(franchiseId).products(products).build();
+  }
+
+  private static void writeProduct(DataOutputStream out, Product product) throws IOException {
+    writeUuid(out, product.getId());
+    writeString(out, product.getName());
+    out.writeBoolean(product.getStock() != null);
+    if (product.getStock() != null) {
+      out.writeInt(product.getStock());
+    }
+    writeUuid(out, product.getBranchId());
+    out.writeBoolean(product.getVersion() != null);
+    if (product.getVersion() != null) {
+      out.writeLong(product.getVersion());
+    }
+  }
+
+  private static Product readProduct(DataInputStream in) throws IOException {
+    UUID id = readUuid(in);
+    String name = readString(in);
+    Integer stock = in.readBoolean() ? in.readInt() : null;
+    UUID branchId = readUuid(in);
+    Long version = in.readBoolean() ? in.readLong() : null;
+    return Product.builder()
+        .id(id)
+        .name(name)
+        .stock(stock)
+        .branchId(branchId)
+        .version(version)
+        .build();
+  }
+
+  private static void writeUuid(DataOutputStream out, UUID uuid) throws IOException {
+    out.writeBoolean(uuid != null);
+    if (uuid != null) {
+      out.writeLong(uuid.getMostSignificantBits());
+      out.writeLong(uuid.getLeastSignificantBits());
+    }
+  }
+
+  private static UUID readUuid(DataInputStream in) throws IOException {
+    return in.readBoolean() ? new UUID(in.readLong(), in.readLong()) : null;
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length < 0) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
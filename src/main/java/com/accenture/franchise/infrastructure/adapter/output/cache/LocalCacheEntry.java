@@ -0,0 +1,11 @@
+package com.accenture.franchise.infrastructure.adapter.output.cache;
+
+/**
+ * Copia serializada de un valor en la caché local. Cada lectura deserializa una instancia nueva, de
+ * modo que quien modifique el agregado devuelto (p. ej. un caso de uso antes del commit) no altera
+ * lo que ven las demás peticiones.
+ *
+ * @param value valor serializado
+ * @param weight peso del valor original según {@link CacheEntryWeigher}
+ */
+record LocalCacheEntry(byte[] value, int weight) {}
@@ -0,0 +1,23 @@
+package com.accenture.franchise.infrastructure.adapter.output.cache;
+
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Borra varias entradas de una caché de Redis con un único {@code DEL}. Las claves se prefijan
+ * igual que las escribe {@code RedisCache}, así que la configuración debe ser la del gestor.
+ */
+@RequiredArgsConstructor
+public class RedisCacheBulkEvictor implements RemoteCacheBulkEvictor {
+
+  private final StringRedisTemplate redisTemplate;
+  private final RedisCacheConfiguration cacheConfiguration;
+
+  @Override
+  public void evictAll(String cacheName, Collection<String> keys) {
+    String prefix = cacheConfiguration.getKeyPrefixFor(cacheName);
+    redisTemplate.delete(keys.stream().map(key -> prefix + key).toList());
+  }
+}
@@ -0,0 +1,35 @@
+package com.accenture.franchise.infrastructure.adapter.output.cache;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Publica las invalidaciones en un canal de Redis. Cada instancia se identifica con un ID propio
+ * para ignorar sus propios mensajes al recibirlos.
+ */
+@Slf4j
+public class RedisCacheInvalidationPublisher implements CacheInvalidationPublisher {
+
+  private final StringRedisTemplate redisTemplate;
+  @Getter private final String channel;
+  @Getter private final String nodeId = UUID.randomUUID().toString();
+
+  public RedisCacheInvalidationPublisher(StringRedisTemplate redisTemplate, String channel) {
+    this.redisTemplate = redisTemplate;
+    this.channel = channel;
+  }
+
+  @Override
+  public void publish(String cacheName, List<String> keys) {
+    String payload = new CacheInvalidationMessage(nodeId, cacheName, keys).encode();
+    try {
+      redisTemplate.convertAndSend(channel, payload);
+    } catch (RuntimeException e) {
+      // La caché local caduca por TTL aunque se pierda el mensaje; no se aborta la escritura
+      log.warn("Could not publish cache invalidation {}: {}", payload, e.getMessage());
+    }
+  }
+}
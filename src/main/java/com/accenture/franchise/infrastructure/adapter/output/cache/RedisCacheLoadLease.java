@@ -0,0 +1,68 @@
+package com.accenture.franchise.infrastructure.adapter.output.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * Concesión de carga basada en {@code SET NX PX}. Si Redis falla se concede siempre, de modo que la
+ * caché se degrada a coalescencia solo dentro de la instancia.
+ */
+@Slf4j
+public class RedisCacheLoadLease implements CacheLoadLease {
+
+  private static final String KEY_PREFIX = "lease::";
+
+  private static final RedisScript<Long> RELEASE_SCRIPT =
+      new DefaultRedisScript<>(
+          "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) "
+              + "else return 0 end",
+          Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final Duration ttl;
+  private final String owner = UUID.randomUUID().toString();
+
+  public RedisCacheLoadLease(StringRedisTemplate redisTemplate, Duration ttl) {
+    this.redisTemplate = redisTemplate;
+    this.ttl = ttl;
+  }
+
+  @Override
+  public boolean tryAcquire(String key) {
+    try {
+      return Boolean.TRUE.equals(
+          redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key, owner, ttl));
+    } catch (RuntimeException e) {
+      log.warn("Could not acquire cache load lease {}: {}", key, e.getMessage());
+      return true;
+    }
+  }
+
+  @Override
+  public boolean isHeld(String key) {
+    try {
+      return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + key));
+    } catch (RuntimeException e) {
+      return false;
+    }
+  }
+
+  @Override
+  public void release(String key) {
+    try {
+      redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + key), owner);
+    } catch (RuntimeException e) {
+      log.warn("Could not release cache load lease {}: {}", key, e.getMessage());
+    }
+  }
+
+  @Override
+  public Duration ttl() {
+    return ttl;
+  }
+}
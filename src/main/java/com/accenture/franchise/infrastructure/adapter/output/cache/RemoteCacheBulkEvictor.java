@@ -0,0 +1,10 @@
+package com.accenture.franchise.infrastructure.adapter.output.cache;
+
+import java.util.Collection;
+
+/** Borra varias claves de la caché remota en una sola operación. */
+public interface RemoteCacheBulkEvictor {
+
+  /** Borra las claves, ya normalizadas a texto, de la caché indicada. */
+  void evictAll(String cacheName, Collection<String> keys);
+}
@@ -0,0 +1,85 @@
+package com.accenture.franchise.infrastructure.adapter.output.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Agrupa las cargas concurrentes de una misma clave: el primer llamador ejecuta la carga y el resto
+ * espera y recibe su resultado (o su excepción).
+ *
+ * <p>La espera está acotada por {@code waitTimeout}: si la carga en curso no termina a tiempo, el
+ * llamador deja de esperarla y ejecuta su propia carga, de modo que una carga bloqueada no retiene
+ * a todos los que piden la misma clave.
+ */
+public class SingleFlight {
+
+  private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+  private final Duration waitTimeout;
+
+  /** Crea el agrupador; quien espera una carga ajena lo hace como mucho {@code waitTimeout}. */
+  public SingleFlight(Duration waitTimeout) {
+    this.waitTimeout = waitTimeout;
+  }
+
+  /** Ejecuta {@code loader} salvo que ya haya una carga en curso para {@code key}. */
+  public <T> T execute(String key, Supplier<T> loader) {
+    return execute(key, loader, UnaryOperator.identity());
+  }
+
+  /**
+   * Como {@link #execute(String, Supplier)}, pero quien recibe el resultado de una carga ajena lo
+   * recibe a través de {@code share}, p. ej. para obtener su propia copia de un valor mutable.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T execute(String key, Supplier<T> loader, UnaryOperator<T> share) {
+    CompletableFuture<Object> call = new CompletableFuture<>();
+    CompletableFuture<Object> existing = inFlight.putIfAbsent(key, call);
+    if (existing != null) {
+      return await(existing, loader, share);
+    }
+    try {
+      T value = loader.get();
+      call.complete(value);
+      return value;
+    } catch (RuntimeException | Error e) {
+      call.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, call);
+    }
+  }
+
+  /** Número de claves con una carga en curso. */
+  int inFlightCount() {
+    return inFlight.size();
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T await(CompletableFuture<Object> call, Supplier<T> loader, UnaryOperator<T> share) {
+    T value;
+    try {
+      value = (T) call.get(waitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      return loader.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return loader.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+    return share.apply(value);
+  }
+}
@@ -0,0 +1,329 @@
+package com.accenture.franchise.infrastructure.adapter.output.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Caché de dos niveles: una caché en memoria acotada (L1) delante de la caché de Redis (L2).
+ *
+ * <p>Las lecturas consultan L1 y, si falla, L2, promocionando a L1 lo encontrado. Las
+ * invalidaciones se aplican en ambos niveles y se difunden para que las demás instancias descarten
+ * su copia local. Las claves de L1 se normalizan a texto igual que en Redis. Sin caché local
+ * ({@code local} nulo) se comporta como la caché de Redis.
+ *
+ * <p>Con {@code localValueSerializer} L1 guarda los valores serializados y cada lectura obtiene su
+ * propia instancia: los agregados son mutables y los casos de uso los modifican antes del commit.
+ * Sin él se guardan las referencias, lo que solo es seguro con valores inmutables.
+ *
+ * <p>Las cargas de {@code @Cacheable(sync = true)} se agrupan por clave: dentro de la instancia con
+ * {@link SingleFlight} y, si hay {@link CacheLoadLease}, entre instancias esperando a que la que
+ * tiene la concesión publique el valor en Redis. Quien espera la carga de otro hilo vuelve a leer
+ * la entrada de L1, así que con {@code localValueSerializer} tampoco comparte la instancia cargada.
+ *
+ * <p>{@link #evictAll(Collection)} invalida varias claves con un solo borrado remoto, si hay {@link
+ * RemoteCacheBulkEvictor}, y un solo mensaje de invalidación.
+ */
+public class TwoTierCache implements Cache {
+
+  static final String METRIC_NAME = "cache.tier.gets";
+  static final String EVICTIONS_METRIC_NAME = "cache.tier.evictions";
+
+  private static final Duration LEASE_POLL_INTERVAL = Duration.ofMillis(20);
+
+  /** Espera máxima a la carga de otro hilo antes de cargar por su cuenta. */
+  static final Duration SINGLE_FLIGHT_TIMEOUT = Duration.ofSeconds(5);
+
+  private final String name;
+  private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+  private final RedisSerializer<Object> localValueSerializer;
+  private final Cache remote;
+  private final RemoteCacheBulkEvictor remoteBulkEvictor;
+  private final CacheInvalidationPublisher invalidationPublisher;
+  private final CacheLoadLease loadLease;
+  private final SingleFlight singleFlight = new SingleFlight(SINGLE_FLIGHT_TIMEOUT);
+  private final Counter localHits;
+  private final Counter localMisses;
+  private final Counter remoteHits;
+  private final Counter remoteMisses;
+  private final Counter localEvictions;
+  private final Counter localRemoteEvictions;
+  private final Counter remoteEvictions;
+
+  public TwoTierCache(
+      String name,
+      com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+      RedisSerializer<Object> localValueSerializer,
+      Cache remote,
+      RemoteCacheBulkEvictor remoteBulkEvictor,
+      CacheInvalidationPublisher invalidationPublisher,
+      CacheLoadLease loadLease,
+      MeterRegistry meterRegistry) {
+    this.name = name;
+    this.local = local;
+    this.localValueSerializer = localValueSerializer;
+    this.remote = remote;
+    this.remoteBulkEvictor = remoteBulkEvictor;
+    this.invalidationPublisher = invalidationPublisher;
+    this.loadLease = loadLease;
+    this.localHits = counter(meterRegistry, "l1", "hit");
+    this.localMisses = counter(meterRegistry, "l1", "miss");
+    this.remoteHits = counter(meterRegistry, "l2", "hit");
+    this.remoteMisses = counter(meterRegistry, "l2", "miss");
+    this.localEvictions = evictions(meterRegistry, "l1", "explicit");
+    this.localRemoteEvictions = evictions(meterRegistry, "l1", "remote");
+    this.remoteEvictions = evictions(meterRegistry, "l2", "explicit");
+    if (local != null) {
+      // Expulsiones por tamaño o caducidad; requiere Caffeine.recordStats()
+      FunctionCounter.builder(EVICTIONS_METRIC_NAME, local, cache -> cache.stats().evictionCount())
+          .description("Cache evictions per tier")
+          .tag("cache", name)
+          .tag("tier", "l1")
+          .tag("cause", "policy")
+          .register(meterRegistry);
+    }
+  }
+
+  private Counter counter(MeterRegistry meterRegistry, String tier, String result) {
+    return Counter.builder(METRIC_NAME)
+        .description("Cache lookups per tier")
+        .tag("cache", name)
+        .tag("tier", tier)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  /** Invalidaciones de claves o vaciados completos; un vaciado cuenta como una sola. */
+  private Counter evictions(MeterRegistry meterRegistry, String tier, String cause) {
+    return Counter.builder(EVICTIONS_METRIC_NAME)
+        .description("Cache evictions per tier")
+        .tag("cache", name)
+        .tag("tier", tier)
+        .tag("cause", cause)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return local != null ? local : remote.getNativeCache();
+  }
+
+  @Override
+  public ValueWrapper get(Object key) {
+    if (local != null) {
+      Object value = local.getIfPresent(toLocalKey(key));
+      if (value != null) {
+        localHits.increment();
+        return new SimpleValueWrapper(fromLocal(value));
+      }
+      localMisses.increment();
+    }
+
+    ValueWrapper wrapper = remote.get(key);
+    if (wrapper == null || wrapper.get() == null) {
+      remoteMisses.increment();
+      return null;
+    }
+    remoteHits.increment();
+    putLocal(key, wrapper.get());
+    return wrapper;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Class<T> type) {
+    ValueWrapper wrapper = get(key);
+    Object value = wrapper != null ? wrapper.get() : null;
+    if (value != null && type != null && !type.isInstance(value)) {
+      throw new IllegalStateException(
+          "Cached value is not of required type [" + type.getName() + "]: " + value);
+    }
+    return (T) value;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    ValueWrapper wrapper = get(key);
+    if (wrapper != null) {
+      return (T) wrapper.get();
+    }
+    return singleFlight.execute(
+        toLocalKey(key), () -> load(key, valueLoader), value -> ownCopy(key, value));
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    if (value == null) {
+      return;
+    }
+    remote.put(key, value);
+    putLocal(key, value);
+  }
+
+  @Override
+  public void evict(Object key) {
+    String localKey = toLocalKey(key);
+    remote.evict(key);
+    remoteEvictions.increment();
+    if (local != null) {
+      local.invalidate(localKey);
+      localEvictions.increment();
+      invalidationPublisher.publish(name, List.of(localKey));
+    }
+  }
+
+  /** Invalida varias claves en ambos niveles con un solo borrado remoto y un solo mensaje. */
+  public void evictAll(Collection<?> keys) {
+    if (keys.isEmpty()) {
+      return;
+    }
+    List<String> localKeys = keys.stream().map(TwoTierCache::toLocalKey).toList();
+    if (remoteBulkEvictor != null) {
+      remoteBulkEvictor.evictAll(name, localKeys);
+    } else {
+      keys.forEach(remote::evict);
+    }
+    remoteEvictions.increment(keys.size());
+    if (local != null) {
+      local.invalidateAll(localKeys);
+      localEvictions.increment(keys.size());
+      invalidationPublisher.publish(name, localKeys);
+    }
+  }
+
+  @Override
+  public void clear() {
+    remote.clear();
+    remoteEvictions.increment();
+    if (local != null) {
+      local.invalidateAll();
+      localEvictions.increment();
+      invalidationPublisher.publish(name, List.of());
+    }
+  }
+
+  /** Descarta claves solo de la caché local, a petición de otra instancia. */
+  void evictLocal(Collection<String> keys) {
+    if (local != null) {
+      local.invalidateAll(keys);
+      localRemoteEvictions.increment(keys.size());
+    }
+  }
+
+  /** Vacía solo la caché local, a petición de otra instancia. */
+  void clearLocal() {
+    if (local != null) {
+      local.invalidateAll();
+      localRemoteEvictions.increment();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T load(Object key, Callable<T> valueLoader) {
+    // Otra carga pudo terminar entre el fallo inicial y la entrada en el single-flight
+    ValueWrapper wrapper = get(key);
+    if (wrapper != null) {
+      return (T) wrapper.get();
+    }
+    if (loadLease == null) {
+      return loadAndPut(key, valueLoader);
+    }
+
+    String leaseKey = name + "::" + toLocalKey(key);
+    if (!loadLease.tryAcquire(leaseKey)) {
+      wrapper = awaitRemoteLoad(key, leaseKey);
+      if (wrapper != null) {
+        return (T) wrapper.get();
+      }
+      // La otra instancia no produjo valor (p. ej. entidad inexistente) o tardó demasiado
+      return loadAndPut(key, valueLoader);
+    }
+    try {
+      return loadAndPut(key, valueLoader);
+    } finally {
+      loadLease.release(leaseKey);
+    }
+  }
+
+  private ValueWrapper awaitRemoteLoad(Object key, String leaseKey) {
+    long deadline = System.nanoTime() + loadLease.ttl().toNanos();
+    while (System.nanoTime() < deadline && loadLease.isHeld(leaseKey)) {
+      try {
+        Thread.sleep(LEASE_POLL_INTERVAL);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return null;
+      }
+    }
+    ValueWrapper wrapper = remote.get(key);
+    if (wrapper == null || wrapper.get() == null) {
+      return null;
+    }
+    putLocal(key, wrapper.get());
+    return wrapper;
+  }
+
+  /**
+   * Instancia propia del valor que cargó otro hilo: la de L1, que se deserializa en cada lectura, o
+   * una copia serializada si la entrada ya no está.
+   */
+  @SuppressWarnings("unchecked")
+  private <T> T ownCopy(Object key, T value) {
+    if (localValueSerializer == null || value == null) {
+      return value;
+    }
+    Object entry = local != null ? local.getIfPresent(toLocalKey(key)) : null;
+    if (entry != null) {
+      return (T) fromLocal(entry);
+    }
+    return (T) localValueSerializer.deserialize(localValueSerializer.serialize(value));
+  }
+
+  private <T> T loadAndPut(Object key, Callable<T> valueLoader) {
+    T value;
+    try {
+      value = valueLoader.call();
+    } catch (Exception e) {
+      throw new ValueRetrievalException(key, valueLoader, e);
+    }
+    put(key, value);
+    return value;
+  }
+
+  private void putLocal(Object key, Object value) {
+    if (local != null) {
+      local.put(toLocalKey(key), toLocal(value));
+    }
+  }
+
+  private Object toLocal(Object value) {
+    if (localValueSerializer == null) {
+      return value;
+    }
+    return new LocalCacheEntry(
+        localValueSerializer.serialize(value), CacheEntryWeigher.weightOf(value));
+  }
+
+  private Object fromLocal(Object value) {
+    return value instanceof LocalCacheEntry entry
+        ? localValueSerializer.deserialize(entry.value())
+        : value;
+  }
+
+  private static String toLocalKey(Object key) {
+    return String.valueOf(key);
+  }
+}
@@ -0,0 +1,88 @@
+package com.accenture.franchise.infrastructure.adapter.output.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Gestor de caché que envuelve cada caché de Redis con una caché local creada por {@code
+ * localCacheFactory}.
+ *
+ * <p>Sin fábrica local ({@code null}) las cachés solo usan Redis, pero conservan la carga agrupada
+ * por clave de {@link TwoTierCache}. La caché local guarda los valores serializados con {@code
+ * localValueSerializer}, para que cada lectura obtenga su propia copia. Sin {@code
+ * remoteBulkEvictor} las invalidaciones múltiples borran de Redis clave a clave.
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+  private final CacheManager remoteCacheManager;
+  private final RemoteCacheBulkEvictor remoteBulkEvictor;
+  private final Supplier<com.github.benmanes.caffeine.cache.Cache<String, Object>>
+      localCacheFactory;
+  private final RedisSerializer<Object> localValueSerializer;
+  private final CacheInvalidationPublisher invalidationPublisher;
+  private final CacheLoadLease loadLease;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+  public TwoTierCacheManager(
+      CacheManager remoteCacheManager,
+      RemoteCacheBulkEvictor remoteBulkEvictor,
+      Supplier<com.github.benmanes.caffeine.cache.Cache<String, Object>> localCacheFactory,
+      RedisSerializer<Object> localValueSerializer,
+      CacheInvalidationPublisher invalidationPublisher,
+      CacheLoadLease loadLease,
+      MeterRegistry meterRegistry) {
+    this.remoteCacheManager = remoteCacheManager;
+    this.remoteBulkEvictor = remoteBulkEvictor;
+    this.localCacheFactory = localCacheFactory;
+    this.localValueSerializer = localValueSerializer;
+    this.invalidationPublisher = invalidationPublisher;
+    this.loadLease = loadLease;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Cache getCache(String name) {
+    return caches.computeIfAbsent(name, this::createCache);
+  }
+
+  @Override
+  public Collection<String> getCacheNames() {
+    return remoteCacheManager.getCacheNames();
+  }
+
+  /** Aplica en la caché local una invalidación recibida de otra instancia. */
+  public void invalidateLocal(CacheInvalidationMessage invalidation) {
+    TwoTierCache cache = caches.get(invalidation.cacheName());
+    if (cache == null) {
+      return;
+    }
+    if (invalidation.isClear()) {
+      cache.clearLocal();
+    } else {
+      cache.evictLocal(invalidation.keys());
+    }
+  }
+
+  private TwoTierCache createCache(String name) {
+    Cache remote = remoteCacheManager.getCache(name);
+    if (remote == null) {
+      return null;
+    }
+    return new TwoTierCache(
+        name,
+        localCacheFactory != null ? localCacheFactory.get() : null,
+        localValueSerializer,
+        remote,
+        remoteBulkEvictor,
+        invalidationPublisher,
+        loadLease,
+        meterRegistry);
+  }
+}
@@ -2,15 +2,18 @@ package com.accenture.franchise.infrastructure.adapter.output.persistence;
 
 import com.accenture.franchise.domain.model.Branch;
 import com.accenture.franchise.domain.repository.BranchRepository;
+import com.accenture.franchise.infrastructure.adapter.output.cache.CacheInvalidator;
+import com.accenture.franchise.infrastructure.adapter.output.cache.CacheNames;
 import com.accenture.franchise.infrastructure.adapter.output.persistence.mapper.BranchPersistenceMapper;
 import com.accenture.franchise.infrastructure.adapter.output.persistence.repository.BranchJpaRepository;
+import com.accenture.franchise.infrastructure.monitoring.AggregateSizeMetrics;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 /** Adapter de persistencia para Sucursales. */
@@ -18,23 +21,53 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class BranchPersistenceAdapter implements BranchRepository {
 
+  /**
+   * Bloquea en orden de identificador los productos de una sucursal antes de borrarla, para
+   * bloquearlos antes que el resumen y no al borrar en cascada.
+   */
+  private static final String LOCK_PRODUCTS_SQL =
+      "SELECT id FROM products WHERE branch_id = ? ORDER BY id FOR UPDATE";
+
   private final BranchJpaRepository jpaRepository;
+  private final JdbcTemplate jdbcTemplate;
   private final BranchPersistenceMapper mapper;
+  private final CacheInvalidator cacheInvalidator;
+  private final FranchiseSummaryProjector summaryProjector;
+  private final BranchTopStockTracker topStockTracker;
+  private final AggregateSizeMetrics aggregateSizeMetrics;
 
+  /**
+   * Crea la sucursal o, si ya existe, solo cambia su nombre: los productos del agregado pueden
+   * venir de la caché y, en cascada, sobrescribirían el stock escrito entre tanto por otras
+   * peticiones.
+   */
   @Override
-  @CacheEvict(
-      value = {"branches", "franchises"},
-      allEntries = true)
   public Branch save(Branch branch) {
-    var entity = mapper.toEntity(branch);
+    var entity =
+        Optional.ofNullable(branch.getId())
+            .flatMap(jpaRepository::findByIdWithProducts)
+            .map(
+                existing -> {
+                  existing.setName(branch.getName());
+                  return existing;
+                })
+            .orElseGet(() -> mapper.toEntity(branch));
     var savedEntity = jpaRepository.save(entity);
-    return mapper.toDomain(savedEntity);
+    var saved = mapper.toDomain(savedEntity);
+    summaryProjector.branchSaved(saved.getFranchiseId(), saved.getId(), saved.getName());
+    if (branch.getId() == null) {
+      topStockTracker.branchCreated(saved.getId());
+    }
+    cacheInvalidator.evictBranch(saved.getId(), saved.getFranchiseId());
+    return saved;
   }
 
   @Override
-  @Cacheable(value = "branches", key = "#id")
+  @Cacheable(value = CacheNames.BRANCHES, key = "#id", sync = true)
   public Optional<Branch> findById(UUID id) {
-    return jpaRepository.findByIdWithProducts(id).map(mapper::toDomain);
+    Optional<Branch> branch = jpaRepository.findByIdWithProducts(id).map(mapper::toDomain);
+    branch.ifPresent(aggregateSizeMetrics::record);
+    return branch;
   }
 
   @Override
@@ -45,11 +78,19 @@ public class BranchPersistenceAdapter implements BranchRepository {
   }
 
   @Override
-  @CacheEvict(
-      value = {"branches", "franchises"},
-      allEntries = true)
   public void deleteById(UUID id) {
+    var franchiseId = jpaRepository.findFranchiseIdById(id).orElse(null);
+    // Productos, resumen e índice de máximos: el orden de bloqueo de las escrituras
+    var productIds =
+        jdbcTemplate.query(LOCK_PRODUCTS_SQL, (row, rowNum) -> row.getObject("id", UUID.class), id);
+    if (franchiseId != null) {
+      summaryProjector.branchDeleted(franchiseId, id);
+    }
+    topStockTracker.branchDeleted(id);
     jpaRepository.deleteById(id);
+    // Los productos se eliminan en cascada, por lo que sus entradas también quedan obsoletas
+    cacheInvalidator.evictProducts(productIds);
+    cacheInvalidator.evictBranch(id, franchiseId);
   }
 
   @Override
@@ -61,4 +102,9 @@ public class BranchPersistenceAdapter implements BranchRepository {
   public boolean existsById(UUID id) {
     return jpaRepository.existsById(id);
   }
+
+  @Override
+  public Optional<UUID> findFranchiseIdById(UUID id) {
+    return jpaRepository.findFranchiseIdById(id);
+  }
 }
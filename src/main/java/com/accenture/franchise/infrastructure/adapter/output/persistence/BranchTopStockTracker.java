@@ -0,0 +1,275 @@
+package com.accenture.franchise.infrastructure.adapter.output.persistence;
+
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Mantiene el índice {@code branch_top_stock} dentro de la transacción de cada escritura de los
+ * adapters de persistencia.
+ *
+ * <p>Cada escritura de un producto intenta una actualización condicional que solo aplica si el
+ * producto supera al máximo, o lo empata con un identificador menor, en el mismo orden {@code
+ * (stock DESC, id)} que la consulta original. Si no aplica, otra actualización condicional toca la
+ * fila solo si el producto era el máximo, y entonces se vuelve a buscar con una lectura de {@code
+ * idx_products_branch_stock}. La mayoría de escrituras no cumplen ninguna condición y no bloquean
+ * la fila, así que no se serializan por sucursal.
+ *
+ * <p>Al comparar en la propia sentencia, una escritura que espera a otra sobre la fila se evalúa
+ * contra el máximo que esta deja. Un recálculo, en cambio, no ve las escrituras sin confirmar de
+ * productos que no eran el máximo: si uno baja mientras otra transacción recalcula la sucursal, la
+ * fila puede quedarse con un producto que ya no es el máximo. La consulta lee el nombre y el stock
+ * del propio producto, así que nunca muestra un stock que no tiene; y cada recálculo confirmado
+ * programa una conciliación de la sucursal pasados {@link #RECONCILE_DELAY}, en una transacción
+ * propia, que vuelve a calcularla cuando esas escrituras ya han terminado. Si la conciliación
+ * cambia el máximo programa otra, hasta que la fila queda estable.
+ */
+@Slf4j
+@Component
+public class BranchTopStockTracker implements SmartLifecycle {
+
+  /** Espera antes de conciliar una sucursal recalculada, mayor que una escritura normal. */
+  static final Duration RECONCILE_DELAY = Duration.ofSeconds(1);
+
+  /**
+   * Sustituye el máximo si el producto lo supera o lo empata con un identificador menor o igual; el
+   * propio máximo se actualiza así cuando sube o cambia de nombre.
+   */
+  private static final String RAISE_SQL =
+      "UPDATE branch_top_stock SET product_id = ?, product_name = ?, stock = ?,"
+          + " updated_at = CURRENT_TIMESTAMP"
+          + " WHERE branch_id = ?"
+          + " AND (product_id IS NULL OR stock < ? OR (stock = ? AND product_id >= ?))";
+
+  /** Bloquea la fila solo si el producto es su máximo, antes de recalcularla. */
+  private static final String CLAIM_SQL =
+      "UPDATE branch_top_stock SET updated_at = CURRENT_TIMESTAMP"
+          + " WHERE branch_id = ? AND product_id = ?";
+
+  private static final String CLAIM_BRANCH_SQL =
+      "UPDATE branch_top_stock SET updated_at = CURRENT_TIMESTAMP WHERE branch_id = ?";
+
+  private static final String INSERT_EMPTY_SQL =
+      "INSERT INTO branch_top_stock (branch_id, updated_at) VALUES (?, CURRENT_TIMESTAMP)"
+          + " ON CONFLICT DO NOTHING";
+
+  private static final String SET_SQL =
+      "UPDATE branch_top_stock SET product_id = ?, product_name = ?, stock = ?,"
+          + " updated_at = CURRENT_TIMESTAMP WHERE branch_id = ?";
+
+  private static final String FIND_TOP_SQL =
+      "SELECT id, name, stock FROM products WHERE branch_id = ? ORDER BY stock DESC, id LIMIT 1";
+
+  private static final String FIND_STORED_SQL =
+      "SELECT product_id FROM branch_top_stock WHERE branch_id = ?";
+
+  private static final String DELETE_SQL = "DELETE FROM branch_top_stock WHERE branch_id = ?";
+
+  private static final String DELETE_BY_FRANCHISE_SQL =
+      "DELETE FROM branch_top_stock"
+          + " WHERE branch_id IN (SELECT id FROM branches WHERE franchise_id = ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final EntityManager entityManager;
+  private final TransactionTemplate reconcileTransaction;
+
+  /** Sucursales con una conciliación programada que aún no ha empezado. */
+  private final Set<UUID> scheduled = ConcurrentHashMap.newKeySet();
+
+  private volatile ScheduledExecutorService scheduler;
+
+  /**
+   * Crea el índice; las conciliaciones abren su propia transacción con {@code transactionManager}.
+   */
+  public BranchTopStockTracker(
+      JdbcTemplate jdbcTemplate,
+      EntityManager entityManager,
+      PlatformTransactionManager transactionManager) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.entityManager = entityManager;
+    this.reconcileTransaction = new TransactionTemplate(transactionManager);
+    this.reconcileTransaction.setPropagationBehavior(
+        TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /** Crea la fila vacía de una sucursal nueva. */
+  public void branchCreated(UUID branchId) {
+    // La sucursal debe estar ya en la tabla para la clave foránea
+    entityManager.flush();
+    jdbcTemplate.update(INSERT_EMPTY_SQL, branchId);
+  }
+
+  /** Elimina la fila de una sucursal. Debe llamarse antes de borrarla. */
+  public void branchDeleted(UUID branchId) {
+    jdbcTemplate.update(DELETE_SQL, branchId);
+  }
+
+  /** Elimina las filas de las sucursales de una franquicia. Debe llamarse antes de borrarla. */
+  public void franchiseDeleted(UUID franchiseId) {
+    jdbcTemplate.update(DELETE_BY_FRANCHISE_SQL, franchiseId);
+  }
+
+  /** Registra el stock con el que ha quedado un producto nuevo o modificado. */
+  public void productSaved(UUID branchId, UUID productId, String name, int stock) {
+    if (branchId == null) {
+      return;
+    }
+    int raised =
+        jdbcTemplate.update(RAISE_SQL, productId, name, stock, branchId, stock, stock, productId);
+    if (raised == 0 && jdbcTemplate.update(CLAIM_SQL, branchId, productId) > 0) {
+      // El máximo ha bajado
+      refresh(branchId);
+    }
+  }
+
+  /** Registra la eliminación de un producto. */
+  public void productRemoved(UUID branchId, UUID productId) {
+    if (branchId != null && jdbcTemplate.update(CLAIM_SQL, branchId, productId) > 0) {
+      refresh(branchId);
+    }
+  }
+
+  /**
+   * Vuelve a calcular el máximo de varias sucursales tras una escritura masiva, en orden de
+   * identificador para que dos lotes concurrentes bloqueen las filas en el mismo orden. Crea la
+   * fila de las sucursales que aún no la tenían.
+   */
+  public void branchesChanged(Collection<UUID> branchIds) {
+    for (UUID branchId : new TreeSet<>(branchIds.stream().filter(Objects::nonNull).toList())) {
+      if (jdbcTemplate.update(CLAIM_BRANCH_SQL, branchId) == 0) {
+        entityManager.flush();
+        jdbcTemplate.update(INSERT_EMPTY_SQL, branchId);
+        jdbcTemplate.update(CLAIM_BRANCH_SQL, branchId);
+      }
+      refresh(branchId);
+    }
+  }
+
+  /**
+   * Vuelve a calcular el máximo de una sucursal en la transacción actual y, si cambia, programa
+   * otra conciliación tras confirmarla.
+   */
+  public void reconcile(UUID branchId) {
+    if (jdbcTemplate.update(CLAIM_BRANCH_SQL, branchId) == 0) {
+      return;
+    }
+    List<UUID> stored =
+        jdbcTemplate.query(
+            FIND_STORED_SQL, (row, rowNum) -> row.getObject("product_id", UUID.class), branchId);
+    if (!Objects.equals(stored.isEmpty() ? null : stored.get(0), recompute(branchId))) {
+      reconcileAfterCommit(branchId);
+    }
+  }
+
+  /** Recalcula la fila ya bloqueada y programa su conciliación tras confirmar. */
+  private void refresh(UUID branchId) {
+    recompute(branchId);
+    reconcileAfterCommit(branchId);
+  }
+
+  /**
+   * Busca el producto con más stock de la sucursal, lo guarda en su fila ya bloqueada y devuelve su
+   * identificador, o null si la sucursal no tiene productos.
+   */
+  private UUID recompute(UUID branchId) {
+    // Las escrituras de JPA pendientes deben llegar a la tabla antes de leerla por SQL
+    entityManager.flush();
+    List<Candidate> top =
+        jdbcTemplate.query(
+            FIND_TOP_SQL,
+            (row, rowNum) ->
+                new Candidate(
+                    row.getObject("id", UUID.class), row.getString("name"), row.getInt("stock")),
+            branchId);
+    if (top.isEmpty()) {
+      jdbcTemplate.update(SET_SQL, null, null, null, branchId);
+      return null;
+    }
+    Candidate product = top.get(0);
+    jdbcTemplate.update(SET_SQL, product.id(), product.name(), product.stock(), branchId);
+    return product.id();
+  }
+
+  private void reconcileAfterCommit(UUID branchId) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              schedule(branchId);
+            }
+          });
+    }
+  }
+
+  /** Programa una conciliación de la sucursal salvo que ya haya una pendiente. */
+  private void schedule(UUID branchId) {
+    ScheduledExecutorService current = scheduler;
+    if (current == null || !scheduled.add(branchId)) {
+      return;
+    }
+    current.schedule(
+        () -> {
+          scheduled.remove(branchId);
+          try {
+            reconcileTransaction.executeWithoutResult(status -> reconcile(branchId));
+          } catch (RuntimeException ex) {
+            log.warn("Could not reconcile the top stock of branch {}", branchId, ex);
+          }
+        },
+        RECONCILE_DELAY.toMillis(),
+        TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void start() {
+    scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("top-stock-reconciler").daemon().factory());
+  }
+
+  /**
+   * Descarta las conciliaciones pendientes y espera a la que esté en curso: la siguiente escritura
+   * que supere o baje el máximo de esas sucursales las recalcula.
+   */
+  @Override
+  public void stop() {
+    ScheduledExecutorService current = scheduler;
+    scheduler = null;
+    if (current != null) {
+      current.shutdownNow();
+      scheduled.clear();
+      try {
+        current.awaitTermination(RECONCILE_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return scheduler != null;
+  }
+
+  /** Producto leído de la tabla al recalcular el máximo. */
+  private record Candidate(UUID id, String name, int stock) {}
+}
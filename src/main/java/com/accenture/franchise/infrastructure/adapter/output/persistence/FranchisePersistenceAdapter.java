@@ -2,49 +2,115 @@ package com.accenture.franchise.infrastructure.adapter.output.persistence;
 
 import com.accenture.franchise.domain.model.Franchise;
 import com.accenture.franchise.domain.repository.FranchiseRepository;
+import com.accenture.franchise.infrastructure.adapter.output.cache.CacheInvalidator;
+import com.accenture.franchise.infrastructure.adapter.output.cache.CacheNames;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
 import com.accenture.franchise.infrastructure.adapter.output.persistence.mapper.FranchisePersistenceMapper;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.repository.BranchJpaRepository;
 import com.accenture.franchise.infrastructure.adapter.output.persistence.repository.FranchiseJpaRepository;
+import com.accenture.franchise.infrastructure.monitoring.AggregateSizeMetrics;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /** Adapter de persistencia para Franquicias. */
 @Component
 @RequiredArgsConstructor
 public class FranchisePersistenceAdapter implements FranchiseRepository {
 
+  /**
+   * Bloquea en orden de identificador los productos de todas las sucursales de una franquicia antes
+   * de borrarla, para bloquearlos antes que el resumen y no al borrar en cascada.
+   */
+  private static final String LOCK_PRODUCTS_SQL =
+      "SELECT id FROM products"
+          + " WHERE branch_id IN (SELECT id FROM branches WHERE franchise_id = ?)"
+          + " ORDER BY id FOR UPDATE";
+
   private final FranchiseJpaRepository jpaRepository;
+  private final BranchJpaRepository branchJpaRepository;
+  private final JdbcTemplate jdbcTemplate;
   private final FranchisePersistenceMapper mapper;
+  private final CacheInvalidator cacheInvalidator;
+  private final FranchiseSummaryProjector summaryProjector;
+  private final BranchTopStockTracker topStockTracker;
+  private final AggregateSizeMetrics aggregateSizeMetrics;
 
+  /**
+   * Crea la franquicia o, si ya existe, solo cambia su nombre: sus sucursales y productos pueden
+   * venir de la caché y, en cascada, sobrescribirían lo escrito entre tanto por otras peticiones.
+   */
   @Override
-  @CacheEvict(value = "franchises", allEntries = true)
   public Franchise save(Franchise franchise) {
-    var entity = mapper.toEntity(franchise);
+    var entity =
+        Optional.ofNullable(franchise.getId())
+            .flatMap(this::findManagedWithProducts)
+            .map(
+                existing -> {
+                  existing.setName(franchise.getName());
+                  return existing;
+                })
+            .orElseGet(() -> mapper.toEntity(franchise));
     var savedEntity = jpaRepository.save(entity);
-    return mapper.toDomain(savedEntity);
+    var saved = mapper.toDomain(savedEntity);
+    if (franchise.getId() == null) {
+      summaryProjector.franchiseCreated(saved.getId(), saved.getName());
+    } else {
+      summaryProjector.franchiseRenamed(saved.getId(), saved.getName());
+    }
+    cacheInvalidator.evictFranchise(saved.getId());
+    cacheInvalidator.evictFranchisePages();
+    return saved;
   }
 
   @Override
-  @Cacheable(value = "franchises", key = "#id")
+  @Cacheable(value = CacheNames.FRANCHISES, key = "#id", sync = true)
+  @Transactional(readOnly = true)
   public Optional<Franchise> findById(UUID id) {
-    return jpaRepository.findByIdWithBranchesAndProducts(id).map(mapper::toDomain);
+    return findManagedWithProducts(id)
+        .map(
+            entity -> {
+              Franchise franchise = mapper.toDomain(entity);
+              aggregateSizeMetrics.record(franchise);
+              return franchise;
+            });
   }
 
   @Override
-  @Cacheable(value = "franchises", key = "'all'")
-  public List<Franchise> findAll() {
-    return jpaRepository.findAll().stream().map(mapper::toDomain).collect(Collectors.toList());
+  @Cacheable(
+      value = CacheNames.FRANCHISE_PAGES,
+      key = "#afterName + '|' + #afterId + '|' + #limit",
+      sync = true)
+  @Transactional(readOnly = true)
+  public List<Franchise> findPageOrderedByName(String afterName, UUID afterId, int limit) {
+    var headers =
+        afterName == null
+            ? jpaRepository.findHeaders(Limit.of(limit))
+            : jpaRepository.findHeadersAfter(afterName, afterId, Limit.of(limit));
+    return headers.stream().map(mapper::toFranchiseHeader).collect(Collectors.toList());
   }
 
   @Override
-  @CacheEvict(value = "franchises", allEntries = true)
   public void deleteById(UUID id) {
+    var branchIds = branchJpaRepository.findIdsByFranchiseId(id);
+    // Productos, resumen e índice de máximos: el orden de bloqueo de las escrituras
+    var productIds =
+        jdbcTemplate.query(LOCK_PRODUCTS_SQL, (row, rowNum) -> row.getObject("id", UUID.class), id);
+    summaryProjector.franchiseDeleted(id);
+    topStockTracker.franchiseDeleted(id);
     jpaRepository.deleteById(id);
+    // Sucursales y productos se eliminan en cascada junto con la franquicia
+    cacheInvalidator.evictProducts(productIds);
+    cacheInvalidator.evictBranches(branchIds);
+    cacheInvalidator.evictFranchise(id);
+    cacheInvalidator.evictFranchisePages();
   }
 
   @Override
@@ -56,4 +122,19 @@ public class FranchisePersistenceAdapter implements FranchiseRepository {
   public boolean existsById(UUID id) {
     return jpaRepository.existsById(id);
   }
+
+  /**
+   * Carga la franquicia con sus sucursales y productos en dos consultas sin importar el número de
+   * sucursales: la segunda inicializa los productos de las sucursales ya gestionadas por el mismo
+   * contexto de persistencia, evitando el N+1.
+   */
+  private Optional<FranchiseEntity> findManagedWithProducts(UUID id) {
+    return jpaRepository
+        .findByIdWithBranches(id)
+        .map(
+            entity -> {
+              branchJpaRepository.findByFranchiseIdWithProducts(id);
+              return entity;
+            });
+  }
 }
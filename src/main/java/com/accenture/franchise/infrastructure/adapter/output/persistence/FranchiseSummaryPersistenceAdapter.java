@@ -0,0 +1,35 @@
+package com.accenture.franchise.infrastructure.adapter.output.persistence;
+
+import com.accenture.franchise.domain.model.FranchiseSummary;
+import com.accenture.franchise.domain.repository.FranchiseSummaryRepository;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.mapper.FranchisePersistenceMapper;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.repository.FranchiseSummaryJpaRepository;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adapter de lectura del resumen de franquicias: una búsqueda por clave primaria en {@code
+ * franchise_summary}, que mantiene {@link FranchiseSummaryProjector}.
+ *
+ * <p>No se cachea: sus contadores cambian con cada escritura de stock de la franquicia, que
+ * invalidaría la entrada casi siempre.
+ */
+@Component
+@RequiredArgsConstructor
+public class FranchiseSummaryPersistenceAdapter implements FranchiseSummaryRepository {
+
+  private final FranchiseSummaryJpaRepository jpaRepository;
+  private final FranchisePersistenceMapper mapper;
+
+  @Override
+  public Optional<FranchiseSummary> findById(UUID franchiseId) {
+    return jpaRepository.findById(franchiseId).map(mapper::toSummary);
+  }
+
+  @Override
+  public Optional<Long> findVersionById(UUID franchiseId) {
+    return jpaRepository.findVersionById(franchiseId);
+  }
+}
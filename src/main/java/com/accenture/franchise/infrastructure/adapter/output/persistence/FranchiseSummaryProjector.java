@@ -0,0 +1,157 @@
+package com.accenture.franchise.infrastructure.adapter.output.persistence;
+
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.FranchiseSummaryEntity;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.FranchiseSummaryEntity.BranchHeader;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.repository.FranchiseSummaryJpaRepository;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mantiene el modelo de lectura {@code franchise_summary} dentro de la transacción de cada
+ * escritura de los adapters de persistencia.
+ *
+ * <p>Las cabeceras de sucursales se reescriben con la fila bloqueada; los contadores de productos y
+ * stock se ajustan con incrementos relativos, sin leer la fila, de modo que las escrituras
+ * concurrentes sobre una misma franquicia se serializan en la fila pero no se pierden. A cambio, la
+ * lectura del resumen es una búsqueda por clave primaria de una sola fila.
+ *
+ * <p>Los adapters bloquean siempre en el mismo orden: productos, resumen y {@code
+ * branch_top_stock}, y dentro de cada tabla en orden de clave. Así dos escrituras concurrentes
+ * nunca esperan cada una por una fila que tiene la otra.
+ *
+ * <p>Cada escritura avanza además la versión del resumen, también con un incremento relativo,
+ * aunque no cambie ningún contador: un cambio de nombre de un producto o un traspaso de stock entre
+ * productos cambian igualmente las respuestas de la API.
+ */
+@Component
+@RequiredArgsConstructor
+public class FranchiseSummaryProjector {
+
+  private static final String RENAME_SQL =
+      "UPDATE franchise_summary SET name = ?, version = version + 1,"
+          + " updated_at = CURRENT_TIMESTAMP WHERE franchise_id = ?";
+
+  private static final String ADD_COUNTERS_SQL =
+      "UPDATE franchise_summary SET product_count = product_count + ?,"
+          + " total_stock = total_stock + ?, version = version + 1,"
+          + " updated_at = CURRENT_TIMESTAMP WHERE franchise_id = ?";
+
+  private static final String SUBTRACT_BRANCH_PRODUCTS_SQL =
+      "UPDATE franchise_summary"
+          + " SET product_count = product_count"
+          + " - (SELECT COUNT(*) FROM products WHERE branch_id = ?),"
+          + " total_stock = total_stock"
+          + " - (SELECT COALESCE(SUM(stock), 0) FROM products WHERE branch_id = ?),"
+          + " version = version + 1, updated_at = CURRENT_TIMESTAMP"
+          + " WHERE franchise_id = ?";
+
+  private static final String ADVANCE_VERSION_SQL =
+      "UPDATE franchise_summary SET version = version + 1 WHERE franchise_id = ?";
+
+  /** Las cabeceras se guardan ordenadas por nombre, como las muestra el detalle. */
+  private static final Comparator<BranchHeader> BRANCH_ORDER =
+      Comparator.comparing(BranchHeader::name).thenComparing(BranchHeader::id);
+
+  private final FranchiseSummaryJpaRepository summaryRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final EntityManager entityManager;
+
+  /** Crea el resumen vacío de una franquicia nueva. */
+  public void franchiseCreated(UUID franchiseId, String name) {
+    entityManager.persist(
+        FranchiseSummaryEntity.builder().franchiseId(franchiseId).name(name).build());
+  }
+
+  /** Actualiza el nombre de una franquicia en su resumen. */
+  public void franchiseRenamed(UUID franchiseId, String name) {
+    jdbcTemplate.update(RENAME_SQL, name, franchiseId);
+  }
+
+  /** Elimina el resumen de una franquicia. */
+  public void franchiseDeleted(UUID franchiseId) {
+    summaryRepository.deleteById(franchiseId);
+  }
+
+  /** Añade la cabecera de una sucursal nueva o actualiza su nombre. */
+  public void branchSaved(UUID franchiseId, UUID branchId, String name) {
+    summaryRepository
+        .findByIdForUpdate(franchiseId)
+        .ifPresent(
+            summary -> {
+              List<BranchHeader> branches = new ArrayList<>(summary.getBranches());
+              branches.removeIf(branch -> branch.id().equals(branchId));
+              branches.add(new BranchHeader(branchId, name));
+              branches.sort(BRANCH_ORDER);
+              summary.setBranches(branches);
+              summary.setBranchCount(branches.size());
+              jdbcTemplate.update(ADVANCE_VERSION_SQL, franchiseId);
+            });
+  }
+
+  /**
+   * Quita una sucursal y descuenta sus productos. Debe llamarse antes de borrarla, mientras sus
+   * productos siguen en la tabla.
+   */
+  public void branchDeleted(UUID franchiseId, UUID branchId) {
+    jdbcTemplate.update(SUBTRACT_BRANCH_PRODUCTS_SQL, branchId, branchId, franchiseId);
+    summaryRepository
+        .findByIdForUpdate(franchiseId)
+        .ifPresent(
+            summary -> {
+              List<BranchHeader> branches = new ArrayList<>(summary.getBranches());
+              branches.removeIf(branch -> branch.id().equals(branchId));
+              summary.setBranches(branches);
+              summary.setBranchCount(branches.size());
+              jdbcTemplate.update(ADVANCE_VERSION_SQL, franchiseId);
+            });
+  }
+
+  /**
+   * Suma {@code products} productos y {@code stock} unidades a una franquicia y avanza su versión.
+   * Se llama en cada escritura de productos, aunque ambas variaciones sean cero.
+   */
+  public void countersChanged(UUID franchiseId, long products, long stock) {
+    if (franchiseId != null) {
+      jdbcTemplate.update(ADD_COUNTERS_SQL, products, stock, franchiseId);
+    }
+  }
+
+  /**
+   * Aplica los cambios de varias franquicias en un lote, en orden de identificador para que dos
+   * lotes concurrentes bloqueen las filas en el mismo orden. Como en la variante individual, las
+   * franquicias sin variación también avanzan su versión.
+   */
+  public void countersChanged(Map<UUID, CounterDelta> deltas) {
+    List<Map.Entry<UUID, CounterDelta>> changes =
+        new TreeMap<>(deltas).entrySet().stream().filter(entry -> entry.getKey() != null).toList();
+    if (changes.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(
+        ADD_COUNTERS_SQL,
+        changes,
+        changes.size(),
+        (statement, change) -> {
+          statement.setLong(1, change.getValue().products());
+          statement.setLong(2, change.getValue().stock());
+          statement.setObject(3, change.getKey());
+        });
+  }
+
+  /** Variación de los contadores de una franquicia. */
+  public record CounterDelta(long products, long stock) {
+
+    /** Suma dos variaciones. */
+    public CounterDelta plus(CounterDelta other) {
+      return new CounterDelta(products + other.products, stock + other.stock);
+    }
+  }
+}
@@ -1,16 +1,39 @@
 package com.accenture.franchise.infrastructure.adapter.output.persistence;
 
 import com.accenture.franchise.domain.model.Product;
+import com.accenture.franchise.domain.model.ProductStock;
+import com.accenture.franchise.domain.model.StockChange;
 import com.accenture.franchise.domain.repository.ProductRepository;
+import com.accenture.franchise.infrastructure.adapter.output.cache.CacheInvalidator;
+import com.accenture.franchise.infrastructure.adapter.output.cache.CacheNames;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.FranchiseSummaryProjector.CounterDelta;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.ProductEntity;
 import com.accenture.franchise.infrastructure.adapter.output.persistence.mapper.ProductPersistenceMapper;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.projection.ProductOwnerProjection;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.repository.BranchJpaRepository;
 import com.accenture.franchise.infrastructure.adapter.output.persistence.repository.ProductJpaRepository;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
 
 /** Adapter de persistencia para Productos. */
@@ -18,25 +41,141 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ProductPersistenceAdapter implements ProductRepository {
 
+  /** Filas por lote en las escrituras masivas; también acota las listas {@code IN} de lectura. */
+  static final int BATCH_SIZE = 500;
+
+  private static final String UPDATE_STOCK_SQL =
+      "UPDATE products SET stock = ?, version = version + 1, updated_at = CURRENT_TIMESTAMP"
+          + " WHERE id = ?";
+
+  private static final String ADJUST_STOCK_SQL =
+      "UPDATE products SET stock = stock + ?, version = version + 1,"
+          + " updated_at = CURRENT_TIMESTAMP"
+          + " WHERE id = ? AND CAST(stock AS BIGINT) + ? BETWEEN 0 AND 2147483647";
+
+  /**
+   * Los nombres repetidos los descarta la restricción {@code products_unique_name_per_branch}; el
+   * identificador se genera aquí porque no hay fila previa que leer.
+   */
+  private static final String INSERT_IF_ABSENT_SQL =
+      "INSERT INTO products (id, branch_id, name, stock, version, created_at, updated_at)"
+          + " VALUES (?, ?, ?, ?, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)"
+          + " ON CONFLICT DO NOTHING";
+
+  /** Bloquea las filas antes de una actualización masiva para leer el stock que se sustituye. */
+  private static final String LOCK_STOCKS_SQL =
+      "SELECT id, stock FROM products WHERE id IN (%s) ORDER BY id FOR UPDATE";
+
+  /**
+   * Orden de los {@code uuid} en PostgreSQL, byte a byte sin signo. {@link UUID#compareTo} compara
+   * con signo, así que ordenar con él no bloquearía las filas en el orden de {@code ORDER BY id}.
+   */
+  static final Comparator<UUID> DATABASE_ORDER =
+      Comparator.comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+          .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+  private static final String PRODUCT_COLUMNS = "SELECT id, name, stock, branch_id, version";
+
+  private static final String STORED_PRODUCT_SQL = PRODUCT_COLUMNS + " FROM products WHERE id = ?";
+
+  private static final String BRANCH_PAGE_SQL =
+      PRODUCT_COLUMNS + " FROM products WHERE branch_id = ?";
+
+  private static final RowMapper<Product> PRODUCT_ROW_MAPPER =
+      (row, rowNum) ->
+          Product.builder()
+              .id(row.getObject("id", UUID.class))
+              .name(row.getString("name"))
+              .stock(row.getInt("stock"))
+              .branchId(row.getObject("branch_id", UUID.class))
+              .version(row.getLong("version"))
+              .build();
+
+  /**
+   * El máximo de cada sucursal sale de {@code branch_top_stock}, una fila por sucursal; el nombre y
+   * el stock se leen del propio producto, ya que la fila puede ir por detrás de escrituras que
+   * corrieron con su recálculo hasta que se concilia.
+   */
+  private static final String TOP_STOCK_SQL =
+      "SELECT b.id AS branch_id, b.name AS branch_name, p.id AS product_id,"
+          + " p.name AS product_name, p.stock"
+          + " FROM branches b JOIN branch_top_stock t ON t.branch_id = b.id"
+          + " JOIN products p ON p.id = t.product_id"
+          + " WHERE b.franchise_id = ?"
+          + " ORDER BY b.id";
+
+  private static final RowMapper<ProductStock> PRODUCT_STOCK_ROW_MAPPER =
+      (row, rowNum) ->
+          new ProductStock(
+              row.getObject("product_id", UUID.class),
+              row.getString("product_name"),
+              (Integer) row.getObject("stock"),
+              row.getObject("branch_id", UUID.class),
+              row.getString("branch_name"));
+
+  /** Filas que el driver trae por viaje al recorrer un catálogo con cursor. */
+  static final int CATALOG_FETCH_SIZE = 1000;
+
+  private static final String CATALOG_SQL =
+      "SELECT b.id AS branch_id, b.name AS branch_name, p.id AS product_id,"
+          + " p.name AS product_name, p.stock"
+          + " FROM branches b LEFT JOIN products p ON p.branch_id = b.id"
+          + " WHERE b.franchise_id = ?"
+          + " ORDER BY b.id, p.id";
+
   private final ProductJpaRepository jpaRepository;
+  private final BranchJpaRepository branchJpaRepository;
   private final ProductPersistenceMapper mapper;
+  private final CacheInvalidator cacheInvalidator;
+  private final JdbcTemplate jdbcTemplate;
+  private final FranchiseSummaryProjector summaryProjector;
+  private final BranchTopStockTracker topStockTracker;
 
+  /**
+   * Si el producto ya existe se carga antes bloqueado en el contexto de persistencia para conocer
+   * el stock que se sustituye; el {@code merge} de {@code save} reutiliza esa entidad sin volver a
+   * leerla. El bloqueo llega antes que el del resumen, como en las sentencias de stock: sin él la
+   * fila del producto solo se bloquearía al volcar la sesión, después de él.
+   */
   @Override
-  @CacheEvict(
-      value = {"products", "branches", "franchises"},
-      allEntries = true)
   public Product save(Product product) {
+    Integer previousStock =
+        product.getId() != null
+            ? jpaRepository
+                .findByIdForUpdate(product.getId())
+                .map(ProductEntity::getStock)
+                .orElse(null)
+            : null;
     var entity = mapper.toEntity(product);
     var savedEntity = jpaRepository.save(entity);
-    return mapper.toDomain(savedEntity);
+    var saved = mapper.toDomain(savedEntity);
+    UUID franchiseId = findFranchiseId(saved.getBranchId());
+    if (previousStock == null) {
+      summaryProjector.countersChanged(franchiseId, 1, saved.getStock());
+    } else {
+      summaryProjector.countersChanged(franchiseId, 0, saved.getStock() - previousStock);
+    }
+    topStockTracker.productSaved(
+        saved.getBranchId(), saved.getId(), saved.getName(), saved.getStock());
+    cacheInvalidator.evictProduct(saved.getId(), saved.getBranchId(), franchiseId);
+    return saved;
   }
 
   @Override
-  @Cacheable(value = "products", key = "#id")
+  @Cacheable(value = CacheNames.PRODUCTS, key = "#id", sync = true)
   public Optional<Product> findById(UUID id) {
     return jpaRepository.findById(id).map(mapper::toDomain);
   }
 
+  /**
+   * Lee el producto tal como está en la base de datos, sin pasar por la caché. Lo usa el modo
+   * write-behind para guardar sobre la versión y el stock ya persistidos y para validar los ajustes
+   * relativos.
+   */
+  public Optional<Product> findStoredById(UUID id) {
+    return jdbcTemplate.query(STORED_PRODUCT_SQL, PRODUCT_ROW_MAPPER, id).stream().findFirst();
+  }
+
   @Override
   public List<Product> findByBranchId(UUID branchId) {
     return jpaRepository.findByBranchId(branchId).stream()
@@ -44,12 +183,19 @@ public class ProductPersistenceAdapter implements ProductRepository {
         .collect(Collectors.toList());
   }
 
+  /** Bloquea el producto antes que el resumen, en el orden del resto de escrituras. */
   @Override
-  @CacheEvict(
-      value = {"products", "branches", "franchises"},
-      allEntries = true)
   public void deleteById(UUID id) {
+    jpaRepository.findByIdForUpdate(id);
+    var owner = jpaRepository.findOwnerById(id);
+    owner.ifPresent(
+        found -> summaryProjector.countersChanged(found.getFranchiseId(), -1, -found.getStock()));
     jpaRepository.deleteById(id);
+    owner.ifPresent(found -> topStockTracker.productRemoved(found.getBranchId(), id));
+    cacheInvalidator.evictProduct(
+        id,
+        owner.map(ProductOwnerProjection::getBranchId).orElse(null),
+        owner.map(ProductOwnerProjection::getFranchiseId).orElse(null));
   }
 
   @Override
@@ -61,4 +207,295 @@ public class ProductPersistenceAdapter implements ProductRepository {
   public boolean existsById(UUID id) {
     return jpaRepository.existsById(id);
   }
+
+  @Override
+  public Optional<Product> updateStock(UUID productId, int stock, Long expectedVersion) {
+    return jpaRepository
+        .updateStock(productId, stock, expectedVersion)
+        .map(
+            row -> {
+              summaryProjector.countersChanged(
+                  row.getFranchiseId(), 0, row.getStock() - row.getPreviousStock());
+              topStockTracker.productSaved(
+                  row.getBranchId(), row.getId(), row.getName(), row.getStock());
+              cacheInvalidator.evictProduct(row.getId(), row.getBranchId(), row.getFranchiseId());
+              return mapper.toUpdatedProduct(row);
+            });
+  }
+
+  @Override
+  public Optional<Product> adjustStock(UUID productId, int delta) {
+    return jpaRepository
+        .adjustStock(productId, delta)
+        .map(
+            row -> {
+              summaryProjector.countersChanged(row.getFranchiseId(), 0, delta);
+              topStockTracker.productSaved(
+                  row.getBranchId(), row.getId(), row.getName(), row.getStock());
+              cacheInvalidator.evictProduct(row.getId(), row.getBranchId(), row.getFranchiseId());
+              return mapper.toUpdatedProduct(row);
+            });
+  }
+
+  /**
+   * Bloquea antes las filas para conocer el stock que sustituye cada cambio: sin el bloqueo, dos
+   * actualizaciones concurrentes de un producto calcularían su variación sobre el mismo stock.
+   */
+  @Override
+  public Set<UUID> updateStocks(List<StockChange> changes) {
+    Map<UUID, Integer> currentStocks =
+        lockStocks(changes.stream().map(StockChange::productId).toList());
+    int[][] counts =
+        jdbcTemplate.batchUpdate(
+            UPDATE_STOCK_SQL,
+            changes,
+            BATCH_SIZE,
+            (statement, change) -> {
+              statement.setInt(1, change.stock());
+              statement.setObject(2, change.productId());
+            });
+
+    Set<UUID> updatedIds = new LinkedHashSet<>();
+    Map<UUID, Long> stockDeltas = new HashMap<>();
+    int index = 0;
+    for (int[] batch : counts) {
+      for (int count : batch) {
+        StockChange change = changes.get(index);
+        if (count != 0) {
+          updatedIds.add(change.productId());
+          // Un mismo producto puede repetirse en el lote: cada cambio parte del anterior
+          Integer current = currentStocks.put(change.productId(), change.stock());
+          if (current != null) {
+            stockDeltas.merge(change.productId(), (long) change.stock() - current, Long::sum);
+          }
+        }
+        index++;
+      }
+    }
+
+    List<ProductOwnerProjection> owners = findOwners(updatedIds);
+    summaryProjector.countersChanged(stockDeltasByFranchise(owners, stockDeltas));
+    topStockTracker.branchesChanged(branchIds(owners));
+    evictOwners(owners);
+    return updatedIds;
+  }
+
+  /**
+   * Suma a cada producto su delta escribiéndolos por lotes, con la misma condición de stock que
+   * {@link #adjustStock}. Devuelve los productos ajustados; los que no existen o no tienen stock
+   * suficiente se omiten. Lo usa el volcado del modo write-behind.
+   */
+  public Set<UUID> adjustStocks(Map<UUID, Integer> deltas) {
+    // En orden de identificador, como lockStocks, para que dos lotes no se bloqueen mutuamente
+    Map<UUID, Integer> ordered = new TreeMap<>(DATABASE_ORDER);
+    ordered.putAll(deltas);
+    List<Map.Entry<UUID, Integer>> entries = List.copyOf(ordered.entrySet());
+    int[][] counts =
+        jdbcTemplate.batchUpdate(
+            ADJUST_STOCK_SQL,
+            entries,
+            BATCH_SIZE,
+            (statement, entry) -> {
+              statement.setInt(1, entry.getValue());
+              statement.setObject(2, entry.getKey());
+              statement.setInt(3, entry.getValue());
+            });
+
+    Set<UUID> adjustedIds = new LinkedHashSet<>();
+    Map<UUID, Long> stockDeltas = new HashMap<>();
+    int index = 0;
+    for (int[] batch : counts) {
+      for (int count : batch) {
+        Map.Entry<UUID, Integer> entry = entries.get(index);
+        if (count != 0) {
+          adjustedIds.add(entry.getKey());
+          stockDeltas.put(entry.getKey(), (long) entry.getValue());
+        }
+        index++;
+      }
+    }
+
+    List<ProductOwnerProjection> owners = findOwners(adjustedIds);
+    summaryProjector.countersChanged(stockDeltasByFranchise(owners, stockDeltas));
+    topStockTracker.branchesChanged(branchIds(owners));
+    evictOwners(owners);
+    return adjustedIds;
+  }
+
+  @Override
+  public int insertIfAbsent(UUID franchiseId, List<Product> products) {
+    int[][] counts =
+        jdbcTemplate.batchUpdate(
+            INSERT_IF_ABSENT_SQL,
+            products,
+            BATCH_SIZE,
+            (statement, product) -> {
+              statement.setObject(1, UUID.randomUUID());
+              statement.setObject(2, product.getBranchId());
+              statement.setString(3, product.getName());
+              statement.setInt(4, product.getStock());
+            });
+
+    int inserted = 0;
+    long insertedStock = 0;
+    Set<UUID> changedBranches = new HashSet<>();
+    int index = 0;
+    for (int[] batch : counts) {
+      for (int count : batch) {
+        Product product = products.get(index);
+        if (count > 0) {
+          inserted += count;
+          insertedStock += product.getStock();
+          changedBranches.add(product.getBranchId());
+        }
+        index++;
+      }
+    }
+
+    products.stream()
+        .map(Product::getBranchId)
+        .distinct()
+        .forEach(branchId -> cacheInvalidator.evictBranch(branchId, franchiseId));
+    if (inserted > 0) {
+      summaryProjector.countersChanged(franchiseId, inserted, insertedStock);
+    }
+    topStockTracker.branchesChanged(changedBranches);
+    return inserted;
+  }
+
+  /**
+   * Recorre {@code idx_products_branch_stock} desde la clave del cursor: la condición {@code stock
+   * <= ?} fija el inicio del recorrido y la siguiente solo descarta los empates ya devueltos, así
+   * que cada página cuesta lo mismo sin importar su profundidad.
+   */
+  @Override
+  public List<Product> findPageByBranchId(
+      UUID branchId,
+      Integer minStock,
+      Integer maxStock,
+      Integer afterStock,
+      UUID afterId,
+      int limit) {
+    StringBuilder sql = new StringBuilder(BRANCH_PAGE_SQL);
+    List<Object> args = new ArrayList<>();
+    args.add(branchId);
+    if (minStock != null) {
+      sql.append(" AND stock >= ?");
+      args.add(minStock);
+    }
+    if (maxStock != null) {
+      sql.append(" AND stock <= ?");
+      args.add(maxStock);
+    }
+    if (afterStock != null) {
+      sql.append(" AND stock <= ? AND (stock < ? OR id > ?)");
+      args.add(afterStock);
+      args.add(afterStock);
+      args.add(afterId);
+    }
+    sql.append(" ORDER BY stock DESC, id LIMIT ?");
+    args.add(limit);
+
+    return jdbcTemplate.query(sql.toString(), PRODUCT_ROW_MAPPER, args.toArray());
+  }
+
+  @Override
+  public List<ProductStock> findTopStockByFranchiseId(UUID franchiseId) {
+    return jdbcTemplate.query(TOP_STOCK_SQL, PRODUCT_STOCK_ROW_MAPPER, franchiseId);
+  }
+
+  /**
+   * Usa un cursor de solo avance con un tamaño de lectura fijo: PostgreSQL solo respeta el tamaño
+   * de lectura con la conexión fuera de autocommit, por eso debe llamarse dentro de una
+   * transacción.
+   */
+  @Override
+  public void streamCatalogByFranchiseId(UUID franchiseId, Consumer<ProductStock> consumer) {
+    jdbcTemplate.query(
+        connection -> {
+          PreparedStatement statement =
+              connection.prepareStatement(
+                  CATALOG_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+          statement.setFetchSize(CATALOG_FETCH_SIZE);
+          statement.setObject(1, franchiseId);
+          return statement;
+        },
+        (ResultSet row) ->
+            consumer.accept(
+                new ProductStock(
+                    row.getObject("product_id", UUID.class),
+                    row.getString("product_name"),
+                    (Integer) row.getObject("stock"),
+                    row.getObject("branch_id", UUID.class),
+                    row.getString("branch_name"))));
+  }
+
+  /**
+   * Bloquea los productos por lotes en orden de identificador y devuelve su stock actual; los que
+   * no existen se omiten. El orden evita que dos lotes con productos en común se bloqueen
+   * mutuamente.
+   */
+  private Map<UUID, Integer> lockStocks(Collection<UUID> productIds) {
+    Set<UUID> ordered = new TreeSet<>(DATABASE_ORDER);
+    ordered.addAll(productIds);
+    List<UUID> ids = List.copyOf(ordered);
+    Map<UUID, Integer> stocks = new HashMap<>();
+    for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+      List<UUID> chunk = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+      String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+      jdbcTemplate.query(
+          LOCK_STOCKS_SQL.formatted(placeholders),
+          (ResultSet row) -> {
+            stocks.put(row.getObject("id", UUID.class), row.getInt("stock"));
+          },
+          chunk.toArray());
+    }
+    return stocks;
+  }
+
+  /** Obtiene por lotes la sucursal y la franquicia de cada producto. */
+  private List<ProductOwnerProjection> findOwners(Collection<UUID> productIds) {
+    List<UUID> ids = new ArrayList<>(productIds);
+    List<ProductOwnerProjection> owners = new ArrayList<>(ids.size());
+    for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+      List<UUID> chunk = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+      owners.addAll(jpaRepository.findOwnersByIdIn(chunk));
+    }
+    return owners;
+  }
+
+  private static Map<UUID, CounterDelta> stockDeltasByFranchise(
+      List<ProductOwnerProjection> owners, Map<UUID, Long> stockDeltas) {
+    Map<UUID, CounterDelta> deltas = new HashMap<>();
+    for (ProductOwnerProjection owner : owners) {
+      deltas.merge(
+          owner.getFranchiseId(),
+          new CounterDelta(0, stockDeltas.getOrDefault(owner.getProductId(), 0L)),
+          CounterDelta::plus);
+    }
+    return deltas;
+  }
+
+  private static Set<UUID> branchIds(List<ProductOwnerProjection> owners) {
+    return owners.stream().map(ProductOwnerProjection::getBranchId).collect(Collectors.toSet());
+  }
+
+  /** Invalida los productos y, una sola vez, cada sucursal y franquicia que los contiene. */
+  private void evictOwners(List<ProductOwnerProjection> owners) {
+    List<UUID> productIds = new ArrayList<>(owners.size());
+    Set<UUID> branchIds = new HashSet<>();
+    Set<UUID> franchiseIds = new HashSet<>();
+    for (ProductOwnerProjection owner : owners) {
+      productIds.add(owner.getProductId());
+      branchIds.add(owner.getBranchId());
+      franchiseIds.add(owner.getFranchiseId());
+    }
+    cacheInvalidator.evictProducts(productIds);
+    cacheInvalidator.evictBranches(branchIds);
+    cacheInvalidator.evictFranchises(franchiseIds);
+  }
+
+  private UUID findFranchiseId(UUID branchId) {
+    return branchId != null ? branchJpaRepository.findFranchiseIdById(branchId).orElse(null) : null;
+  }
 }
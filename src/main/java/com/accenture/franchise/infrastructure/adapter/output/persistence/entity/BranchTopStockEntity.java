@@ -0,0 +1,45 @@
+package com.accenture.franchise.infrastructure.adapter.output.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Fila del índice {@code branch_top_stock}: el producto con más stock de una sucursal, mantenido en
+ * cada escritura de stock. Los campos del producto quedan a {@code null} mientras la sucursal no
+ * tiene productos.
+ *
+ * <p>Solo se escribe por SQL desde {@code BranchTopStockTracker}; la entidad describe la tabla.
+ */
+@Entity
+@Table(name = "branch_top_stock")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BranchTopStockEntity {
+
+  @Id
+  @Column(name = "branch_id")
+  private UUID branchId;
+
+  @Column(name = "product_id")
+  private UUID productId;
+
+  @Column(name = "product_name", length = 100)
+  private String productName;
+
+  private Integer stock;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import java.util.ArrayList;
@@ -16,7 +17,9 @@ import lombok.Setter;
 
 /** Entidad JPA para Franquicia. */
 @Entity
-@Table(name = "franchises")
+@Table(
+    name = "franchises",
+    indexes = @Index(name = "idx_franchises_name_id", columnList = "name, id"))
 @Getter
 @Setter
 @Builder
@@ -0,0 +1,69 @@
+package com.accenture.franchise.infrastructure.adapter.output.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Fila del modelo de lectura {@code franchise_summary}: una por franquicia, con las cabeceras de
+ * sus sucursales en JSON y contadores que se ajustan en cada escritura.
+ *
+ * <p>Los contadores de productos y stock y la versión solo se escriben por SQL con incrementos
+ * relativos; JPA los inserta a cero y nunca los actualiza, y {@link DynamicUpdate} evita que un
+ * cambio de nombre o de sucursales sobrescriba los incrementos hechos en la misma transacción.
+ */
+@Entity
+@Table(name = "franchise_summary")
+@DynamicUpdate
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FranchiseSummaryEntity {
+
+  @Id
+  @Column(name = "franchise_id")
+  private UUID franchiseId;
+
+  @Column(nullable = false, length = 100)
+  private String name;
+
+  @JdbcTypeCode(SqlTypes.JSON)
+  @Column(nullable = false)
+  @Builder.Default
+  private List<BranchHeader> branches = new ArrayList<>();
+
+  @Column(name = "branch_count", nullable = false)
+  private int branchCount;
+
+  @Column(name = "product_count", nullable = false, updatable = false)
+  private long productCount;
+
+  @Column(name = "total_stock", nullable = false, updatable = false)
+  private long totalStock;
+
+  @Column(nullable = false, updatable = false)
+  private long version;
+
+  @UpdateTimestamp
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  /** Cabecera de una sucursal tal como se guarda en la columna JSON. */
+  public record BranchHeader(UUID id, String name) {}
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -25,7 +26,8 @@ import lombok.Setter;
     indexes = {
       @Index(name = "idx_products_branch_id", columnList = "branch_id"),
       @Index(name = "idx_products_name", columnList = "name"),
-      @Index(name = "idx_products_stock", columnList = "stock")
+      @Index(name = "idx_products_stock", columnList = "stock"),
+      @Index(name = "idx_products_branch_stock", columnList = "branch_id, stock DESC, id")
     })
 @Getter
 @Setter
@@ -43,4 +45,8 @@ public class ProductEntity extends BaseEntity {
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "branch_id", nullable = false)
   private BranchEntity branch;
+
+  @Version
+  @Column(nullable = false)
+  private long version;
 }
@@ -1,7 +1,10 @@
 package com.accenture.franchise.infrastructure.adapter.output.persistence.mapper;
 
 import com.accenture.franchise.domain.model.Franchise;
+import com.accenture.franchise.domain.model.FranchiseSummary;
 import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.FranchiseSummaryEntity;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.projection.FranchiseHeaderProjection;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
@@ -34,6 +37,32 @@ public class FranchisePersistenceMapper {
         .build();
   }
 
+  /** Convierte la proyección de listado en una franquicia de dominio sin sucursales. */
+  public Franchise toFranchiseHeader(FranchiseHeaderProjection projection) {
+    if (projection == null) {
+      return null;
+    }
+
+    return Franchise.builder().id(projection.getId()).name(projection.getName()).build();
+  }
+
+  /** Convierte la fila del modelo de lectura en el resumen de dominio. */
+  public FranchiseSummary toSummary(FranchiseSummaryEntity entity) {
+    if (entity == null) {
+      return null;
+    }
+
+    return new FranchiseSummary(
+        entity.getFranchiseId(),
+        entity.getName(),
+        entity.getBranches().stream()
+            .map(branch -> new FranchiseSummary.BranchHeader(branch.id(), branch.name()))
+            .toList(),
+        entity.getBranchCount(),
+        entity.getProductCount(),
+        entity.getTotalStock());
+  }
+
   /** Convierte un modelo de dominio de franquicia a entidad JPA. */
   public FranchiseEntity toEntity(Franchise domain) {
     if (domain == null) {
@@ -3,6 +3,7 @@ package com.accenture.franchise.infrastructure.adapter.output.persistence.mapper
 import com.accenture.franchise.domain.model.Product;
 import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.BranchEntity;
 import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.ProductEntity;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.projection.UpdatedProductProjection;
 import com.accenture.franchise.infrastructure.adapter.output.persistence.repository.BranchJpaRepository;
 import org.springframework.stereotype.Component;
 
@@ -28,6 +29,7 @@ public class ProductPersistenceMapper {
         .name(entity.getName())
         .stock(entity.getStock())
         .branchId(entity.getBranch() != null ? entity.getBranch().getId() : null)
+        .version(entity.getVersion())
         .build();
   }
 
@@ -44,6 +46,10 @@ public class ProductPersistenceMapper {
       entity.setId(domain.getId());
     }
 
+    if (domain.getVersion() != null) {
+      entity.setVersion(domain.getVersion());
+    }
+
     // Establecer la relación con BranchEntity (requerido por JPA)
     if (domain.getBranchId() != null) {
       BranchEntity branch = branchJpaRepository.getReferenceById(domain.getBranchId());
@@ -52,4 +58,19 @@ public class ProductPersistenceMapper {
 
     return entity;
   }
+
+  /** Convierte la fila devuelta por una actualización al modelo de dominio. */
+  public Product toUpdatedProduct(UpdatedProductProjection projection) {
+    if (projection == null) {
+      return null;
+    }
+
+    return Product.builder()
+        .id(projection.getId())
+        .name(projection.getName())
+        .stock(projection.getStock())
+        .branchId(projection.getBranchId())
+        .version(projection.getVersion())
+        .build();
+  }
 }
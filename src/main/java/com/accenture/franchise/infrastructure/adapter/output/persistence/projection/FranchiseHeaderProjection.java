@@ -0,0 +1,13 @@
+package com.accenture.franchise.infrastructure.adapter.output.persistence.projection;
+
+import java.util.UUID;
+
+/** Proyección con los datos de una franquicia necesarios para listarla, sin sus sucursales. */
+public interface FranchiseHeaderProjection {
+
+  /** Identificador de la franquicia. */
+  UUID getId();
+
+  /** Nombre de la franquicia. */
+  String getName();
+}
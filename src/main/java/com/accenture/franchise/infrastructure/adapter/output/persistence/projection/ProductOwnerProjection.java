@@ -0,0 +1,19 @@
+package com.accenture.franchise.infrastructure.adapter.output.persistence.projection;
+
+import java.util.UUID;
+
+/** Proyección con los identificadores de los agregados que contienen a un producto. */
+public interface ProductOwnerProjection {
+
+  /** Identificador del producto. */
+  UUID getProductId();
+
+  /** Identificador de la sucursal del producto. */
+  UUID getBranchId();
+
+  /** Identificador de la franquicia de la sucursal. */
+  UUID getFranchiseId();
+
+  /** Stock actual del producto. */
+  Integer getStock();
+}
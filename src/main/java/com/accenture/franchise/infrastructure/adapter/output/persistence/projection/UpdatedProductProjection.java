@@ -0,0 +1,22 @@
+package com.accenture.franchise.infrastructure.adapter.output.persistence.projection;
+
+import java.util.UUID;
+
+/** Proyección de la fila devuelta por una actualización de producto con {@code RETURNING}. */
+public interface UpdatedProductProjection {
+
+  UUID getId();
+
+  String getName();
+
+  Integer getStock();
+
+  UUID getBranchId();
+
+  UUID getFranchiseId();
+
+  Long getVersion();
+
+  /** Stock anterior a la actualización; solo lo devuelve {@code updateStock}. */
+  Integer getPreviousStock();
+}
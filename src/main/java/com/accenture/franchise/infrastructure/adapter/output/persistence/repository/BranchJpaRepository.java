@@ -22,4 +22,18 @@ public interface BranchJpaRepository extends JpaRepository<BranchEntity, UUID> {
   /** Busca una sucursal por ID con sus productos cargados. */
   @Query("SELECT b FROM BranchEntity b LEFT JOIN FETCH b.products WHERE b.id = :id")
   Optional<BranchEntity> findByIdWithProducts(@Param("id") UUID id);
+
+  /** Obtiene las sucursales de una franquicia con sus productos cargados en una sola consulta. */
+  @Query(
+      "SELECT DISTINCT b FROM BranchEntity b LEFT JOIN FETCH b.products"
+          + " WHERE b.franchise.id = :franchiseId")
+  List<BranchEntity> findByFranchiseIdWithProducts(@Param("franchiseId") UUID franchiseId);
+
+  /** Obtiene el ID de la franquicia de una sucursal sin cargar la entidad. */
+  @Query("SELECT b.franchise.id FROM BranchEntity b WHERE b.id = :id")
+  Optional<UUID> findFranchiseIdById(@Param("id") UUID id);
+
+  /** Obtiene los IDs de las sucursales de una franquicia. */
+  @Query("SELECT b.id FROM BranchEntity b WHERE b.franchise.id = :franchiseId")
+  List<UUID> findIdsByFranchiseId(@Param("franchiseId") UUID franchiseId);
 }
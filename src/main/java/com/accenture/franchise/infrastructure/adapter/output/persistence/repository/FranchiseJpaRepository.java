@@ -1,8 +1,11 @@
 package com.accenture.franchise.infrastructure.adapter.output.persistence.repository;
 
 import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.projection.FranchiseHeaderProjection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,7 +18,31 @@ public interface FranchiseJpaRepository extends JpaRepository<FranchiseEntity, U
   /** Verifica si existe una franquicia con el nombre indicado. */
   boolean existsByName(String name);
 
-  /** Busca una franquicia por ID con sus sucursales cargadas. */
+  /**
+   * Busca una franquicia por ID con sus sucursales cargadas.
+   *
+   * <p>Los productos no se incluyen en el fetch join porque Hibernate no permite cargar dos
+   * colecciones tipo bag en la misma consulta; se inicializan con {@link
+   * BranchJpaRepository#findByFranchiseIdWithProducts(UUID)}.
+   */
   @Query("SELECT f FROM FranchiseEntity f LEFT JOIN FETCH f.branches WHERE f.id = :id")
-  Optional<FranchiseEntity> findByIdWithBranchesAndProducts(@Param("id") UUID id);
+  Optional<FranchiseEntity> findByIdWithBranches(@Param("id") UUID id);
+
+  /** Obtiene la primera página del listado de franquicias ordenado por nombre e ID. */
+  @Query("SELECT f.id AS id, f.name AS name FROM FranchiseEntity f ORDER BY f.name, f.id")
+  List<FranchiseHeaderProjection> findHeaders(Limit limit);
+
+  /**
+   * Obtiene la página del listado de franquicias que sigue a la clave {@code (name, id)}. La
+   * comparación por tupla se resuelve con un recorrido del índice {@code idx_franchises_name_id},
+   * así que el coste no depende de la profundidad de la página.
+   */
+  @Query(
+      """
+      SELECT f.id AS id, f.name AS name FROM FranchiseEntity f
+      WHERE (f.name, f.id) > (:name, :id)
+      ORDER BY f.name, f.id
+      """)
+  List<FranchiseHeaderProjection> findHeadersAfter(
+      @Param("name") String name, @Param("id") UUID id, Limit limit);
 }
@@ -0,0 +1,28 @@
+package com.accenture.franchise.infrastructure.adapter.output.persistence.repository;
+
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.FranchiseSummaryEntity;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/** Repositorio JPA del modelo de lectura de franquicias. */
+@Repository
+public interface FranchiseSummaryJpaRepository extends JpaRepository<FranchiseSummaryEntity, UUID> {
+
+  /**
+   * Obtiene el resumen bloqueando la fila, para que dos altas o renombrados de sucursales de una
+   * misma franquicia no se pisen al reescribir la lista de cabeceras.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT s FROM FranchiseSummaryEntity s WHERE s.franchiseId = :id")
+  Optional<FranchiseSummaryEntity> findByIdForUpdate(@Param("id") UUID id);
+
+  /** Obtiene solo la versión del resumen de una franquicia. */
+  @Query("SELECT s.version FROM FranchiseSummaryEntity s WHERE s.franchiseId = :id")
+  Optional<Long> findVersionById(@Param("id") UUID id);
+}
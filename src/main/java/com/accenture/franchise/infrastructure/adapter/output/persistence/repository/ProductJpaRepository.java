@@ -1,12 +1,19 @@
 package com.accenture.franchise.infrastructure.adapter.output.persistence.repository;
 
 import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.ProductEntity;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.projection.ProductOwnerProjection;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.projection.UpdatedProductProjection;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /** Repositorio JPA para productos. */
 @Repository
@@ -21,4 +28,76 @@ public interface ProductJpaRepository extends JpaRepository<ProductEntity, UUID>
   /** Obtiene los productos de una sucursal ordenados por stock. */
   @Query("SELECT p FROM ProductEntity p WHERE p.branch.id = :branchId ORDER BY p.stock DESC")
   List<ProductEntity> findByBranchIdOrderByStockDesc(@Param("branchId") UUID branchId);
+
+  /**
+   * Fija el stock de un producto e incrementa su versión en una sola sentencia.
+   *
+   * <p>Con {@code expectedVersion} no nulo solo actualiza si la versión coincide. Devuelve la fila
+   * actualizada, incluida la franquicia para invalidar la caché y el stock anterior para el modelo
+   * de lectura, o vacío si no hubo actualización. La subconsulta bloquea la fila antes de leer ese
+   * stock, así que refleja la última escritura confirmada. {@code UPDATE ... RETURNING} es
+   * específico de PostgreSQL.
+   */
+  @Transactional
+  @Query(
+      value =
+          "UPDATE products p SET stock = :stock, version = p.version + 1,"
+              + " updated_at = CURRENT_TIMESTAMP"
+              + " FROM (SELECT id, stock FROM products WHERE id = :id FOR UPDATE) previous"
+              + " WHERE p.id = previous.id"
+              + " AND (CAST(:expectedVersion AS BIGINT) IS NULL"
+              + " OR p.version = :expectedVersion)"
+              + " RETURNING p.id AS \"id\", p.name AS \"name\", p.stock AS \"stock\","
+              + " p.branch_id AS \"branchId\", p.version AS \"version\","
+              + " (SELECT b.franchise_id FROM branches b WHERE b.id = p.branch_id)"
+              + " AS \"franchiseId\", previous.stock AS \"previousStock\"",
+      nativeQuery = true)
+  Optional<UpdatedProductProjection> updateStock(
+      @Param("id") UUID id,
+      @Param("stock") int stock,
+      @Param("expectedVersion") Long expectedVersion);
+
+  /**
+   * Suma {@code delta} al stock de un producto e incrementa su versión en una sola sentencia.
+   *
+   * <p>La condición sobre el stock resultante evita violar {@code products_stock_non_negative}, de
+   * modo que un ajuste insuficiente no aborta la transacción y devuelve vacío. Sin lectura previa,
+   * el delta se aplica sobre el último stock confirmado y los ajustes concurrentes sobre un mismo
+   * producto se serializan sin perderse. El bloqueo de la fila se mantiene hasta que termina la
+   * transacción que invoca la sentencia, no solo durante ella, así que esa transacción debe acabar
+   * en cuanto se aplique el ajuste. {@code UPDATE ... RETURNING} es específico de PostgreSQL.
+   */
+  @Transactional
+  @Query(
+      value =
+          "UPDATE products p SET stock = p.stock + :delta, version = p.version + 1,"
+              + " updated_at = CURRENT_TIMESTAMP"
+              + " WHERE p.id = :id"
+              + " AND CAST(p.stock AS BIGINT) + :delta BETWEEN 0 AND 2147483647"
+              + " RETURNING p.id AS \"id\", p.name AS \"name\", p.stock AS \"stock\","
+              + " p.branch_id AS \"branchId\", p.version AS \"version\","
+              + " (SELECT b.franchise_id FROM branches b WHERE b.id = p.branch_id)"
+              + " AS \"franchiseId\"",
+      nativeQuery = true)
+  Optional<UpdatedProductProjection> adjustStock(@Param("id") UUID id, @Param("delta") int delta);
+
+  /** Obtiene los IDs de la sucursal y la franquicia de un producto en una sola consulta. */
+  @Query(
+      "SELECT p.id AS productId, p.branch.id AS branchId, p.branch.franchise.id AS franchiseId,"
+          + " p.stock AS stock FROM ProductEntity p WHERE p.id = :id")
+  Optional<ProductOwnerProjection> findOwnerById(@Param("id") UUID id);
+
+  /** Obtiene la sucursal y la franquicia de varios productos en una sola consulta. */
+  @Query(
+      "SELECT p.id AS productId, p.branch.id AS branchId, p.branch.franchise.id AS franchiseId,"
+          + " p.stock AS stock FROM ProductEntity p WHERE p.id IN :ids")
+  List<ProductOwnerProjection> findOwnersByIdIn(@Param("ids") Collection<UUID> ids);
+
+  /**
+   * Obtiene un producto bloqueando su fila, para que las escrituras que después ajustan contadores
+   * bloqueen el producto antes que el resto de filas, como las sentencias de stock.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT p FROM ProductEntity p WHERE p.id = :id")
+  Optional<ProductEntity> findByIdForUpdate(@Param("id") UUID id);
 }
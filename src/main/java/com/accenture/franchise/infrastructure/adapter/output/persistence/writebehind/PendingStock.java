@@ -0,0 +1,30 @@
+package com.accenture.franchise.infrastructure.adapter.output.persistence.writebehind;
+
+/**
+ * Escritura de stock pendiente de volcar: un valor absoluto o la suma de varios deltas.
+ *
+ * @param absolute si {@code value} es el stock final en lugar de un delta
+ * @param value stock final o delta acumulado
+ */
+public record PendingStock(boolean absolute, long value) {
+
+  /** Escritura que fija el stock a {@code stock}. */
+  public static PendingStock set(int stock) {
+    return new PendingStock(true, stock);
+  }
+
+  /** Escritura que suma {@code delta} al stock. */
+  public static PendingStock add(int delta) {
+    return new PendingStock(false, delta);
+  }
+
+  /** Combina esta escritura con otra posterior del mismo producto. */
+  public PendingStock then(PendingStock next) {
+    return next.absolute ? next : new PendingStock(absolute, value + next.value);
+  }
+
+  /** Aplica la escritura a un stock ya persistido. */
+  public long applyTo(long stock) {
+    return absolute ? value : stock + value;
+  }
+}
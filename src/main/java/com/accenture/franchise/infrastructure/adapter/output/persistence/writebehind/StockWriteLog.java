@@ -0,0 +1,214 @@
+package com.accenture.franchise.infrastructure.adapter.output.persistence.writebehind;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Registro local de solo anexado con las escrituras de stock aceptadas y aún no volcadas.
+ *
+ * <p>Cada escritura es una línea {@code <crc32> <S|A> <productId> <valor>}. Al reproducir se
+ * descarta una línea incompleta o con CRC erróneo al final de un segmento, que es lo que deja una
+ * caída a mitad de escritura. El registro se divide en segmentos: cada volcado abre uno nuevo y los
+ * anteriores se borran cuando sus escrituras ya están en la base de datos.
+ *
+ * <p>Las escrituras que no se pudieron aplicar al volcar se apartan en {@code rejected.log}, con el
+ * mismo formato. Ese fichero no se reproduce ni se borra: queda para revisarlo y corregirlo a mano.
+ */
+@Slf4j
+public class StockWriteLog implements Closeable {
+
+  private static final String PREFIX = "stock-";
+  private static final String SUFFIX = ".log";
+  private static final String REJECTED = "rejected.log";
+
+  private final Path directory;
+  private final ReentrantLock lock = new ReentrantLock();
+  private FileChannel channel;
+  private long nextSequence;
+
+  /**
+   * Abre el registro en {@code directory} con un segmento nuevo; los segmentos que ya existían
+   * quedan para {@link #replay}.
+   */
+  public StockWriteLog(Path directory) throws IOException {
+    this.directory = Files.createDirectories(directory);
+    List<Path> existing = segments();
+    nextSequence = existing.isEmpty() ? 1 : sequenceOf(existing.getLast()) + 1;
+    channel = openNext();
+  }
+
+  /** Segmentos en orden de creación, incluido el que está abierto. */
+  public List<Path> segments() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files
+          .filter(
+              file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+              })
+          .sorted()
+          .toList();
+    }
+  }
+
+  /**
+   * Anexa una escritura sin forzarla a disco; la escritura es durable tras el siguiente {@link
+   * #sync()}.
+   */
+  public void append(UUID productId, PendingStock write) throws IOException {
+    ByteBuffer line = ByteBuffer.wrap(encode(productId, write).getBytes(StandardCharsets.UTF_8));
+    lock.lock();
+    try {
+      while (line.hasRemaining()) {
+        channel.write(line);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Fuerza a disco lo anexado hasta ahora. El fsync se hace fuera del cerrojo para que las
+   * escrituras concurrentes lo compartan.
+   */
+  public void sync() throws IOException {
+    FileChannel current;
+    lock.lock();
+    try {
+      current = channel;
+    } finally {
+      lock.unlock();
+    }
+    try {
+      current.force(false);
+    } catch (ClosedChannelException ex) {
+      // rotate() ya forzó el segmento antes de cerrarlo
+    }
+  }
+
+  /** Cierra el segmento abierto, abre uno nuevo y devuelve los segmentos anteriores. */
+  public List<Path> rotate() throws IOException {
+    lock.lock();
+    try {
+      channel.force(false);
+      channel.close();
+      List<Path> closed = segments();
+      channel = openNext();
+      return closed;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Entrega a {@code consumer}, en orden, las escrituras válidas de {@code segments}. */
+  public void replay(List<Path> segments, BiConsumer<UUID, PendingStock> consumer)
+      throws IOException {
+    for (Path segment : segments) {
+      List<String> lines = Files.readAllLines(segment, StandardCharsets.UTF_8);
+      for (int i = 0; i < lines.size(); i++) {
+        String line = lines.get(i);
+        if (!decode(line, consumer)) {
+          log.warn("Skipping corrupt stock write at {}:{}", segment.getFileName(), i + 1);
+        }
+      }
+    }
+  }
+
+  /** Anexa y fuerza a disco en {@code rejected.log} escrituras que no se pudieron aplicar. */
+  public void reject(Map<UUID, PendingStock> writes) throws IOException {
+    StringBuilder lines = new StringBuilder();
+    writes.forEach((productId, write) -> lines.append(encode(productId, write)));
+    ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+    try (FileChannel rejected =
+        FileChannel.open(
+            rejectedFile(),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND)) {
+      while (buffer.hasRemaining()) {
+        rejected.write(buffer);
+      }
+      rejected.force(false);
+    }
+  }
+
+  /** Fichero donde se apartan las escrituras rechazadas. */
+  public Path rejectedFile() {
+    return directory.resolve(REJECTED);
+  }
+
+  /** Borra segmentos cuyas escrituras ya se volcaron. */
+  public void delete(List<Path> segments) throws IOException {
+    for (Path segment : segments) {
+      Files.deleteIfExists(segment);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    lock.lock();
+    try {
+      channel.force(false);
+      channel.close();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private FileChannel openNext() throws IOException {
+    Path segment = directory.resolve(PREFIX + "%019d".formatted(nextSequence++) + SUFFIX);
+    return FileChannel.open(segment, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+  }
+
+  private static long sequenceOf(Path segment) {
+    String name = segment.getFileName().toString();
+    return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+  }
+
+  static String encode(UUID productId, PendingStock write) {
+    String body = (write.absolute() ? "S " : "A ") + productId + " " + write.value();
+    return Long.toHexString(checksum(body)) + " " + body + "\n";
+  }
+
+  private static boolean decode(String line, BiConsumer<UUID, PendingStock> consumer) {
+    int separator = line.indexOf(' ');
+    if (separator < 0) {
+      return false;
+    }
+    String body = line.substring(separator + 1);
+    String[] fields = body.split(" ");
+    try {
+      if (Long.parseLong(line.substring(0, separator), 16) != checksum(body)
+          || fields.length != 3) {
+        return false;
+      }
+      consumer.accept(
+          UUID.fromString(fields[1]),
+          new PendingStock("S".equals(fields[0]), Long.parseLong(fields[2])));
+      return true;
+    } catch (IllegalArgumentException ex) {
+      return false;
+    }
+  }
+
+  private static long checksum(String body) {
+    CRC32 crc = new CRC32();
+    crc.update(body.getBytes(StandardCharsets.UTF_8));
+    return crc.getValue();
+  }
+}
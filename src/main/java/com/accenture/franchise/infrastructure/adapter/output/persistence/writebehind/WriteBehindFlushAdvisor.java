@@ -0,0 +1,59 @@
+package com.accenture.franchise.infrastructure.adapter.output.persistence.writebehind;
+
+import com.accenture.franchise.application.dto.UpdateProductStockRequest;
+import com.accenture.franchise.application.usecase.product.UpdateProductStockUseCase;
+import java.lang.reflect.Method;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.support.StaticMethodMatcherPointcutAdvisor;
+import org.springframework.core.Ordered;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Espera el volcado del {@link WriteBehindStockBuffer} antes de una actualización de stock con
+ * versión esperada, que solo puede compararse con la base de datos al día.
+ *
+ * <p>Se aplica por fuera de la transacción del caso de uso: la petición no abre su conexión hasta
+ * que el volcado, con la suya propia, ha terminado, así que nunca retiene dos a la vez.
+ */
+public class WriteBehindFlushAdvisor extends StaticMethodMatcherPointcutAdvisor {
+
+  /**
+   * Variante con versión esperada del caso de uso. Se resuelve al cargar la clase, así que un
+   * cambio de su firma falla al arrancar en lugar de dejar de esperar el volcado.
+   */
+  static final Method CONDITIONAL_UPDATE = conditionalUpdate();
+
+  /**
+   * Crea el advisor. El búfer se resuelve en la primera llamada: los advisors se instancian antes
+   * que el resto de beans.
+   */
+  public WriteBehindFlushAdvisor(Supplier<WriteBehindStockBuffer> buffer) {
+    setAdvice(
+        (MethodInterceptor)
+            invocation -> {
+              if (invocation.getArguments()[2] != null) {
+                buffer.get().awaitFlush();
+              }
+              return invocation.proceed();
+            });
+    setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+  }
+
+  /** Solo la variante con versión esperada; la de dos argumentos la llama desde dentro. */
+  @Override
+  public boolean matches(Method method, Class<?> targetClass) {
+    return ClassUtils.getUserClass(targetClass) == UpdateProductStockUseCase.class
+        && method.equals(CONDITIONAL_UPDATE);
+  }
+
+  private static Method conditionalUpdate() {
+    try {
+      return UpdateProductStockUseCase.class.getMethod(
+          "execute", UUID.class, UpdateProductStockRequest.class, Long.class);
+    } catch (NoSuchMethodException e) {
+      throw new IllegalStateException("UpdateProductStockUseCase.execute signature changed", e);
+    }
+  }
+}
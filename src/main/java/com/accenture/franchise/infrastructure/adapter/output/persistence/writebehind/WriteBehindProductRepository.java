@@ -0,0 +1,162 @@
+package com.accenture.franchise.infrastructure.adapter.output.persistence.writebehind;
+
+import com.accenture.franchise.domain.model.Product;
+import com.accenture.franchise.domain.model.ProductStock;
+import com.accenture.franchise.domain.model.StockChange;
+import com.accenture.franchise.domain.repository.ProductRepository;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.ProductPersistenceAdapter;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Repositorio de productos en modo write-behind: las escrituras de stock sin versión esperada se
+ * aceptan en un {@link WriteBehindStockBuffer} y el resto de operaciones delega en {@link
+ * ProductPersistenceAdapter}.
+ *
+ * <p>{@link #findById} ve las escrituras pendientes de esta instancia; los listados y consultas
+ * agregadas leen la base de datos y las ven al volcarse. Ninguna operación vuelca el búfer: se
+ * ejecutan dentro de la transacción de la petición y el volcado usa su propia conexión. Las
+ * actualizaciones condicionales esperan el volcado antes de abrir la transacción mediante {@link
+ * WriteBehindFlushAdvisor}.
+ */
+@RequiredArgsConstructor
+public class WriteBehindProductRepository implements ProductRepository {
+
+  private final ProductPersistenceAdapter delegate;
+  private final WriteBehindStockBuffer buffer;
+
+  /**
+   * Guarda sobre el stock persistido y con la versión del llamante, sin volcar lo pendiente: si el
+   * volcado confirma entretanto, la versión deja de coincidir y el guardado falla como cualquier
+   * conflicto optimista. Un stock distinto del que el llamante leyó se acepta en el búfer como
+   * escritura absoluta, detrás de las pendientes.
+   */
+  @Override
+  public Product save(Product product) {
+    if (product.getId() == null || !buffer.hasPending(product.getId())) {
+      return delegate.save(product);
+    }
+    Optional<Product> stored = delegate.findStoredById(product.getId());
+    if (stored.isEmpty()) {
+      return delegate.save(product);
+    }
+    int bufferedStock =
+        buffer.read(product.getId(), () -> stored).map(Product::getStock).orElseThrow();
+    Product saved =
+        delegate.save(
+            Product.builder()
+                .id(product.getId())
+                .name(product.getName())
+                .stock(stored.get().getStock())
+                .branchId(product.getBranchId())
+                .version(product.getVersion())
+                .build());
+    if (product.getStock() != null && product.getStock() != bufferedStock) {
+      return buffer.set(saved.getId(), product.getStock(), () -> Optional.of(saved)).orElseThrow();
+    }
+    return buffer.read(saved.getId(), () -> Optional.of(saved)).orElseThrow();
+  }
+
+  @Override
+  public Optional<Product> findById(UUID id) {
+    if (!buffer.hasPending(id)) {
+      return delegate.findById(id);
+    }
+    return buffer.read(id, () -> delegate.findById(id));
+  }
+
+  @Override
+  public List<Product> findByBranchId(UUID branchId) {
+    return delegate.findByBranchId(branchId);
+  }
+
+  @Override
+  public void deleteById(UUID id) {
+    delegate.deleteById(id);
+  }
+
+  @Override
+  public boolean existsByNameAndBranchId(String name, UUID branchId) {
+    return delegate.existsByNameAndBranchId(name, branchId);
+  }
+
+  @Override
+  public boolean existsById(UUID id) {
+    return delegate.existsById(id);
+  }
+
+  @Override
+  public Optional<Product> updateStock(UUID productId, int stock, Long expectedVersion) {
+    if (expectedVersion != null) {
+      // La versión de la base de datos aún no refleja lo pendiente: no puede coincidir
+      return buffer.hasPending(productId)
+          ? Optional.empty()
+          : delegate.updateStock(productId, stock, expectedVersion);
+    }
+    return buffer.set(productId, stock, () -> delegate.findById(productId));
+  }
+
+  /**
+   * Valida el ajuste contra el stock confirmado en la base de datos más lo pendiente; la caché
+   * puede ir por detrás de escrituras de otras instancias o de volcados recientes.
+   */
+  @Override
+  public Optional<Product> adjustStock(UUID productId, int delta) {
+    return buffer.adjust(productId, delta, () -> delegate.findStoredById(productId));
+  }
+
+  /**
+   * Los productos con escrituras pendientes reciben el nuevo stock en el búfer, donde sustituye a
+   * lo pendiente; el resto se actualiza directamente en la base de datos.
+   */
+  @Override
+  public Set<UUID> updateStocks(List<StockChange> changes) {
+    List<StockChange> direct = new ArrayList<>(changes.size());
+    Set<UUID> updated = new LinkedHashSet<>();
+    for (StockChange change : changes) {
+      if (!buffer.hasPending(change.productId())) {
+        direct.add(change);
+      } else if (buffer
+          .set(change.productId(), change.stock(), () -> delegate.findById(change.productId()))
+          .isPresent()) {
+        updated.add(change.productId());
+      }
+    }
+    if (!direct.isEmpty()) {
+      updated.addAll(delegate.updateStocks(direct));
+    }
+    return updated;
+  }
+
+  @Override
+  public int insertIfAbsent(UUID franchiseId, List<Product> products) {
+    return delegate.insertIfAbsent(franchiseId, products);
+  }
+
+  @Override
+  public List<Product> findPageByBranchId(
+      UUID branchId,
+      Integer minStock,
+      Integer maxStock,
+      Integer afterStock,
+      UUID afterId,
+      int limit) {
+    return delegate.findPageByBranchId(branchId, minStock, maxStock, afterStock, afterId, limit);
+  }
+
+  @Override
+  public List<ProductStock> findTopStockByFranchiseId(UUID franchiseId) {
+    return delegate.findTopStockByFranchiseId(franchiseId);
+  }
+
+  @Override
+  public void streamCatalogByFranchiseId(UUID franchiseId, Consumer<ProductStock> consumer) {
+    delegate.streamCatalogByFranchiseId(franchiseId, consumer);
+  }
+}
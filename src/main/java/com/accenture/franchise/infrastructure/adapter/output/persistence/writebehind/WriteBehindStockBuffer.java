@@ -0,0 +1,476 @@
+package com.accenture.franchise.infrastructure.adapter.output.persistence.writebehind;
+
+import com.accenture.franchise.domain.model.Product;
+import com.accenture.franchise.domain.model.StockChange;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.ProductPersistenceAdapter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Acumula en memoria las escrituras de stock, una por producto, y las vuelca a PostgreSQL por lotes
+ * al llegar a {@code batchSize} productos o cada {@code flushInterval}.
+ *
+ * <p>Cada escritura se anexa y se fuerza a disco en un {@link StockWriteLog} antes de confirmarse,
+ * así que una caída no pierde escrituras aceptadas: al arrancar se reproducen los segmentos que
+ * quedaron y se vuelcan. Los valores absolutos sustituyen a lo pendiente y los deltas se suman, por
+ * lo que un producto con muchas escrituras por segundo genera una sola sentencia por volcado.
+ *
+ * <p>Las lecturas de un producto con escrituras pendientes o en vuelo se combinan con ellas bajo un
+ * cerrojo de lectura; el volcado toma el de escritura solo mientras confirma e invalida la caché,
+ * de modo que nunca se ve una escritura dos veces ni ninguna.
+ *
+ * <p>Una escritura aceptada nunca se descarta: si al volcar la base de datos no la aplica (producto
+ * borrado o ajuste sin stock suficiente por escrituras de otra instancia) se aparta en el fichero
+ * de rechazadas del {@link StockWriteLog}, se cuenta y se registra como error.
+ */
+@Slf4j
+public class WriteBehindStockBuffer implements SmartLifecycle {
+
+  static final String METRIC_PREFIX = "stock.writebehind";
+
+  private final StockWriteLog writeLog;
+  private final ProductPersistenceAdapter delegate;
+  private final TransactionOperations transactionOperations;
+  private final int batchSize;
+  private final Duration flushInterval;
+
+  private final Map<UUID, PendingStock> pending = new ConcurrentHashMap<>();
+  private final Map<UUID, PendingStock> inFlight = new ConcurrentHashMap<>();
+  private final ReentrantLock appendLock = new ReentrantLock();
+  private final ReentrantLock flushLock = new ReentrantLock();
+  private final ReentrantReadWriteLock overlayLock = new ReentrantReadWriteLock();
+  private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+  private final Counter applied;
+  private final Counter rejected;
+  private final Counter failures;
+
+  private ScheduledExecutorService scheduler;
+
+  /**
+   * Crea el búfer sobre un registro en {@code directory}. {@code transactionOperations} debe abrir
+   * una transacción propia, ya que el volcado toma el cerrojo de escritura alrededor de su commit.
+   */
+  public WriteBehindStockBuffer(
+      Path directory,
+      ProductPersistenceAdapter delegate,
+      TransactionOperations transactionOperations,
+      MeterRegistry meterRegistry,
+      int batchSize,
+      Duration flushInterval)
+      throws IOException {
+    this.writeLog = new StockWriteLog(directory);
+    this.delegate = delegate;
+    this.transactionOperations = transactionOperations;
+    this.batchSize = batchSize;
+    this.flushInterval = flushInterval;
+    Gauge.builder(METRIC_PREFIX + ".pending", pending, Map::size)
+        .description("Products with stock writes waiting to be flushed")
+        .register(meterRegistry);
+    this.applied = outcome(meterRegistry, "applied");
+    this.rejected = outcome(meterRegistry, "rejected");
+    this.failures =
+        Counter.builder(METRIC_PREFIX + ".flush.failures")
+            .description("Flushes that failed and were retried")
+            .register(meterRegistry);
+  }
+
+  private static Counter outcome(MeterRegistry meterRegistry, String outcome) {
+    return Counter.builder(METRIC_PREFIX + ".flushed")
+        .description("Coalesced stock writes flushed to the database")
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+
+  /** Indica si el producto tiene escrituras que aún no están en la base de datos. */
+  public boolean hasPending(UUID productId) {
+    return pending.containsKey(productId) || inFlight.containsKey(productId);
+  }
+
+  /** Lee un producto de {@code source} y le aplica sus escrituras pendientes. */
+  public Optional<Product> read(UUID productId, Supplier<Optional<Product>> source) {
+    overlayLock.readLock().lock();
+    try {
+      return source.get().map(product -> copy(product, overlay(product), product.getVersion()));
+    } finally {
+      overlayLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Acepta una escritura que fija el stock y vuelve cuando ya es durable. Devuelve el producto con
+   * el nuevo stock o vacío si no existe.
+   */
+  public Optional<Product> set(UUID productId, int stock, Supplier<Optional<Product>> source) {
+    Optional<Product> current = source.get();
+    if (current.isEmpty()) {
+      return Optional.empty();
+    }
+    appendLock.lock();
+    try {
+      append(productId, PendingStock.set(stock));
+    } finally {
+      appendLock.unlock();
+    }
+    sync();
+    requestFlushIfFull();
+    return Optional.of(accepted(current.get(), stock));
+  }
+
+  /**
+   * Acepta un ajuste relativo si el stock resultante, contando lo pendiente, queda entre 0 y {@link
+   * Integer#MAX_VALUE}. Devuelve el producto con el stock resultante o vacío si no existe o el
+   * ajuste no cabe.
+   */
+  public Optional<Product> adjust(UUID productId, int delta, Supplier<Optional<Product>> source) {
+    Optional<Product> adjusted;
+    overlayLock.readLock().lock();
+    try {
+      Optional<Product> current = source.get();
+      if (current.isEmpty()) {
+        return Optional.empty();
+      }
+      appendLock.lock();
+      try {
+        long stock = overlay(current.get()) + delta;
+        if (stock < 0 || stock > Integer.MAX_VALUE) {
+          return Optional.empty();
+        }
+        append(productId, PendingStock.add(delta));
+        adjusted = Optional.of(accepted(current.get(), stock));
+      } finally {
+        appendLock.unlock();
+      }
+    } finally {
+      overlayLock.readLock().unlock();
+    }
+    sync();
+    requestFlushIfFull();
+    return adjusted;
+  }
+
+  /**
+   * Vuelca las escrituras pendientes en una transacción. Si falla, las devuelve a pendientes por
+   * delante de las recibidas mientras tanto y conserva los segmentos del registro.
+   */
+  public void flush() {
+    flushPending();
+  }
+
+  /**
+   * Pide el volcado al hilo del búfer y espera a que termine. Debe llamarse fuera de cualquier
+   * transacción: así la petición no retiene su conexión mientras el volcado usa otra. Con el búfer
+   * parado vuelca en el hilo actual.
+   *
+   * @throws IllegalStateException si el volcado falla; las escrituras siguen pendientes
+   */
+  public void awaitFlush() {
+    if (pending.isEmpty() && inFlight.isEmpty()) {
+      return;
+    }
+    ScheduledExecutorService current = scheduler;
+    boolean flushed;
+    if (current == null || current.isShutdown()) {
+      flushed = flushPending();
+    } else {
+      try {
+        flushed = current.submit(this::flushPending).get();
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while waiting for the stock flush", ex);
+      } catch (ExecutionException ex) {
+        throw new IllegalStateException("Stock write-behind flush failed", ex.getCause());
+      }
+    }
+    if (!flushed) {
+      throw new IllegalStateException("Could not flush buffered stock writes");
+    }
+  }
+
+  /** Vuelca lo pendiente; devuelve {@code false} si el volcado falló y se reintentará. */
+  private boolean flushPending() {
+    flushLock.lock();
+    try {
+      Map<UUID, PendingStock> batch;
+      List<Path> segments;
+      appendLock.lock();
+      try {
+        if (pending.isEmpty()) {
+          return true;
+        }
+        segments = writeLog.rotate();
+        batch = new HashMap<>(pending);
+        inFlight.putAll(batch);
+        pending.clear();
+      } finally {
+        appendLock.unlock();
+      }
+
+      OverlaySwitch overlaySwitch = new OverlaySwitch(batch);
+      Map<UUID, PendingStock> unapplied;
+      try {
+        unapplied =
+            transactionOperations.execute(
+                status -> {
+                  Map<UUID, PendingStock> rejectedWrites = write(batch);
+                  overlaySwitch.register();
+                  return rejectedWrites;
+                });
+      } catch (RuntimeException ex) {
+        overlaySwitch.complete(false);
+        failures.increment();
+        log.error("Stock write-behind flush of {} products failed; will retry", batch.size(), ex);
+        return false;
+      }
+      overlaySwitch.complete(true);
+      if (unapplied != null && !unapplied.isEmpty()) {
+        writeLog.reject(unapplied);
+        rejected.increment(unapplied.size());
+        log.error(
+            "Could not apply {} buffered stock writes; kept in {}: {}",
+            unapplied.size(),
+            writeLog.rejectedFile(),
+            unapplied);
+      }
+      writeLog.delete(segments);
+      return true;
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  /**
+   * Escribe el lote y devuelve las escrituras que la base de datos no aplicó: productos borrados
+   * entretanto o ajustes que otra instancia dejó sin stock suficiente.
+   */
+  private Map<UUID, PendingStock> write(Map<UUID, PendingStock> batch) {
+    List<StockChange> sets = new ArrayList<>();
+    Map<UUID, Integer> deltas = new LinkedHashMap<>();
+    batch.forEach(
+        (id, write) -> {
+          if (write.absolute()) {
+            sets.add(new StockChange(id, Math.toIntExact(write.value())));
+          } else if (write.value() != 0) {
+            deltas.put(id, Math.toIntExact(write.value()));
+          }
+        });
+    Set<UUID> updated = sets.isEmpty() ? Set.of() : delegate.updateStocks(sets);
+    Set<UUID> adjusted = deltas.isEmpty() ? Set.of() : delegate.adjustStocks(deltas);
+    applied.increment(updated.size() + adjusted.size());
+
+    Map<UUID, PendingStock> unapplied = new LinkedHashMap<>();
+    sets.stream()
+        .filter(change -> !updated.contains(change.productId()))
+        .forEach(change -> unapplied.put(change.productId(), batch.get(change.productId())));
+    deltas.keySet().stream()
+        .filter(id -> !adjusted.contains(id))
+        .forEach(id -> unapplied.put(id, batch.get(id)));
+    return unapplied;
+  }
+
+  /**
+   * Retira un lote de {@code inFlight}, o lo devuelve a pendientes si no se confirmó, bajo el
+   * cerrojo de escritura de las lecturas. El cerrojo solo se toma alrededor del commit: mientras se
+   * ejecutan las sentencias, las lecturas ven el stock anterior más lo que está en vuelo. Se
+   * registra después de las invalidaciones de caché del lote para soltarlo tras ellas.
+   */
+  private final class OverlaySwitch implements TransactionSynchronization {
+
+    private final Map<UUID, PendingStock> batch;
+    private boolean locked;
+    private boolean completed;
+
+    private OverlaySwitch(Map<UUID, PendingStock> batch) {
+      this.batch = batch;
+    }
+
+    void register() {
+      if (TransactionSynchronizationManager.isSynchronizationActive()) {
+        TransactionSynchronizationManager.registerSynchronization(this);
+      }
+    }
+
+    @Override
+    public void beforeCompletion() {
+      overlayLock.writeLock().lock();
+      locked = true;
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+      complete(status == STATUS_COMMITTED);
+    }
+
+    void complete(boolean committed) {
+      if (completed) {
+        return;
+      }
+      completed = true;
+      if (!locked) {
+        overlayLock.writeLock().lock();
+      }
+      try {
+        if (!committed) {
+          appendLock.lock();
+          try {
+            batch.forEach(
+                (id, write) -> pending.merge(id, write, (newer, older) -> older.then(newer)));
+          } finally {
+            appendLock.unlock();
+          }
+        }
+        inFlight.keySet().removeAll(batch.keySet());
+      } finally {
+        overlayLock.writeLock().unlock();
+      }
+    }
+  }
+
+  private long overlay(Product product) {
+    long stock = product.getStock();
+    PendingStock flushing = inFlight.get(product.getId());
+    if (flushing != null) {
+      stock = flushing.applyTo(stock);
+    }
+    PendingStock waiting = pending.get(product.getId());
+    return waiting != null ? waiting.applyTo(stock) : stock;
+  }
+
+  /** Producto con la escritura aceptada; sin versión, porque cambiará al volcar. */
+  private static Product accepted(Product product, long stock) {
+    return copy(product, stock, null);
+  }
+
+  private static Product copy(Product product, long stock, Long version) {
+    return Product.builder()
+        .id(product.getId())
+        .name(product.getName())
+        .stock(Math.toIntExact(stock))
+        .branchId(product.getBranchId())
+        .version(version)
+        .build();
+  }
+
+  private void append(UUID productId, PendingStock write) {
+    try {
+      writeLog.append(productId, write);
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Could not append stock write to the local log", ex);
+    }
+    pending.merge(productId, write, PendingStock::then);
+  }
+
+  private void sync() {
+    try {
+      writeLog.sync();
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Could not sync the local stock write log", ex);
+    }
+  }
+
+  private void requestFlushIfFull() {
+    if (pending.size() >= batchSize
+        && scheduler != null
+        && flushRequested.compareAndSet(false, true)) {
+      scheduler.execute(
+          () -> {
+            flushRequested.set(false);
+            flushQuietly();
+          });
+    }
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (RuntimeException ex) {
+      log.error("Stock write-behind flush failed", ex);
+    }
+  }
+
+  /**
+   * Arranca antes que el servidor web y se detiene después, para no aceptar escrituras antes de
+   * reproducir el registro ni perder las que lleguen durante el apagado.
+   */
+  @Override
+  public int getPhase() {
+    return 0;
+  }
+
+  /** Reproduce los segmentos que dejó la ejecución anterior, los vuelca y programa el volcado. */
+  @Override
+  public void start() {
+    try {
+      List<Path> leftovers = writeLog.segments();
+      writeLog.replay(
+          leftovers.subList(0, leftovers.size() - 1),
+          (id, write) -> pending.merge(id, write, PendingStock::then));
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Could not replay the local stock write log", ex);
+    }
+    if (!pending.isEmpty()) {
+      log.info("Replayed buffered stock writes for {} products", pending.size());
+      flushQuietly();
+    }
+    scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("stock-write-behind").daemon().factory());
+    scheduler.scheduleWithFixedDelay(
+        this::flushQuietly,
+        flushInterval.toMillis(),
+        flushInterval.toMillis(),
+        TimeUnit.MILLISECONDS);
+  }
+
+  /** Detiene el volcado periódico y vuelca lo pendiente antes de cerrar el registro. */
+  @Override
+  public void stop() {
+    scheduler.shutdown();
+    try {
+      scheduler.awaitTermination(flushInterval.toMillis() * 2, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    scheduler = null;
+    flushQuietly();
+    try {
+      writeLog.close();
+    } catch (IOException ex) {
+      log.warn("Could not close the local stock write log", ex);
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return scheduler != null;
+  }
+}
@@ -0,0 +1,14 @@
+package com.accenture.franchise.infrastructure.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Activa la caché declarativa con cualquier {@code spring.cache.type}.
+ *
+ * <p>Va aparte de {@link RedisCacheConfig}, que solo se carga con Redis: así los {@code @Cacheable}
+ * siguen interceptándose con el gestor que autoconfigura Spring Boot para los demás tipos.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {}
@@ -0,0 +1,41 @@
+package com.accenture.franchise.infrastructure.config;
+
+import com.accenture.franchise.infrastructure.monitoring.HibernateStatisticsMetrics;
+import com.accenture.franchise.infrastructure.monitoring.UseCaseMetricsAdvisor;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * Métricas del camino crítico: tiempos por caso de uso y contadores de sentencias de Hibernate.
+ *
+ * <p>Las de caché las registra {@link RedisCacheConfig} con cada caché y las de tamaño de los
+ * agregados, los adapters de persistencia al cargarlos.
+ */
+@Configuration
+public class MetricsConfig {
+
+  /**
+   * Temporizador de los casos de uso. Rol de infraestructura para que lo aplique el mismo creador
+   * de proxies que {@code @Transactional}, sin necesitar AspectJ.
+   */
+  @Bean
+  @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+  public static UseCaseMetricsAdvisor useCaseMetricsAdvisor(
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    return new UseCaseMetricsAdvisor(meterRegistry::getObject);
+  }
+
+  /** Contadores de sentencias, consultas y cargas de Hibernate. */
+  @Bean
+  public HibernateStatisticsMetrics hibernateStatisticsMetrics(
+      EntityManagerFactory entityManagerFactory) {
+    return new HibernateStatisticsMetrics(
+        entityManagerFactory.unwrap(SessionFactory.class).getStatistics());
+  }
+}
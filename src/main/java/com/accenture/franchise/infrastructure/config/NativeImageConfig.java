@@ -0,0 +1,104 @@
+package com.accenture.franchise.infrastructure.config;
+
+import com.accenture.franchise.application.dto.ProductStockResponse;
+import com.accenture.franchise.domain.model.Branch;
+import com.accenture.franchise.domain.model.Franchise;
+import com.accenture.franchise.domain.model.Product;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.BranchEntity;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.BranchTopStockEntity;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.FranchiseSummaryEntity;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.ProductEntity;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Metadatos de alcanzabilidad para la imagen nativa de GraalVM ({@code ./mvnw -Pnative package}).
+ *
+ * <p>El procesamiento AOT de Spring ya cubre los beans, los proxies de {@code @Transactional} y de
+ * las métricas, los DTO de los controladores y los mappers generados por MapStruct; Lombok no deja
+ * rastro en ejecución y springdoc aporta sus propios metadatos. Aquí solo se declara lo que el
+ * código usa por reflexión, proxies dinámicos o recursos y AOT no puede deducir.
+ */
+@Configuration
+@ImportRuntimeHints(NativeImageConfig.FranchiseRuntimeHints.class)
+public class NativeImageConfig {
+
+  /** Registra las pistas de reflexión, proxies y recursos de la aplicación. */
+  static class FranchiseRuntimeHints implements RuntimeHintsRegistrar {
+
+    /**
+     * Implementaciones Java de LZ4: {@code LZ4Factory} las carga por nombre y lee su campo {@code
+     * INSTANCE}; en la imagen nativa no hay biblioteca JNI y se usan estas.
+     */
+    private static final List<String> LZ4_IMPLEMENTATIONS =
+        List.of(
+            "net.jpountz.lz4.LZ4JavaSafeCompressor",
+            "net.jpountz.lz4.LZ4HCJavaSafeCompressor",
+            "net.jpountz.lz4.LZ4JavaSafeFastDecompressor",
+            "net.jpountz.lz4.LZ4JavaSafeSafeDecompressor",
+            "net.jpountz.lz4.LZ4JavaUnsafeCompressor",
+            "net.jpountz.lz4.LZ4HCJavaUnsafeCompressor",
+            "net.jpountz.lz4.LZ4JavaUnsafeFastDecompressor",
+            "net.jpountz.lz4.LZ4JavaUnsafeSafeDecompressor");
+
+    /** Hibernate instancia las entidades y accede a sus campos por reflexión. */
+    private static final List<Class<?>> ENTITIES =
+        List.of(
+            FranchiseEntity.class,
+            BranchEntity.class,
+            ProductEntity.class,
+            FranchiseSummaryEntity.class,
+            BranchTopStockEntity.class);
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+      for (Class<?> entity : ENTITIES) {
+        hints
+            .reflection()
+            .registerType(
+                entity,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS,
+                MemberCategory.ACCESS_DECLARED_FIELDS);
+      }
+
+      // Valores de caché en JSON con tipo (serializer=json y entradas anteriores al binario) y
+      // filas de la exportación NDJSON, que se escriben fuera de los conversores de Spring MVC
+      new BindingReflectionHintsRegistrar()
+          .registerReflectionHints(
+              hints.reflection(),
+              Franchise.class,
+              Branch.class,
+              Product.class,
+              ArrayList.class,
+              ProductStockResponse.class);
+
+      // StatementCountingDataSource envuelve conexiones y sentencias JDBC con proxies del JDK
+      hints.proxies().registerJdkProxy(Connection.class);
+      hints.proxies().registerJdkProxy(Statement.class);
+      hints.proxies().registerJdkProxy(PreparedStatement.class);
+      hints.proxies().registerJdkProxy(CallableStatement.class);
+
+      for (String implementation : LZ4_IMPLEMENTATIONS) {
+        hints
+            .reflection()
+            .registerType(TypeReference.of(implementation), MemberCategory.ACCESS_PUBLIC_FIELDS);
+      }
+
+      // Flyway descubre las migraciones recorriendo el classpath
+      hints.resources().registerPattern("db/migration/*.sql");
+    }
+  }
+}
@@ -1,33 +1,156 @@
 package com.accenture.franchise.infrastructure.config;
 
+import com.accenture.franchise.infrastructure.adapter.output.cache.CacheEntryWeigher;
+import com.accenture.franchise.infrastructure.adapter.output.cache.CacheInvalidationListener;
+import com.accenture.franchise.infrastructure.adapter.output.cache.CacheLoadLease;
+import com.accenture.franchise.infrastructure.adapter.output.cache.DomainBinaryRedisSerializer;
+import com.accenture.franchise.infrastructure.adapter.output.cache.RedisCacheBulkEvictor;
+import com.accenture.franchise.infrastructure.adapter.output.cache.RedisCacheInvalidationPublisher;
+import com.accenture.franchise.infrastructure.adapter.output.cache.RedisCacheLoadLease;
+import com.accenture.franchise.infrastructure.adapter.output.cache.TwoTierCacheManager;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
-import org.springframework.cache.annotation.EnableCaching;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.RedisSerializer;
 
-/** Configuración de Redis para caché distribuido. */
+/**
+ * Configuración de Redis para caché distribuido.
+ *
+ * <p>Solo se activa con {@code spring.cache.type=redis} (valor por defecto), de modo que el perfil
+ * de pruebas puede usar el gestor sin caché que autoconfigura Spring Boot. La caché declarativa la
+ * activa {@link CacheConfig} para cualquier tipo.
+ *
+ * <p>Con {@code franchise.cache.l1.enabled=true} (valor por defecto) Redis queda detrás de una
+ * caché local en memoria y las invalidaciones se difunden entre instancias por pub/sub. La caché
+ * local guarda los valores serializados con el mismo serializador que Redis, para que ninguna
+ * petición comparta la instancia mutable de un agregado con otra.
+ *
+ * <p>Cada caché publica, etiquetados por nombre y nivel, sus aciertos y fallos ({@code
+ * cache.tier.gets}) y sus expulsiones ({@code cache.tier.evictions}).
+ */
 @Configuration
-@EnableCaching
+@ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis", matchIfMissing = true)
 public class RedisCacheConfig {
 
-  /** Configura el gestor de caché de Redis. */
+  private static final String L1_ENABLED = "franchise.cache.l1.enabled";
+
+  /**
+   * Configura el gestor de caché de dos niveles: memoria local (L1) respaldada por Redis (L2). Con
+   * la caché local deshabilitada solo se usa Redis.
+   */
   @Bean
-  public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-    RedisCacheConfiguration config =
-        RedisCacheConfiguration.defaultCacheConfig()
-            .entryTtl(Duration.ofMinutes(10))
-            .disableCachingNullValues()
-            .serializeKeysWith(
-                RedisSerializationContext.SerializationPair.fromSerializer(
-                    RedisSerializer.string()))
-            .serializeValuesWith(
-                RedisSerializationContext.SerializationPair.fromSerializer(RedisSerializer.json()));
-
-    return RedisCacheManager.builder(connectionFactory).cacheDefaults(config).build();
+  public TwoTierCacheManager cacheManager(
+      RedisConnectionFactory connectionFactory,
+      StringRedisTemplate redisTemplate,
+      RedisSerializer<Object> cacheValueSerializer,
+      RedisCacheInvalidationPublisher cacheInvalidationPublisher,
+      ObjectProvider<CacheLoadLease> cacheLoadLease,
+      MeterRegistry meterRegistry,
+      @Value("${franchise.cache.l1.enabled:true}") boolean localCacheEnabled,
+      @Value("${franchise.cache.l1.maximum-weight:100000}") long maximumWeight,
+      @Value("${franchise.cache.l1.expire-after-write:60s}") Duration expireAfterWrite) {
+    Supplier<com.github.benmanes.caffeine.cache.Cache<String, Object>> localCacheFactory =
+        () ->
+            Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher(new CacheEntryWeigher())
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    RedisCacheConfiguration cacheConfiguration = redisCacheConfiguration(cacheValueSerializer);
+    return new TwoTierCacheManager(
+        redisCacheManager(connectionFactory, cacheConfiguration),
+        new RedisCacheBulkEvictor(redisTemplate, cacheConfiguration),
+        localCacheEnabled ? localCacheFactory : null,
+        cacheValueSerializer,
+        cacheInvalidationPublisher,
+        cacheLoadLease.getIfAvailable(),
+        meterRegistry);
+  }
+
+  /**
+   * Serializador de los valores cacheados: binario compacto ({@code binary}, por defecto) o el JSON
+   * con metadatos de tipo usado originalmente ({@code json}).
+   */
+  @Bean
+  public RedisSerializer<Object> cacheValueSerializer(
+      @Value("${franchise.cache.serializer:binary}") String serializer,
+      @Value("${franchise.cache.compression-threshold:1024}") int compressionThreshold) {
+    return switch (serializer) {
+      case "binary" ->
+          new DomainBinaryRedisSerializer(RedisSerializer.json(), compressionThreshold);
+      case "json" -> RedisSerializer.json();
+      default -> throw new IllegalArgumentException("Unknown cache serializer: " + serializer);
+    };
+  }
+
+  /**
+   * Coordina entre instancias la carga de una misma clave mediante una concesión en Redis. Es
+   * opcional porque añade una ida y vuelta a Redis en cada fallo de caché.
+   */
+  @Bean
+  @ConditionalOnProperty(name = "franchise.cache.load-lease.enabled", havingValue = "true")
+  public RedisCacheLoadLease cacheLoadLease(
+      StringRedisTemplate redisTemplate,
+      @Value("${franchise.cache.load-lease.ttl:2s}") Duration ttl) {
+    return new RedisCacheLoadLease(redisTemplate, ttl);
+  }
+
+  /** Publica las invalidaciones de la caché local en el canal compartido. */
+  @Bean
+  public RedisCacheInvalidationPublisher cacheInvalidationPublisher(
+      StringRedisTemplate redisTemplate,
+      @Value("${franchise.cache.l1.invalidation-channel:franchise:cache:invalidation}")
+          String channel) {
+    return new RedisCacheInvalidationPublisher(redisTemplate, channel);
+  }
+
+  /** Suscribe esta instancia a las invalidaciones publicadas por las demás. */
+  @Bean
+  @ConditionalOnProperty(name = L1_ENABLED, havingValue = "true", matchIfMissing = true)
+  public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+      RedisConnectionFactory connectionFactory,
+      TwoTierCacheManager cacheManager,
+      RedisCacheInvalidationPublisher cacheInvalidationPublisher) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    container.addMessageListener(
+        new CacheInvalidationListener(cacheManager, cacheInvalidationPublisher.getNodeId()),
+        new ChannelTopic(cacheInvalidationPublisher.getChannel()));
+    return container;
+  }
+
+  private RedisCacheConfiguration redisCacheConfiguration(RedisSerializer<Object> valueSerializer) {
+    return RedisCacheConfiguration.defaultCacheConfig()
+        .entryTtl(Duration.ofMinutes(10))
+        .disableCachingNullValues()
+        .serializeKeysWith(
+            RedisSerializationContext.SerializationPair.fromSerializer(RedisSerializer.string()))
+        .serializeValuesWith(
+            RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer));
+  }
+
+  private RedisCacheManager redisCacheManager(
+      RedisConnectionFactory connectionFactory, RedisCacheConfiguration config) {
+    // SCAN en lugar de KEYS al vaciar una caché completa (p. ej. las páginas de franquicias), para
+    // no bloquear Redis mientras recorre el espacio de claves
+    RedisCacheWriter cacheWriter =
+        RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory, BatchStrategies.scan(1000));
+    return RedisCacheManager.builder(cacheWriter).cacheDefaults(config).build();
   }
 }
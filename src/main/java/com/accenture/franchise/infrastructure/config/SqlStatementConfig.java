@@ -0,0 +1,67 @@
+package com.accenture.franchise.infrastructure.config;
+
+import com.accenture.franchise.infrastructure.monitoring.SqlStatementBudget;
+import com.accenture.franchise.infrastructure.monitoring.SqlStatementCountingFilter;
+import com.accenture.franchise.infrastructure.monitoring.StatementCountingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+/**
+ * Conteo de sentencias SQL por petición y presupuesto por endpoint.
+ *
+ * <p>Desactivado salvo con {@code franchise.sql.statements.enabled=true}, que activan el perfil
+ * {@code dev} y las pruebas: envuelve cada conexión del pool, así que en producción se activa solo
+ * a propósito. El presupuesto se configura en {@code franchise.sql.statements.budget} ({@code
+ * mode}, {@code default-limit} y {@code endpoints}); el perfil {@code dev} añade además la cabecera
+ * con el total a cada respuesta.
+ */
+@Configuration
+@ConditionalOnProperty(name = "franchise.sql.statements.enabled", havingValue = "true")
+public class SqlStatementConfig {
+
+  /** Envuelve el pool de conexiones para contar lo que ejecutan tanto JPA como JDBC. */
+  @Bean
+  public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource
+            && !(bean instanceof StatementCountingDataSource)) {
+          return new StatementCountingDataSource(dataSource);
+        }
+        return bean;
+      }
+    };
+  }
+
+  /** Presupuesto de sentencias por endpoint. */
+  @Bean
+  public SqlStatementBudget sqlStatementBudget(Environment environment) {
+    return Binder.get(environment)
+        .bind("franchise.sql.statements.budget", SqlStatementBudget.class)
+        .orElseGet(() -> new SqlStatementBudget(SqlStatementBudget.Mode.LOG, 0, Map.of()));
+  }
+
+  /** Filtro de conteo, por delante del resto para abarcar toda la petición. */
+  @Bean
+  public FilterRegistrationBean<SqlStatementCountingFilter> sqlStatementCountingFilter(
+      SqlStatementBudget sqlStatementBudget,
+      MeterRegistry meterRegistry,
+      @Value("${franchise.sql.statements.response-header:false}") boolean responseHeader) {
+    FilterRegistrationBean<SqlStatementCountingFilter> registration =
+        new FilterRegistrationBean<>(
+            new SqlStatementCountingFilter(sqlStatementBudget, meterRegistry, responseHeader));
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+    return registration;
+  }
+}
@@ -0,0 +1,33 @@
+package com.accenture.franchise.infrastructure.config;
+
+import com.accenture.franchise.infrastructure.monitoring.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración del modo de ejecución con hilos virtuales.
+ *
+ * <p>Solo se activa con {@code spring.threads.virtual.enabled=true}, que Spring Boot usa para
+ * atender las peticiones de Tomcat y ejecutar las tareas asíncronas en hilos virtuales. El perfil
+ * {@code virtual} activa esa propiedad y ajusta los pools de conexiones al nuevo modo.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+  /** Registra con JFR los hilos virtuales fijados a su portador durante más del umbral. */
+  @Bean
+  @ConditionalOnProperty(
+      name = "franchise.virtual-threads.pinning-monitor.enabled",
+      havingValue = "true",
+      matchIfMissing = true)
+  public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+      MeterRegistry meterRegistry,
+      @Value("${franchise.virtual-threads.pinning-monitor.threshold:20ms}") Duration threshold) {
+    return new VirtualThreadPinningMonitor(meterRegistry, threshold);
+  }
+}
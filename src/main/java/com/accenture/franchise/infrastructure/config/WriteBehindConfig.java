@@ -0,0 +1,70 @@
+package com.accenture.franchise.infrastructure.config;
+
+import com.accenture.franchise.infrastructure.adapter.output.persistence.ProductPersistenceAdapter;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.writebehind.WriteBehindFlushAdvisor;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.writebehind.WriteBehindProductRepository;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.writebehind.WriteBehindStockBuffer;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Configuración del modo write-behind para las escrituras de stock.
+ *
+ * <p>Solo se activa con {@code franchise.stock.write-behind.enabled=true}. El registro local debe
+ * estar en un volumen persistente: las escrituras aceptadas y no volcadas solo viven en él.
+ */
+@Configuration
+@ConditionalOnProperty(name = "franchise.stock.write-behind.enabled", havingValue = "true")
+public class WriteBehindConfig {
+
+  /** Búfer de escrituras de stock con registro local y volcado por lotes. */
+  @Bean
+  public WriteBehindStockBuffer writeBehindStockBuffer(
+      ProductPersistenceAdapter productPersistenceAdapter,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${franchise.stock.write-behind.log-dir:./data/stock-write-log}") Path logDirectory,
+      @Value("${franchise.stock.write-behind.batch-size:500}") int batchSize,
+      @Value("${franchise.stock.write-behind.flush-interval:1s}") Duration flushInterval)
+      throws IOException {
+    // Transacción propia: el volcado corre en su hilo y nunca comparte la de una petición
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    return new WriteBehindStockBuffer(
+        logDirectory,
+        productPersistenceAdapter,
+        transactionTemplate,
+        meterRegistry,
+        batchSize,
+        flushInterval);
+  }
+
+  /** Sustituye al adapter de productos en los casos de uso mientras el modo está activo. */
+  @Bean
+  @Primary
+  public WriteBehindProductRepository writeBehindProductRepository(
+      ProductPersistenceAdapter productPersistenceAdapter, WriteBehindStockBuffer buffer) {
+    return new WriteBehindProductRepository(productPersistenceAdapter, buffer);
+  }
+
+  /** Vuelca el búfer antes de cada actualización de stock condicional, fuera de su transacción. */
+  @Bean
+  @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+  public static WriteBehindFlushAdvisor writeBehindFlushAdvisor(
+      ObjectProvider<WriteBehindStockBuffer> buffer) {
+    return new WriteBehindFlushAdvisor(buffer::getObject);
+  }
+}
@@ -0,0 +1,47 @@
+package com.accenture.franchise.infrastructure.monitoring;
+
+import com.accenture.franchise.domain.model.Branch;
+import com.accenture.franchise.domain.model.Franchise;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Distribución del tamaño de los agregados cargados de la base de datos: sucursales por franquicia
+ * y productos por sucursal. Sirve para dimensionar la caché local y anticipar cargas pesadas.
+ */
+@Component
+public class AggregateSizeMetrics {
+
+  static final String BRANCHES_PER_FRANCHISE = "franchise.aggregate.branches";
+  static final String PRODUCTS_PER_BRANCH = "franchise.aggregate.products";
+
+  private final DistributionSummary branchesPerFranchise;
+  private final DistributionSummary productsPerBranch;
+
+  public AggregateSizeMetrics(MeterRegistry meterRegistry) {
+    this.branchesPerFranchise =
+        DistributionSummary.builder(BRANCHES_PER_FRANCHISE)
+            .description("Branches per franchise aggregate loaded from the database")
+            .baseUnit("branches")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    this.productsPerBranch =
+        DistributionSummary.builder(PRODUCTS_PER_BRANCH)
+            .description("Products per branch loaded from the database")
+            .baseUnit("products")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+  }
+
+  /** Registra una franquicia completa y cada una de sus sucursales. */
+  public void record(Franchise franchise) {
+    branchesPerFranchise.record(franchise.getBranches().size());
+    franchise.getBranches().forEach(this::record);
+  }
+
+  /** Registra una sucursal con sus productos. */
+  public void record(Branch branch) {
+    productsPerBranch.record(branch.getProducts().size());
+  }
+}
@@ -0,0 +1,42 @@
+package com.accenture.franchise.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.function.ToDoubleFunction;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Publica los contadores globales de {@link Statistics} de Hibernate: sentencias preparadas,
+ * consultas, cargas de entidades y colecciones y flushes.
+ *
+ * <p>Requiere {@code hibernate.generate_statistics=true}; sin ella los contadores quedan a cero.
+ * Divididos entre {@code usecase.executions} dan las sentencias por caso de uso.
+ */
+public class HibernateStatisticsMetrics implements MeterBinder {
+
+  private final Statistics statistics;
+
+  public HibernateStatisticsMetrics(Statistics statistics) {
+    this.statistics = statistics;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    counter(registry, "hibernate.statements", "prepared", Statistics::getPrepareStatementCount);
+    counter(registry, "hibernate.queries", "executed", Statistics::getQueryExecutionCount);
+    counter(registry, "hibernate.entities", "loaded", Statistics::getEntityLoadCount);
+    counter(registry, "hibernate.entities", "fetched", Statistics::getEntityFetchCount);
+    counter(registry, "hibernate.collections", "loaded", Statistics::getCollectionLoadCount);
+    counter(registry, "hibernate.collections", "fetched", Statistics::getCollectionFetchCount);
+    counter(registry, "hibernate.flushes", "executed", Statistics::getFlushCount);
+  }
+
+  private void counter(
+      MeterRegistry registry, String name, String kind, ToDoubleFunction<Statistics> count) {
+    FunctionCounter.builder(name, statistics, count)
+        .description("Hibernate statistics counter")
+        .tag("kind", kind)
+        .register(registry);
+  }
+}
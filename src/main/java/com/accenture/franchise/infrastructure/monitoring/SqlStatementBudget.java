@@ -0,0 +1,50 @@
+package com.accenture.franchise.infrastructure.monitoring;
+
+import java.util.Map;
+
+/**
+ * Número máximo de sentencias SQL por petición, por defecto y por endpoint.
+ *
+ * <p>Los endpoints se identifican como {@code MÉTODO patrón}, con el patrón de la ruta tal como se
+ * declara en el controlador (p. ej. {@code GET /api/v1/franchises/{franchiseId}}). Un límite {@code
+ * 0} o negativo deja el endpoint sin presupuesto.
+ *
+ * @param mode qué hacer al superar el límite; {@code LOG} si no se indica
+ * @param defaultLimit límite de los endpoints sin entrada propia
+ * @param endpoints límites por endpoint
+ */
+public record SqlStatementBudget(Mode mode, int defaultLimit, Map<String, Integer> endpoints) {
+
+  /** Reacción ante un presupuesto superado. */
+  public enum Mode {
+    /** Registra un aviso al terminar la petición. */
+    LOG,
+    /** Aborta la petición en la sentencia que supera el límite. */
+    FAIL
+  }
+
+  public SqlStatementBudget {
+    mode = mode == null ? Mode.LOG : mode;
+    endpoints = endpoints == null ? Map.of() : Map.copyOf(endpoints);
+  }
+
+  /** Presupuesto de un endpoint, o {@code null} si no tiene. */
+  public Limit limitFor(String endpoint) {
+    int limit = endpoints.getOrDefault(endpoint, defaultLimit);
+    return limit > 0 ? new Limit(endpoint, limit, mode) : null;
+  }
+
+  /** Presupuesto aplicado a una petición concreta. */
+  public record Limit(String endpoint, int statements, Mode mode) {
+
+    /** Si la sentencia número {@code count} debe abortar la petición. */
+    boolean failsAt(long count) {
+      return mode == Mode.FAIL && count > statements;
+    }
+
+    /** Si {@code count} sentencias superan el presupuesto. */
+    public boolean isExceededBy(long count) {
+      return count > statements;
+    }
+  }
+}
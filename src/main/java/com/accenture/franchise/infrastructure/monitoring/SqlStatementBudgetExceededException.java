@@ -0,0 +1,15 @@
+package com.accenture.franchise.infrastructure.monitoring;
+
+/** Una petición ha superado su presupuesto de sentencias SQL en modo {@code FAIL}. */
+public class SqlStatementBudgetExceededException extends RuntimeException {
+
+  public SqlStatementBudgetExceededException(SqlStatementBudget.Limit budget, long count) {
+    super(
+        "SQL statement budget exceeded for "
+            + budget.endpoint()
+            + ": "
+            + count
+            + " statements, budget "
+            + budget.statements());
+  }
+}
@@ -0,0 +1,85 @@
+package com.accenture.franchise.infrastructure.monitoring;
+
+import java.util.function.Supplier;
+
+/**
+ * Cuenta las sentencias SQL ejecutadas en el hilo actual mientras hay un {@link Scope} abierto.
+ *
+ * <p>Lo alimenta {@link StatementCountingDataSource}, así que cuenta por igual lo que ejecutan JPA
+ * y {@code JdbcTemplate}. Los ámbitos se pueden anidar (p. ej. el de una prueba alrededor del de
+ * una petición): cada sentencia cuenta en todos los abiertos.
+ */
+public final class SqlStatementCounter {
+
+  private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+  private SqlStatementCounter() {}
+
+  /** Abre un ámbito sin presupuesto. */
+  public static Scope start() {
+    return start(() -> null);
+  }
+
+  /**
+   * Abre un ámbito con el presupuesto que devuelva {@code budget}. Se consulta en cada sentencia
+   * hasta que devuelve un valor, para poder resolverlo cuando ya se conoce el endpoint.
+   */
+  public static Scope start(Supplier<SqlStatementBudget.Limit> budget) {
+    Scope scope = new Scope(CURRENT.get(), budget);
+    CURRENT.set(scope);
+    return scope;
+  }
+
+  /** Registra una sentencia en los ámbitos abiertos del hilo actual, si los hay. */
+  static void statementExecuted() {
+    for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+      scope.increment();
+    }
+  }
+
+  /** Ámbito de conteo; debe cerrarse en el mismo hilo que lo abrió. */
+  public static final class Scope implements AutoCloseable {
+
+    private final Scope parent;
+    private final Supplier<SqlStatementBudget.Limit> budgetResolver;
+    private SqlStatementBudget.Limit budget;
+    private long count;
+
+    private Scope(Scope parent, Supplier<SqlStatementBudget.Limit> budgetResolver) {
+      this.parent = parent;
+      this.budgetResolver = budgetResolver;
+    }
+
+    /** Sentencias ejecutadas desde que se abrió el ámbito. */
+    public long count() {
+      return count;
+    }
+
+    /** Presupuesto aplicado, o {@code null} si no hay ninguno. */
+    public SqlStatementBudget.Limit budget() {
+      return budget != null ? budget : budgetResolver.get();
+    }
+
+    private void increment() {
+      count++;
+      if (budget == null) {
+        budget = budgetResolver.get();
+      }
+      if (budget != null && budget.failsAt(count)) {
+        throw new SqlStatementBudgetExceededException(budget, count);
+      }
+    }
+
+    @Override
+    public void close() {
+      if (CURRENT.get() != this) {
+        throw new IllegalStateException("SQL statement scopes must be closed in reverse order");
+      }
+      if (parent != null) {
+        CURRENT.set(parent);
+      } else {
+        CURRENT.remove();
+      }
+    }
+  }
+}
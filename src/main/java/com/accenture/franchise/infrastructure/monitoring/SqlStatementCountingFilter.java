@@ -0,0 +1,166 @@
+package com.accenture.franchise.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Cuenta las sentencias SQL de cada petición, las publica en {@code
+ * http.server.requests.sql.statements} por método y patrón de ruta y aplica el {@link
+ * SqlStatementBudget} del endpoint.
+ *
+ * <p>Con {@code responseHeader} devuelve el total en {@value #HEADER}. Para poder fijar la cabecera
+ * después de escribir el cuerpo la respuesta se guarda entera en memoria, así que solo debe usarse
+ * en desarrollo. Las respuestas en flujo (NDJSON o eventos) y las asíncronas se escriben
+ * directamente y sin cabecera: su cuerpo puede no caber en memoria y se envía antes de conocer el
+ * total.
+ */
+@Slf4j
+public class SqlStatementCountingFilter extends OncePerRequestFilter {
+
+  public static final String HEADER = "X-SQL-Statement-Count";
+  static final String METRIC_NAME = "http.server.requests.sql.statements";
+
+  private final SqlStatementBudget budget;
+  private final MeterRegistry meterRegistry;
+  private final boolean responseHeader;
+
+  public SqlStatementCountingFilter(
+      SqlStatementBudget budget, MeterRegistry meterRegistry, boolean responseHeader) {
+    this.budget = budget;
+    this.meterRegistry = meterRegistry;
+    this.responseHeader = responseHeader;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    HeaderBufferingResponse cachingResponse =
+        responseHeader ? new HeaderBufferingResponse(response) : null;
+    // El patrón de la ruta solo se conoce tras resolver el handler, antes de la primera sentencia
+    try (SqlStatementCounter.Scope scope = SqlStatementCounter.start(() -> budgetFor(request))) {
+      try {
+        filterChain.doFilter(request, cachingResponse != null ? cachingResponse : response);
+      } finally {
+        long count = scope.count();
+        record(request, count, scope.budget());
+        if (cachingResponse != null) {
+          if (request.isAsyncStarted()) {
+            cachingResponse.passThrough();
+          } else {
+            if (!cachingResponse.isPassingThrough()) {
+              cachingResponse.setHeader(HEADER, Long.toString(count));
+            }
+            cachingResponse.copyBodyToResponse();
+          }
+        }
+      }
+    }
+  }
+
+  private SqlStatementBudget.Limit budgetFor(HttpServletRequest request) {
+    String endpoint = endpointOf(request);
+    return endpoint != null ? budget.limitFor(endpoint) : null;
+  }
+
+  private void record(HttpServletRequest request, long count, SqlStatementBudget.Limit limit) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    DistributionSummary.builder(METRIC_NAME)
+        .description("SQL statements executed per HTTP request")
+        .baseUnit("statements")
+        .tag("method", request.getMethod())
+        .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+        .register(meterRegistry)
+        .record(count);
+    if (limit != null && limit.mode() == SqlStatementBudget.Mode.LOG && limit.isExceededBy(count)) {
+      log.warn(
+          "SQL statement budget exceeded for {}: {} statements, budget {}",
+          limit.endpoint(),
+          count,
+          limit.statements());
+    }
+  }
+
+  private static String endpointOf(HttpServletRequest request) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    return pattern != null ? request.getMethod() + " " + pattern : null;
+  }
+
+  /**
+   * Guarda el cuerpo en memoria hasta fijar la cabecera, salvo que la respuesta sea un flujo o pase
+   * a asíncrona: desde entonces escribe directamente en la respuesta original.
+   */
+  static final class HeaderBufferingResponse extends ContentCachingResponseWrapper {
+
+    private static final List<MediaType> STREAMING_TYPES =
+        List.of(MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM);
+
+    private boolean passingThrough;
+
+    HeaderBufferingResponse(HttpServletResponse response) {
+      super(response);
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+      return streams() ? getResponse().getOutputStream() : super.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+      return streams() ? getResponse().getWriter() : super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+      if (passingThrough) {
+        getResponse().flushBuffer();
+      } else {
+        super.flushBuffer();
+      }
+    }
+
+    /** Envía lo ya escrito y deja de guardar el cuerpo en memoria. */
+    void passThrough() throws IOException {
+      copyBodyToResponse();
+      passingThrough = true;
+    }
+
+    boolean isPassingThrough() {
+      return passingThrough;
+    }
+
+    private boolean streams() throws IOException {
+      if (!passingThrough && getContentSize() == 0 && isStreamingType(getContentType())) {
+        passThrough();
+      }
+      return passingThrough;
+    }
+
+    private static boolean isStreamingType(String contentType) {
+      if (contentType == null) {
+        return false;
+      }
+      try {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        return STREAMING_TYPES.stream().anyMatch(type -> type.isCompatibleWith(mediaType));
+      } catch (InvalidMediaTypeException e) {
+        return false;
+      }
+    }
+  }
+}
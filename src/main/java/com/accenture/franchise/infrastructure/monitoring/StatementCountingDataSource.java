@@ -0,0 +1,78 @@
+package com.accenture.franchise.infrastructure.monitoring;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Envuelve el {@link DataSource} para avisar a {@link SqlStatementCounter} de cada ejecución de
+ * sentencia. Un lote ({@code executeBatch}) cuenta como una sola, igual que su ida y vuelta.
+ *
+ * <p>Fuera de un ámbito de conteo el coste es un proxy por conexión y sentencia y una lectura de
+ * {@code ThreadLocal} por ejecución.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+  public StatementCountingDataSource(DataSource targetDataSource) {
+    super(targetDataSource);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return countingConnection(super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return countingConnection(super.getConnection(username, password));
+  }
+
+  private static Connection countingConnection(Connection connection) {
+    return proxy(
+        Connection.class,
+        (proxy, method, args) -> {
+          Object result = invoke(connection, method, args);
+          return switch (method.getName()) {
+            case "createStatement" -> countingStatement(Statement.class, (Statement) result);
+            case "prepareStatement" ->
+                countingStatement(PreparedStatement.class, (PreparedStatement) result);
+            case "prepareCall" ->
+                countingStatement(CallableStatement.class, (CallableStatement) result);
+            default -> result;
+          };
+        });
+  }
+
+  private static <T extends Statement> T countingStatement(Class<T> type, T statement) {
+    return proxy(
+        type,
+        (proxy, method, args) -> {
+          if (method.getName().startsWith("execute")) {
+            SqlStatementCounter.statementExecuted();
+          }
+          return invoke(statement, method, args);
+        });
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+    return type.cast(
+        Proxy.newProxyInstance(
+            StatementCountingDataSource.class.getClassLoader(), new Class<?>[] {type}, handler));
+  }
+}
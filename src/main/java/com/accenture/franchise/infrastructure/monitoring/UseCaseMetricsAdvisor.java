@@ -0,0 +1,90 @@
+package com.accenture.franchise.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.StaticMethodMatcherPointcutAdvisor;
+import org.springframework.core.Ordered;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Mide con un {@link Timer} cada método público de los casos de uso de {@code application.usecase},
+ * sin que la capa de aplicación dependa de Micrometer.
+ *
+ * <p>Se aplica por fuera de la transacción, así que el tiempo incluye la confirmación. Las
+ * etiquetas son de baja cardinalidad: el caso de uso, el resultado y la clase de la excepción.
+ */
+public class UseCaseMetricsAdvisor extends StaticMethodMatcherPointcutAdvisor {
+
+  static final String METRIC_NAME = "usecase.executions";
+
+  private static final String USE_CASE_PACKAGE = "com.accenture.franchise.application.usecase";
+
+  /**
+   * Crea el advisor. El registro se resuelve en la primera llamada: los advisors se instancian
+   * antes que el resto de beans y no deben forzar la creación temprana del {@link MeterRegistry}.
+   */
+  public UseCaseMetricsAdvisor(Supplier<MeterRegistry> meterRegistry) {
+    setAdvice(new TimingInterceptor(meterRegistry));
+    setOrder(Ordered.HIGHEST_PRECEDENCE);
+  }
+
+  @Override
+  public boolean matches(Method method, Class<?> targetClass) {
+    Class<?> userClass = ClassUtils.getUserClass(targetClass);
+    return userClass.getPackageName().startsWith(USE_CASE_PACKAGE)
+        && Modifier.isPublic(method.getModifiers())
+        && method.getDeclaringClass() == userClass;
+  }
+
+  private static final class TimingInterceptor implements MethodInterceptor {
+
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final Map<Class<?>, Timer> successTimers = new ConcurrentHashMap<>();
+    private final Map<ErrorKey, Timer> errorTimers = new ConcurrentHashMap<>();
+
+    private TimingInterceptor(Supplier<MeterRegistry> meterRegistry) {
+      this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+      Class<?> useCase = ClassUtils.getUserClass(AopUtils.getTargetClass(invocation.getThis()));
+      long start = System.nanoTime();
+      try {
+        Object result = invocation.proceed();
+        successTimers
+            .computeIfAbsent(useCase, type -> timer(type, "success", "none"))
+            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return result;
+      } catch (Throwable e) {
+        errorTimers
+            .computeIfAbsent(
+                new ErrorKey(useCase, e.getClass()),
+                key -> timer(key.useCase(), "error", key.exception().getSimpleName()))
+            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        throw e;
+      }
+    }
+
+    private Timer timer(Class<?> useCase, String outcome, String exception) {
+      return Timer.builder(METRIC_NAME)
+          .description("Use case execution time, including the transaction commit")
+          .tag("usecase", useCase.getSimpleName())
+          .tag("outcome", outcome)
+          .tag("exception", exception)
+          .publishPercentileHistogram()
+          .register(meterRegistry.get());
+    }
+  }
+
+  private record ErrorKey(Class<?> useCase, Class<?> exception) {}
+}
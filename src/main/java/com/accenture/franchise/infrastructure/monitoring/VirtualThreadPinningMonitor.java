@@ -0,0 +1,116 @@
+package com.accenture.franchise.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Detecta con JFR los hilos virtuales que quedan fijados a su hilo portador.
+ *
+ * <p>Mientras un hilo virtual está fijado, su bloqueo en E/S retiene también al portador (p. ej. en
+ * código nativo o en un inicializador de clase dentro de JDBC o Lettuce), lo que reduce la
+ * concurrencia efectiva. Cada evento {@code jdk.VirtualThreadPinned} que supera el umbral se
+ * registra con sus primeros marcos y se mide en {@code jvm.threads.virtual.pinned}, etiquetado por
+ * la capa donde ocurrió.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+  static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  static final String METRIC_NAME = "jvm.threads.virtual.pinned";
+
+  private static final int LOGGED_FRAMES = 8;
+
+  /** Prefijo de paquete del primer marco reconocido y la etiqueta {@code source} que le toca. */
+  private static final Map<String, String> SOURCES =
+      Map.of(
+          "org.postgresql.", "jdbc",
+          "com.zaxxer.hikari.", "jdbc",
+          "org.hibernate.", "jpa",
+          "io.lettuce.", "redis",
+          "org.apache.commons.pool2.", "redis",
+          "com.accenture.franchise.", "application");
+
+  private final MeterRegistry meterRegistry;
+  private final Duration threshold;
+  private volatile RecordingStream stream;
+
+  /** Crea el monitor; solo se registran los fijados que duran al menos {@code threshold}. */
+  public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, Duration threshold) {
+    this.meterRegistry = meterRegistry;
+    this.threshold = threshold;
+  }
+
+  @Override
+  public void start() {
+    RecordingStream recording = new RecordingStream();
+    recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+    recording.onEvent(
+        PINNED_EVENT, event -> onPinned(event.getDuration(), frames(event.getStackTrace())));
+    recording.startAsync();
+    stream = recording;
+    log.info("Virtual thread pinning monitor started with threshold {}", threshold);
+  }
+
+  @Override
+  public void stop() {
+    RecordingStream recording = stream;
+    stream = null;
+    if (recording != null) {
+      recording.close();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return stream != null;
+  }
+
+  /** Registra un fijado; {@code frames} va del marco más interno al más externo. */
+  void onPinned(Duration duration, List<String> frames) {
+    String source = sourceOf(frames);
+    Timer.builder(METRIC_NAME)
+        .description("Time virtual threads spent pinned to their carrier thread")
+        .tag("source", source)
+        .register(meterRegistry)
+        .record(duration);
+    log.warn(
+        "Virtual thread pinned for {} ms ({}) at {}",
+        duration.toMillis(),
+        source,
+        String.join(" <- ", frames.subList(0, Math.min(LOGGED_FRAMES, frames.size()))));
+  }
+
+  private static String sourceOf(List<String> frames) {
+    for (String frame : frames) {
+      for (Map.Entry<String, String> source : SOURCES.entrySet()) {
+        if (frame.startsWith(source.getKey())) {
+          return source.getValue();
+        }
+      }
+    }
+    return "other";
+  }
+
+  private static List<String> frames(RecordedStackTrace stackTrace) {
+    if (stackTrace == null) {
+      return List.of();
+    }
+    return stackTrace.getFrames().stream().map(VirtualThreadPinningMonitor::describe).toList();
+  }
+
+  private static String describe(RecordedFrame frame) {
+    return frame.getMethod().getType().getName()
+        + "."
+        + frame.getMethod().getName()
+        + ":"
+        + frame.getLineNumber();
+  }
+}
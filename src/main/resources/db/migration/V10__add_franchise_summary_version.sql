@@ -0,0 +1,7 @@
+-- Versión del resumen de cada franquicia: avanza con cada escritura sobre la franquicia, sus
+-- sucursales o sus productos y sirve de ETag a las lecturas de la API
+ALTER TABLE franchise_summary
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- Comentarios
+COMMENT ON COLUMN franchise_summary.version IS 'Advanced on every write to the franchise, its branches or its products; used as ETag';
@@ -0,0 +1,31 @@
+-- Contadores de productos y stock del resumen repartidos en 16 filas por franquicia: cada
+-- transacción incrementa una sola, de modo que las escrituras concurrentes sobre productos de una
+-- misma franquicia no se serializan en la fila de franchise_summary. Las lecturas suman las filas
+CREATE TABLE franchise_summary_counters (
+    franchise_id UUID NOT NULL,
+    shard SMALLINT NOT NULL,
+    product_count BIGINT NOT NULL DEFAULT 0,
+    total_stock BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_franchise_summary_counters PRIMARY KEY (franchise_id, shard),
+    CONSTRAINT fk_franchise_summary_counters_franchise
+        FOREIGN KEY (franchise_id)
+        REFERENCES franchises(id)
+        ON DELETE CASCADE
+);
+
+-- Los contadores actuales pasan a la primera fila de cada franquicia
+INSERT INTO franchise_summary_counters (franchise_id, shard, product_count, total_stock)
+SELECT s.franchise_id,
+       shard,
+       CASE WHEN shard = 0 THEN s.product_count ELSE 0 END,
+       CASE WHEN shard = 0 THEN s.total_stock ELSE 0 END
+  FROM franchise_summary s
+ CROSS JOIN generate_series(0, 15) AS shard;
+
+ALTER TABLE franchise_summary
+    DROP COLUMN product_count,
+    DROP COLUMN total_stock;
+
+-- Comentarios
+COMMENT ON TABLE franchise_summary_counters IS 'Product and stock counters of franchise_summary split into 16 rows per franchise; readers sum them';
+COMMENT ON COLUMN franchise_summary_counters.shard IS 'Row picked by each writing transaction, so concurrent writes rarely share one';
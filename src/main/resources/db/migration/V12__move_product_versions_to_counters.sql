@@ -0,0 +1,9 @@
+-- Las escrituras de productos avanzan la versión en su fila de contadores en lugar de en
+-- franchise_summary, que así solo bloquean los cambios de franquicia y sucursales. La versión de
+-- una franquicia pasa a ser la de su resumen más la suma de sus filas de contadores
+ALTER TABLE franchise_summary_counters
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- Comentarios
+COMMENT ON COLUMN franchise_summary_counters.version IS 'Advanced on every product write; the franchise ETag adds it to franchise_summary.version';
+COMMENT ON COLUMN franchise_summary.version IS 'Advanced on franchise and branch writes; the franchise ETag adds the versions of its counter rows';
@@ -0,0 +1,26 @@
+-- Los contadores de productos y stock y la versión de las escrituras de productos vuelven a la
+-- fila de franchise_summary: la lectura del resumen y su ETag son de nuevo una búsqueda por clave
+-- primaria, sin sumar filas. Las escrituras de productos de una misma franquicia vuelven a
+-- serializarse en esa fila
+ALTER TABLE franchise_summary
+    ADD COLUMN product_count BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN total_stock BIGINT NOT NULL DEFAULT 0;
+
+-- La versión suma la de las filas de contadores para que el ETag no retroceda
+UPDATE franchise_summary s
+   SET product_count = c.product_count,
+       total_stock = c.total_stock,
+       version = s.version + c.version
+  FROM (SELECT franchise_id,
+               SUM(product_count) AS product_count,
+               SUM(total_stock) AS total_stock,
+               SUM(version) AS version
+          FROM franchise_summary_counters
+         GROUP BY franchise_id) c
+ WHERE c.franchise_id = s.franchise_id;
+
+DROP TABLE franchise_summary_counters;
+
+-- Comentarios
+COMMENT ON COLUMN franchise_summary.total_stock IS 'Sum of the stock of every product of the franchise';
+COMMENT ON COLUMN franchise_summary.version IS 'Advanced on every write to the franchise, its branches or its products; used as ETag';
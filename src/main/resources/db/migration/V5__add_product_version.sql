@@ -0,0 +1,5 @@
+-- Versión para control de concurrencia optimista sobre productos
+ALTER TABLE products ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- Comentarios
+COMMENT ON COLUMN products.version IS 'Optimistic lock version, incremented on every update; exposed as ETag';
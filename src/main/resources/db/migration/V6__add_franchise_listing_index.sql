@@ -0,0 +1,6 @@
+-- Índice para el listado de franquicias paginado por cursor sobre (name, id)
+CREATE INDEX idx_franchises_name_id
+    ON franchises(name, id);
+
+-- Comentarios
+COMMENT ON INDEX idx_franchises_name_id IS 'Composite index for keyset pagination of franchises ordered by name';
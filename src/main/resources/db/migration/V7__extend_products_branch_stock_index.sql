@@ -0,0 +1,9 @@
+-- Añadir el id al índice de stock por sucursal: desempata el orden (stock DESC, id) del listado
+-- paginado por cursor y de la consulta de productos con más stock sin un paso de ordenación
+DROP INDEX idx_products_branch_stock;
+
+CREATE INDEX idx_products_branch_stock
+    ON products(branch_id, stock DESC, id);
+
+-- Comentarios
+COMMENT ON INDEX idx_products_branch_stock IS 'Composite index for top stock products and keyset pagination of branch products by stock';
@@ -0,0 +1,38 @@
+-- Modelo de lectura desnormalizado del detalle de franquicia: una fila por franquicia con las
+-- cabeceras de sus sucursales y contadores que la aplicación ajusta en cada escritura
+CREATE TABLE franchise_summary (
+    franchise_id UUID PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    branches JSONB NOT NULL DEFAULT '[]'::jsonb,
+    branch_count INTEGER NOT NULL DEFAULT 0,
+    product_count BIGINT NOT NULL DEFAULT 0,
+    total_stock BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_franchise_summary_franchise
+        FOREIGN KEY (franchise_id)
+        REFERENCES franchises(id)
+        ON DELETE CASCADE
+);
+
+-- Cargar el resumen de las franquicias existentes
+INSERT INTO franchise_summary (franchise_id, name, branches, branch_count, product_count, total_stock)
+SELECT f.id,
+       f.name,
+       COALESCE(
+           (SELECT jsonb_agg(jsonb_build_object('id', b.id, 'name', b.name) ORDER BY b.name, b.id)
+              FROM branches b
+             WHERE b.franchise_id = f.id),
+           '[]'::jsonb),
+       (SELECT COUNT(*) FROM branches b WHERE b.franchise_id = f.id),
+       (SELECT COUNT(*)
+          FROM products p JOIN branches b ON b.id = p.branch_id
+         WHERE b.franchise_id = f.id),
+       (SELECT COALESCE(SUM(p.stock), 0)
+          FROM products p JOIN branches b ON b.id = p.branch_id
+         WHERE b.franchise_id = f.id)
+  FROM franchises f;
+
+-- Comentarios
+COMMENT ON TABLE franchise_summary IS 'Denormalized read model for franchise detail, maintained on every write';
+COMMENT ON COLUMN franchise_summary.branches IS 'Branch headers (id, name) ordered by name';
+COMMENT ON COLUMN franchise_summary.total_stock IS 'Sum of the stock of every product of the franchise';
@@ -0,0 +1,27 @@
+-- Producto con más stock de cada sucursal, mantenido por la aplicación en cada escritura de stock
+-- para que la consulta por franquicia lea una fila por sucursal sin recorrer sus productos
+CREATE TABLE branch_top_stock (
+    branch_id UUID PRIMARY KEY,
+    product_id UUID,
+    product_name VARCHAR(100),
+    stock INTEGER,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_branch_top_stock_branch
+        FOREIGN KEY (branch_id)
+        REFERENCES branches(id)
+        ON DELETE CASCADE
+);
+
+-- Cargar el producto con más stock de las sucursales existentes; las vacías tienen fila sin producto
+INSERT INTO branch_top_stock (branch_id, product_id, product_name, stock)
+SELECT b.id, top.id, top.name, top.stock
+  FROM branches b
+  LEFT JOIN (
+      SELECT DISTINCT ON (p.branch_id) p.branch_id, p.id, p.name, p.stock
+        FROM products p
+       ORDER BY p.branch_id, p.stock DESC, p.id
+  ) top ON top.branch_id = b.id;
+
+-- Comentarios
+COMMENT ON TABLE branch_top_stock IS 'Product with the most stock of each branch, maintained on every stock write';
+COMMENT ON COLUMN branch_top_stock.product_id IS 'Top product ordered by stock DESC, id; NULL while the branch has no products';
@@ -4,12 +4,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.accenture.franchise.application.dto.BranchResponse;
 import com.accenture.franchise.application.dto.FranchiseResponse;
+import com.accenture.franchise.application.dto.FranchiseSummaryResponse;
 import com.accenture.franchise.application.dto.ProductResponse;
 import com.accenture.franchise.application.dto.ProductStockResponse;
 import com.accenture.franchise.domain.model.Branch;
 import com.accenture.franchise.domain.model.Franchise;
+import com.accenture.franchise.domain.model.FranchiseSummary;
 import com.accenture.franchise.domain.model.Product;
 import com.accenture.franchise.domain.model.ProductStock;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -130,6 +133,61 @@ class DtoMapperTest {
     }
   }
 
+  @Nested
+  @DisplayName("toFranchiseSummaryResponse - Mapeo de FranchiseSummary")
+  class ToFranchiseSummaryResponseTests {
+
+    @Test
+    @DisplayName("Debe mapear las cabeceras de sucursales y los contadores")
+    void shouldMapBranchHeadersAndCounters() {
+      // Arrange
+      UUID franchiseId = UUID.randomUUID();
+      UUID branchId = UUID.randomUUID();
+      FranchiseSummary summary =
+          new FranchiseSummary(
+              franchiseId,
+              "McDonald's",
+              List.of(new FranchiseSummary.BranchHeader(branchId, "Sucursal Centro")),
+              1,
+              8,
+              250);
+
+      // Act
+      FranchiseSummaryResponse response = dtoMapper.toFranchiseSummaryResponse(summary);
+
+      // Assert
+      assertThat(response.id()).isEqualTo(franchiseId);
+      assertThat(response.name()).isEqualTo("McDonald's");
+      assertThat(response.branches())
+          .containsExactly(new BranchResponse(branchId, "Sucursal Centro", franchiseId, List.of()));
+      assertThat(response.branchCount()).isEqualTo(1);
+      assertThat(response.productCount()).isEqualTo(8);
+      assertThat(response.totalStock()).isEqualTo(250);
+    }
+
+    @Test
+    @DisplayName("Debe omitir las sucursales cuando la franquicia no tiene ninguna")
+    void shouldOmitBranchesWhenFranchiseHasNone() {
+      // Arrange
+      FranchiseSummary summary =
+          new FranchiseSummary(UUID.randomUUID(), "Burger King", List.of(), 0, 0, 0);
+
+      // Act
+      FranchiseSummaryResponse response = dtoMapper.toFranchiseSummaryResponse(summary);
+
+      // Assert
+      assertThat(response.branches()).isNull();
+      assertThat(response.branchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe retornar null cuando el resumen es null")
+    void shouldReturnNullWhenSummaryIsNull() {
+      // Act & Assert
+      assertThat(dtoMapper.toFranchiseSummaryResponse(null)).isNull();
+    }
+  }
+
   @Nested
   @DisplayName("toBranchResponseWithoutProducts - Mapeo de Branch sin productos")
   class ToBranchResponseWithoutProductsTests {
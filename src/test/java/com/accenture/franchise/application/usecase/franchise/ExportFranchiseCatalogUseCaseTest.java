@@ -0,0 +1,112 @@
+package com.accenture.franchise.application.usecase.franchise;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.accenture.franchise.application.dto.ProductStockResponse;
+import com.accenture.franchise.application.dto.mapper.DtoMapper;
+import com.accenture.franchise.domain.exception.EntityNotFoundException;
+import com.accenture.franchise.domain.model.ProductStock;
+import com.accenture.franchise.domain.repository.FranchiseRepository;
+import com.accenture.franchise.domain.repository.ProductRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Pruebas unitarias para {@link ExportFranchiseCatalogUseCase}.
+ *
+ * <p>Siguiendo mejores prácticas:
+ *
+ * <ul>
+ *   <li>Uso de Mockito para mocks y JUnit 5 para assertions
+ *   <li>Patrón AAA (Arrange-Act-Assert)
+ *   <li>Tests independientes y aislados
+ *   <li>Uso de BDDMockito para mejorar legibilidad
+ *   <li>Tests organizados con @Nested para agrupar casos relacionados
+ * </ul>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportFranchiseCatalogUseCase - Pruebas Unitarias")
+class ExportFranchiseCatalogUseCaseTest {
+
+  @Mock private FranchiseRepository franchiseRepository;
+  @Mock private ProductRepository productRepository;
+  @Mock private DtoMapper mapper;
+
+  @InjectMocks private ExportFranchiseCatalogUseCase exportFranchiseCatalogUseCase;
+
+  @Nested
+  @DisplayName("Casos de éxito")
+  class SuccessCases {
+
+    @Test
+    @DisplayName("Debe entregar cada fila mapeada a medida que la lee el repositorio")
+    void shouldForwardEachMappedRow() {
+      // Arrange
+      UUID franchiseId = UUID.randomUUID();
+      UUID branchId = UUID.randomUUID();
+      ProductStock first = new ProductStock(UUID.randomUUID(), "Pizza", 10, branchId, "Centro");
+      ProductStock second = new ProductStock(UUID.randomUUID(), "Tacos", 5, branchId, "Centro");
+      ProductStockResponse firstResponse =
+          new ProductStockResponse(first.productId(), "Pizza", 10, branchId, "Centro");
+      ProductStockResponse secondResponse =
+          new ProductStockResponse(second.productId(), "Tacos", 5, branchId, "Centro");
+
+      given(franchiseRepository.existsById(franchiseId)).willReturn(true);
+      willAnswer(
+              invocation -> {
+                Consumer<ProductStock> consumer = invocation.getArgument(1);
+                consumer.accept(first);
+                consumer.accept(second);
+                return null;
+              })
+          .given(productRepository)
+          .streamCatalogByFranchiseId(eq(franchiseId), any());
+      given(mapper.toProductStockResponse(first)).willReturn(firstResponse);
+      given(mapper.toProductStockResponse(second)).willReturn(secondResponse);
+      List<ProductStockResponse> sink = new ArrayList<>();
+
+      // Act
+      long rows = exportFranchiseCatalogUseCase.execute(franchiseId, sink::add);
+
+      // Assert
+      assertThat(rows).isEqualTo(2);
+      assertThat(sink).containsExactly(firstResponse, secondResponse);
+    }
+  }
+
+  @Nested
+  @DisplayName("Casos de error")
+  class ErrorCases {
+
+    @Test
+    @DisplayName("Debe lanzar EntityNotFoundException antes de abrir el cursor")
+    void shouldThrowEntityNotFoundExceptionBeforeStreaming() {
+      // Arrange
+      UUID nonExistentId = UUID.randomUUID();
+      given(franchiseRepository.existsById(nonExistentId)).willReturn(false);
+
+      // Act & Assert
+      assertThatThrownBy(() -> exportFranchiseCatalogUseCase.execute(nonExistentId, row -> {}))
+          .isInstanceOf(EntityNotFoundException.class)
+          .hasMessageContaining("Franchise");
+
+      verify(productRepository, never()).streamCatalogByFranchiseId(any(), any());
+    }
+  }
+}
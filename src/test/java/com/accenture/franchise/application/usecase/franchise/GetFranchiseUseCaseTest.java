@@ -5,12 +5,15 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
-import com.accenture.franchise.application.dto.FranchiseResponse;
+import com.accenture.franchise.application.dto.BranchResponse;
+import com.accenture.franchise.application.dto.FranchiseSummaryResponse;
 import com.accenture.franchise.application.dto.mapper.DtoMapper;
 import com.accenture.franchise.domain.exception.EntityNotFoundException;
-import com.accenture.franchise.domain.model.Franchise;
-import com.accenture.franchise.domain.repository.FranchiseRepository;
+import com.accenture.franchise.domain.model.FranchiseSummary;
+import com.accenture.franchise.domain.model.FranchiseSummary.BranchHeader;
+import com.accenture.franchise.domain.repository.FranchiseSummaryRepository;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
@@ -26,7 +29,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @DisplayName("GetFranchiseUseCase - Pruebas Unitarias")
 class GetFranchiseUseCaseTest {
 
-  @Mock private FranchiseRepository franchiseRepository;
+  @Mock private FranchiseSummaryRepository franchiseSummaryRepository;
 
   @Mock private DtoMapper mapper;
 
@@ -43,21 +46,17 @@ class GetFranchiseUseCaseTest {
       UUID franchiseId = UUID.randomUUID();
       String franchiseName = "McDonald's";
 
-      Franchise franchise =
-          Franchise.builder()
-              .id(franchiseId)
-              .name(franchiseName)
-              .branches(new ArrayList<>())
-              .build();
+      FranchiseSummary summary =
+          new FranchiseSummary(franchiseId, franchiseName, List.of(), 0, 0, 0);
 
-      FranchiseResponse expectedResponse =
-          new FranchiseResponse(franchiseId, franchiseName, new ArrayList<>());
+      FranchiseSummaryResponse expectedResponse =
+          new FranchiseSummaryResponse(franchiseId, franchiseName, new ArrayList<>(), 0, 0, 0);
 
-      given(franchiseRepository.findById(franchiseId)).willReturn(Optional.of(franchise));
-      given(mapper.toFranchiseResponse(franchise)).willReturn(expectedResponse);
+      given(franchiseSummaryRepository.findById(franchiseId)).willReturn(Optional.of(summary));
+      given(mapper.toFranchiseSummaryResponse(summary)).willReturn(expectedResponse);
 
       // Act
-      FranchiseResponse result = getFranchiseUseCase.execute(franchiseId);
+      FranchiseSummaryResponse result = getFranchiseUseCase.execute(franchiseId);
 
       // Assert
       assertThat(result).isNotNull();
@@ -65,8 +64,8 @@ class GetFranchiseUseCaseTest {
       assertThat(result.name()).isEqualTo(franchiseName);
       assertThat(result.branches()).isEmpty();
 
-      verify(franchiseRepository).findById(franchiseId);
-      verify(mapper).toFranchiseResponse(franchise);
+      verify(franchiseSummaryRepository).findById(franchiseId);
+      verify(mapper).toFranchiseSummaryResponse(summary);
     }
 
     @Test
@@ -76,21 +75,17 @@ class GetFranchiseUseCaseTest {
       UUID franchiseId = UUID.randomUUID();
       String franchiseName = "Starbucks";
 
-      Franchise franchise =
-          Franchise.builder()
-              .id(franchiseId)
-              .name(franchiseName)
-              .branches(new ArrayList<>())
-              .build();
+      FranchiseSummary summary =
+          new FranchiseSummary(franchiseId, franchiseName, List.of(), 0, 0, 0);
 
-      FranchiseResponse expectedResponse =
-          new FranchiseResponse(franchiseId, franchiseName, new ArrayList<>());
+      FranchiseSummaryResponse expectedResponse =
+          new FranchiseSummaryResponse(franchiseId, franchiseName, new ArrayList<>(), 0, 0, 0);
 
-      given(franchiseRepository.findById(franchiseId)).willReturn(Optional.of(franchise));
-      given(mapper.toFranchiseResponse(franchise)).willReturn(expectedResponse);
+      given(franchiseSummaryRepository.findById(franchiseId)).willReturn(Optional.of(summary));
+      given(mapper.toFranchiseSummaryResponse(summary)).willReturn(expectedResponse);
 
       // Act
-      FranchiseResponse result = getFranchiseUseCase.execute(franchiseId);
+      FranchiseSummaryResponse result = getFranchiseUseCase.execute(franchiseId);
 
       // Assert
       assertThat(result)
@@ -103,29 +98,57 @@ class GetFranchiseUseCaseTest {
               });
     }
 
+    @Test
+    @DisplayName("Debe devolver las sucursales y los contadores del resumen")
+    void shouldReturnBranchesAndCountersFromSummary() {
+      // Arrange
+      UUID franchiseId = UUID.randomUUID();
+      UUID branchId = UUID.randomUUID();
+      FranchiseSummary summary =
+          new FranchiseSummary(
+              franchiseId, "KFC", List.of(new BranchHeader(branchId, "Centro")), 1, 12, 340);
+
+      FranchiseSummaryResponse expectedResponse =
+          new FranchiseSummaryResponse(
+              franchiseId,
+              "KFC",
+              List.of(new BranchResponse(branchId, "Centro", franchiseId, List.of())),
+              1,
+              12,
+              340);
+
+      given(franchiseSummaryRepository.findById(franchiseId)).willReturn(Optional.of(summary));
+      given(mapper.toFranchiseSummaryResponse(summary)).willReturn(expectedResponse);
+
+      // Act
+      FranchiseSummaryResponse result = getFranchiseUseCase.execute(franchiseId);
+
+      // Assert
+      assertThat(result.branches()).extracting(BranchResponse::name).containsExactly("Centro");
+      assertThat(result.branchCount()).isEqualTo(1);
+      assertThat(result.productCount()).isEqualTo(12);
+      assertThat(result.totalStock()).isEqualTo(340);
+    }
+
     @Test
     @DisplayName("Debe llamar al mapper con el objeto correcto")
     void shouldCallMapperWithCorrectObject() {
       // Arrange
       UUID franchiseId = UUID.randomUUID();
-      Franchise franchise =
-          Franchise.builder()
-              .id(franchiseId)
-              .name("Test Franchise")
-              .branches(new ArrayList<>())
-              .build();
+      FranchiseSummary summary =
+          new FranchiseSummary(franchiseId, "Test Franchise", List.of(), 0, 0, 0);
 
-      FranchiseResponse expectedResponse =
-          new FranchiseResponse(franchiseId, "Test Franchise", new ArrayList<>());
+      FranchiseSummaryResponse expectedResponse =
+          new FranchiseSummaryResponse(franchiseId, "Test Franchise", new ArrayList<>(), 0, 0, 0);
 
-      given(franchiseRepository.findById(franchiseId)).willReturn(Optional.of(franchise));
-      given(mapper.toFranchiseResponse(franchise)).willReturn(expectedResponse);
+      given(franchiseSummaryRepository.findById(franchiseId)).willReturn(Optional.of(summary));
+      given(mapper.toFranchiseSummaryResponse(summary)).willReturn(expectedResponse);
 
       // Act
       getFranchiseUseCase.execute(franchiseId);
 
       // Assert
-      verify(mapper).toFranchiseResponse(franchise);
+      verify(mapper).toFranchiseSummaryResponse(summary);
     }
   }
 
@@ -138,7 +161,7 @@ class GetFranchiseUseCaseTest {
     void shouldThrowEntityNotFoundExceptionWhenFranchiseDoesNotExist() {
       // Arrange
       UUID nonExistentId = UUID.randomUUID();
-      given(franchiseRepository.findById(nonExistentId)).willReturn(Optional.empty());
+      given(franchiseSummaryRepository.findById(nonExistentId)).willReturn(Optional.empty());
 
       // Act & Assert
       assertThatThrownBy(() -> getFranchiseUseCase.execute(nonExistentId))
@@ -146,7 +169,7 @@ class GetFranchiseUseCaseTest {
           .hasMessageContaining("Franchise")
           .hasMessageContaining(nonExistentId.toString());
 
-      verify(franchiseRepository).findById(nonExistentId);
+      verify(franchiseSummaryRepository).findById(nonExistentId);
     }
 
     @Test
@@ -154,7 +177,7 @@ class GetFranchiseUseCaseTest {
     void shouldThrowExceptionWithDescriptiveMessage() {
       // Arrange
       UUID nonExistentId = UUID.randomUUID();
-      given(franchiseRepository.findById(nonExistentId)).willReturn(Optional.empty());
+      given(franchiseSummaryRepository.findById(nonExistentId)).willReturn(Optional.empty());
 
       // Act & Assert
       assertThatThrownBy(() -> getFranchiseUseCase.execute(nonExistentId))
@@ -167,15 +190,15 @@ class GetFranchiseUseCaseTest {
     void shouldNotCallMapperWhenFranchiseDoesNotExist() {
       // Arrange
       UUID nonExistentId = UUID.randomUUID();
-      given(franchiseRepository.findById(nonExistentId)).willReturn(Optional.empty());
+      given(franchiseSummaryRepository.findById(nonExistentId)).willReturn(Optional.empty());
 
       // Act & Assert
       assertThatThrownBy(() -> getFranchiseUseCase.execute(nonExistentId))
           .isInstanceOf(EntityNotFoundException.class);
 
-      verify(franchiseRepository).findById(nonExistentId);
+      verify(franchiseSummaryRepository).findById(nonExistentId);
       verify(mapper, org.mockito.Mockito.never())
-          .toFranchiseResponse(org.mockito.ArgumentMatchers.any());
+          .toFranchiseSummaryResponse(org.mockito.ArgumentMatchers.any());
     }
   }
 
@@ -188,21 +211,17 @@ class GetFranchiseUseCaseTest {
     void shouldHandleValidUUIDsOfDifferentFormats() {
       // Arrange
       UUID franchiseId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
-      Franchise franchise =
-          Franchise.builder()
-              .id(franchiseId)
-              .name("Test Franchise")
-              .branches(new ArrayList<>())
-              .build();
+      FranchiseSummary summary =
+          new FranchiseSummary(franchiseId, "Test Franchise", List.of(), 0, 0, 0);
 
-      FranchiseResponse expectedResponse =
-          new FranchiseResponse(franchiseId, "Test Franchise", new ArrayList<>());
+      FranchiseSummaryResponse expectedResponse =
+          new FranchiseSummaryResponse(franchiseId, "Test Franchise", new ArrayList<>(), 0, 0, 0);
 
-      given(franchiseRepository.findById(franchiseId)).willReturn(Optional.of(franchise));
-      given(mapper.toFranchiseResponse(franchise)).willReturn(expectedResponse);
+      given(franchiseSummaryRepository.findById(franchiseId)).willReturn(Optional.of(summary));
+      given(mapper.toFranchiseSummaryResponse(summary)).willReturn(expectedResponse);
 
       // Act
-      FranchiseResponse result = getFranchiseUseCase.execute(franchiseId);
+      FranchiseSummaryResponse result = getFranchiseUseCase.execute(franchiseId);
 
       // Assert
       assertThat(result).isNotNull();
@@ -214,24 +233,20 @@ class GetFranchiseUseCaseTest {
     void shouldQueryRepositoryOnlyOnce() {
       // Arrange
       UUID franchiseId = UUID.randomUUID();
-      Franchise franchise =
-          Franchise.builder()
-              .id(franchiseId)
-              .name("Test Franchise")
-              .branches(new ArrayList<>())
-              .build();
+      FranchiseSummary summary =
+          new FranchiseSummary(franchiseId, "Test Franchise", List.of(), 0, 0, 0);
 
-      FranchiseResponse expectedResponse =
-          new FranchiseResponse(franchiseId, "Test Franchise", new ArrayList<>());
+      FranchiseSummaryResponse expectedResponse =
+          new FranchiseSummaryResponse(franchiseId, "Test Franchise", new ArrayList<>(), 0, 0, 0);
 
-      given(franchiseRepository.findById(franchiseId)).willReturn(Optional.of(franchise));
-      given(mapper.toFranchiseResponse(franchise)).willReturn(expectedResponse);
+      given(franchiseSummaryRepository.findById(franchiseId)).willReturn(Optional.of(summary));
+      given(mapper.toFranchiseSummaryResponse(summary)).willReturn(expectedResponse);
 
       // Act
       getFranchiseUseCase.execute(franchiseId);
 
       // Assert
-      verify(franchiseRepository, org.mockito.Mockito.times(1)).findById(franchiseId);
+      verify(franchiseSummaryRepository, org.mockito.Mockito.times(1)).findById(franchiseId);
     }
   }
 
@@ -244,26 +259,21 @@ class GetFranchiseUseCaseTest {
     void shouldBeReadOnlyOperation() {
       // Arrange
       UUID franchiseId = UUID.randomUUID();
-      Franchise franchise =
-          Franchise.builder()
-              .id(franchiseId)
-              .name("Test Franchise")
-              .branches(new ArrayList<>())
-              .build();
+      FranchiseSummary summary =
+          new FranchiseSummary(franchiseId, "Test Franchise", List.of(), 0, 0, 0);
 
-      FranchiseResponse expectedResponse =
-          new FranchiseResponse(franchiseId, "Test Franchise", new ArrayList<>());
+      FranchiseSummaryResponse expectedResponse =
+          new FranchiseSummaryResponse(franchiseId, "Test Franchise", new ArrayList<>(), 0, 0, 0);
 
-      given(franchiseRepository.findById(franchiseId)).willReturn(Optional.of(franchise));
-      given(mapper.toFranchiseResponse(franchise)).willReturn(expectedResponse);
+      given(franchiseSummaryRepository.findById(franchiseId)).willReturn(Optional.of(summary));
+      given(mapper.toFranchiseSummaryResponse(summary)).willReturn(expectedResponse);
 
       // Act
       getFranchiseUseCase.execute(franchiseId);
 
       // Assert - Solo debe haber operaciones de lectura
-      verify(franchiseRepository).findById(franchiseId);
-      verify(franchiseRepository, org.mockito.Mockito.never())
-          .save(org.mockito.ArgumentMatchers.any());
+      verify(franchiseSummaryRepository).findById(franchiseId);
+      org.mockito.Mockito.verifyNoMoreInteractions(franchiseSummaryRepository);
     }
   }
 }
@@ -0,0 +1,69 @@
+package com.accenture.franchise.application.usecase.franchise;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import com.accenture.franchise.domain.exception.EntityNotFoundException;
+import com.accenture.franchise.domain.repository.FranchiseSummaryRepository;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/** Pruebas unitarias para {@link GetFranchiseVersionUseCase}. */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetFranchiseVersionUseCase - Pruebas Unitarias")
+class GetFranchiseVersionUseCaseTest {
+
+  @Mock private FranchiseSummaryRepository franchiseSummaryRepository;
+
+  @InjectMocks private GetFranchiseVersionUseCase getFranchiseVersionUseCase;
+
+  @Nested
+  @DisplayName("Casos de éxito")
+  class SuccessCases {
+
+    @Test
+    @DisplayName("Debe retornar la versión leyendo solo la versión del resumen")
+    void shouldReturnVersionReadingOnlySummaryVersion() {
+      // Arrange
+      UUID franchiseId = UUID.randomUUID();
+      given(franchiseSummaryRepository.findVersionById(franchiseId)).willReturn(Optional.of(7L));
+
+      // Act
+      long version = getFranchiseVersionUseCase.execute(franchiseId);
+
+      // Assert
+      assertThat(version).isEqualTo(7L);
+      verify(franchiseSummaryRepository).findVersionById(franchiseId);
+      verifyNoMoreInteractions(franchiseSummaryRepository);
+    }
+  }
+
+  @Nested
+  @DisplayName("Casos de error")
+  class ErrorCases {
+
+    @Test
+    @DisplayName("Debe lanzar EntityNotFoundException cuando la franquicia no existe")
+    void shouldThrowEntityNotFoundExceptionWhenFranchiseNotFound() {
+      // Arrange
+      UUID nonExistentId = UUID.randomUUID();
+      given(franchiseSummaryRepository.findVersionById(nonExistentId)).willReturn(Optional.empty());
+
+      // Act & Assert
+      assertThatThrownBy(() -> getFranchiseVersionUseCase.execute(nonExistentId))
+          .isInstanceOf(EntityNotFoundException.class)
+          .hasMessageContaining("Franchise")
+          .hasMessageContaining(nonExistentId.toString());
+    }
+  }
+}
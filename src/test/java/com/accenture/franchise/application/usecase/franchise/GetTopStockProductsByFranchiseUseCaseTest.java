@@ -2,19 +2,18 @@ package com.accenture.franchise.application.usecase.franchise;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.accenture.franchise.application.dto.ProductStockResponse;
 import com.accenture.franchise.application.dto.mapper.DtoMapper;
 import com.accenture.franchise.domain.exception.EntityNotFoundException;
-import com.accenture.franchise.domain.model.Branch;
-import com.accenture.franchise.domain.model.Franchise;
-import com.accenture.franchise.domain.model.Product;
 import com.accenture.franchise.domain.model.ProductStock;
 import com.accenture.franchise.domain.repository.FranchiseRepository;
+import com.accenture.franchise.domain.repository.ProductRepository;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -42,6 +41,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class GetTopStockProductsByFranchiseUseCaseTest {
 
   @Mock private FranchiseRepository franchiseRepository;
+  @Mock private ProductRepository productRepository;
   @Mock private DtoMapper mapper;
 
   @InjectMocks private GetTopStockProductsByFranchiseUseCase getTopStockProductsByFranchiseUseCase;
@@ -58,23 +58,14 @@ class GetTopStockProductsByFranchiseUseCaseTest {
       UUID branchId = UUID.randomUUID();
       UUID productId = UUID.randomUUID();
 
-      Franchise franchise = Franchise.builder().id(franchiseId).name("Franchise Test").build();
-
-      Branch branch1 =
-          Branch.builder().id(branchId).name("Branch 1").franchiseId(franchiseId).build();
-
-      Product product1 =
-          Product.builder().id(productId).name("Product 1").stock(100).branchId(branchId).build();
-
-      branch1.addProduct(product1);
-      franchise.addBranch(branch1);
-
       ProductStock productStock =
           new ProductStock(productId, "Product 1", 100, branchId, "Branch 1");
       ProductStockResponse response1 =
           new ProductStockResponse(productId, "Product 1", 100, branchId, "Branch 1");
 
-      given(franchiseRepository.findById(franchiseId)).willReturn(Optional.of(franchise));
+      given(franchiseRepository.existsById(franchiseId)).willReturn(true);
+      given(productRepository.findTopStockByFranchiseId(franchiseId))
+          .willReturn(List.of(productStock));
       given(mapper.toProductStockResponse(productStock)).willReturn(response1);
 
       // Act
@@ -87,7 +78,8 @@ class GetTopStockProductsByFranchiseUseCaseTest {
       assertThat(result.get(0).productName()).isEqualTo("Product 1");
       assertThat(result.get(0).stock()).isEqualTo(100);
 
-      verify(franchiseRepository).findById(franchiseId);
+      verify(franchiseRepository).existsById(franchiseId);
+      verify(productRepository).findTopStockByFranchiseId(franchiseId);
       verify(mapper).toProductStockResponse(productStock);
     }
 
@@ -101,37 +93,18 @@ class GetTopStockProductsByFranchiseUseCaseTest {
       UUID product1Id = UUID.randomUUID();
       UUID product2Id = UUID.randomUUID();
 
-      Franchise franchise = Franchise.builder().id(franchiseId).name("Franchise Test").build();
-
-      Branch branch1 =
-          Branch.builder().id(branch1Id).name("Branch 1").franchiseId(franchiseId).build();
-
-      Branch branch2 =
-          Branch.builder().id(branch2Id).name("Branch 2").franchiseId(franchiseId).build();
-
-      Product product1 =
-          Product.builder().id(product1Id).name("Product 1").stock(100).branchId(branch1Id).build();
-
-      Product product2 =
-          Product.builder().id(product2Id).name("Product 2").stock(200).branchId(branch2Id).build();
-
-      branch1.addProduct(product1);
-      branch2.addProduct(product2);
-      franchise.addBranch(branch1);
-      franchise.addBranch(branch2);
-
       ProductStock productStock1 =
           new ProductStock(product1Id, "Product 1", 100, branch1Id, "Branch 1");
       ProductStock productStock2 =
           new ProductStock(product2Id, "Product 2", 200, branch2Id, "Branch 2");
-
       ProductStockResponse response1 =
           new ProductStockResponse(product1Id, "Product 1", 100, branch1Id, "Branch 1");
-
       ProductStockResponse response2 =
           new ProductStockResponse(product2Id, "Product 2", 200, branch2Id, "Branch 2");
 
-      given(franchiseRepository.findById(franchiseId)).willReturn(Optional.of(franchise));
+      given(franchiseRepository.existsById(franchiseId)).willReturn(true);
+      given(productRepository.findTopStockByFranchiseId(franchiseId))
+          .willReturn(List.of(productStock1, productStock2));
       given(mapper.toProductStockResponse(productStock1)).willReturn(response1);
       given(mapper.toProductStockResponse(productStock2)).willReturn(response2);
 
@@ -140,23 +113,23 @@ class GetTopStockProductsByFranchiseUseCaseTest {
           getTopStockProductsByFranchiseUseCase.execute(franchiseId);
 
       // Assert
-      assertThat(result).isNotNull();
       assertThat(result).hasSize(2);
+      assertThat(result)
+          .extracting(ProductStockResponse::branchName)
+          .containsExactly("Branch 1", "Branch 2");
 
-      verify(franchiseRepository).findById(franchiseId);
       verify(mapper).toProductStockResponse(productStock1);
       verify(mapper).toProductStockResponse(productStock2);
     }
 
     @Test
-    @DisplayName("Debe retornar lista vacía cuando la franquicia no tiene sucursales")
-    void shouldReturnEmptyListWhenFranchiseHasNoBranches() {
+    @DisplayName("Debe retornar lista vacía cuando ninguna sucursal tiene productos")
+    void shouldReturnEmptyListWhenNoBranchHasProducts() {
       // Arrange
       UUID franchiseId = UUID.randomUUID();
 
-      Franchise franchise = Franchise.builder().id(franchiseId).name("Franchise Test").build();
-
-      given(franchiseRepository.findById(franchiseId)).willReturn(Optional.of(franchise));
+      given(franchiseRepository.existsById(franchiseId)).willReturn(true);
+      given(productRepository.findTopStockByFranchiseId(franchiseId)).willReturn(List.of());
 
       // Act
       List<ProductStockResponse> result =
@@ -166,33 +139,7 @@ class GetTopStockProductsByFranchiseUseCaseTest {
       assertThat(result).isNotNull();
       assertThat(result).isEmpty();
 
-      verify(franchiseRepository).findById(franchiseId);
-    }
-
-    @Test
-    @DisplayName("Debe retornar lista vacía cuando las sucursales no tienen productos")
-    void shouldReturnEmptyListWhenBranchesHaveNoProducts() {
-      // Arrange
-      UUID franchiseId = UUID.randomUUID();
-
-      Franchise franchise = Franchise.builder().id(franchiseId).name("Franchise Test").build();
-
-      Branch branch1 =
-          Branch.builder().id(UUID.randomUUID()).name("Branch 1").franchiseId(franchiseId).build();
-
-      franchise.addBranch(branch1);
-
-      given(franchiseRepository.findById(franchiseId)).willReturn(Optional.of(franchise));
-
-      // Act
-      List<ProductStockResponse> result =
-          getTopStockProductsByFranchiseUseCase.execute(franchiseId);
-
-      // Assert
-      assertThat(result).isNotNull();
-      assertThat(result).isEmpty();
-
-      verify(franchiseRepository).findById(franchiseId);
+      verify(mapper, never()).toProductStockResponse(any());
     }
 
     @Test
@@ -203,29 +150,14 @@ class GetTopStockProductsByFranchiseUseCaseTest {
       UUID branchId = UUID.randomUUID();
       UUID productId = UUID.randomUUID();
 
-      Franchise franchise = Franchise.builder().id(franchiseId).name("Franchise Test").build();
-
-      Branch branch =
-          Branch.builder().id(branchId).name("Branch Test").franchiseId(franchiseId).build();
-
-      Product product =
-          Product.builder()
-              .id(productId)
-              .name("Product Test")
-              .stock(500)
-              .branchId(branchId)
-              .build();
-
-      branch.addProduct(product);
-      franchise.addBranch(branch);
-
       ProductStock productStock =
           new ProductStock(productId, "Product Test", 500, branchId, "Branch Test");
-
       ProductStockResponse response =
           new ProductStockResponse(productId, "Product Test", 500, branchId, "Branch Test");
 
-      given(franchiseRepository.findById(franchiseId)).willReturn(Optional.of(franchise));
+      given(franchiseRepository.existsById(franchiseId)).willReturn(true);
+      given(productRepository.findTopStockByFranchiseId(franchiseId))
+          .willReturn(List.of(productStock));
       given(mapper.toProductStockResponse(productStock)).willReturn(response);
 
       // Act
@@ -241,49 +173,6 @@ class GetTopStockProductsByFranchiseUseCaseTest {
       assertThat(productResponse.productName()).isEqualTo("Product Test");
       assertThat(productResponse.stock()).isEqualTo(500);
     }
-
-    @Test
-    @DisplayName("Debe procesar correctamente franquicia con stock variado")
-    void shouldProcessFranchiseWithVariedStockCorrectly() {
-      // Arrange
-      UUID franchiseId = UUID.randomUUID();
-      UUID branchId = UUID.randomUUID();
-      UUID productId = UUID.randomUUID();
-
-      Franchise franchise = Franchise.builder().id(franchiseId).name("Franchise Test").build();
-
-      Branch branch =
-          Branch.builder().id(branchId).name("Branch 1").franchiseId(franchiseId).build();
-
-      Product highStock =
-          Product.builder()
-              .id(productId)
-              .name("High Stock Product")
-              .stock(1000)
-              .branchId(branchId)
-              .build();
-
-      branch.addProduct(highStock);
-      franchise.addBranch(branch);
-
-      ProductStock productStock =
-          new ProductStock(productId, "High Stock Product", 1000, branchId, "Branch 1");
-
-      ProductStockResponse response =
-          new ProductStockResponse(productId, "High Stock Product", 1000, branchId, "Branch 1");
-
-      given(franchiseRepository.findById(franchiseId)).willReturn(Optional.of(franchise));
-      given(mapper.toProductStockResponse(productStock)).willReturn(response);
-
-      // Act
-      List<ProductStockResponse> result =
-          getTopStockProductsByFranchiseUseCase.execute(franchiseId);
-
-      // Assert
-      assertThat(result).isNotNull();
-      assertThat(result).hasSize(1);
-      assertThat(result.get(0).stock()).isEqualTo(1000);
-    }
   }
 
   @Nested
@@ -296,7 +185,7 @@ class GetTopStockProductsByFranchiseUseCaseTest {
       // Arrange
       UUID nonExistentId = UUID.randomUUID();
 
-      given(franchiseRepository.findById(nonExistentId)).willReturn(Optional.empty());
+      given(franchiseRepository.existsById(nonExistentId)).willReturn(false);
 
       // Act & Assert
       assertThatThrownBy(() -> getTopStockProductsByFranchiseUseCase.execute(nonExistentId))
@@ -304,7 +193,7 @@ class GetTopStockProductsByFranchiseUseCaseTest {
           .hasMessageContaining("Franchise")
           .hasMessageContaining(nonExistentId.toString());
 
-      verify(franchiseRepository).findById(nonExistentId);
+      verify(productRepository, never()).findTopStockByFranchiseId(any());
     }
 
     @Test
@@ -312,16 +201,15 @@ class GetTopStockProductsByFranchiseUseCaseTest {
     void shouldPropagateRepositoryExceptions() {
       // Arrange
       UUID franchiseId = UUID.randomUUID();
-      RuntimeException repositoryException = new RuntimeException("Database error");
 
-      given(franchiseRepository.findById(franchiseId)).willThrow(repositoryException);
+      given(franchiseRepository.existsById(franchiseId)).willReturn(true);
+      given(productRepository.findTopStockByFranchiseId(franchiseId))
+          .willThrow(new RuntimeException("Database error"));
 
       // Act & Assert
       assertThatThrownBy(() -> getTopStockProductsByFranchiseUseCase.execute(franchiseId))
           .isInstanceOf(RuntimeException.class)
           .hasMessage("Database error");
-
-      verify(franchiseRepository).findById(franchiseId);
     }
 
     @Test
@@ -329,24 +217,12 @@ class GetTopStockProductsByFranchiseUseCaseTest {
     void shouldHandleMapperErrors() {
       // Arrange
       UUID franchiseId = UUID.randomUUID();
-      UUID branchId = UUID.randomUUID();
-      UUID productId = UUID.randomUUID();
-
-      Franchise franchise = Franchise.builder().id(franchiseId).name("Franchise Test").build();
-
-      Branch branch =
-          Branch.builder().id(branchId).name("Branch 1").franchiseId(franchiseId).build();
-
-      Product product =
-          Product.builder().id(productId).name("Product 1").stock(100).branchId(branchId).build();
-
-      branch.addProduct(product);
-      franchise.addBranch(branch);
-
       ProductStock productStock =
-          new ProductStock(productId, "Product 1", 100, branchId, "Branch 1");
+          new ProductStock(UUID.randomUUID(), "Product 1", 100, UUID.randomUUID(), "Branch 1");
 
-      given(franchiseRepository.findById(franchiseId)).willReturn(Optional.of(franchise));
+      given(franchiseRepository.existsById(franchiseId)).willReturn(true);
+      given(productRepository.findTopStockByFranchiseId(franchiseId))
+          .willReturn(List.of(productStock));
       given(mapper.toProductStockResponse(productStock))
           .willThrow(new RuntimeException("Mapping error"));
 
@@ -354,8 +230,6 @@ class GetTopStockProductsByFranchiseUseCaseTest {
       assertThatThrownBy(() -> getTopStockProductsByFranchiseUseCase.execute(franchiseId))
           .isInstanceOf(RuntimeException.class)
           .hasMessage("Mapping error");
-
-      verify(franchiseRepository).findById(franchiseId);
     }
   }
 
@@ -376,56 +250,14 @@ class GetTopStockProductsByFranchiseUseCaseTest {
   @DisplayName("Casos de integración")
   class IntegrationCases {
 
-    @Test
-    @DisplayName("Debe manejar correctamente el flujo completo de obtención de productos")
-    void shouldHandleCompleteFlowCorrectly() {
-      // Arrange
-      UUID franchiseId = UUID.randomUUID();
-      UUID branchId = UUID.randomUUID();
-      UUID productId = UUID.randomUUID();
-
-      Franchise franchise = Franchise.builder().id(franchiseId).name("Franchise Test").build();
-
-      Branch branch =
-          Branch.builder().id(branchId).name("Branch 1").franchiseId(franchiseId).build();
-
-      Product product =
-          Product.builder().id(productId).name("Product 1").stock(100).branchId(branchId).build();
-
-      branch.addProduct(product);
-      franchise.addBranch(branch);
-
-      ProductStock productStock =
-          new ProductStock(productId, "Product 1", 100, branchId, "Branch 1");
-
-      ProductStockResponse response =
-          new ProductStockResponse(productId, "Product 1", 100, branchId, "Branch 1");
-
-      given(franchiseRepository.findById(franchiseId)).willReturn(Optional.of(franchise));
-      given(mapper.toProductStockResponse(productStock)).willReturn(response);
-
-      // Act
-      List<ProductStockResponse> result =
-          getTopStockProductsByFranchiseUseCase.execute(franchiseId);
-
-      // Assert
-      assertThat(result).isNotNull();
-      assertThat(result).hasSize(1);
-      assertThat(result.get(0)).isNotNull();
-
-      verify(franchiseRepository).findById(franchiseId);
-      verify(mapper).toProductStockResponse(productStock);
-    }
-
     @Test
     @DisplayName("Debe retornar lista inmutable o nueva instancia")
     void shouldReturnNewListInstance() {
       // Arrange
       UUID franchiseId = UUID.randomUUID();
 
-      Franchise franchise = Franchise.builder().id(franchiseId).name("Franchise Test").build();
-
-      given(franchiseRepository.findById(franchiseId)).willReturn(Optional.of(franchise));
+      given(franchiseRepository.existsById(franchiseId)).willReturn(true);
+      given(productRepository.findTopStockByFranchiseId(franchiseId)).willReturn(List.of());
 
       // Act
       List<ProductStockResponse> result1 =
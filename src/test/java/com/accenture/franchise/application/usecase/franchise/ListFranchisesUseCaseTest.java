@@ -0,0 +1,148 @@
+package com.accenture.franchise.application.usecase.franchise;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.accenture.franchise.application.dto.FranchiseResponse;
+import com.accenture.franchise.application.dto.KeysetCursor;
+import com.accenture.franchise.application.dto.PageResponse;
+import com.accenture.franchise.application.dto.mapper.DtoMapper;
+import com.accenture.franchise.domain.model.Franchise;
+import com.accenture.franchise.domain.repository.FranchiseRepository;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Pruebas unitarias para {@link ListFranchisesUseCase}.
+ *
+ * <p>Siguiendo mejores prácticas:
+ *
+ * <ul>
+ *   <li>Uso de Mockito para mocks y JUnit 5 para assertions
+ *   <li>Patrón AAA (Arrange-Act-Assert)
+ *   <li>Tests independientes y aislados
+ *   <li>Uso de BDDMockito para mejorar legibilidad
+ *   <li>Tests organizados con @Nested para agrupar casos relacionados
+ * </ul>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ListFranchisesUseCase - Pruebas Unitarias")
+class ListFranchisesUseCaseTest {
+
+  @Mock private FranchiseRepository franchiseRepository;
+  @Mock private DtoMapper mapper;
+
+  @InjectMocks private ListFranchisesUseCase listFranchisesUseCase;
+
+  private Franchise givenFranchise(String name) {
+    Franchise franchise = Franchise.builder().id(UUID.randomUUID()).name(name).build();
+    given(mapper.toFranchiseResponse(franchise))
+        .willReturn(new FranchiseResponse(franchise.getId(), name, null));
+    return franchise;
+  }
+
+  @Nested
+  @DisplayName("Casos de éxito")
+  class SuccessCases {
+
+    @Test
+    @DisplayName("Debe devolver el cursor de la última franquicia cuando hay más páginas")
+    void shouldReturnCursorOfLastFranchiseWhenMorePagesExist() {
+      // Arrange
+      Franchise first = givenFranchise("Burger King");
+      Franchise second = givenFranchise("KFC");
+      Franchise extra = Franchise.builder().id(UUID.randomUUID()).name("Subway").build();
+
+      given(franchiseRepository.findPageOrderedByName(null, null, 3))
+          .willReturn(List.of(first, second, extra));
+
+      // Act
+      PageResponse<FranchiseResponse> result = listFranchisesUseCase.execute(null, 2);
+
+      // Assert
+      assertThat(result.items())
+          .extracting(FranchiseResponse::name)
+          .containsExactly("Burger King", "KFC");
+      assertThat(KeysetCursor.decode(result.nextCursor(), 2))
+          .containsExactly("KFC", second.getId().toString());
+    }
+
+    @Test
+    @DisplayName("Debe omitir el cursor en la última página")
+    void shouldOmitCursorOnLastPage() {
+      // Arrange
+      Franchise franchise = givenFranchise("Subway");
+
+      given(franchiseRepository.findPageOrderedByName(null, null, 3))
+          .willReturn(List.of(franchise));
+
+      // Act
+      PageResponse<FranchiseResponse> result = listFranchisesUseCase.execute(" ", 2);
+
+      // Assert
+      assertThat(result.items()).hasSize(1);
+      assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe continuar desde la clave codificada en el cursor")
+    void shouldContinueFromKeyEncodedInCursor() {
+      // Arrange
+      UUID afterId = UUID.randomUUID();
+      String cursor = KeysetCursor.encode("KFC", afterId);
+
+      given(franchiseRepository.findPageOrderedByName("KFC", afterId, 21)).willReturn(List.of());
+
+      // Act
+      PageResponse<FranchiseResponse> result = listFranchisesUseCase.execute(cursor, 20);
+
+      // Assert
+      assertThat(result.items()).isEmpty();
+      assertThat(result.nextCursor()).isNull();
+      verify(franchiseRepository).findPageOrderedByName("KFC", afterId, 21);
+    }
+  }
+
+  @Nested
+  @DisplayName("Casos de validación")
+  class ValidationCases {
+
+    @ParameterizedTest(name = "size = {0}")
+    @ValueSource(ints = {0, -1, ListFranchisesUseCase.MAX_PAGE_SIZE + 1})
+    @DisplayName("Debe rechazar tamaños de página fuera de rango")
+    void shouldRejectPageSizeOutOfRange(int size) {
+      // Act & Assert
+      assertThatThrownBy(() -> listFranchisesUseCase.execute(null, size))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("Page size");
+
+      verify(franchiseRepository, never()).findPageOrderedByName(any(), any(), anyInt());
+    }
+
+    @ParameterizedTest(name = "cursor = {0}")
+    @ValueSource(strings = {"%%%", "S0ZD", "S0ZDH25vLWVzLXV1aWQ"})
+    @DisplayName("Debe rechazar cursores inválidos")
+    void shouldRejectInvalidCursor(String cursor) {
+      // Act & Assert
+      assertThatThrownBy(() -> listFranchisesUseCase.execute(cursor, 20))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Invalid page cursor");
+
+      verify(franchiseRepository, never()).findPageOrderedByName(any(), any(), anyInt());
+    }
+  }
+}
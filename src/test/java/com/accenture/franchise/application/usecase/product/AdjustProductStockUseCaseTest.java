@@ -0,0 +1,166 @@
+package com.accenture.franchise.application.usecase.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.accenture.franchise.application.dto.AdjustProductStockRequest;
+import com.accenture.franchise.application.dto.ProductResponse;
+import com.accenture.franchise.application.dto.mapper.DtoMapper;
+import com.accenture.franchise.domain.exception.BusinessRuleViolationException;
+import com.accenture.franchise.domain.exception.EntityNotFoundException;
+import com.accenture.franchise.domain.model.Product;
+import com.accenture.franchise.domain.repository.ProductRepository;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Pruebas unitarias para {@link AdjustProductStockUseCase}.
+ *
+ * <p>Siguiendo mejores prácticas:
+ *
+ * <ul>
+ *   <li>Uso de Mockito para mocks y JUnit 5 para assertions
+ *   <li>Patrón AAA (Arrange-Act-Assert)
+ *   <li>Tests independientes y aislados
+ *   <li>Uso de BDDMockito para mejorar legibilidad
+ *   <li>Tests organizados con @Nested para agrupar casos relacionados
+ * </ul>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AdjustProductStockUseCase - Pruebas Unitarias")
+class AdjustProductStockUseCaseTest {
+
+  @Mock private ProductRepository productRepository;
+
+  @Mock private DtoMapper mapper;
+
+  @InjectMocks private AdjustProductStockUseCase adjustProductStockUseCase;
+
+  @Nested
+  @DisplayName("Casos de éxito")
+  class SuccessCases {
+
+    @Test
+    @DisplayName("Debe restar stock en una sola operación del repositorio")
+    void shouldDecrementStockInSingleRepositoryCall() {
+      // Arrange
+      UUID productId = UUID.randomUUID();
+      UUID branchId = UUID.randomUUID();
+      AdjustProductStockRequest request = new AdjustProductStockRequest(-3);
+
+      Product adjustedProduct =
+          Product.builder()
+              .id(productId)
+              .name("Hamburguesa")
+              .stock(7)
+              .branchId(branchId)
+              .version(2L)
+              .build();
+
+      ProductResponse expectedResponse =
+          new ProductResponse(productId, "Hamburguesa", 7, branchId, 2L);
+
+      given(productRepository.adjustStock(productId, -3)).willReturn(Optional.of(adjustedProduct));
+      given(mapper.toProductResponse(adjustedProduct)).willReturn(expectedResponse);
+
+      // Act
+      ProductResponse result = adjustProductStockUseCase.execute(productId, request);
+
+      // Assert
+      assertThat(result.stock()).isEqualTo(7);
+      assertThat(result.version()).isEqualTo(2L);
+
+      verify(productRepository).adjustStock(productId, -3);
+      verify(productRepository, never()).findById(any());
+      verify(productRepository, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("Debe sumar stock cuando el ajuste es positivo")
+    void shouldIncrementStockWhenDeltaIsPositive() {
+      // Arrange
+      UUID productId = UUID.randomUUID();
+      AdjustProductStockRequest request = new AdjustProductStockRequest(5);
+
+      Product adjustedProduct = Product.builder().id(productId).name("Pizza").stock(15).build();
+
+      given(productRepository.adjustStock(productId, 5)).willReturn(Optional.of(adjustedProduct));
+      given(mapper.toProductResponse(adjustedProduct))
+          .willReturn(new ProductResponse(productId, "Pizza", 15, null));
+
+      // Act
+      ProductResponse result = adjustProductStockUseCase.execute(productId, request);
+
+      // Assert
+      assertThat(result.stock()).isEqualTo(15);
+    }
+  }
+
+  @Nested
+  @DisplayName("Casos de error")
+  class ErrorCases {
+
+    @Test
+    @DisplayName("Debe lanzar BusinessRuleViolationException cuando el stock no alcanza")
+    void shouldThrowBusinessRuleViolationExceptionWhenStockIsInsufficient() {
+      // Arrange
+      UUID productId = UUID.randomUUID();
+      AdjustProductStockRequest request = new AdjustProductStockRequest(-50);
+
+      given(productRepository.adjustStock(productId, -50)).willReturn(Optional.empty());
+      given(productRepository.existsById(productId)).willReturn(true);
+
+      // Act & Assert
+      assertThatThrownBy(() -> adjustProductStockUseCase.execute(productId, request))
+          .isInstanceOf(BusinessRuleViolationException.class)
+          .hasMessageContaining("Insufficient stock")
+          .hasMessageContaining(productId.toString());
+
+      verify(mapper, never()).toProductResponse(any(Product.class));
+    }
+
+    @Test
+    @DisplayName("Debe lanzar EntityNotFoundException cuando el producto no existe")
+    void shouldThrowEntityNotFoundExceptionWhenProductNotFound() {
+      // Arrange
+      UUID nonExistentId = UUID.randomUUID();
+      AdjustProductStockRequest request = new AdjustProductStockRequest(-1);
+
+      given(productRepository.adjustStock(nonExistentId, -1)).willReturn(Optional.empty());
+      given(productRepository.existsById(nonExistentId)).willReturn(false);
+
+      // Act & Assert
+      assertThatThrownBy(() -> adjustProductStockUseCase.execute(nonExistentId, request))
+          .isInstanceOf(EntityNotFoundException.class)
+          .hasMessageContaining("Product")
+          .hasMessageContaining(nonExistentId.toString());
+    }
+
+    @Test
+    @DisplayName("Debe propagar IllegalArgumentException cuando el ajuste es cero")
+    void shouldPropagateIllegalArgumentExceptionWhenDeltaIsZero() {
+      // Arrange
+      UUID productId = UUID.randomUUID();
+      AdjustProductStockRequest request = new AdjustProductStockRequest(0);
+
+      // Act & Assert
+      assertThatThrownBy(() -> adjustProductStockUseCase.execute(productId, request))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("Stock delta must be a non-zero number");
+
+      verify(productRepository, never()).adjustStock(any(), anyInt());
+    }
+  }
+}
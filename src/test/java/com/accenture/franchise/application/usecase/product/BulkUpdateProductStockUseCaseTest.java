@@ -0,0 +1,134 @@
+package com.accenture.franchise.application.usecase.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.accenture.franchise.application.dto.BulkUpdateProductStockRequest;
+import com.accenture.franchise.application.dto.BulkUpdateProductStockRequest.Item;
+import com.accenture.franchise.application.dto.BulkUpdateProductStockResponse;
+import com.accenture.franchise.application.dto.BulkUpdateProductStockResponse.ItemResult;
+import com.accenture.franchise.application.dto.BulkUpdateProductStockResponse.Status;
+import com.accenture.franchise.domain.model.StockChange;
+import com.accenture.franchise.domain.repository.ProductRepository;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Pruebas unitarias para {@link BulkUpdateProductStockUseCase}.
+ *
+ * <p>Siguiendo mejores prácticas:
+ *
+ * <ul>
+ *   <li>Uso de Mockito para mocks y JUnit 5 para assertions
+ *   <li>Patrón AAA (Arrange-Act-Assert)
+ *   <li>Tests independientes y aislados
+ *   <li>Uso de BDDMockito para mejorar legibilidad
+ *   <li>Tests organizados con @Nested para agrupar casos relacionados
+ * </ul>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkUpdateProductStockUseCase - Pruebas Unitarias")
+class BulkUpdateProductStockUseCaseTest {
+
+  @Mock private ProductRepository productRepository;
+
+  @InjectMocks private BulkUpdateProductStockUseCase bulkUpdateProductStockUseCase;
+
+  @Nested
+  @DisplayName("Casos de éxito")
+  class SuccessCases {
+
+    @Test
+    @DisplayName("Debe enviar todos los elementos válidos en una sola llamada al repositorio")
+    void shouldSendAllValidItemsInSingleRepositoryCall() {
+      // Arrange
+      UUID first = UUID.randomUUID();
+      UUID second = UUID.randomUUID();
+      BulkUpdateProductStockRequest request =
+          new BulkUpdateProductStockRequest(List.of(new Item(first, 10), new Item(second, 0)));
+
+      given(productRepository.updateStocks(any())).willReturn(Set.of(first, second));
+
+      // Act
+      BulkUpdateProductStockResponse result = bulkUpdateProductStockUseCase.execute(request);
+
+      // Assert
+      assertThat(result.updated()).isEqualTo(2);
+      assertThat(result.notFound()).isZero();
+      assertThat(result.rejected()).isZero();
+      assertThat(result.results()).extracting(ItemResult::status).containsOnly(Status.UPDATED);
+
+      verify(productRepository)
+          .updateStocks(List.of(new StockChange(first, 10), new StockChange(second, 0)));
+    }
+
+    @Test
+    @DisplayName("Debe informar el resultado de cada elemento en el orden de la petición")
+    void shouldReportEachItemInRequestOrder() {
+      // Arrange
+      UUID existing = UUID.randomUUID();
+      UUID missing = UUID.randomUUID();
+      UUID invalid = UUID.randomUUID();
+      BulkUpdateProductStockRequest request =
+          new BulkUpdateProductStockRequest(
+              List.of(new Item(existing, 5), new Item(invalid, -1), new Item(missing, 7)));
+
+      given(productRepository.updateStocks(any())).willReturn(Set.of(existing));
+
+      // Act
+      BulkUpdateProductStockResponse result = bulkUpdateProductStockUseCase.execute(request);
+
+      // Assert
+      assertThat(result.updated()).isEqualTo(1);
+      assertThat(result.notFound()).isEqualTo(1);
+      assertThat(result.rejected()).isEqualTo(1);
+      assertThat(result.results())
+          .extracting(ItemResult::productId, ItemResult::status)
+          .containsExactly(
+              tuple(existing, Status.UPDATED),
+              tuple(invalid, Status.REJECTED),
+              tuple(missing, Status.NOT_FOUND));
+      assertThat(result.results().get(1).message()).isEqualTo("Stock must be a positive number");
+
+      verify(productRepository)
+          .updateStocks(List.of(new StockChange(existing, 5), new StockChange(missing, 7)));
+    }
+  }
+
+  @Nested
+  @DisplayName("Casos de validación")
+  class ValidationCases {
+
+    @Test
+    @DisplayName("Debe rechazar elementos sin ID o sin stock sin llamar al repositorio")
+    void shouldRejectInvalidItemsWithoutCallingRepository() {
+      // Arrange
+      BulkUpdateProductStockRequest request =
+          new BulkUpdateProductStockRequest(
+              List.of(new Item(null, 10), new Item(UUID.randomUUID(), null)));
+
+      // Act
+      BulkUpdateProductStockResponse result = bulkUpdateProductStockUseCase.execute(request);
+
+      // Assert
+      assertThat(result.rejected()).isEqualTo(2);
+      assertThat(result.results())
+          .extracting(ItemResult::message)
+          .containsExactly("Product ID is required", "Stock must be a positive number");
+
+      verify(productRepository, never()).updateStocks(any());
+    }
+  }
+}
@@ -0,0 +1,255 @@
+package com.accenture.franchise.application.usecase.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.accenture.franchise.application.dto.ImportProductRow;
+import com.accenture.franchise.application.dto.ProductImportBatchResponse;
+import com.accenture.franchise.application.dto.ProductImportResponse;
+import com.accenture.franchise.domain.exception.EntityNotFoundException;
+import com.accenture.franchise.domain.model.Product;
+import com.accenture.franchise.domain.repository.BranchRepository;
+import com.accenture.franchise.domain.repository.ProductRepository;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Pruebas unitarias para {@link ImportBranchProductsUseCase}.
+ *
+ * <p>Siguiendo mejores prácticas:
+ *
+ * <ul>
+ *   <li>Uso de Mockito para mocks y JUnit 5 para assertions
+ *   <li>Patrón AAA (Arrange-Act-Assert)
+ *   <li>Tests independientes y aislados
+ *   <li>Uso de BDDMockito para mejorar legibilidad
+ *   <li>Tests organizados con @Nested para agrupar casos relacionados
+ * </ul>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportBranchProductsUseCase - Pruebas Unitarias")
+class ImportBranchProductsUseCaseTest {
+
+  @Mock private BranchRepository branchRepository;
+
+  @Mock private ProductRepository productRepository;
+
+  private final UUID franchiseId = UUID.randomUUID();
+
+  private ImportBranchProductsUseCase importBranchProductsUseCase;
+
+  @BeforeEach
+  void setUp() {
+    importBranchProductsUseCase =
+        new ImportBranchProductsUseCase(
+            branchRepository, productRepository, TransactionOperations.withoutTransaction());
+  }
+
+  @Nested
+  @DisplayName("Casos de éxito")
+  class SuccessCases {
+
+    @Test
+    @DisplayName("Debe insertar por lotes de tamaño fijo sin consultas por fila")
+    void shouldInsertInFixedSizeBatches() {
+      // Arrange
+      UUID branchId = UUID.randomUUID();
+      int total = ImportBranchProductsUseCase.BATCH_SIZE * 2 + 1;
+      List<ImportProductRow> rows =
+          LongStream.rangeClosed(1, total)
+              .mapToObj(line -> new ImportProductRow(line, "Producto " + line, 1))
+              .toList();
+      List<Integer> batchSizes = new ArrayList<>();
+
+      given(branchRepository.findFranchiseIdById(branchId)).willReturn(Optional.of(franchiseId));
+      given(productRepository.insertIfAbsent(any(), anyList()))
+          .willAnswer(
+              invocation -> {
+                List<Product> batch = invocation.getArgument(1);
+                batchSizes.add(batch.size());
+                return batch.size();
+              });
+
+      // Act
+      ProductImportResponse result = importBranchProductsUseCase.execute(branchId, rows.iterator());
+
+      // Assert
+      assertThat(result.imported()).isEqualTo(total);
+      assertThat(result.completed()).isTrue();
+      assertThat(batchSizes)
+          .containsExactly(
+              ImportBranchProductsUseCase.BATCH_SIZE, ImportBranchProductsUseCase.BATCH_SIZE, 1);
+
+      verify(branchRepository, times(1)).findFranchiseIdById(branchId);
+      verify(productRepository, times(3)).insertIfAbsent(eq(franchiseId), anyList());
+      verify(productRepository, never()).existsByNameAndBranchId(any(), any());
+    }
+
+    @Test
+    @DisplayName("Debe contar como repetidas las filas que la base de datos omite")
+    void shouldCountSkippedRowsAsDuplicates() {
+      // Arrange
+      UUID branchId = UUID.randomUUID();
+      List<ImportProductRow> rows =
+          List.of(
+              new ImportProductRow(1, "Pizza", 10),
+              new ImportProductRow(2, "Pizza", 5),
+              new ImportProductRow(3, "  Tacos  ", 3));
+
+      given(branchRepository.findFranchiseIdById(branchId)).willReturn(Optional.of(franchiseId));
+      given(productRepository.insertIfAbsent(any(), anyList())).willReturn(2);
+
+      // Act
+      ProductImportResponse result = importBranchProductsUseCase.execute(branchId, rows.iterator());
+
+      // Assert
+      assertThat(result.imported()).isEqualTo(2);
+      assertThat(result.duplicates()).isEqualTo(1);
+      assertThat(result.rejected()).isZero();
+    }
+  }
+
+  @Nested
+  @DisplayName("Confirmación por lotes")
+  class BatchCases {
+
+    @Test
+    @DisplayName("Debe informar del resultado de cada lote con sus líneas de origen")
+    void shouldReportEveryBatchWithItsLines() {
+      // Arrange
+      UUID branchId = UUID.randomUUID();
+      int total = ImportBranchProductsUseCase.BATCH_SIZE + 2;
+      List<ImportProductRow> rows =
+          LongStream.rangeClosed(1, total)
+              .mapToObj(line -> new ImportProductRow(line, "Producto " + line, 1))
+              .toList();
+
+      given(branchRepository.findFranchiseIdById(branchId)).willReturn(Optional.of(franchiseId));
+      given(productRepository.insertIfAbsent(any(), anyList()))
+          .willAnswer(invocation -> invocation.<List<Product>>getArgument(1).size() - 1);
+
+      // Act
+      ProductImportResponse result = importBranchProductsUseCase.execute(branchId, rows.iterator());
+
+      // Assert
+      assertThat(result.batches())
+          .containsExactly(
+              new ProductImportBatchResponse(
+                  1,
+                  1,
+                  ImportBranchProductsUseCase.BATCH_SIZE,
+                  ImportBranchProductsUseCase.BATCH_SIZE - 1,
+                  1,
+                  true),
+              new ProductImportBatchResponse(
+                  2, ImportBranchProductsUseCase.BATCH_SIZE + 1, total, 1, 1, true));
+      assertThat(result.imported()).isEqualTo(total - 2);
+      assertThat(result.duplicates()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Debe detenerse en el lote que falla conservando los anteriores")
+    void shouldStopAtFailedBatchKeepingPreviousOnes() {
+      // Arrange
+      UUID branchId = UUID.randomUUID();
+      List<ImportProductRow> rows =
+          LongStream.rangeClosed(1, ImportBranchProductsUseCase.BATCH_SIZE * 3L)
+              .mapToObj(line -> new ImportProductRow(line, "Producto " + line, 1))
+              .toList();
+      Iterator<ImportProductRow> iterator = rows.iterator();
+
+      given(branchRepository.findFranchiseIdById(branchId)).willReturn(Optional.of(franchiseId));
+      given(productRepository.insertIfAbsent(any(), anyList()))
+          .willReturn(ImportBranchProductsUseCase.BATCH_SIZE)
+          .willThrow(new IllegalStateException("connection lost"));
+
+      // Act
+      ProductImportResponse result = importBranchProductsUseCase.execute(branchId, iterator);
+
+      // Assert
+      assertThat(result.completed()).isFalse();
+      assertThat(result.imported()).isEqualTo(ImportBranchProductsUseCase.BATCH_SIZE);
+      assertThat(result.batches())
+          .extracting(ProductImportBatchResponse::firstLine, ProductImportBatchResponse::committed)
+          .containsExactly(
+              tuple(1L, true), tuple(ImportBranchProductsUseCase.BATCH_SIZE + 1L, false));
+      assertThat(iterator.hasNext()).isTrue();
+      verify(productRepository, times(2)).insertIfAbsent(any(), anyList());
+    }
+  }
+
+  @Nested
+  @DisplayName("Casos de validación")
+  class ValidationCases {
+
+    @Test
+    @DisplayName("Debe rechazar filas inválidas e informar su número de línea")
+    void shouldRejectInvalidRowsWithLineNumber() {
+      // Arrange
+      UUID branchId = UUID.randomUUID();
+      List<ImportProductRow> rows =
+          List.of(
+              new ImportProductRow(1, " ", 10),
+              new ImportProductRow(2, "Pizza", -1),
+              new ImportProductRow(3, "x".repeat(101), 1));
+
+      given(branchRepository.findFranchiseIdById(branchId)).willReturn(Optional.of(franchiseId));
+
+      // Act
+      ProductImportResponse result = importBranchProductsUseCase.execute(branchId, rows.iterator());
+
+      // Assert
+      assertThat(result.rejected()).isEqualTo(3);
+      assertThat(result.errors())
+          .containsExactly(
+              "Line 1: Product name cannot be blank",
+              "Line 2: Stock must be a positive number",
+              "Line 3: Name must be between 1 and 100 characters");
+
+      verify(productRepository, never()).insertIfAbsent(any(), anyList());
+    }
+  }
+
+  @Nested
+  @DisplayName("Casos de error")
+  class ErrorCases {
+
+    @Test
+    @DisplayName("Debe lanzar EntityNotFoundException cuando la sucursal no existe")
+    void shouldThrowEntityNotFoundExceptionWhenBranchNotFound() {
+      // Arrange
+      UUID branchId = UUID.randomUUID();
+      given(branchRepository.findFranchiseIdById(branchId)).willReturn(Optional.empty());
+
+      // Act & Assert
+      assertThatThrownBy(
+              () ->
+                  importBranchProductsUseCase.execute(
+                      branchId, List.of(new ImportProductRow(1, "Pizza", 1)).iterator()))
+          .isInstanceOf(EntityNotFoundException.class)
+          .hasMessageContaining("Branch");
+
+      verify(productRepository, never()).insertIfAbsent(any(), anyList());
+    }
+  }
+}
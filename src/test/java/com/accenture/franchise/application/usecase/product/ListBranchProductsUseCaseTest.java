@@ -0,0 +1,172 @@
+package com.accenture.franchise.application.usecase.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.accenture.franchise.application.dto.KeysetCursor;
+import com.accenture.franchise.application.dto.PageResponse;
+import com.accenture.franchise.application.dto.ProductResponse;
+import com.accenture.franchise.application.dto.mapper.DtoMapper;
+import com.accenture.franchise.domain.exception.EntityNotFoundException;
+import com.accenture.franchise.domain.model.Product;
+import com.accenture.franchise.domain.repository.BranchRepository;
+import com.accenture.franchise.domain.repository.ProductRepository;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Pruebas unitarias para {@link ListBranchProductsUseCase}.
+ *
+ * <p>Siguiendo mejores prácticas:
+ *
+ * <ul>
+ *   <li>Uso de Mockito para mocks y JUnit 5 para assertions
+ *   <li>Patrón AAA (Arrange-Act-Assert)
+ *   <li>Tests independientes y aislados
+ *   <li>Uso de BDDMockito para mejorar legibilidad
+ *   <li>Tests organizados con @Nested para agrupar casos relacionados
+ * </ul>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ListBranchProductsUseCase - Pruebas Unitarias")
+class ListBranchProductsUseCaseTest {
+
+  @Mock private BranchRepository branchRepository;
+  @Mock private ProductRepository productRepository;
+  @Mock private DtoMapper mapper;
+
+  @InjectMocks private ListBranchProductsUseCase listBranchProductsUseCase;
+
+  private final UUID branchId = UUID.randomUUID();
+
+  private Product givenProduct(String name, int stock) {
+    Product product =
+        Product.builder().id(UUID.randomUUID()).name(name).stock(stock).branchId(branchId).build();
+    given(mapper.toProductResponse(product))
+        .willReturn(new ProductResponse(product.getId(), name, stock, branchId));
+    return product;
+  }
+
+  @Nested
+  @DisplayName("Casos de éxito")
+  class SuccessCases {
+
+    @Test
+    @DisplayName("Debe devolver el cursor del último producto cuando hay más páginas")
+    void shouldReturnCursorOfLastProductWhenMorePagesExist() {
+      // Arrange
+      Product first = givenProduct("Pizza", 50);
+      Product second = givenProduct("Hamburguesa", 20);
+      Product extra =
+          Product.builder().id(UUID.randomUUID()).name("Taco").stock(20).branchId(branchId).build();
+
+      given(branchRepository.existsById(branchId)).willReturn(true);
+      given(productRepository.findPageByBranchId(branchId, 10, null, null, null, 3))
+          .willReturn(List.of(first, second, extra));
+
+      // Act
+      PageResponse<ProductResponse> result =
+          listBranchProductsUseCase.execute(branchId, 10, null, null, 2);
+
+      // Assert
+      assertThat(result.items())
+          .extracting(ProductResponse::name)
+          .containsExactly("Pizza", "Hamburguesa");
+      assertThat(KeysetCursor.decode(result.nextCursor(), 2))
+          .containsExactly("20", second.getId().toString());
+    }
+
+    @Test
+    @DisplayName("Debe continuar desde la clave codificada en el cursor")
+    void shouldContinueFromKeyEncodedInCursor() {
+      // Arrange
+      UUID afterId = UUID.randomUUID();
+      String cursor = KeysetCursor.encode(20, afterId);
+      Product product = givenProduct("Taco", 20);
+
+      given(branchRepository.existsById(branchId)).willReturn(true);
+      given(productRepository.findPageByBranchId(branchId, null, 100, 20, afterId, 21))
+          .willReturn(List.of(product));
+
+      // Act
+      PageResponse<ProductResponse> result =
+          listBranchProductsUseCase.execute(branchId, null, 100, cursor, 20);
+
+      // Assert
+      assertThat(result.items()).hasSize(1);
+      assertThat(result.nextCursor()).isNull();
+    }
+  }
+
+  @Nested
+  @DisplayName("Casos de error")
+  class ErrorCases {
+
+    @Test
+    @DisplayName("Debe lanzar EntityNotFoundException cuando la sucursal no existe")
+    void shouldThrowEntityNotFoundExceptionWhenBranchNotFound() {
+      // Arrange
+      given(branchRepository.existsById(branchId)).willReturn(false);
+
+      // Act & Assert
+      assertThatThrownBy(() -> listBranchProductsUseCase.execute(branchId, null, null, null, 20))
+          .isInstanceOf(EntityNotFoundException.class)
+          .hasMessageContaining(branchId.toString());
+
+      verify(productRepository, never())
+          .findPageByBranchId(any(), any(), any(), any(), any(), anyInt());
+    }
+  }
+
+  @Nested
+  @DisplayName("Casos de validación")
+  class ValidationCases {
+
+    @ParameterizedTest(name = "size = {0}")
+    @ValueSource(ints = {0, ListBranchProductsUseCase.MAX_PAGE_SIZE + 1})
+    @DisplayName("Debe rechazar tamaños de página fuera de rango")
+    void shouldRejectPageSizeOutOfRange(int size) {
+      // Act & Assert
+      assertThatThrownBy(() -> listBranchProductsUseCase.execute(branchId, null, null, null, size))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("Page size");
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un stock mínimo mayor que el máximo")
+    void shouldRejectMinStockGreaterThanMaxStock() {
+      // Act & Assert
+      assertThatThrownBy(() -> listBranchProductsUseCase.execute(branchId, 50, 10, null, 20))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("Minimum stock");
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un cursor con un stock no numérico")
+    void shouldRejectCursorWithNonNumericStock() {
+      // Arrange
+      String cursor = KeysetCursor.encode("KFC", UUID.randomUUID());
+
+      // Act & Assert
+      assertThatThrownBy(() -> listBranchProductsUseCase.execute(branchId, null, null, cursor, 20))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Invalid page cursor");
+
+      verify(branchRepository, never()).existsById(any());
+    }
+  }
+}
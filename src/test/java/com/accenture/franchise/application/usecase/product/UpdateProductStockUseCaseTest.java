@@ -3,6 +3,7 @@ package com.accenture.franchise.application.usecase.product;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -11,6 +12,7 @@ import com.accenture.franchise.application.dto.ProductResponse;
 import com.accenture.franchise.application.dto.UpdateProductStockRequest;
 import com.accenture.franchise.application.dto.mapper.DtoMapper;
 import com.accenture.franchise.domain.exception.EntityNotFoundException;
+import com.accenture.franchise.domain.exception.VersionConflictException;
 import com.accenture.franchise.domain.model.Product;
 import com.accenture.franchise.domain.repository.ProductRepository;
 import java.util.Optional;
@@ -51,27 +53,30 @@ class UpdateProductStockUseCaseTest {
   class SuccessCases {
 
     @Test
-    @DisplayName("Debe actualizar stock de producto correctamente")
+    @DisplayName("Debe actualizar stock de producto en una sola operación del repositorio")
     void shouldUpdateProductStockSuccessfully() {
       // Arrange
       UUID productId = UUID.randomUUID();
       UUID branchId = UUID.randomUUID();
       String name = "Hamburguesa";
-      Integer oldStock = 50;
       Integer newStock = 100;
 
       UpdateProductStockRequest request = new UpdateProductStockRequest(newStock);
 
-      Product existingProduct =
-          Product.builder().id(productId).name(name).stock(oldStock).branchId(branchId).build();
-
       Product updatedProduct =
-          Product.builder().id(productId).name(name).stock(newStock).branchId(branchId).build();
+          Product.builder()
+              .id(productId)
+              .name(name)
+              .stock(newStock)
+              .branchId(branchId)
+              .version(4L)
+              .build();
 
-      ProductResponse expectedResponse = new ProductResponse(productId, name, newStock, branchId);
+      ProductResponse expectedResponse =
+          new ProductResponse(productId, name, newStock, branchId, 4L);
 
-      given(productRepository.findById(productId)).willReturn(Optional.of(existingProduct));
-      given(productRepository.save(any(Product.class))).willReturn(updatedProduct);
+      given(productRepository.updateStock(productId, newStock, null))
+          .willReturn(Optional.of(updatedProduct));
       given(mapper.toProductResponse(updatedProduct)).willReturn(expectedResponse);
 
       // Act
@@ -83,9 +88,11 @@ class UpdateProductStockUseCaseTest {
       assertThat(result.name()).isEqualTo(name);
       assertThat(result.stock()).isEqualTo(newStock);
       assertThat(result.branchId()).isEqualTo(branchId);
+      assertThat(result.version()).isEqualTo(4L);
 
-      verify(productRepository).findById(productId);
-      verify(productRepository).save(any(Product.class));
+      verify(productRepository).updateStock(productId, newStock, null);
+      verify(productRepository, never()).findById(any());
+      verify(productRepository, never()).save(any(Product.class));
       verify(mapper).toProductResponse(updatedProduct);
     }
 
@@ -96,21 +103,17 @@ class UpdateProductStockUseCaseTest {
       UUID productId = UUID.randomUUID();
       UUID branchId = UUID.randomUUID();
       String name = "Pizza";
-      Integer oldStock = 50;
       Integer newStock = 0;
 
       UpdateProductStockRequest request = new UpdateProductStockRequest(newStock);
 
-      Product existingProduct =
-          Product.builder().id(productId).name(name).stock(oldStock).branchId(branchId).build();
-
       Product updatedProduct =
           Product.builder().id(productId).name(name).stock(newStock).branchId(branchId).build();
 
       ProductResponse expectedResponse = new ProductResponse(productId, name, newStock, branchId);
 
-      given(productRepository.findById(productId)).willReturn(Optional.of(existingProduct));
-      given(productRepository.save(any(Product.class))).willReturn(updatedProduct);
+      given(productRepository.updateStock(productId, newStock, null))
+          .willReturn(Optional.of(updatedProduct));
       given(mapper.toProductResponse(updatedProduct)).willReturn(expectedResponse);
 
       // Act
@@ -118,138 +121,98 @@ class UpdateProductStockUseCaseTest {
 
       // Assert
       assertThat(result.stock()).isEqualTo(0);
-      verify(productRepository).save(any(Product.class));
+      verify(productRepository).updateStock(productId, 0, null);
     }
 
     @Test
-    @DisplayName("Debe actualizar stock manteniendo nombre y branchId intactos")
-    void shouldUpdateStockWhileKeepingNameAndBranchIdIntact() {
+    @DisplayName("Debe actualizar cuando la versión esperada coincide")
+    void shouldUpdateWhenExpectedVersionMatches() {
       // Arrange
       UUID productId = UUID.randomUUID();
       UUID branchId = UUID.randomUUID();
-      String originalName = "Tacos";
-      Integer oldStock = 25;
       Integer newStock = 75;
 
       UpdateProductStockRequest request = new UpdateProductStockRequest(newStock);
 
-      Product existingProduct =
-          Product.builder()
-              .id(productId)
-              .name(originalName)
-              .stock(oldStock)
-              .branchId(branchId)
-              .build();
-
       Product updatedProduct =
           Product.builder()
               .id(productId)
-              .name(originalName)
+              .name("Tacos")
               .stock(newStock)
               .branchId(branchId)
+              .version(3L)
               .build();
 
       ProductResponse expectedResponse =
-          new ProductResponse(productId, originalName, newStock, branchId);
+          new ProductResponse(productId, "Tacos", newStock, branchId, 3L);
 
-      given(productRepository.findById(productId)).willReturn(Optional.of(existingProduct));
-      given(productRepository.save(any(Product.class))).willReturn(updatedProduct);
+      given(productRepository.updateStock(productId, newStock, 2L))
+          .willReturn(Optional.of(updatedProduct));
       given(mapper.toProductResponse(updatedProduct)).willReturn(expectedResponse);
 
       // Act
-      ProductResponse result = updateProductStockUseCase.execute(productId, request);
+      ProductResponse result = updateProductStockUseCase.execute(productId, request, 2L);
 
       // Assert
-      assertThat(result.name()).isEqualTo(originalName);
-      assertThat(result.branchId()).isEqualTo(branchId);
+      assertThat(result.version()).isEqualTo(3L);
+      verify(productRepository, never()).existsById(any());
     }
+  }
+
+  @Nested
+  @DisplayName("Casos de error")
+  class ErrorCases {
 
     @Test
-    @DisplayName("Debe permitir actualizar stock a valores grandes")
-    void shouldAllowUpdatingStockToLargeValues() {
+    @DisplayName("Debe lanzar EntityNotFoundException cuando el producto no existe")
+    void shouldThrowEntityNotFoundExceptionWhenProductNotFound() {
       // Arrange
-      UUID productId = UUID.randomUUID();
-      UUID branchId = UUID.randomUUID();
-      String name = "Producto";
-      Integer oldStock = 10;
-      Integer newStock = 10000;
-
-      UpdateProductStockRequest request = new UpdateProductStockRequest(newStock);
-
-      Product existingProduct =
-          Product.builder().id(productId).name(name).stock(oldStock).branchId(branchId).build();
-
-      Product updatedProduct =
-          Product.builder().id(productId).name(name).stock(newStock).branchId(branchId).build();
-
-      ProductResponse expectedResponse = new ProductResponse(productId, name, newStock, branchId);
+      UUID nonExistentId = UUID.randomUUID();
+      UpdateProductStockRequest request = new UpdateProductStockRequest(100);
 
-      given(productRepository.findById(productId)).willReturn(Optional.of(existingProduct));
-      given(productRepository.save(any(Product.class))).willReturn(updatedProduct);
-      given(mapper.toProductResponse(updatedProduct)).willReturn(expectedResponse);
+      given(productRepository.updateStock(nonExistentId, 100, null)).willReturn(Optional.empty());
 
-      // Act
-      ProductResponse result = updateProductStockUseCase.execute(productId, request);
+      // Act & Assert
+      assertThatThrownBy(() -> updateProductStockUseCase.execute(nonExistentId, request))
+          .isInstanceOf(EntityNotFoundException.class)
+          .hasMessageContaining("Product")
+          .hasMessageContaining(nonExistentId.toString());
 
-      // Assert
-      assertThat(result.stock()).isEqualTo(10000);
+      verify(mapper, never()).toProductResponse(any(Product.class));
     }
 
     @Test
-    @DisplayName("Debe permitir reducir el stock")
-    void shouldAllowReducingStock() {
+    @DisplayName("Debe lanzar VersionConflictException cuando la versión no coincide")
+    void shouldThrowVersionConflictExceptionWhenVersionDiffers() {
       // Arrange
       UUID productId = UUID.randomUUID();
-      UUID branchId = UUID.randomUUID();
-      String name = "Producto";
-      Integer oldStock = 100;
-      Integer newStock = 30;
-
-      UpdateProductStockRequest request = new UpdateProductStockRequest(newStock);
-
-      Product existingProduct =
-          Product.builder().id(productId).name(name).stock(oldStock).branchId(branchId).build();
-
-      Product updatedProduct =
-          Product.builder().id(productId).name(name).stock(newStock).branchId(branchId).build();
-
-      ProductResponse expectedResponse = new ProductResponse(productId, name, newStock, branchId);
+      UpdateProductStockRequest request = new UpdateProductStockRequest(100);
 
-      given(productRepository.findById(productId)).willReturn(Optional.of(existingProduct));
-      given(productRepository.save(any(Product.class))).willReturn(updatedProduct);
-      given(mapper.toProductResponse(updatedProduct)).willReturn(expectedResponse);
+      given(productRepository.updateStock(productId, 100, 5L)).willReturn(Optional.empty());
+      given(productRepository.existsById(productId)).willReturn(true);
 
-      // Act
-      ProductResponse result = updateProductStockUseCase.execute(productId, request);
+      // Act & Assert
+      assertThatThrownBy(() -> updateProductStockUseCase.execute(productId, request, 5L))
+          .isInstanceOf(VersionConflictException.class)
+          .hasMessageContaining(productId.toString())
+          .hasMessageContaining("5");
 
-      // Assert
-      assertThat(result.stock()).isLessThan(oldStock);
-      assertThat(result.stock()).isEqualTo(30);
+      verify(mapper, never()).toProductResponse(any(Product.class));
     }
-  }
-
-  @Nested
-  @DisplayName("Casos de error")
-  class ErrorCases {
 
     @Test
-    @DisplayName("Debe lanzar EntityNotFoundException cuando el producto no existe")
-    void shouldThrowEntityNotFoundExceptionWhenProductNotFound() {
+    @DisplayName("Debe lanzar EntityNotFoundException con versión cuando el producto no existe")
+    void shouldThrowEntityNotFoundExceptionWithVersionWhenProductNotFound() {
       // Arrange
       UUID nonExistentId = UUID.randomUUID();
       UpdateProductStockRequest request = new UpdateProductStockRequest(100);
 
-      given(productRepository.findById(nonExistentId)).willReturn(Optional.empty());
+      given(productRepository.updateStock(nonExistentId, 100, 5L)).willReturn(Optional.empty());
+      given(productRepository.existsById(nonExistentId)).willReturn(false);
 
       // Act & Assert
-      assertThatThrownBy(() -> updateProductStockUseCase.execute(nonExistentId, request))
-          .isInstanceOf(EntityNotFoundException.class)
-          .hasMessageContaining("Product")
-          .hasMessageContaining(nonExistentId.toString());
-
-      verify(productRepository).findById(nonExistentId);
-      verify(productRepository, never()).save(any(Product.class));
-      verify(mapper, never()).toProductResponse(any(Product.class));
+      assertThatThrownBy(() -> updateProductStockUseCase.execute(nonExistentId, request, 5L))
+          .isInstanceOf(EntityNotFoundException.class);
     }
 
     @Test
@@ -257,23 +220,14 @@ class UpdateProductStockUseCaseTest {
     void shouldPropagateIllegalArgumentExceptionWhenStockIsNegative() {
       // Arrange
       UUID productId = UUID.randomUUID();
-      UUID branchId = UUID.randomUUID();
-      Integer invalidStock = -10;
-
-      UpdateProductStockRequest request = new UpdateProductStockRequest(invalidStock);
-
-      Product existingProduct =
-          Product.builder().id(productId).name("Product").stock(50).branchId(branchId).build();
-
-      given(productRepository.findById(productId)).willReturn(Optional.of(existingProduct));
+      UpdateProductStockRequest request = new UpdateProductStockRequest(-10);
 
       // Act & Assert
       assertThatThrownBy(() -> updateProductStockUseCase.execute(productId, request))
           .isInstanceOf(IllegalArgumentException.class)
           .hasMessageContaining("Stock must be a positive number");
 
-      verify(productRepository).findById(productId);
-      verify(productRepository, never()).save(any(Product.class));
+      verify(productRepository, never()).updateStock(any(), anyInt(), any());
     }
 
     @Test
@@ -281,23 +235,14 @@ class UpdateProductStockUseCaseTest {
     void shouldPropagateIllegalArgumentExceptionWhenStockIsNull() {
       // Arrange
       UUID productId = UUID.randomUUID();
-      UUID branchId = UUID.randomUUID();
-      Integer nullStock = null;
-
-      UpdateProductStockRequest request = new UpdateProductStockRequest(nullStock);
-
-      Product existingProduct =
-          Product.builder().id(productId).name("Product").stock(50).branchId(branchId).build();
-
-      given(productRepository.findById(productId)).willReturn(Optional.of(existingProduct));
+      UpdateProductStockRequest request = new UpdateProductStockRequest(null);
 
       // Act & Assert
       assertThatThrownBy(() -> updateProductStockUseCase.execute(productId, request))
           .isInstanceOf(IllegalArgumentException.class)
           .hasMessageContaining("Stock must be a positive number");
 
-      verify(productRepository).findById(productId);
-      verify(productRepository, never()).save(any(Product.class));
+      verify(productRepository, never()).updateStock(any(), anyInt(), any());
     }
   }
 
@@ -3,13 +3,17 @@ package com.accenture.franchise.architecture;
 import static com.tngtech.archunit.library.Architectures.layeredArchitecture;
 
 import com.tngtech.archunit.core.importer.ImportOption;
+import com.tngtech.archunit.core.importer.Location;
 import com.tngtech.archunit.junit.AnalyzeClasses;
 import com.tngtech.archunit.junit.ArchTest;
 import com.tngtech.archunit.lang.ArchRule;
 
 @AnalyzeClasses(
     packages = "com.accenture.franchise",
-    importOptions = ImportOption.DoNotIncludeTests.class)
+    importOptions = {
+      ImportOption.DoNotIncludeTests.class,
+      CleanArchitectureTest.DoNotIncludeAotGenerated.class
+    })
 public final class CleanArchitectureTest {
 
   @ArchTest
@@ -30,4 +34,16 @@ public final class CleanArchitectureTest {
           .mayNotBeAccessedByAnyLayer();
 
   private CleanArchitectureTest() {}
+
+  /**
+   * Excluye las clases que genera el procesamiento AOT de Spring ({@code __BeanDefinitions} y
+   * similares) en {@code target/classes}: registran beans de todas las capas desde el paquete raíz.
+   */
+  static final class DoNotIncludeAotGenerated implements ImportOption {
+
+    @Override
+    public boolean includes(Location location) {
+      return !location.contains("__");
+    }
+  }
 }
@@ -0,0 +1,107 @@
+package com.accenture.franchise.benchmark;
+
+import com.accenture.franchise.domain.model.Branch;
+import com.accenture.franchise.domain.model.Franchise;
+import com.accenture.franchise.domain.model.Product;
+import com.accenture.franchise.infrastructure.adapter.output.cache.DomainBinaryRedisSerializer;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Compara el serializador JSON original de la caché con el binario compacto, con y sin LZ4.
+ *
+ * <p>Además del tiempo por operación, el benchmark de codificación reporta {@code bytes} (tamaño de
+ * la entrada en Redis) como contador auxiliar. Ejecutar con {@code ./mvnw -Pbenchmark test
+ * -Djmh.includes=CacheSerializerBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CacheSerializerBenchmark {
+
+  @Param({"1", "10", "50"})
+  private int branches;
+
+  @Param({"10", "100"})
+  private int productsPerBranch;
+
+  @Param({"json", "binary", "binary-lz4"})
+  private String serializer;
+
+  private RedisSerializer<Object> redisSerializer;
+  private Franchise franchise;
+  private byte[] encoded;
+
+  /** Tamaño en bytes de la última entrada codificada. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class EntrySize {
+    public long bytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      bytes = 0;
+    }
+  }
+
+  @Setup
+  public void setUp() {
+    redisSerializer =
+        switch (serializer) {
+          case "json" -> RedisSerializer.json();
+          case "binary" ->
+              new DomainBinaryRedisSerializer(RedisSerializer.json(), Integer.MAX_VALUE);
+          case "binary-lz4" -> new DomainBinaryRedisSerializer(RedisSerializer.json(), 0);
+          default -> throw new IllegalArgumentException(serializer);
+        };
+    franchise = buildFranchise(branches, productsPerBranch);
+    encoded = redisSerializer.serialize(franchise);
+  }
+
+  @Benchmark
+  public byte[] encode(EntrySize size) {
+    byte[] bytes = redisSerializer.serialize(franchise);
+    size.bytes = bytes.length;
+    return bytes;
+  }
+
+  @Benchmark
+  public Object decode() {
+    return redisSerializer.deserialize(encoded);
+  }
+
+  static Franchise buildFranchise(int branches, int productsPerBranch) {
+    Franchise franchise = Franchise.builder().id(UUID.randomUUID()).name("Franquicia").build();
+    for (int b = 0; b < branches; b++) {
+      Branch branch =
+          Branch.builder()
+              .id(UUID.randomUUID())
+              .name("Sucursal " + b)
+              .franchiseId(franchise.getId())
+              .build();
+      for (int p = 0; p < productsPerBranch; p++) {
+        branch.addProduct(
+            Product.builder().id(UUID.randomUUID()).name("Producto " + p).stock(p * 7).build());
+      }
+      franchise.addBranch(branch);
+    }
+    return franchise;
+  }
+}
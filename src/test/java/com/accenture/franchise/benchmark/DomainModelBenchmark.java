@@ -0,0 +1,97 @@
+package com.accenture.franchise.benchmark;
+
+import com.accenture.franchise.domain.model.Branch;
+import com.accenture.franchise.domain.model.Franchise;
+import com.accenture.franchise.domain.model.Product;
+import com.accenture.franchise.domain.model.ProductStock;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide las operaciones en memoria del agregado según el número de productos.
+ *
+ * <p>{@code topStockProductsByBranch} reparte los productos entre {@value #BRANCHES} sucursales;
+ * las operaciones de sucursal usan una sola sucursal con todos los productos. {@code
+ * findProductById} busca el último producto, que era el peor caso cuando la búsqueda recorría la
+ * lista, y {@code addAndRemoveProduct} añade un producto y lo quita para mantener el tamaño entre
+ * invocaciones. {@code addProductsInBatch} construye una sucursal agregando todos los productos uno
+ * a uno, como una importación: con la comprobación de nombres lineal era cuadrático y con el índice
+ * por nombre es lineal.
+ *
+ * <p>El perfil {@code benchmark} añade el profiler {@code gc}, que reporta la asignación por
+ * operación ({@code gc.alloc.rate.norm}) junto al rendimiento. Ejecutar con {@code ./mvnw
+ * -Pbenchmark test -Djmh.includes=DomainModelBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DomainModelBenchmark {
+
+  static final int BRANCHES = 10;
+
+  @Param({"10", "100", "1000", "10000", "100000"})
+  private int products;
+
+  private Franchise franchise;
+  private Branch branch;
+  private UUID lastProductId;
+  private Product newProduct;
+  private List<Product> batch;
+
+  @Setup
+  public void setUp() {
+    franchise = CacheSerializerBenchmark.buildFranchise(BRANCHES, Math.max(1, products / BRANCHES));
+    branch = CacheSerializerBenchmark.buildFranchise(1, products).getBranches().get(0);
+    lastProductId = branch.getProducts().get(products - 1).getId();
+    newProduct = Product.builder().id(UUID.randomUUID()).name("Producto nuevo").stock(1).build();
+    batch = List.copyOf(branch.getProducts());
+  }
+
+  @Benchmark
+  public List<ProductStock> topStockProductsByBranch() {
+    return franchise.getTopStockProductsByBranch();
+  }
+
+  @Benchmark
+  public Optional<ProductStock> productWithMostStock() {
+    return branch.getProductWithMostStock();
+  }
+
+  @Benchmark
+  public Optional<Product> findProductById() {
+    return branch.findProductById(lastProductId);
+  }
+
+  @Benchmark
+  public int addAndRemoveProduct() {
+    branch.addProduct(newProduct);
+    int size = branch.getProducts().size();
+    branch.removeProduct(newProduct.getId());
+    return size;
+  }
+
+  @Benchmark
+  public Branch addProductsInBatch() {
+    Branch target = Branch.builder().id(UUID.randomUUID()).name("Importación").build();
+    for (Product product : batch) {
+      target.addProduct(product);
+    }
+    return target;
+  }
+}
@@ -0,0 +1,113 @@
+package com.accenture.franchise.benchmark;
+
+import com.accenture.franchise.FranchiseApiApplication;
+import com.accenture.franchise.application.dto.CreateFranchiseRequest;
+import com.accenture.franchise.application.usecase.franchise.CreateFranchiseUseCase;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Compara el modo de ejecución con hilos de plataforma y con hilos virtuales bajo alta
+ * concurrencia.
+ *
+ * <p>Arranca la aplicación completa en un puerto libre (con el perfil {@code virtual} añadido en el
+ * modo virtual) y la carga con 256 clientes HTTP concurrentes sobre {@code GET
+ * /api/v1/franchises/{id}}. El modo {@code thrpt} da las peticiones por milisegundo y el modo
+ * {@code sample} los percentiles de latencia, incluido el p99.
+ *
+ * <p>Con el perfil {@code test} por defecto (H2 en memoria, sin caché) casi no hay espera de E/S;
+ * para resultados representativos se usa PostgreSQL y Redis de {@code docker-compose} con {@code
+ * BENCHMARK_PROFILE=dev ./mvnw -Pbenchmark test -Djmh.includes=ExecutionModeLoadBenchmark}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 20)
+@Fork(1)
+@Threads(256)
+@State(Scope.Benchmark)
+public class ExecutionModeLoadBenchmark {
+
+  private static final int FRANCHISES = 100;
+
+  @Param({"platform", "virtual"})
+  private String mode;
+
+  private ConfigurableApplicationContext context;
+  private HttpClient client;
+  private List<URI> uris;
+
+  /** Cliente de cada hilo de carga: recorre las franquicias en orden desde una posición propia. */
+  @State(Scope.Thread)
+  public static class Cursor {
+    private int next = (int) (Thread.currentThread().threadId() % FRANCHISES);
+  }
+
+  @Setup(Level.Trial)
+  public void start() {
+    String profile = System.getenv().getOrDefault("BENCHMARK_PROFILE", "test");
+    SpringApplicationBuilder builder =
+        new SpringApplicationBuilder(FranchiseApiApplication.class)
+            .properties(
+                "server.port=0",
+                "server.tomcat.threads.max=200",
+                "logging.level.root=WARN",
+                "logging.level.com.accenture.franchise=WARN",
+                "logging.level.org.hibernate.SQL=WARN",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+    builder =
+        "virtual".equals(mode) ? builder.profiles(profile, "virtual") : builder.profiles(profile);
+    context = builder.run();
+
+    int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    CreateFranchiseUseCase createFranchise = context.getBean(CreateFranchiseUseCase.class);
+    String run = UUID.randomUUID().toString().substring(0, 8);
+    uris = new ArrayList<>();
+    for (int i = 0; i < FRANCHISES; i++) {
+      UUID id = createFranchise.execute(new CreateFranchiseRequest("Carga " + run + " " + i)).id();
+      uris.add(URI.create("http://localhost:" + port + "/api/v1/franchises/" + id));
+    }
+    client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+  }
+
+  @TearDown(Level.Trial)
+  public void stop() {
+    client.close();
+    context.close();
+  }
+
+  @Benchmark
+  public int getFranchise(Cursor cursor) throws IOException, InterruptedException {
+    URI uri = uris.get(cursor.next++ % FRANCHISES);
+    HttpResponse<Void> response =
+        client.send(
+            HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.discarding());
+    if (response.statusCode() != 200) {
+      throw new IllegalStateException("Unexpected status " + response.statusCode() + " for " + uri);
+    }
+    return response.statusCode();
+  }
+}
@@ -0,0 +1,128 @@
+package com.accenture.franchise.benchmark;
+
+import com.accenture.franchise.application.dto.BranchResponse;
+import com.accenture.franchise.application.dto.FranchiseResponse;
+import com.accenture.franchise.application.dto.mapper.DtoMapper;
+import com.accenture.franchise.domain.model.Branch;
+import com.accenture.franchise.domain.model.Franchise;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.BaseEntity;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.BranchEntity;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.mapper.BranchPersistenceMapper;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.mapper.FranchisePersistenceMapper;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.mapper.ProductPersistenceMapper;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.repository.BranchJpaRepository;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.repository.FranchiseJpaRepository;
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide los mappers de persistencia y de DTOs según el número de productos del agregado, repartidos
+ * entre {@value DomainModelBenchmark#BRANCHES} sucursales.
+ *
+ * <p>Los mappers se construyen sin Spring. Los repositorios que usan para crear referencias JPA se
+ * sustituyen por un proxy que devuelve una entidad nueva con el identificador pedido, como haría
+ * {@code getReferenceById} sin tocar la base de datos. Como en {@link DomainModelBenchmark}, el
+ * perfil {@code benchmark} añade el profiler {@code gc}. Ejecutar con {@code ./mvnw -Pbenchmark
+ * test -Djmh.includes=MapperBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+  @Param({"10", "100", "1000", "10000", "100000"})
+  private int products;
+
+  private FranchisePersistenceMapper franchiseMapper;
+  private BranchPersistenceMapper branchMapper;
+  private DtoMapper dtoMapper;
+  private Franchise franchise;
+  private FranchiseEntity franchiseEntity;
+  private Branch branch;
+
+  @Setup
+  public void setUp() {
+    ProductPersistenceMapper productMapper =
+        new ProductPersistenceMapper(
+            referenceRepository(BranchJpaRepository.class, BranchEntity::new));
+    branchMapper =
+        new BranchPersistenceMapper(
+            productMapper, referenceRepository(FranchiseJpaRepository.class, FranchiseEntity::new));
+    franchiseMapper = new FranchisePersistenceMapper(branchMapper);
+    dtoMapper = new DtoMapper();
+
+    franchise =
+        CacheSerializerBenchmark.buildFranchise(
+            DomainModelBenchmark.BRANCHES, Math.max(1, products / DomainModelBenchmark.BRANCHES));
+    franchiseEntity = franchiseMapper.toEntity(franchise);
+    branch = franchise.getBranches().get(0);
+  }
+
+  @Benchmark
+  public FranchiseEntity franchiseToEntity() {
+    return franchiseMapper.toEntity(franchise);
+  }
+
+  @Benchmark
+  public Franchise franchiseToDomain() {
+    return franchiseMapper.toDomain(franchiseEntity);
+  }
+
+  @Benchmark
+  public Franchise franchiseRoundTrip() {
+    return franchiseMapper.toDomain(franchiseMapper.toEntity(franchise));
+  }
+
+  @Benchmark
+  public Branch branchRoundTrip() {
+    return branchMapper.toDomain(branchMapper.toEntity(branch));
+  }
+
+  @Benchmark
+  public FranchiseResponse toFranchiseResponse() {
+    return dtoMapper.toFranchiseResponse(franchise);
+  }
+
+  @Benchmark
+  public BranchResponse toBranchResponse() {
+    return dtoMapper.toBranchResponse(branch);
+  }
+
+  /**
+   * Repositorio que solo atiende {@code getReferenceById}, devolviendo una entidad nueva con el
+   * identificador pedido.
+   */
+  @SuppressWarnings("unchecked")
+  private static <R, E extends BaseEntity> R referenceRepository(
+      Class<R> repositoryType, Supplier<E> entityFactory) {
+    return (R)
+        Proxy.newProxyInstance(
+            repositoryType.getClassLoader(),
+            new Class<?>[] {repositoryType},
+            (proxy, method, args) -> {
+              if (!method.getName().equals("getReferenceById")) {
+                throw new UnsupportedOperationException(method.getName());
+              }
+              E entity = entityFactory.get();
+              entity.setId((UUID) args[0]);
+              return entity;
+            });
+  }
+}
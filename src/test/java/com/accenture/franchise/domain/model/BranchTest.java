@@ -333,6 +333,48 @@ class BranchTest {
     }
   }
 
+  @Nested
+  @DisplayName("withName - Copia con otro nombre")
+  class WithNameTests {
+
+    @Test
+    @DisplayName("Debe devolver una copia renombrada con los mismos productos")
+    void shouldReturnRenamedCopyWithSameProducts() {
+      // Arrange
+      Product pizza = Product.builder().id(UUID.randomUUID()).name("Pizza").stock(30).build();
+      Branch branch =
+          Branch.builder()
+              .id(UUID.randomUUID())
+              .name("Sucursal Centro")
+              .franchiseId(UUID.randomUUID())
+              .products(List.of(pizza))
+              .build();
+
+      // Act
+      Branch renamed = branch.withName(" Sucursal Norte ");
+
+      // Assert
+      assertThat(renamed).isNotSameAs(branch);
+      assertThat(renamed.getName()).isEqualTo("Sucursal Norte");
+      assertThat(renamed.getId()).isEqualTo(branch.getId());
+      assertThat(renamed.getFranchiseId()).isEqualTo(branch.getFranchiseId());
+      assertThat(renamed.getProducts()).containsExactly(pizza);
+      assertThat(branch.getName()).isEqualTo("Sucursal Centro");
+    }
+
+    @Test
+    @DisplayName("Debe lanzar excepción cuando el nombre está en blanco")
+    void shouldThrowExceptionWhenNameIsBlank() {
+      // Arrange
+      Branch branch = Branch.builder().id(UUID.randomUUID()).name("Sucursal Centro").build();
+
+      // Act & Assert
+      assertThatThrownBy(() -> branch.withName(""))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Branch name cannot be blank");
+    }
+  }
+
   @Nested
   @DisplayName("getProductWithMostStock - Producto con Mayor Stock")
   class GetProductWithMostStockTests {
@@ -456,6 +498,27 @@ class BranchTest {
       assertThat(result.get().stock()).isEqualTo(50);
       assertThat(result.get().productName()).isIn("Hamburguesa", "Pizza");
     }
+
+    @Test
+    @DisplayName("Debe retornar el primer producto de la lista cuando hay empate en stock")
+    void shouldReturnFirstProductWhenTiedStock() {
+      // Arrange
+      for (String productName : List.of("Hamburguesa", "Pizza", "Tacos")) {
+        branch.addProduct(
+            Product.builder()
+                .id(UUID.randomUUID())
+                .name(productName)
+                .stock(50)
+                .branchId(branch.getId())
+                .build());
+      }
+
+      // Act
+      Optional<ProductStock> result = branch.getProductWithMostStock();
+
+      // Assert
+      assertThat(result).get().extracting(ProductStock::productName).isEqualTo("Hamburguesa");
+    }
   }
 
   @Nested
@@ -542,6 +605,190 @@ class BranchTest {
     }
   }
 
+  @Nested
+  @DisplayName("renameProduct - Renombrar Producto")
+  class RenameProductTests {
+
+    private Branch branch;
+    private Product hamburguesa;
+
+    @BeforeEach
+    void setUp() {
+      branch = Branch.builder().id(UUID.randomUUID()).name("Test Branch").build();
+      hamburguesa = Product.builder().id(UUID.randomUUID()).name("Hamburguesa").stock(50).build();
+      branch.addProduct(hamburguesa);
+    }
+
+    @Test
+    @DisplayName("Debe renombrar el producto y liberar el nombre anterior")
+    void shouldRenameProductAndReleasePreviousName() {
+      // Act
+      branch.renameProduct(hamburguesa.getId(), "  Hamburguesa Doble ");
+      branch.addProduct(Product.builder().id(UUID.randomUUID()).name("Hamburguesa").build());
+
+      // Assert
+      assertThat(hamburguesa.getName()).isEqualTo("Hamburguesa Doble");
+      assertThat(branch.getProducts())
+          .extracting(Product::getName)
+          .containsExactly("Hamburguesa Doble", "Hamburguesa");
+    }
+
+    @Test
+    @DisplayName("Debe rechazar agregar un producto con el nombre nuevo")
+    void shouldRejectAddingProductWithNewName() {
+      // Arrange
+      branch.renameProduct(hamburguesa.getId(), "Hamburguesa Doble");
+      Product duplicate = Product.builder().id(UUID.randomUUID()).name("Hamburguesa Doble").build();
+
+      // Act & Assert
+      assertThatThrownBy(() -> branch.addProduct(duplicate))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Product name already exists in this branch");
+    }
+
+    @Test
+    @DisplayName("Debe lanzar excepción cuando otro producto ya usa el nombre")
+    void shouldThrowExceptionWhenNameUsedByAnotherProduct() {
+      // Arrange
+      Product pizza = Product.builder().id(UUID.randomUUID()).name("Pizza").stock(30).build();
+      branch.addProduct(pizza);
+
+      // Act & Assert
+      assertThatThrownBy(() -> branch.renameProduct(pizza.getId(), " Hamburguesa "))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Product name already exists in this branch");
+      assertThat(pizza.getName()).isEqualTo("Pizza");
+    }
+
+    @Test
+    @DisplayName("Debe lanzar excepción cuando el producto no pertenece a la sucursal")
+    void shouldThrowExceptionWhenProductNotInBranch() {
+      // Act & Assert
+      assertThatThrownBy(() -> branch.renameProduct(UUID.randomUUID(), "Pizza"))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Product not found in this branch");
+    }
+  }
+
+  @Nested
+  @DisplayName("Índices - Consistencia con la lista de productos")
+  class IndexTests {
+
+    @Test
+    @DisplayName("Debe buscar y validar contra los productos recibidos en el builder")
+    void shouldUseProductsFromBuilder() {
+      // Arrange
+      Product pizza = Product.builder().id(UUID.randomUUID()).name("Pizza").stock(30).build();
+      Branch branch =
+          Branch.builder()
+              .id(UUID.randomUUID())
+              .name("Test Branch")
+              .products(new ArrayList<>(List.of(pizza)))
+              .build();
+      Product duplicate = Product.builder().id(UUID.randomUUID()).name("Pizza").build();
+
+      // Act & Assert
+      assertThat(branch.findProductById(pizza.getId())).contains(pizza);
+      assertThatThrownBy(() -> branch.addProduct(duplicate))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Debe permitir volver a agregar el nombre de un producto eliminado")
+    void shouldAllowReaddingNameOfRemovedProduct() {
+      // Arrange
+      Branch branch = Branch.builder().id(UUID.randomUUID()).name("Test Branch").build();
+      Product pizza = Product.builder().id(UUID.randomUUID()).name("Pizza").stock(30).build();
+      branch.addProduct(pizza);
+      branch.removeProduct(pizza.getId());
+      Product newPizza = Product.builder().id(UUID.randomUUID()).name("Pizza").stock(5).build();
+
+      // Act
+      branch.addProduct(newPizza);
+
+      // Assert
+      assertThat(branch.findProductById(pizza.getId())).isEmpty();
+      assertThat(branch.findProductById(newPizza.getId())).contains(newPizza);
+      assertThat(branch.getProducts()).containsExactly(newPizza);
+    }
+
+    @Test
+    @DisplayName("Debe mantener el orden de inserción y encontrar cada producto entre muchos")
+    void shouldKeepInsertionOrderAndFindEachProductAmongMany() {
+      // Arrange
+      Branch branch = Branch.builder().id(UUID.randomUUID()).name("Test Branch").build();
+      List<Product> products = new ArrayList<>();
+      for (int i = 0; i < 1_000; i++) {
+        Product product =
+            Product.builder().id(UUID.randomUUID()).name("Producto " + i).stock(i).build();
+        products.add(product);
+        branch.addProduct(product);
+      }
+
+      // Act
+      branch.removeProduct(products.get(500).getId());
+
+      // Assert
+      assertThat(branch.getProducts()).hasSize(999).doesNotContain(products.get(500));
+      assertThat(branch.getProducts().get(500)).isSameAs(products.get(501));
+      assertThat(branch.findProductById(products.get(999).getId())).contains(products.get(999));
+    }
+
+    @Test
+    @DisplayName("Debe ignorar los cambios posteriores en la lista pasada al builder")
+    void shouldIgnoreLaterChangesToBuilderList() {
+      // Arrange
+      Product pizza = Product.builder().id(UUID.randomUUID()).name("Pizza").stock(30).build();
+      Product pasta = Product.builder().id(UUID.randomUUID()).name("Pasta").stock(10).build();
+      List<Product> products = new ArrayList<>(List.of(pizza));
+      Branch branch =
+          Branch.builder().id(UUID.randomUUID()).name("Test Branch").products(products).build();
+      assertThat(branch.findProductById(pizza.getId())).contains(pizza);
+
+      // Act
+      products.set(0, pasta);
+
+      // Assert
+      assertThat(branch.getProducts()).containsExactly(pizza);
+      assertThat(branch.findProductById(pizza.getId())).contains(pizza);
+      assertThat(branch.findProductById(pasta.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe exponer los productos como lista de solo lectura")
+    void shouldExposeProductsAsReadOnlyList() {
+      // Arrange
+      Branch branch = Branch.builder().id(UUID.randomUUID()).name("Test Branch").build();
+      Product pizza = Product.builder().id(UUID.randomUUID()).name("Pizza").stock(30).build();
+
+      // Act & Assert
+      assertThatThrownBy(() -> branch.getProducts().add(pizza))
+          .isInstanceOf(UnsupportedOperationException.class);
+      assertThat(branch.findProductById(pizza.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe encontrar los productos al consultarla desde varios hilos a la vez")
+    void shouldFindProductsWhenQueriedFromSeveralThreads() {
+      // Arrange
+      List<Product> products = new ArrayList<>();
+      for (int i = 0; i < 1_000; i++) {
+        products.add(
+            Product.builder().id(UUID.randomUUID()).name("Producto " + i).stock(i).build());
+      }
+      Branch branch =
+          Branch.builder().id(UUID.randomUUID()).name("Test Branch").products(products).build();
+
+      // Act
+      boolean allFound =
+          products.parallelStream()
+              .allMatch(product -> branch.findProductById(product.getId()).isPresent());
+
+      // Assert
+      assertThat(allFound).isTrue();
+    }
+  }
+
   @Nested
   @DisplayName("Integración - Escenarios Complejos")
   class IntegrationTests {
@@ -370,6 +370,76 @@ class FranchiseTest {
     }
   }
 
+  @Nested
+  @DisplayName("renameBranch - Renombrar Sucursal")
+  class RenameBranchTests {
+
+    private Franchise franchise;
+    private Branch centro;
+
+    @BeforeEach
+    void setUp() {
+      franchise = Franchise.builder().id(UUID.randomUUID()).name("Test").build();
+      centro = Branch.builder().id(UUID.randomUUID()).name("Sucursal Centro").build();
+      franchise.addBranch(centro);
+    }
+
+    @Test
+    @DisplayName("Debe renombrar la sucursal y liberar el nombre anterior")
+    void shouldRenameBranchAndReleasePreviousName() {
+      // Act
+      franchise.renameBranch(centro.getId(), " Sucursal Centro Histórico ");
+      franchise.addBranch(Branch.builder().id(UUID.randomUUID()).name("Sucursal Centro").build());
+
+      // Assert
+      assertThat(centro.getName()).isEqualTo("Sucursal Centro Histórico");
+      assertThat(franchise.getBranches())
+          .extracting(Branch::getName)
+          .containsExactly("Sucursal Centro Histórico", "Sucursal Centro");
+    }
+
+    @Test
+    @DisplayName("Debe lanzar excepción cuando otra sucursal ya usa el nombre")
+    void shouldThrowExceptionWhenNameUsedByAnotherBranch() {
+      // Arrange
+      Branch norte = Branch.builder().id(UUID.randomUUID()).name("Sucursal Norte").build();
+      franchise.addBranch(norte);
+
+      // Act & Assert
+      assertThatThrownBy(() -> franchise.renameBranch(norte.getId(), "Sucursal Centro"))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Branch name already exists in this franchise");
+      assertThat(norte.getName()).isEqualTo("Sucursal Norte");
+    }
+
+    @Test
+    @DisplayName("Debe lanzar excepción cuando la sucursal no pertenece a la franquicia")
+    void shouldThrowExceptionWhenBranchNotInFranchise() {
+      // Act & Assert
+      assertThatThrownBy(() -> franchise.renameBranch(UUID.randomUUID(), "Sucursal Sur"))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Branch not found in this franchise");
+    }
+
+    @Test
+    @DisplayName("Debe buscar y validar contra las sucursales recibidas en el builder")
+    void shouldUseBranchesFromBuilder() {
+      // Arrange
+      Franchise built =
+          Franchise.builder()
+              .id(UUID.randomUUID())
+              .name("Test")
+              .branches(new ArrayList<>(List.of(centro)))
+              .build();
+      Branch duplicate = Branch.builder().id(UUID.randomUUID()).name("Sucursal Centro").build();
+
+      // Act & Assert
+      assertThat(built.findBranchById(centro.getId())).contains(centro);
+      assertThatThrownBy(() -> built.addBranch(duplicate))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
   @Nested
   @DisplayName("Integración - Escenarios Complejos")
   class IntegrationTests {
@@ -1,6 +1,7 @@
 package com.accenture.franchise.domain.model;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.UUID;
@@ -164,6 +165,31 @@ class ProductTest {
     }
   }
 
+  @Nested
+  @DisplayName("validateStockDelta - Validación de ajustes relativos")
+  class ValidateStockDeltaTests {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, -1, 100, -100})
+    @DisplayName("Debe aceptar ajustes distintos de cero")
+    void shouldAcceptNonZeroDelta(Integer delta) {
+      // Act & Assert
+      assertThatCode(() -> Product.validateStockDelta(delta)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Debe lanzar excepción cuando el ajuste es cero o nulo")
+    void shouldThrowExceptionWhenDeltaIsZeroOrNull() {
+      // Act & Assert
+      assertThatThrownBy(() -> Product.validateStockDelta(0))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Stock delta must be a non-zero number");
+      assertThatThrownBy(() -> Product.validateStockDelta(null))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Stock delta must be a non-zero number");
+    }
+  }
+
   @Nested
   @DisplayName("updateName - Actualizar Nombre")
   class UpdateNameTests {
@@ -259,6 +285,49 @@ class ProductTest {
     }
   }
 
+  @Nested
+  @DisplayName("withName - Copia con otro nombre")
+  class WithNameTests {
+
+    @Test
+    @DisplayName("Debe devolver una copia renombrada sin modificar el original")
+    void shouldReturnRenamedCopyWithoutChangingOriginal() {
+      // Arrange
+      Product product =
+          Product.builder()
+              .id(UUID.randomUUID())
+              .name("Hamburguesa")
+              .stock(50)
+              .branchId(UUID.randomUUID())
+              .version(3L)
+              .build();
+
+      // Act
+      Product renamed = product.withName("  Hamburguesa Doble ");
+
+      // Assert
+      assertThat(renamed).isNotSameAs(product);
+      assertThat(renamed.getName()).isEqualTo("Hamburguesa Doble");
+      assertThat(renamed.getId()).isEqualTo(product.getId());
+      assertThat(renamed.getStock()).isEqualTo(50);
+      assertThat(renamed.getBranchId()).isEqualTo(product.getBranchId());
+      assertThat(renamed.getVersion()).isEqualTo(3L);
+      assertThat(product.getName()).isEqualTo("Hamburguesa");
+    }
+
+    @Test
+    @DisplayName("Debe lanzar excepción cuando el nombre está en blanco")
+    void shouldThrowExceptionWhenNameIsBlank() {
+      // Arrange
+      Product product = Product.builder().id(UUID.randomUUID()).name("Hamburguesa").build();
+
+      // Act & Assert
+      assertThatThrownBy(() -> product.withName("  "))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Product name cannot be blank");
+    }
+  }
+
   @Nested
   @DisplayName("Integración - Escenarios Complejos")
   class IntegrationTests {
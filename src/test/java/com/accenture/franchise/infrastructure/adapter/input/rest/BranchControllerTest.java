@@ -4,6 +4,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -11,13 +12,21 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.accenture.franchise.application.dto.BranchResponse;
 import com.accenture.franchise.application.dto.CreateBranchRequest;
+import com.accenture.franchise.application.dto.ImportProductRow;
+import com.accenture.franchise.application.dto.PageResponse;
+import com.accenture.franchise.application.dto.ProductImportResponse;
+import com.accenture.franchise.application.dto.ProductResponse;
 import com.accenture.franchise.application.dto.UpdateBranchNameRequest;
 import com.accenture.franchise.application.usecase.branch.AddBranchToFranchiseUseCase;
 import com.accenture.franchise.application.usecase.branch.UpdateBranchNameUseCase;
+import com.accenture.franchise.application.usecase.product.ImportBranchProductsUseCase;
+import com.accenture.franchise.application.usecase.product.ListBranchProductsUseCase;
 import com.accenture.franchise.domain.exception.BusinessRuleViolationException;
 import com.accenture.franchise.domain.exception.EntityNotFoundException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -49,6 +58,21 @@ class BranchControllerTest {
 
   @MockitoBean private UpdateBranchNameUseCase updateBranchNameUseCase;
 
+  @MockitoBean private ImportBranchProductsUseCase importBranchProductsUseCase;
+
+  @MockitoBean private ListBranchProductsUseCase listBranchProductsUseCase;
+
+  /** Simula el caso de uso consumiendo todas las filas, como hace la implementación real. */
+  private void givenImportConsumesRows(UUID branchId, List<ImportProductRow> consumed) {
+    given(importBranchProductsUseCase.execute(eq(branchId), any()))
+        .willAnswer(
+            invocation -> {
+              Iterator<ImportProductRow> rows = invocation.getArgument(1);
+              rows.forEachRemaining(consumed::add);
+              return new ProductImportResponse(consumed.size(), 0, 0, List.of(), true, List.of());
+            });
+  }
+
   @Nested
   @DisplayName("POST /api/v1/branches - Agregar Sucursal")
   class AddBranchTests {
@@ -310,4 +334,148 @@ class BranchControllerTest {
           .andExpect(status().isCreated());
     }
   }
+
+  @Nested
+  @DisplayName("POST /api/v1/branches/{branchId}/products/import - Importar Productos")
+  class ImportProductsTests {
+
+    @Test
+    @DisplayName("Debe importar un cuerpo NDJSON y retornar 200 con el resumen")
+    void shouldImportNdjsonBody() throws Exception {
+      // Arrange
+      UUID branchId = UUID.randomUUID();
+      List<ImportProductRow> consumed = new ArrayList<>();
+      givenImportConsumesRows(branchId, consumed);
+
+      // Act & Assert
+      mockMvc
+          .perform(
+              post("/api/v1/branches/{branchId}/products/import", branchId)
+                  .contentType("application/x-ndjson")
+                  .content("{\"name\":\"Pizza\",\"stock\":10}\n{\"name\":\"Tacos\",\"stock\":5}\n"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.imported").value(2));
+
+      verify(importBranchProductsUseCase).execute(eq(branchId), any());
+    }
+
+    @Test
+    @DisplayName("Debe importar un cuerpo CSV con cabecera")
+    void shouldImportCsvBodyWithHeader() throws Exception {
+      // Arrange
+      UUID branchId = UUID.randomUUID();
+      List<ImportProductRow> consumed = new ArrayList<>();
+      givenImportConsumesRows(branchId, consumed);
+
+      // Act & Assert
+      mockMvc
+          .perform(
+              post("/api/v1/branches/{branchId}/products/import", branchId)
+                  .contentType("text/csv")
+                  .content("name,stock\nPizza,10\n\"Tacos, al pastor\",5\n"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.imported").value(2));
+    }
+
+    @Test
+    @DisplayName("Debe retornar 400 cuando una línea está mal formada")
+    void shouldReturn400WhenLineIsMalformed() throws Exception {
+      // Arrange
+      UUID branchId = UUID.randomUUID();
+      givenImportConsumesRows(branchId, new ArrayList<>());
+
+      // Act & Assert
+      mockMvc
+          .perform(
+              post("/api/v1/branches/{branchId}/products/import", branchId)
+                  .contentType("text/csv")
+                  .content("Pizza,10\nTacos,muchos\n"))
+          .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Debe retornar 415 con un tipo de contenido no soportado")
+    void shouldReturn415WhenContentTypeIsNotSupported() throws Exception {
+      // Act & Assert
+      mockMvc
+          .perform(
+              post("/api/v1/branches/{branchId}/products/import", UUID.randomUUID())
+                  .contentType(MediaType.APPLICATION_XML)
+                  .content("<products/>"))
+          .andExpect(status().isUnsupportedMediaType());
+    }
+  }
+
+  @Nested
+  @DisplayName("GET /api/v1/branches/{branchId}/products - Listar Productos")
+  class ListProductsTests {
+
+    @Test
+    @DisplayName("Debe retornar la página con filtros de stock y cursor siguiente")
+    void shouldReturnPageWithStockFiltersAndNextCursor() throws Exception {
+      // Arrange
+      UUID branchId = UUID.randomUUID();
+      UUID productId = UUID.randomUUID();
+      ProductResponse product = new ProductResponse(productId, "Pizza", 50, branchId, 3L);
+
+      given(listBranchProductsUseCase.execute(branchId, 10, 100, "abc", 1))
+          .willReturn(new PageResponse<>(List.of(product), "def"));
+
+      // Act & Assert
+      mockMvc
+          .perform(
+              get("/api/v1/branches/{branchId}/products", branchId)
+                  .param("minStock", "10")
+                  .param("maxStock", "100")
+                  .param("cursor", "abc")
+                  .param("size", "1"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.items.length()").value(1))
+          .andExpect(jsonPath("$.items[0].id").value(productId.toString()))
+          .andExpect(jsonPath("$.items[0].stock").value(50))
+          .andExpect(jsonPath("$.nextCursor").value("def"));
+    }
+
+    @Test
+    @DisplayName("Debe usar el tamaño de página por defecto sin filtros")
+    void shouldUseDefaultPageSizeWithoutFilters() throws Exception {
+      // Arrange
+      UUID branchId = UUID.randomUUID();
+      given(listBranchProductsUseCase.execute(branchId, null, null, null, 20))
+          .willReturn(new PageResponse<>(List.of(), null));
+
+      // Act & Assert
+      mockMvc
+          .perform(get("/api/v1/branches/{branchId}/products", branchId))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.items").isEmpty());
+
+      verify(listBranchProductsUseCase).execute(branchId, null, null, null, 20);
+    }
+
+    @Test
+    @DisplayName("Debe retornar 404 cuando la sucursal no existe")
+    void shouldReturn404WhenBranchNotFound() throws Exception {
+      // Arrange
+      UUID branchId = UUID.randomUUID();
+      given(listBranchProductsUseCase.execute(branchId, null, null, null, 20))
+          .willThrow(new EntityNotFoundException("Branch", branchId));
+
+      // Act & Assert
+      mockMvc
+          .perform(get("/api/v1/branches/{branchId}/products", branchId))
+          .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Debe retornar 400 cuando el filtro de stock no es numérico")
+    void shouldReturn400WhenStockFilterIsNotNumeric() throws Exception {
+      // Act & Assert
+      mockMvc
+          .perform(
+              get("/api/v1/branches/{branchId}/products", UUID.randomUUID())
+                  .param("minStock", "mucho"))
+          .andExpect(status().isBadRequest());
+    }
+  }
 }
@@ -1,22 +1,31 @@
 package com.accenture.franchise.infrastructure.adapter.input.rest;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.accenture.franchise.application.dto.CreateFranchiseRequest;
 import com.accenture.franchise.application.dto.FranchiseResponse;
+import com.accenture.franchise.application.dto.FranchiseSummaryResponse;
+import com.accenture.franchise.application.dto.PageResponse;
 import com.accenture.franchise.application.dto.ProductStockResponse;
 import com.accenture.franchise.application.dto.UpdateFranchiseNameRequest;
 import com.accenture.franchise.application.usecase.franchise.CreateFranchiseUseCase;
+import com.accenture.franchise.application.usecase.franchise.ExportFranchiseCatalogUseCase;
 import com.accenture.franchise.application.usecase.franchise.GetFranchiseUseCase;
+import com.accenture.franchise.application.usecase.franchise.GetFranchiseVersionUseCase;
 import com.accenture.franchise.application.usecase.franchise.GetTopStockProductsByFranchiseUseCase;
+import com.accenture.franchise.application.usecase.franchise.ListFranchisesUseCase;
 import com.accenture.franchise.application.usecase.franchise.UpdateFranchiseNameUseCase;
 import com.accenture.franchise.domain.exception.BusinessRuleViolationException;
 import com.accenture.franchise.domain.exception.EntityNotFoundException;
@@ -24,6 +33,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -54,10 +64,16 @@ class FranchiseControllerTest {
 
   @MockitoBean private GetFranchiseUseCase getFranchiseUseCase;
 
+  @MockitoBean private GetFranchiseVersionUseCase getFranchiseVersionUseCase;
+
   @MockitoBean private UpdateFranchiseNameUseCase updateFranchiseNameUseCase;
 
   @MockitoBean private GetTopStockProductsByFranchiseUseCase getTopStockProductsByFranchiseUseCase;
 
+  @MockitoBean private ExportFranchiseCatalogUseCase exportFranchiseCatalogUseCase;
+
+  @MockitoBean private ListFranchisesUseCase listFranchisesUseCase;
+
   @Nested
   @DisplayName("POST /api/v1/franchises - Crear Franquicia")
   class CreateFranchiseTests {
@@ -132,8 +148,8 @@ class FranchiseControllerTest {
       UUID franchiseId = UUID.randomUUID();
       String franchiseName = "McDonald's";
 
-      FranchiseResponse response =
-          new FranchiseResponse(franchiseId, franchiseName, new ArrayList<>());
+      FranchiseSummaryResponse response =
+          new FranchiseSummaryResponse(franchiseId, franchiseName, new ArrayList<>(), 2, 15, 480);
 
       given(getFranchiseUseCase.execute(franchiseId)).willReturn(response);
 
@@ -143,7 +159,10 @@ class FranchiseControllerTest {
           .andExpect(status().isOk())
           .andExpect(jsonPath("$.id").value(franchiseId.toString()))
           .andExpect(jsonPath("$.name").value(franchiseName))
-          .andExpect(jsonPath("$.branches").isArray());
+          .andExpect(jsonPath("$.branches").isArray())
+          .andExpect(jsonPath("$.branchCount").value(2))
+          .andExpect(jsonPath("$.productCount").value(15))
+          .andExpect(jsonPath("$.totalStock").value(480));
 
       verify(getFranchiseUseCase).execute(franchiseId);
     }
@@ -338,6 +357,101 @@ class FranchiseControllerTest {
     }
   }
 
+  @Nested
+  @DisplayName("Lecturas condicionales con ETag")
+  class ConditionalGetTests {
+
+    @Test
+    @DisplayName("Debe devolver la versión de la franquicia como ETag")
+    void shouldReturnFranchiseVersionAsEtag() throws Exception {
+      // Arrange
+      UUID franchiseId = UUID.randomUUID();
+      given(getFranchiseVersionUseCase.execute(franchiseId)).willReturn(42L);
+      given(getFranchiseUseCase.execute(franchiseId))
+          .willReturn(new FranchiseSummaryResponse(franchiseId, "KFC", null, 0, 0, 0));
+
+      // Act & Assert
+      mockMvc
+          .perform(get("/api/v1/franchises/{franchiseId}", franchiseId))
+          .andExpect(status().isOk())
+          .andExpect(header().string("ETag", "\"42\""));
+    }
+
+    @Test
+    @DisplayName("Debe responder 304 sin cargar la franquicia si el ETag coincide")
+    void shouldReturn304WithoutLoadingFranchiseWhenEtagMatches() throws Exception {
+      // Arrange
+      UUID franchiseId = UUID.randomUUID();
+      given(getFranchiseVersionUseCase.execute(franchiseId)).willReturn(42L);
+
+      // Act & Assert
+      mockMvc
+          .perform(
+              get("/api/v1/franchises/{franchiseId}", franchiseId)
+                  .header("If-None-Match", "\"42\""))
+          .andExpect(status().isNotModified())
+          .andExpect(header().string("ETag", "\"42\""))
+          .andExpect(content().string(""));
+
+      verify(getFranchiseUseCase, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("Debe responder 200 si la franquicia cambió desde el ETag recibido")
+    void shouldReturn200WhenFranchiseChangedSinceEtag() throws Exception {
+      // Arrange
+      UUID franchiseId = UUID.randomUUID();
+      given(getFranchiseVersionUseCase.execute(franchiseId)).willReturn(43L);
+      given(getFranchiseUseCase.execute(franchiseId))
+          .willReturn(new FranchiseSummaryResponse(franchiseId, "KFC", null, 0, 0, 0));
+
+      // Act & Assert
+      mockMvc
+          .perform(
+              get("/api/v1/franchises/{franchiseId}", franchiseId)
+                  .header("If-None-Match", "\"42\""))
+          .andExpect(status().isOk())
+          .andExpect(header().string("ETag", "\"43\""))
+          .andExpect(jsonPath("$.name").value("KFC"));
+    }
+
+    @Test
+    @DisplayName("Debe responder 304 sin calcular los productos con más stock si el ETag coincide")
+    void shouldReturn304WithoutComputingTopStockWhenEtagMatches() throws Exception {
+      // Arrange
+      UUID franchiseId = UUID.randomUUID();
+      given(getFranchiseVersionUseCase.execute(franchiseId)).willReturn(7L);
+
+      // Act & Assert
+      mockMvc
+          .perform(
+              get("/api/v1/franchises/{franchiseId}/top-stock-products", franchiseId)
+                  .header("If-None-Match", "\"7\""))
+          .andExpect(status().isNotModified());
+
+      verify(getTopStockProductsByFranchiseUseCase, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("Debe retornar 404 sin ETag cuando la franquicia no existe")
+    void shouldReturn404WithoutEtagWhenFranchiseNotFound() throws Exception {
+      // Arrange
+      UUID nonExistentId = UUID.randomUUID();
+      given(getFranchiseVersionUseCase.execute(nonExistentId))
+          .willThrow(new EntityNotFoundException("Franchise", nonExistentId));
+
+      // Act & Assert
+      mockMvc
+          .perform(
+              get("/api/v1/franchises/{franchiseId}", nonExistentId)
+                  .header("If-None-Match", "\"1\""))
+          .andExpect(status().isNotFound())
+          .andExpect(header().doesNotExist("ETag"));
+
+      verify(getFranchiseUseCase, never()).execute(any());
+    }
+  }
+
   @Nested
   @DisplayName("Validaciones de Content-Type y formato")
   class ContentTypeAndFormatValidationTests {
@@ -374,4 +488,112 @@ class FranchiseControllerTest {
           .andExpect(status().isCreated());
     }
   }
+
+  @Nested
+  @DisplayName("GET /api/v1/franchises/{franchiseId}/export - Exportar Catálogo")
+  class ExportFranchiseTests {
+
+    @Test
+    @DisplayName("Debe escribir una línea JSON por fila del catálogo")
+    void shouldWriteOneJsonLinePerRow() throws Exception {
+      // Arrange
+      UUID franchiseId = UUID.randomUUID();
+      UUID branchId = UUID.randomUUID();
+      UUID productId = UUID.randomUUID();
+
+      given(exportFranchiseCatalogUseCase.execute(eq(franchiseId), any()))
+          .willAnswer(
+              invocation -> {
+                Consumer<ProductStockResponse> sink = invocation.getArgument(1);
+                sink.accept(new ProductStockResponse(productId, "Pizza", 10, branchId, "Centro"));
+                sink.accept(new ProductStockResponse(null, null, null, branchId, "Norte"));
+                return 2L;
+              });
+
+      // Act
+      String body =
+          mockMvc
+              .perform(get("/api/v1/franchises/{franchiseId}/export", franchiseId))
+              .andExpect(status().isOk())
+              .andExpect(content().contentType("application/x-ndjson"))
+              .andReturn()
+              .getResponse()
+              .getContentAsString();
+
+      // Assert
+      String[] lines = body.split("\n");
+      assertThat(lines).hasSize(2).allSatisfy(line -> assertThat(line).startsWith("{"));
+      assertThat(objectMapper.readTree(lines[0]).get("productName").asText()).isEqualTo("Pizza");
+      assertThat(objectMapper.readTree(lines[1]).get("branchName").asText()).isEqualTo("Norte");
+    }
+
+    @Test
+    @DisplayName("Debe retornar 404 cuando la franquicia no existe")
+    void shouldReturn404WhenFranchiseNotFound() throws Exception {
+      // Arrange
+      UUID nonExistentId = UUID.randomUUID();
+      given(exportFranchiseCatalogUseCase.execute(eq(nonExistentId), any()))
+          .willThrow(new EntityNotFoundException("Franchise", nonExistentId));
+
+      // Act & Assert
+      mockMvc
+          .perform(get("/api/v1/franchises/{franchiseId}/export", nonExistentId))
+          .andExpect(status().isNotFound());
+    }
+  }
+
+  @Nested
+  @DisplayName("GET /api/v1/franchises - Listar Franquicias")
+  class ListFranchisesTests {
+
+    @Test
+    @DisplayName("Debe retornar la página con el cursor siguiente")
+    void shouldReturnPageWithNextCursor() throws Exception {
+      // Arrange
+      UUID franchiseId = UUID.randomUUID();
+      FranchiseResponse franchise = new FranchiseResponse(franchiseId, "Burger King", null);
+
+      given(listFranchisesUseCase.execute("abc", 1))
+          .willReturn(new PageResponse<>(List.of(franchise), "def"));
+
+      // Act & Assert
+      mockMvc
+          .perform(get("/api/v1/franchises").param("cursor", "abc").param("size", "1"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.items.length()").value(1))
+          .andExpect(jsonPath("$.items[0].id").value(franchiseId.toString()))
+          .andExpect(jsonPath("$.items[0].name").value("Burger King"))
+          .andExpect(jsonPath("$.items[0].branches").doesNotExist())
+          .andExpect(jsonPath("$.nextCursor").value("def"));
+    }
+
+    @Test
+    @DisplayName("Debe usar el tamaño de página por defecto sin cursor")
+    void shouldUseDefaultPageSizeWithoutCursor() throws Exception {
+      // Arrange
+      given(listFranchisesUseCase.execute(null, 20))
+          .willReturn(new PageResponse<>(List.of(), null));
+
+      // Act & Assert
+      mockMvc
+          .perform(get("/api/v1/franchises"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.items").isEmpty());
+
+      verify(listFranchisesUseCase).execute(null, 20);
+    }
+
+    @Test
+    @DisplayName("Debe retornar 400 cuando el cursor es inválido")
+    void shouldReturn400WhenCursorIsInvalid() throws Exception {
+      // Arrange
+      given(listFranchisesUseCase.execute("???", 20))
+          .willThrow(new IllegalArgumentException("Invalid page cursor"));
+
+      // Act & Assert
+      mockMvc
+          .perform(get("/api/v1/franchises").param("cursor", "???"))
+          .andExpect(status().isBadRequest());
+    }
+  }
 }
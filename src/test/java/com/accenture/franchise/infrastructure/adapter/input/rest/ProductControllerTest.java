@@ -2,6 +2,7 @@ package com.accenture.franchise.infrastructure.adapter.input.rest;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
@@ -9,20 +10,28 @@ import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.accenture.franchise.application.dto.AdjustProductStockRequest;
+import com.accenture.franchise.application.dto.BulkUpdateProductStockRequest;
+import com.accenture.franchise.application.dto.BulkUpdateProductStockResponse;
 import com.accenture.franchise.application.dto.CreateProductRequest;
 import com.accenture.franchise.application.dto.ProductResponse;
 import com.accenture.franchise.application.dto.UpdateProductNameRequest;
 import com.accenture.franchise.application.dto.UpdateProductStockRequest;
 import com.accenture.franchise.application.usecase.product.AddProductToBranchUseCase;
+import com.accenture.franchise.application.usecase.product.AdjustProductStockUseCase;
+import com.accenture.franchise.application.usecase.product.BulkUpdateProductStockUseCase;
 import com.accenture.franchise.application.usecase.product.RemoveProductFromBranchUseCase;
 import com.accenture.franchise.application.usecase.product.UpdateProductNameUseCase;
 import com.accenture.franchise.application.usecase.product.UpdateProductStockUseCase;
 import com.accenture.franchise.domain.exception.BusinessRuleViolationException;
 import com.accenture.franchise.domain.exception.EntityNotFoundException;
+import com.accenture.franchise.domain.exception.VersionConflictException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -30,6 +39,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -56,6 +66,10 @@ class ProductControllerTest {
 
   @MockitoBean private UpdateProductStockUseCase updateProductStockUseCase;
 
+  @MockitoBean private AdjustProductStockUseCase adjustProductStockUseCase;
+
+  @MockitoBean private BulkUpdateProductStockUseCase bulkUpdateProductStockUseCase;
+
   @MockitoBean private UpdateProductNameUseCase updateProductNameUseCase;
 
   @Nested
@@ -279,7 +293,9 @@ class ProductControllerTest {
 
       ProductResponse response = new ProductResponse(productId, "Hamburguesa", newStock, branchId);
 
-      given(updateProductStockUseCase.execute(eq(productId), any(UpdateProductStockRequest.class)))
+      given(
+              updateProductStockUseCase.execute(
+                  eq(productId), any(UpdateProductStockRequest.class), isNull()))
           .willReturn(response);
 
       // Act & Assert
@@ -293,7 +309,7 @@ class ProductControllerTest {
           .andExpect(jsonPath("$.stock").value(newStock));
 
       verify(updateProductStockUseCase)
-          .execute(eq(productId), any(UpdateProductStockRequest.class));
+          .execute(eq(productId), any(UpdateProductStockRequest.class), isNull());
     }
 
     @Test
@@ -305,7 +321,7 @@ class ProductControllerTest {
 
       given(
               updateProductStockUseCase.execute(
-                  eq(nonExistentId), any(UpdateProductStockRequest.class)))
+                  eq(nonExistentId), any(UpdateProductStockRequest.class), isNull()))
           .willThrow(new EntityNotFoundException("Product", nonExistentId));
 
       // Act & Assert
@@ -360,7 +376,9 @@ class ProductControllerTest {
 
       ProductResponse response = new ProductResponse(productId, "Hamburguesa", newStock, branchId);
 
-      given(updateProductStockUseCase.execute(eq(productId), any(UpdateProductStockRequest.class)))
+      given(
+              updateProductStockUseCase.execute(
+                  eq(productId), any(UpdateProductStockRequest.class), isNull()))
           .willReturn(response);
 
       // Act & Assert
@@ -373,6 +391,73 @@ class ProductControllerTest {
           .andExpect(jsonPath("$.stock").value(0));
     }
 
+    @Test
+    @DisplayName("Debe aplicar If-Match y devolver la nueva versión en ETag")
+    void shouldApplyIfMatchAndReturnETag() throws Exception {
+      // Arrange
+      UUID productId = UUID.randomUUID();
+      UUID branchId = UUID.randomUUID();
+      UpdateProductStockRequest request = new UpdateProductStockRequest(80);
+
+      ProductResponse response = new ProductResponse(productId, "Hamburguesa", 80, branchId, 4L);
+
+      given(
+              updateProductStockUseCase.execute(
+                  eq(productId), any(UpdateProductStockRequest.class), eq(3L)))
+          .willReturn(response);
+
+      // Act & Assert
+      mockMvc
+          .perform(
+              patch("/api/v1/products/{productId}/stock", productId)
+                  .header(HttpHeaders.IF_MATCH, "\"3\"")
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(objectMapper.writeValueAsString(request)))
+          .andExpect(status().isOk())
+          .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+          .andExpect(jsonPath("$.version").value(4));
+    }
+
+    @Test
+    @DisplayName("Debe retornar 412 cuando la versión de If-Match no es la actual")
+    void shouldReturn412WhenVersionConflicts() throws Exception {
+      // Arrange
+      UUID productId = UUID.randomUUID();
+      UpdateProductStockRequest request = new UpdateProductStockRequest(80);
+
+      given(
+              updateProductStockUseCase.execute(
+                  eq(productId), any(UpdateProductStockRequest.class), eq(3L)))
+          .willThrow(new VersionConflictException("Product", productId, 3L));
+
+      // Act & Assert
+      mockMvc
+          .perform(
+              patch("/api/v1/products/{productId}/stock", productId)
+                  .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(objectMapper.writeValueAsString(request)))
+          .andExpect(status().isPreconditionFailed())
+          .andExpect(jsonPath("$.title").value("Precondition Failed"));
+    }
+
+    @Test
+    @DisplayName("Debe retornar 400 cuando If-Match no es una versión")
+    void shouldReturn400WhenIfMatchIsInvalid() throws Exception {
+      // Arrange
+      UUID productId = UUID.randomUUID();
+      UpdateProductStockRequest request = new UpdateProductStockRequest(80);
+
+      // Act & Assert
+      mockMvc
+          .perform(
+              patch("/api/v1/products/{productId}/stock", productId)
+                  .header(HttpHeaders.IF_MATCH, "\"abc\"")
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(objectMapper.writeValueAsString(request)))
+          .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Debe manejar UUID inválido correctamente")
     void shouldHandleInvalidUUIDCorrectly() throws Exception {
@@ -389,6 +474,122 @@ class ProductControllerTest {
     }
   }
 
+  @Nested
+  @DisplayName("POST /api/v1/products/{productId}/stock-adjustments - Ajustar Stock")
+  class AdjustProductStockTests {
+
+    @Test
+    @DisplayName("Debe ajustar stock exitosamente y retornar 200 con ETag")
+    void shouldAdjustProductStockSuccessfully() throws Exception {
+      // Arrange
+      UUID productId = UUID.randomUUID();
+      UUID branchId = UUID.randomUUID();
+      AdjustProductStockRequest request = new AdjustProductStockRequest(-3);
+
+      ProductResponse response = new ProductResponse(productId, "Hamburguesa", 7, branchId, 5L);
+
+      given(adjustProductStockUseCase.execute(eq(productId), any(AdjustProductStockRequest.class)))
+          .willReturn(response);
+
+      // Act & Assert
+      mockMvc
+          .perform(
+              post("/api/v1/products/{productId}/stock-adjustments", productId)
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(objectMapper.writeValueAsString(request)))
+          .andExpect(status().isOk())
+          .andExpect(header().string(HttpHeaders.ETAG, "\"5\""))
+          .andExpect(jsonPath("$.stock").value(7));
+    }
+
+    @Test
+    @DisplayName("Debe retornar 409 cuando el stock resultante sería negativo")
+    void shouldReturn409WhenStockIsInsufficient() throws Exception {
+      // Arrange
+      UUID productId = UUID.randomUUID();
+      AdjustProductStockRequest request = new AdjustProductStockRequest(-50);
+
+      given(adjustProductStockUseCase.execute(eq(productId), any(AdjustProductStockRequest.class)))
+          .willThrow(new BusinessRuleViolationException("Insufficient stock"));
+
+      // Act & Assert
+      mockMvc
+          .perform(
+              post("/api/v1/products/{productId}/stock-adjustments", productId)
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(objectMapper.writeValueAsString(request)))
+          .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("Debe retornar 400 cuando falta el ajuste")
+    void shouldReturn400WhenDeltaIsMissing() throws Exception {
+      // Act & Assert
+      mockMvc
+          .perform(
+              post("/api/v1/products/{productId}/stock-adjustments", UUID.randomUUID())
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content("{}"))
+          .andExpect(status().isBadRequest());
+    }
+  }
+
+  @Nested
+  @DisplayName("PATCH /api/v1/products/stock - Actualización Masiva de Stock")
+  class BulkUpdateProductStockTests {
+
+    @Test
+    @DisplayName("Debe procesar el lote y retornar 200 con el resultado por elemento")
+    void shouldReturnPerItemResults() throws Exception {
+      // Arrange
+      UUID updatedId = UUID.randomUUID();
+      UUID missingId = UUID.randomUUID();
+      BulkUpdateProductStockRequest request =
+          new BulkUpdateProductStockRequest(
+              List.of(
+                  new BulkUpdateProductStockRequest.Item(updatedId, 10),
+                  new BulkUpdateProductStockRequest.Item(missingId, 20)));
+
+      BulkUpdateProductStockResponse response =
+          new BulkUpdateProductStockResponse(
+              1,
+              1,
+              0,
+              List.of(
+                  new BulkUpdateProductStockResponse.ItemResult(
+                      updatedId, BulkUpdateProductStockResponse.Status.UPDATED, null),
+                  new BulkUpdateProductStockResponse.ItemResult(
+                      missingId, BulkUpdateProductStockResponse.Status.NOT_FOUND, null)));
+
+      given(bulkUpdateProductStockUseCase.execute(any(BulkUpdateProductStockRequest.class)))
+          .willReturn(response);
+
+      // Act & Assert
+      mockMvc
+          .perform(
+              patch("/api/v1/products/stock")
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(objectMapper.writeValueAsString(request)))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.updated").value(1))
+          .andExpect(jsonPath("$.notFound").value(1))
+          .andExpect(jsonPath("$.results[0].status").value("UPDATED"))
+          .andExpect(jsonPath("$.results[1].productId").value(missingId.toString()));
+    }
+
+    @Test
+    @DisplayName("Debe retornar 400 cuando el lote está vacío")
+    void shouldReturn400WhenItemsAreEmpty() throws Exception {
+      // Act & Assert
+      mockMvc
+          .perform(
+              patch("/api/v1/products/stock")
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content("{\"items\": []}"))
+          .andExpect(status().isBadRequest());
+    }
+  }
+
   @Nested
   @DisplayName("PATCH /api/v1/products/{productId}/name - Actualizar Nombre")
   class UpdateProductNameTests {
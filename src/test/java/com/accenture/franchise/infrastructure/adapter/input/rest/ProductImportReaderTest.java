@@ -0,0 +1,96 @@
+package com.accenture.franchise.infrastructure.adapter.input.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.accenture.franchise.application.dto.ImportProductRow;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+/** Pruebas unitarias para {@link ProductImportReader}. */
+@DisplayName("ProductImportReader - Pruebas Unitarias")
+class ProductImportReaderTest {
+
+  private static final JsonMapper JSON = JsonMapper.builder().build();
+
+  private static List<ImportProductRow> read(String contentType, String body) {
+    List<ImportProductRow> rows = new ArrayList<>();
+    ProductImportReader.open(
+            new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), contentType, JSON)
+        .forEachRemaining(rows::add);
+    return rows;
+  }
+
+  @Nested
+  @DisplayName("NDJSON")
+  class NdjsonTests {
+
+    @Test
+    @DisplayName("Debe leer un objeto por línea ignorando las líneas vacías")
+    void shouldReadOneObjectPerLine() {
+      // Act
+      List<ImportProductRow> rows =
+          read(
+              "application/x-ndjson",
+              "{\"name\":\"Pizza\",\"stock\":10}\n\n{\"name\":\"Tacos\",\"extra\":true}\n");
+
+      // Assert
+      assertThat(rows)
+          .containsExactly(
+              new ImportProductRow(1, "Pizza", 10), new ImportProductRow(3, "Tacos", null));
+    }
+
+    @Test
+    @DisplayName("Debe indicar la línea cuando el JSON está mal formado")
+    void shouldReportLineOfMalformedJson() {
+      // Act & Assert
+      assertThatThrownBy(() -> read("application/x-ndjson", "{\"name\":\"Pizza\"}\n{oops\n"))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("line 2");
+    }
+  }
+
+  @Nested
+  @DisplayName("CSV")
+  class CsvTests {
+
+    @Test
+    @DisplayName("Debe omitir la cabecera y respetar los campos entre comillas")
+    void shouldSkipHeaderAndHonorQuotedFields() {
+      // Act
+      List<ImportProductRow> rows =
+          read("text/csv; charset=UTF-8", "name,stock\n\"Tacos, \"\"al pastor\"\"\",5\nPizza,\n");
+
+      // Assert
+      assertThat(rows)
+          .containsExactly(
+              new ImportProductRow(2, "Tacos, \"al pastor\"", 5),
+              new ImportProductRow(3, "Pizza", null));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar líneas con un número de columnas distinto de dos")
+    void shouldRejectLinesWithWrongColumnCount() {
+      // Act & Assert
+      assertThatThrownBy(() -> read("text/csv", "Pizza,10,extra\n"))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("line 1")
+          .hasMessageContaining("expected 2 columns");
+    }
+  }
+
+  @Test
+  @DisplayName("Debe rechazar tipos de contenido no soportados")
+  void shouldRejectUnsupportedContentType() {
+    // Act & Assert
+    assertThatThrownBy(() -> read("application/json", "{}"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Unsupported import content type");
+  }
+}
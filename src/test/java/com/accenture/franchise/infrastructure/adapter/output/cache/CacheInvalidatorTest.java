@@ -0,0 +1,191 @@
+package com.accenture.franchise.infrastructure.adapter.output.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/** Pruebas unitarias para {@link CacheInvalidator}. */
+@DisplayName("CacheInvalidator - Pruebas Unitarias")
+class CacheInvalidatorTest {
+
+  private final UUID franchiseId = UUID.randomUUID();
+  private final UUID otherFranchiseId = UUID.randomUUID();
+  private final UUID branchId = UUID.randomUUID();
+  private final UUID otherBranchId = UUID.randomUUID();
+  private final UUID productId = UUID.randomUUID();
+  private final UUID otherProductId = UUID.randomUUID();
+
+  private ConcurrentMapCacheManager cacheManager;
+  private CacheInvalidator cacheInvalidator;
+
+  @BeforeEach
+  void setUp() {
+    cacheManager =
+        new ConcurrentMapCacheManager(
+            CacheNames.FRANCHISES,
+            CacheNames.FRANCHISE_PAGES,
+            CacheNames.BRANCHES,
+            CacheNames.PRODUCTS);
+    cacheInvalidator = new CacheInvalidator(cacheManager);
+
+    cacheManager.getCache(CacheNames.FRANCHISES).put(franchiseId, "franchise");
+    cacheManager.getCache(CacheNames.FRANCHISES).put(otherFranchiseId, "other franchise");
+    cacheManager.getCache(CacheNames.FRANCHISE_PAGES).put("null|null|21", "first page");
+    cacheManager.getCache(CacheNames.BRANCHES).put(branchId, "branch");
+    cacheManager.getCache(CacheNames.BRANCHES).put(otherBranchId, "other branch");
+    cacheManager.getCache(CacheNames.PRODUCTS).put(productId, "product");
+    cacheManager.getCache(CacheNames.PRODUCTS).put(otherProductId, "other product");
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  private boolean isCached(String cacheName, Object key) {
+    return cacheManager.getCache(cacheName).get(key) != null;
+  }
+
+  @Nested
+  @DisplayName("Invalidación selectiva")
+  class TargetedEvictionTests {
+
+    @Test
+    @DisplayName("Debe invalidar solo el producto, su sucursal y su franquicia")
+    void shouldEvictOnlyProductAndOwners() {
+      // Act
+      cacheInvalidator.evictProduct(productId, branchId, franchiseId);
+
+      // Assert
+      assertThat(isCached(CacheNames.PRODUCTS, productId)).isFalse();
+      assertThat(isCached(CacheNames.BRANCHES, branchId)).isFalse();
+      assertThat(isCached(CacheNames.FRANCHISES, franchiseId)).isFalse();
+      assertThat(isCached(CacheNames.FRANCHISE_PAGES, "null|null|21")).isTrue();
+
+      assertThat(isCached(CacheNames.PRODUCTS, otherProductId)).isTrue();
+      assertThat(isCached(CacheNames.BRANCHES, otherBranchId)).isTrue();
+      assertThat(isCached(CacheNames.FRANCHISES, otherFranchiseId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe ignorar propietarios desconocidos")
+    void shouldIgnoreUnknownOwners() {
+      // Act
+      cacheInvalidator.evictProduct(productId, null, null);
+
+      // Assert
+      assertThat(isCached(CacheNames.PRODUCTS, productId)).isFalse();
+      assertThat(isCached(CacheNames.BRANCHES, branchId)).isTrue();
+      assertThat(isCached(CacheNames.FRANCHISES, franchiseId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe invalidar la sucursal sin tocar los productos")
+    void shouldEvictBranchWithoutTouchingProducts() {
+      // Act
+      cacheInvalidator.evictBranch(branchId, franchiseId);
+
+      // Assert
+      assertThat(isCached(CacheNames.BRANCHES, branchId)).isFalse();
+      assertThat(isCached(CacheNames.FRANCHISES, franchiseId)).isFalse();
+      assertThat(isCached(CacheNames.PRODUCTS, productId)).isTrue();
+      assertThat(isCached(CacheNames.FRANCHISE_PAGES, "null|null|21")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe vaciar las páginas del listado de franquicias")
+    void shouldClearFranchisePages() {
+      // Act
+      cacheInvalidator.evictFranchisePages();
+
+      // Assert
+      assertThat(isCached(CacheNames.FRANCHISE_PAGES, "null|null|21")).isFalse();
+      assertThat(isCached(CacheNames.FRANCHISES, franchiseId)).isTrue();
+    }
+  }
+
+  @Nested
+  @DisplayName("Invalidación transaccional")
+  class TransactionalEvictionTests {
+
+    @Test
+    @DisplayName("Debe diferir la invalidación hasta que termine la transacción")
+    void shouldDeferEvictionUntilTransactionCompletes() {
+      // Arrange
+      TransactionSynchronizationManager.initSynchronization();
+
+      // Act
+      cacheInvalidator.evictFranchise(franchiseId);
+
+      // Assert
+      assertThat(isCached(CacheNames.FRANCHISES, franchiseId)).isTrue();
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+      assertThat(isCached(CacheNames.FRANCHISES, franchiseId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe invalidar los productos borrados en cascada con una sola sincronización")
+    void shouldEvictCascadedProductsWithSingleSynchronization() {
+      // Arrange
+      TransactionSynchronizationManager.initSynchronization();
+
+      // Act
+      cacheInvalidator.evictProducts(List.of(productId, otherProductId, productId));
+
+      // Assert
+      assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+      assertThat(isCached(CacheNames.PRODUCTS, productId)).isTrue();
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+      assertThat(isCached(CacheNames.PRODUCTS, productId)).isFalse();
+      assertThat(isCached(CacheNames.PRODUCTS, otherProductId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe ignorar las invalidaciones múltiples vacías")
+    void shouldIgnoreEmptyBulkEviction() {
+      // Arrange
+      TransactionSynchronizationManager.initSynchronization();
+
+      // Act
+      cacheInvalidator.evictBranches(List.of());
+
+      // Assert
+      assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe diferir el vaciado de páginas hasta que termine la transacción")
+    void shouldDeferPageClearingUntilTransactionCompletes() {
+      // Arrange
+      TransactionSynchronizationManager.initSynchronization();
+
+      // Act
+      cacheInvalidator.evictFranchisePages();
+
+      // Assert
+      assertThat(isCached(CacheNames.FRANCHISE_PAGES, "null|null|21")).isTrue();
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+      assertThat(isCached(CacheNames.FRANCHISE_PAGES, "null|null|21")).isFalse();
+    }
+  }
+}
@@ -0,0 +1,165 @@
+package com.accenture.franchise.infrastructure.adapter.output.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.accenture.franchise.domain.model.Branch;
+import com.accenture.franchise.domain.model.Franchise;
+import com.accenture.franchise.domain.model.Product;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/** Pruebas unitarias para {@link DomainBinaryRedisSerializer}. */
+@DisplayName("DomainBinaryRedisSerializer - Pruebas Unitarias")
+class DomainBinaryRedisSerializerTest {
+
+  private final RedisSerializer<Object> json = RedisSerializer.json();
+
+  /** Índices por id y nombre de los agregados, derivados de sus listas y construidos a demanda. */
+  private static final String AGGREGATE_INDEXES = ".*(branch|product)Index";
+
+  private final DomainBinaryRedisSerializer serializer =
+      new DomainBinaryRedisSerializer(json, Integer.MAX_VALUE);
+  private final DomainBinaryRedisSerializer compressingSerializer =
+      new DomainBinaryRedisSerializer(json, 0);
+
+  private static Franchise franchise(int branches, int productsPerBranch) {
+    Franchise franchise = Franchise.builder().id(UUID.randomUUID()).name("McDonald's").build();
+    for (int b = 0; b < branches; b++) {
+      Branch branch =
+          Branch.builder()
+              .id(UUID.randomUUID())
+              .name("Sucursal " + b)
+              .franchiseId(franchise.getId())
+              .build();
+      for (int p = 0; p < productsPerBranch; p++) {
+        branch.addProduct(
+            Product.builder().id(UUID.randomUUID()).name("Producto " + p).stock(p).build());
+      }
+      franchise.addBranch(branch);
+    }
+    return franchise;
+  }
+
+  @Nested
+  @DisplayName("Ida y vuelta")
+  class RoundTripTests {
+
+    @Test
+    @DisplayName("Debe conservar el agregado completo de la franquicia")
+    void shouldRoundTripFranchise() {
+      // Arrange
+      Franchise franchise = franchise(3, 4);
+
+      // Act
+      Franchise result = (Franchise) serializer.deserialize(serializer.serialize(franchise));
+
+      // Assert
+      // Los índices se construyen en la primera consulta: el original ya los ha usado, la copia no
+      assertThat(result)
+          .usingRecursiveComparison()
+          .ignoringFieldsMatchingRegexes(AGGREGATE_INDEXES)
+          .isEqualTo(franchise);
+    }
+
+    @Test
+    @DisplayName("Debe conservar el agregado comprimido con LZ4")
+    void shouldRoundTripCompressedFranchise() {
+      // Arrange
+      Franchise franchise = franchise(5, 20);
+
+      // Act
+      byte[] bytes = compressingSerializer.serialize(franchise);
+      Object result = compressingSerializer.deserialize(bytes);
+
+      // Assert
+      assertThat(bytes[2]).isEqualTo((byte) 1);
+      // Los índices se construyen en la primera consulta: el original ya los ha usado, la copia no
+      assertThat(result)
+          .usingRecursiveComparison()
+          .ignoringFieldsMatchingRegexes(AGGREGATE_INDEXES)
+          .isEqualTo(franchise);
+    }
+
+    @Test
+    @DisplayName("Debe conservar listas y valores nulos")
+    void shouldRoundTripListsAndNulls() {
+      // Arrange
+      Product product = Product.builder().id(UUID.randomUUID()).name(null).stock(null).build();
+      List<Object> values = List.of(product, franchise(1, 1));
+
+      // Act
+      Object result = serializer.deserialize(serializer.serialize(values));
+
+      // Assert
+      assertThat(result)
+          .usingRecursiveComparison()
+          .ignoringFieldsMatchingRegexes(AGGREGATE_INDEXES)
+          .isEqualTo(values);
+    }
+  }
+
+  @Nested
+  @DisplayName("Compatibilidad")
+  class CompatibilityTests {
+
+    @Test
+    @DisplayName("Debe leer entradas JSON escritas con el serializador anterior")
+    void shouldReadLegacyJsonEntries() {
+      // Arrange
+      byte[] legacy = json.serialize("legacy");
+
+      // Act
+      Object result = serializer.deserialize(legacy);
+
+      // Assert
+      assertThat(result).isEqualTo("legacy");
+    }
+
+    @Test
+    @DisplayName("Debe delegar en JSON los tipos que no son del dominio")
+    void shouldFallBackToJsonForOtherTypes() {
+      // Act
+      byte[] bytes = serializer.serialize("value");
+
+      // Assert
+      assertThat(bytes[0]).isNotEqualTo(DomainBinaryRedisSerializer.MAGIC);
+      assertThat(serializer.deserialize(bytes)).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("Debe tratar otra versión del formato como fallo de caché")
+    void shouldTreatOtherFormatVersionAsMiss() {
+      // Arrange
+      byte[] bytes = serializer.serialize(franchise(1, 1));
+      bytes[1] = (byte) (DomainBinaryRedisSerializer.FORMAT_VERSION + 1);
+
+      // Act & Assert
+      assertThat(serializer.deserialize(bytes)).isNull();
+    }
+  }
+
+  @Nested
+  @DisplayName("Tamaño")
+  class SizeTests {
+
+    @Test
+    @DisplayName("Debe ocupar bastante menos que el JSON con metadatos de tipo")
+    void shouldBeSmallerThanJson() {
+      // Arrange
+      Franchise franchise = franchise(10, 50);
+
+      // Act
+      int jsonSize = json.serialize(franchise).length;
+      int binarySize = serializer.serialize(franchise).length;
+      int compressedSize = compressingSerializer.serialize(franchise).length;
+
+      // Assert
+      assertThat(binarySize).isLessThan(jsonSize / 2);
+      assertThat(compressedSize).isLessThan(binarySize);
+    }
+  }
+}
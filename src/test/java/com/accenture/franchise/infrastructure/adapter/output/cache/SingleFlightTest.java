@@ -0,0 +1,170 @@
+package com.accenture.franchise.infrastructure.adapter.output.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** Pruebas unitarias para {@link SingleFlight}. */
+@DisplayName("SingleFlight - Pruebas Unitarias")
+class SingleFlightTest {
+
+  private final SingleFlight singleFlight = new SingleFlight(Duration.ofSeconds(5));
+
+  @Nested
+  @DisplayName("Agrupación de cargas")
+  class CoalescingTests {
+
+    @Test
+    @DisplayName("Debe compartir el resultado de la carga en curso")
+    void shouldShareInFlightResult() throws Exception {
+      // Arrange
+      AtomicInteger loads = new AtomicInteger();
+      CountDownLatch started = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      CompletableFuture<String> leader =
+          CompletableFuture.supplyAsync(
+              () ->
+                  singleFlight.execute(
+                      "key",
+                      () -> {
+                        loads.incrementAndGet();
+                        started.countDown();
+                        awaitQuietly(release);
+                        return "value";
+                      }));
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+      // Act
+      CompletableFuture<String> follower =
+          CompletableFuture.supplyAsync(
+              () ->
+                  singleFlight.execute(
+                      "key",
+                      () -> {
+                        loads.incrementAndGet();
+                        return "other";
+                      }));
+      Thread.sleep(50);
+      release.countDown();
+
+      // Assert
+      assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+      assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+      assertThat(loads).hasValue(1);
+      assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe ejecutar cargas independientes para claves distintas")
+    void shouldLoadDistinctKeysIndependently() {
+      // Act
+      String first = singleFlight.execute("a", () -> "first");
+      String second = singleFlight.execute("b", () -> "second");
+
+      // Assert
+      assertThat(first).isEqualTo("first");
+      assertThat(second).isEqualTo("second");
+    }
+
+    @Test
+    @DisplayName("Debe liberar la clave cuando la carga falla")
+    void shouldReleaseKeyWhenLoadFails() {
+      // Act & Assert
+      assertThatThrownBy(
+              () ->
+                  singleFlight.execute(
+                      "key",
+                      () -> {
+                        throw new IllegalStateException("Database error");
+                      }))
+          .isInstanceOf(IllegalStateException.class);
+
+      assertThat(singleFlight.inFlightCount()).isZero();
+      assertThat(singleFlight.execute("key", () -> "retry")).isEqualTo("retry");
+    }
+  }
+
+  @Nested
+  @DisplayName("Espera de una carga ajena")
+  class WaitTests {
+
+    @Test
+    @DisplayName("Debe entregar el resultado compartido a través de la copia de quien espera")
+    void shouldHandSharedResultThroughWaiterCopy() throws Exception {
+      // Arrange
+      CountDownLatch started = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      CompletableFuture<String> leader =
+          CompletableFuture.supplyAsync(
+              () ->
+                  singleFlight.execute(
+                      "key",
+                      () -> {
+                        started.countDown();
+                        awaitQuietly(release);
+                        return "value";
+                      },
+                      value -> value + " (copia)"));
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+      // Act
+      CompletableFuture<String> follower =
+          CompletableFuture.supplyAsync(
+              () -> singleFlight.execute("key", () -> "other", value -> value + " (copia)"));
+      Thread.sleep(50);
+      release.countDown();
+
+      // Assert
+      assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+      assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("value (copia)");
+    }
+
+    @Test
+    @DisplayName("Debe cargar por su cuenta si la carga en curso supera la espera máxima")
+    void shouldLoadItselfWhenInFlightLoadTimesOut() throws Exception {
+      // Arrange
+      SingleFlight shortWait = new SingleFlight(Duration.ofMillis(50));
+      CountDownLatch started = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      CompletableFuture<String> leader =
+          CompletableFuture.supplyAsync(
+              () ->
+                  shortWait.execute(
+                      "key",
+                      () -> {
+                        started.countDown();
+                        awaitQuietly(release);
+                        return "slow";
+                      }));
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+      try {
+        // Act
+        String value = shortWait.execute("key", () -> "own");
+
+        // Assert
+        assertThat(value).isEqualTo("own");
+        assertThat(shortWait.inFlightCount()).isEqualTo(1);
+      } finally {
+        release.countDown();
+      }
+      assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+    }
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package com.accenture.franchise.infrastructure.adapter.output.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+/** Pruebas unitarias para {@link TwoTierCacheManager} y {@link CacheInvalidationListener}. */
+@DisplayName("TwoTierCacheManager - Pruebas Unitarias")
+class TwoTierCacheManagerTest {
+
+  private static final String NODE_ID = "node-a";
+
+  private final UUID key = UUID.randomUUID();
+
+  private ConcurrentMapCacheManager remoteCacheManager;
+  private TwoTierCacheManager cacheManager;
+  private CacheInvalidationListener listener;
+
+  @BeforeEach
+  void setUp() {
+    remoteCacheManager = new ConcurrentMapCacheManager(CacheNames.FRANCHISES);
+    cacheManager =
+        new TwoTierCacheManager(
+            remoteCacheManager,
+            null,
+            () -> Caffeine.newBuilder().maximumSize(1_000).build(),
+            null,
+            (cacheName, cacheKeys) -> {},
+            null,
+            new SimpleMeterRegistry());
+    listener = new CacheInvalidationListener(cacheManager, NODE_ID);
+  }
+
+  private void receive(CacheInvalidationMessage invalidation) {
+    byte[] body = invalidation.encode().getBytes(StandardCharsets.UTF_8);
+    listener.onMessage(new DefaultMessage(new byte[0], body), null);
+  }
+
+  @Nested
+  @DisplayName("Invalidaciones remotas")
+  class RemoteInvalidationTests {
+
+    @Test
+    @DisplayName("Debe descartar la copia local al recibir una invalidación de otra instancia")
+    void shouldDropLocalEntryOnRemoteInvalidation() {
+      // Arrange
+      Cache cache = cacheManager.getCache(CacheNames.FRANCHISES);
+      cache.put(key, "value");
+      remoteCacheManager.getCache(CacheNames.FRANCHISES).evict(key);
+
+      // Act
+      receive(new CacheInvalidationMessage("node-b", CacheNames.FRANCHISES, key.toString()));
+
+      // Assert
+      assertThat(cache.get(key)).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe descartar todas las claves de una invalidación múltiple")
+    void shouldDropEveryKeyOfBulkInvalidation() {
+      // Arrange
+      UUID otherKey = UUID.randomUUID();
+      Cache cache = cacheManager.getCache(CacheNames.FRANCHISES);
+      cache.put(key, "value");
+      cache.put(otherKey, "other value");
+      remoteCacheManager.getCache(CacheNames.FRANCHISES).clear();
+
+      // Act
+      receive(
+          new CacheInvalidationMessage(
+              "node-b", CacheNames.FRANCHISES, List.of(key.toString(), otherKey.toString())));
+
+      // Assert
+      assertThat(cache.get(key)).isNull();
+      assertThat(cache.get(otherKey)).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe ignorar sus propias invalidaciones")
+    void shouldIgnoreOwnInvalidations() {
+      // Arrange
+      Cache cache = cacheManager.getCache(CacheNames.FRANCHISES);
+      cache.put(key, "value");
+      remoteCacheManager.getCache(CacheNames.FRANCHISES).evict(key);
+
+      // Act
+      receive(new CacheInvalidationMessage(NODE_ID, CacheNames.FRANCHISES, key.toString()));
+
+      // Assert
+      assertThat(cache.get(key).get()).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("Debe vaciar la caché local al recibir un vaciado completo")
+    void shouldClearLocalCacheOnRemoteClear() {
+      // Arrange
+      Cache cache = cacheManager.getCache(CacheNames.FRANCHISES);
+      cache.put(key, "value");
+      remoteCacheManager.getCache(CacheNames.FRANCHISES).clear();
+
+      // Act
+      receive(new CacheInvalidationMessage("node-b", CacheNames.FRANCHISES, List.of()));
+
+      // Assert
+      assertThat(cache.get(key)).isNull();
+    }
+  }
+
+  @Nested
+  @DisplayName("Formato de mensaje")
+  class MessageFormatTests {
+
+    @Test
+    @DisplayName("Debe conservar la clave al serializar y deserializar")
+    void shouldRoundTripMessage() {
+      // Arrange
+      CacheInvalidationMessage message =
+          new CacheInvalidationMessage(NODE_ID, CacheNames.PRODUCTS, "a|b");
+
+      // Act
+      CacheInvalidationMessage parsed = CacheInvalidationMessage.parse(message.encode());
+
+      // Assert
+      assertThat(parsed).isEqualTo(message);
+    }
+
+    @Test
+    @DisplayName("Debe conservar todas las claves de una invalidación múltiple")
+    void shouldRoundTripBulkMessage() {
+      // Arrange
+      CacheInvalidationMessage message =
+          new CacheInvalidationMessage(NODE_ID, CacheNames.PRODUCTS, List.of("a", "b", "c"));
+
+      // Act
+      CacheInvalidationMessage parsed = CacheInvalidationMessage.parse(message.encode());
+
+      // Assert
+      assertThat(parsed.keys()).containsExactly("a", "b", "c");
+      assertThat(parsed.isClear()).isFalse();
+    }
+  }
+}
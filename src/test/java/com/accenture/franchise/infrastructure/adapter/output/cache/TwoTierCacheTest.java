@@ -0,0 +1,517 @@
+package com.accenture.franchise.infrastructure.adapter.output.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.accenture.franchise.domain.model.Branch;
+import com.accenture.franchise.domain.model.Franchise;
+import com.accenture.franchise.domain.model.Product;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/** Pruebas unitarias para {@link TwoTierCache}. */
+@DisplayName("TwoTierCache - Pruebas Unitarias")
+class TwoTierCacheTest {
+
+  private final UUID key = UUID.randomUUID();
+
+  private com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+  private ConcurrentMapCache remote;
+  private List<CacheInvalidationMessage> published;
+  private SimpleMeterRegistry meterRegistry;
+  private TwoTierCache cache;
+
+  @BeforeEach
+  void setUp() {
+    local = Caffeine.newBuilder().maximumWeight(100).weigher(new CacheEntryWeigher()).build();
+    remote = new ConcurrentMapCache(CacheNames.FRANCHISES);
+    published = new ArrayList<>();
+    meterRegistry = new SimpleMeterRegistry();
+    cache =
+        new TwoTierCache(
+            CacheNames.FRANCHISES,
+            local,
+            null,
+            remote,
+            null,
+            (cacheName, cacheKeys) ->
+                published.add(new CacheInvalidationMessage("self", cacheName, cacheKeys)),
+            null,
+            meterRegistry);
+  }
+
+  private double count(String tier, String result) {
+    return meterRegistry
+        .get(TwoTierCache.METRIC_NAME)
+        .tag("cache", CacheNames.FRANCHISES)
+        .tag("tier", tier)
+        .tag("result", result)
+        .counter()
+        .count();
+  }
+
+  @Nested
+  @DisplayName("Lecturas")
+  class ReadTests {
+
+    @Test
+    @DisplayName("Debe servir desde L1 sin consultar Redis")
+    void shouldServeFromLocalTier() {
+      // Arrange
+      cache.put(key, "value");
+      remote.clear();
+
+      // Act
+      Object value = cache.get(key).get();
+
+      // Assert
+      assertThat(value).isEqualTo("value");
+      assertThat(count("l1", "hit")).isEqualTo(1);
+      assertThat(count("l2", "hit")).isZero();
+      assertThat(count("l2", "miss")).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe promocionar a L1 lo encontrado en L2")
+    void shouldPromoteRemoteHitToLocalTier() {
+      // Arrange
+      remote.put(key, "value");
+
+      // Act
+      Object first = cache.get(key).get();
+      Object second = cache.get(key).get();
+
+      // Assert
+      assertThat(first).isEqualTo("value");
+      assertThat(second).isEqualTo("value");
+      assertThat(local.getIfPresent(key.toString())).isEqualTo("value");
+      assertThat(count("l1", "miss")).isEqualTo(1);
+      assertThat(count("l2", "hit")).isEqualTo(1);
+      assertThat(count("l1", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe registrar fallo en ambos niveles")
+    void shouldCountMissOnBothTiers() {
+      // Act
+      Cache.ValueWrapper wrapper = cache.get(key);
+
+      // Assert
+      assertThat(wrapper).isNull();
+      assertThat(count("l1", "miss")).isEqualTo(1);
+      assertThat(count("l2", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe cargar y almacenar el valor cuando no está en caché")
+    void shouldLoadAndStoreMissingValue() {
+      // Act
+      String value = cache.get(key, () -> "loaded");
+
+      // Assert
+      assertThat(value).isEqualTo("loaded");
+      assertThat(remote.get(key).get()).isEqualTo("loaded");
+      assertThat(local.getIfPresent(key.toString())).isEqualTo("loaded");
+    }
+  }
+
+  @Nested
+  @DisplayName("Carga agrupada")
+  class SingleFlightLoadTests {
+
+    @Test
+    @DisplayName("Debe ejecutar una sola carga para peticiones concurrentes de la misma clave")
+    void shouldLoadOnceForConcurrentCallers() throws Exception {
+      // Arrange
+      int callers = 8;
+      AtomicInteger loads = new AtomicInteger();
+      CountDownLatch started = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      Callable<String> loader =
+          () -> {
+            loads.incrementAndGet();
+            started.countDown();
+            release.await();
+            return "loaded";
+          };
+      ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+      try {
+        // Act
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+          results.add(executor.submit(() -> cache.get(key, loader)));
+        }
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(50);
+        release.countDown();
+
+        // Assert
+        for (Future<String> result : results) {
+          assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+        }
+        assertThat(loads).hasValue(1);
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    @Test
+    @DisplayName("Debe no almacenar resultados nulos")
+    void shouldNotStoreNullResults() {
+      // Act
+      Object value = cache.get(key, () -> null);
+
+      // Assert
+      assertThat(value).isNull();
+      assertThat(remote.get(key)).isNull();
+      assertThat(local.asMap()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe propagar la excepción de la carga envuelta")
+    void shouldWrapLoaderException() {
+      // Act & Assert
+      assertThatThrownBy(
+              () ->
+                  cache.get(
+                      key,
+                      () -> {
+                        throw new IllegalStateException("Database error");
+                      }))
+          .isInstanceOf(Cache.ValueRetrievalException.class)
+          .hasRootCauseMessage("Database error");
+    }
+
+    @Test
+    @DisplayName("Debe esperar el valor cargado por la instancia que tiene la concesión")
+    void shouldWaitForLeaseHolder() {
+      // Arrange
+      AtomicInteger loads = new AtomicInteger();
+      CacheLoadLease heldElsewhere =
+          new CacheLoadLease() {
+            private int checks;
+
+            @Override
+            public boolean tryAcquire(String leaseKey) {
+              return false;
+            }
+
+            @Override
+            public boolean isHeld(String leaseKey) {
+              // La otra instancia publica el valor y libera la concesión tras dos consultas
+              if (++checks == 2) {
+                remote.put(key, "remote");
+                return false;
+              }
+              return true;
+            }
+
+            @Override
+            public void release(String leaseKey) {}
+
+            @Override
+            public Duration ttl() {
+              return Duration.ofSeconds(2);
+            }
+          };
+      TwoTierCache leasedCache =
+          new TwoTierCache(
+              CacheNames.FRANCHISES,
+              local,
+              null,
+              remote,
+              null,
+              (c, k) -> {},
+              heldElsewhere,
+              meterRegistry);
+
+      // Act
+      String value =
+          leasedCache.get(
+              key,
+              () -> {
+                loads.incrementAndGet();
+                return "local";
+              });
+
+      // Assert
+      assertThat(value).isEqualTo("remote");
+      assertThat(loads).hasValue(0);
+    }
+  }
+
+  private double evictions(String tier, String cause) {
+    return meterRegistry
+        .get(TwoTierCache.EVICTIONS_METRIC_NAME)
+        .tag("cache", CacheNames.FRANCHISES)
+        .tag("tier", tier)
+        .tag("cause", cause)
+        .meter()
+        .measure()
+        .iterator()
+        .next()
+        .getValue();
+  }
+
+  @Nested
+  @DisplayName("Invalidaciones")
+  class InvalidationTests {
+
+    @Test
+    @DisplayName("Debe invalidar ambos niveles y difundir la invalidación")
+    void shouldEvictBothTiersAndPublish() {
+      // Arrange
+      cache.put(key, "value");
+
+      // Act
+      cache.evict(key);
+
+      // Assert
+      assertThat(remote.get(key)).isNull();
+      assertThat(local.getIfPresent(key.toString())).isNull();
+      assertThat(published)
+          .containsExactly(
+              new CacheInvalidationMessage("self", CacheNames.FRANCHISES, key.toString()));
+      assertThat(evictions("l1", "explicit")).isEqualTo(1);
+      assertThat(evictions("l2", "explicit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe invalidar varias claves con un solo mensaje")
+    void shouldEvictManyKeysWithSingleMessage() {
+      // Arrange
+      UUID otherKey = UUID.randomUUID();
+      cache.put(key, "value");
+      cache.put(otherKey, "other value");
+
+      // Act
+      cache.evictAll(List.of(key, otherKey));
+
+      // Assert
+      assertThat(remote.get(key)).isNull();
+      assertThat(remote.get(otherKey)).isNull();
+      assertThat(local.asMap()).isEmpty();
+      assertThat(published)
+          .containsExactly(
+              new CacheInvalidationMessage(
+                  "self", CacheNames.FRANCHISES, List.of(key.toString(), otherKey.toString())));
+      assertThat(evictions("l1", "explicit")).isEqualTo(2);
+      assertThat(evictions("l2", "explicit")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Debe delegar el borrado remoto múltiple en una sola operación")
+    void shouldDelegateRemoteBulkEviction() {
+      // Arrange
+      List<List<String>> bulkEvictions = new ArrayList<>();
+      cache =
+          new TwoTierCache(
+              CacheNames.FRANCHISES,
+              local,
+              null,
+              remote,
+              (cacheName, cacheKeys) -> bulkEvictions.add(List.copyOf(cacheKeys)),
+              (cacheName, cacheKeys) -> {},
+              null,
+              meterRegistry);
+      UUID otherKey = UUID.randomUUID();
+
+      // Act
+      cache.evictAll(List.of(key, otherKey));
+
+      // Assert
+      assertThat(bulkEvictions).containsExactly(List.of(key.toString(), otherKey.toString()));
+    }
+
+    @Test
+    @DisplayName("Debe difundir el vaciado completo de la caché")
+    void shouldPublishClear() {
+      // Arrange
+      cache.put(key, "value");
+
+      // Act
+      cache.clear();
+
+      // Assert
+      assertThat(local.asMap()).isEmpty();
+      assertThat(published).singleElement().satisfies(m -> assertThat(m.isClear()).isTrue());
+    }
+
+    @Test
+    @DisplayName("Debe invalidar solo la copia local a petición de otra instancia")
+    void shouldEvictOnlyLocalCopy() {
+      // Arrange
+      cache.put(key, "value");
+
+      // Act
+      cache.evictLocal(List.of(key.toString()));
+
+      // Assert
+      assertThat(local.getIfPresent(key.toString())).isNull();
+      assertThat(remote.get(key).get()).isEqualTo("value");
+      assertThat(published).isEmpty();
+      assertThat(evictions("l1", "remote")).isEqualTo(1);
+      assertThat(evictions("l2", "explicit")).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe contar las expulsiones de L1 por tamaño")
+    void shouldCountLocalEvictionsByPolicy() {
+      // Arrange
+      local = Caffeine.newBuilder().maximumSize(1).executor(Runnable::run).recordStats().build();
+      meterRegistry = new SimpleMeterRegistry();
+      cache =
+          new TwoTierCache(
+              CacheNames.FRANCHISES,
+              local,
+              null,
+              remote,
+              null,
+              (cacheName, cacheKeys) -> {},
+              null,
+              meterRegistry);
+
+      // Act
+      cache.put(UUID.randomUUID(), "first");
+      cache.put(UUID.randomUUID(), "second");
+      local.cleanUp();
+
+      // Assert
+      assertThat(evictions("l1", "policy")).isEqualTo(1);
+    }
+  }
+
+  @Nested
+  @DisplayName("Aislamiento de la caché local")
+  class LocalIsolationTests {
+
+    private Franchise franchise;
+
+    @BeforeEach
+    void setUp() {
+      cache =
+          new TwoTierCache(
+              CacheNames.FRANCHISES,
+              local,
+              new DomainBinaryRedisSerializer(RedisSerializer.json(), 1024),
+              remote,
+              null,
+              (cacheName, cacheKeys) -> {},
+              null,
+              meterRegistry);
+      Branch branch = Branch.builder().id(UUID.randomUUID()).name("Sucursal").build();
+      branch.addProduct(Product.builder().id(UUID.randomUUID()).name("A").stock(1).build());
+      branch.addProduct(Product.builder().id(UUID.randomUUID()).name("B").stock(2).build());
+      franchise = Franchise.builder().id(key).name("Original").build();
+      franchise.addBranch(branch);
+    }
+
+    @Test
+    @DisplayName("Debe devolver una instancia propia en cada lectura de L1")
+    void shouldReturnOwnInstanceOnEveryLocalHit() {
+      // Arrange
+      cache.put(key, franchise);
+      remote.evict(key);
+
+      // Act
+      Franchise first = cache.get(key, Franchise.class);
+      first.updateName("Sin confirmar");
+      franchise.updateName("Modificada tras cachear");
+      Franchise second = cache.get(key, Franchise.class);
+
+      // Assert
+      assertThat(second).isNotSameAs(first).isNotSameAs(franchise);
+      assertThat(second.getName()).isEqualTo("Original");
+      assertThat(count("l1", "hit")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Debe dar una instancia propia a cada llamador que espera la misma carga")
+    void shouldGiveOwnInstanceToEveryWaitingCaller() throws Exception {
+      // Arrange
+      int callers = 4;
+      CountDownLatch started = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      Callable<Franchise> loader =
+          () -> {
+            started.countDown();
+            release.await();
+            return franchise;
+          };
+      ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+      try {
+        // Act
+        List<Future<Franchise>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+          results.add(executor.submit(() -> cache.get(key, loader)));
+        }
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(50);
+        release.countDown();
+
+        // Assert
+        List<Franchise> loaded = new ArrayList<>();
+        for (Future<Franchise> result : results) {
+          loaded.add(result.get(5, TimeUnit.SECONDS));
+        }
+        assertThat(loaded).extracting(Franchise::getName).containsOnly("Original");
+        assertThat(loaded.stream().map(System::identityHashCode).distinct()).hasSize(callers);
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    @Test
+    @DisplayName("Debe conservar el peso del agregado serializado")
+    void shouldKeepWeightOfSerializedAggregate() {
+      // Act
+      cache.put(key, franchise);
+
+      // Assert
+      assertThat(new CacheEntryWeigher().weigh(key.toString(), local.getIfPresent(key.toString())))
+          .isEqualTo(4);
+    }
+  }
+
+  @Nested
+  @DisplayName("Peso de las entradas")
+  class WeightTests {
+
+    @Test
+    @DisplayName("Debe pesar una franquicia por sus sucursales y productos")
+    void shouldWeighFranchiseByAggregateSize() {
+      // Arrange
+      Branch branch = Branch.builder().id(UUID.randomUUID()).name("Sucursal").build();
+      branch.addProduct(Product.builder().id(UUID.randomUUID()).name("A").stock(1).build());
+      branch.addProduct(Product.builder().id(UUID.randomUUID()).name("B").stock(2).build());
+      Franchise franchise = Franchise.builder().id(key).name("Franquicia").build();
+      franchise.addBranch(branch);
+
+      // Act
+      int weight = new CacheEntryWeigher().weigh(key.toString(), franchise);
+
+      // Assert
+      assertThat(weight).isEqualTo(4);
+    }
+  }
+}
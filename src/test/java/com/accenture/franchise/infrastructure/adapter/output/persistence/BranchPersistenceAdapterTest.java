@@ -0,0 +1,69 @@
+package com.accenture.franchise.infrastructure.adapter.output.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.accenture.franchise.domain.model.Branch;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.BranchEntity;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.ProductEntity;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.repository.BranchJpaRepository;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.repository.FranchiseJpaRepository;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.repository.ProductJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Tests de integración para {@link BranchPersistenceAdapter}. */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("BranchPersistenceAdapter - Pruebas de Integración")
+class BranchPersistenceAdapterTest {
+
+  @Autowired private BranchPersistenceAdapter adapter;
+  @Autowired private FranchiseJpaRepository franchiseRepository;
+  @Autowired private BranchJpaRepository branchRepository;
+  @Autowired private ProductJpaRepository productRepository;
+  @Autowired private EntityManager entityManager;
+
+  @Nested
+  @DisplayName("save - Renombrado")
+  class SaveTests {
+
+    @Test
+    @DisplayName("Debe cambiar solo el nombre sin sobrescribir el stock escrito entre tanto")
+    void shouldRenameWithoutOverwritingConcurrentStock() {
+      // Arrange
+      FranchiseEntity franchise =
+          franchiseRepository.save(FranchiseEntity.builder().name("McDonald's").build());
+      BranchEntity branch =
+          branchRepository.save(BranchEntity.builder().name("Centro").franchise(franchise).build());
+      ProductEntity product =
+          productRepository.save(
+              ProductEntity.builder().name("Big Mac").stock(10).branch(branch).build());
+      entityManager.flush();
+      entityManager.clear();
+      Branch stale = adapter.findById(branch.getId()).orElseThrow();
+      entityManager.clear();
+      productRepository.findById(product.getId()).orElseThrow().setStock(999);
+      entityManager.flush();
+      entityManager.clear();
+
+      // Act
+      adapter.save(stale.withName("Norte"));
+      entityManager.flush();
+      entityManager.clear();
+
+      // Assert
+      assertThat(branchRepository.findById(branch.getId()).orElseThrow().getName())
+          .isEqualTo("Norte");
+      assertThat(productRepository.findById(product.getId()).orElseThrow().getStock())
+          .isEqualTo(999);
+    }
+  }
+}
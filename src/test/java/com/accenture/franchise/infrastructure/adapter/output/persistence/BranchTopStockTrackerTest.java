@@ -0,0 +1,368 @@
+package com.accenture.franchise.infrastructure.adapter.output.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.accenture.franchise.domain.model.Branch;
+import com.accenture.franchise.domain.model.Franchise;
+import com.accenture.franchise.domain.model.Product;
+import com.accenture.franchise.domain.model.ProductStock;
+import com.accenture.franchise.domain.model.StockChange;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.BranchEntity;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.ProductEntity;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.repository.BranchJpaRepository;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.repository.FranchiseJpaRepository;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.repository.ProductJpaRepository;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Tests de integración para {@link BranchTopStockTracker}: el producto con más stock se consulta
+ * tras escribir por los adapters, que mantienen {@code branch_top_stock}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("BranchTopStockTracker - Pruebas de Integración")
+class BranchTopStockTrackerTest {
+
+  @Autowired private FranchisePersistenceAdapter franchiseAdapter;
+  @Autowired private BranchPersistenceAdapter branchAdapter;
+  @Autowired private ProductPersistenceAdapter productAdapter;
+  @Autowired private BranchTopStockTracker topStockTracker;
+  @Autowired private FranchiseJpaRepository franchiseRepository;
+  @Autowired private BranchJpaRepository branchRepository;
+  @Autowired private ProductJpaRepository productRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private EntityManager entityManager;
+
+  private UUID franchiseId;
+  private UUID centroId;
+  private UUID norteId;
+
+  @BeforeEach
+  void setUp() {
+    franchiseId = franchiseAdapter.save(Franchise.builder().name("McDonald's").build()).getId();
+    centroId = givenBranch(franchiseId, "Sucursal Centro");
+    norteId = givenBranch(franchiseId, "Sucursal Norte");
+  }
+
+  private UUID givenBranch(UUID franchise, String name) {
+    return branchAdapter.save(Branch.builder().name(name).franchiseId(franchise).build()).getId();
+  }
+
+  /** Las escrituras masivas van por JDBC: los productos deben estar ya en la tabla. */
+  private UUID givenProduct(UUID branchId, String name, int stock) {
+    UUID id =
+        productAdapter
+            .save(Product.builder().name(name).stock(stock).branchId(branchId).build())
+            .getId();
+    entityManager.flush();
+    return id;
+  }
+
+  private void givenStock(UUID productId, int stock) {
+    Product product = productAdapter.findById(productId).orElseThrow();
+    product.updateStock(stock);
+    productAdapter.save(product);
+  }
+
+  private List<ProductStock> topStock() {
+    entityManager.flush();
+    entityManager.clear();
+    return productAdapter.findTopStockByFranchiseId(franchiseId);
+  }
+
+  private ProductStock topStockOf(UUID branchId) {
+    return topStock().stream()
+        .filter(row -> row.branchId().equals(branchId))
+        .findFirst()
+        .orElseThrow();
+  }
+
+  @Nested
+  @DisplayName("Lectura - Producto con más stock por sucursal")
+  class ReadTests {
+
+    @Test
+    @DisplayName("Debe retornar una fila por sucursal con el producto de mayor stock")
+    void shouldReturnOneRowPerBranchWithTopStockProduct() {
+      // Arrange
+      givenProduct(centroId, "Big Mac", 50);
+      givenProduct(centroId, "Papas", 100);
+      givenProduct(norteId, "Nuggets", 75);
+      givenProduct(norteId, "McFlurry", 10);
+
+      // Act
+      List<ProductStock> topStock = topStock();
+
+      // Assert
+      assertThat(topStock).hasSize(2);
+      assertThat(topStock)
+          .extracting(ProductStock::productName)
+          .containsExactlyInAnyOrder("Papas", "Nuggets");
+      assertThat(topStockOf(centroId).stock()).isEqualTo(100);
+      assertThat(topStockOf(centroId).branchName()).isEqualTo("Sucursal Centro");
+    }
+
+    @Test
+    @DisplayName("Debe ignorar sucursales sin productos y de otras franquicias")
+    void shouldIgnoreEmptyBranchesAndOtherFranchises() {
+      // Arrange
+      UUID other = franchiseAdapter.save(Franchise.builder().name("KFC").build()).getId();
+      UUID otherBranch = givenBranch(other, "Sucursal KFC");
+      givenProduct(centroId, "Sub", 20);
+      givenProduct(otherBranch, "Pollo", 500);
+
+      // Act
+      List<ProductStock> topStock = topStock();
+
+      // Assert
+      assertThat(topStock).hasSize(1);
+      assertThat(topStock.get(0).productName()).isEqualTo("Sub");
+      assertThat(topStock.get(0).branchId()).isEqualTo(centroId);
+    }
+
+    @Test
+    @DisplayName("Debe calcular en una escritura masiva la fila de una sucursal que no la tenía")
+    void shouldBuildRowForBranchWithoutOne() {
+      // Arrange
+      BranchEntity sur =
+          branchRepository.save(
+              BranchEntity.builder()
+                  .name("Sucursal Sur")
+                  .franchise(franchiseRepository.getReferenceById(franchiseId))
+                  .build());
+      productRepository.save(ProductEntity.builder().name("Papas").stock(80).branch(sur).build());
+      UUID bigMacId =
+          productRepository
+              .save(ProductEntity.builder().name("Big Mac").stock(1).branch(sur).build())
+              .getId();
+      entityManager.flush();
+
+      // Act
+      productAdapter.updateStocks(List.of(new StockChange(bigMacId, 5)));
+
+      // Assert
+      assertThat(topStockOf(sur.getId()).productName()).isEqualTo("Papas");
+    }
+  }
+
+  @Nested
+  @DisplayName("Escrituras de un producto")
+  class SingleWriteTests {
+
+    @Test
+    @DisplayName("Debe sustituir el máximo cuando otro producto lo supera")
+    void shouldReplaceTopWhenAnotherProductExceedsIt() {
+      // Arrange
+      givenProduct(centroId, "Big Mac", 50);
+      UUID papas = givenProduct(centroId, "Papas", 10);
+
+      // Act
+      givenStock(papas, 60);
+
+      // Assert
+      assertThat(topStockOf(centroId).productId()).isEqualTo(papas);
+      assertThat(topStockOf(centroId).stock()).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("Debe buscar el siguiente producto cuando baja el stock del máximo")
+    void shouldFindNextProductWhenTopStockDecreases() {
+      // Arrange
+      UUID bigMac = givenProduct(centroId, "Big Mac", 50);
+      givenProduct(centroId, "Papas", 30);
+
+      // Act
+      givenStock(bigMac, 5);
+
+      // Assert
+      assertThat(topStockOf(centroId).productName()).isEqualTo("Papas");
+      assertThat(topStockOf(centroId).stock()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("Debe reflejar el cambio de nombre del producto máximo")
+    void shouldReflectRenameOfTopProduct() {
+      // Arrange
+      UUID bigMac = givenProduct(centroId, "Big Mac", 50);
+      Product product = productAdapter.findById(bigMac).orElseThrow().withName("Big Mac Doble");
+
+      // Act
+      productAdapter.save(product);
+
+      // Assert
+      assertThat(topStockOf(centroId).productName()).isEqualTo("Big Mac Doble");
+    }
+
+    @Test
+    @DisplayName("Debe omitir la sucursal al borrar su único producto")
+    void shouldSkipBranchWhenItsOnlyProductIsDeleted() {
+      // Arrange
+      UUID bigMac = givenProduct(centroId, "Big Mac", 50);
+      UUID papas = givenProduct(norteId, "Papas", 30);
+      givenProduct(norteId, "Nuggets", 20);
+
+      // Act
+      productAdapter.deleteById(bigMac);
+      productAdapter.deleteById(papas);
+
+      // Assert
+      List<ProductStock> topStock = topStock();
+      assertThat(topStock).extracting(ProductStock::productName).containsExactly("Nuggets");
+    }
+
+    @Test
+    @DisplayName("Debe desempatar por identificador como la base de datos")
+    void shouldBreakTiesByIdentifierAsTheDatabase() {
+      // Arrange
+      givenProduct(centroId, "Big Mac", 40);
+      givenProduct(centroId, "Papas", 40);
+      givenProduct(centroId, "Nuggets", 40);
+
+      // Act
+      ProductStock top = topStockOf(centroId);
+
+      // Assert
+      UUID expected =
+          jdbcTemplate.queryForObject(
+              "SELECT id FROM products WHERE branch_id = ? ORDER BY stock DESC, id LIMIT 1",
+              UUID.class,
+              centroId);
+      assertThat(top.productId()).isEqualTo(expected);
+    }
+  }
+
+  @Nested
+  @DisplayName("Escrituras masivas y borrado de sucursales")
+  class BulkWriteTests {
+
+    @Test
+    @DisplayName("Debe recalcular las sucursales de una actualización masiva")
+    void shouldRecomputeBranchesOfBulkUpdate() {
+      // Arrange
+      UUID bigMac = givenProduct(centroId, "Big Mac", 50);
+      givenProduct(centroId, "Papas", 30);
+      UUID nuggets = givenProduct(norteId, "Nuggets", 5);
+      givenProduct(norteId, "McFlurry", 10);
+
+      // Act
+      productAdapter.updateStocks(
+          List.of(new StockChange(bigMac, 1), new StockChange(nuggets, 90)));
+
+      // Assert
+      assertThat(topStockOf(centroId).productName()).isEqualTo("Papas");
+      assertThat(topStockOf(norteId).productName()).isEqualTo("Nuggets");
+    }
+
+    @Test
+    @DisplayName("Debe tener en cuenta los productos importados")
+    void shouldConsiderImportedProducts() {
+      // Arrange
+      givenProduct(centroId, "Big Mac", 50);
+
+      // Act
+      productAdapter.insertIfAbsent(
+          franchiseId,
+          List.of(
+              Product.builder().name("Papas").stock(70).branchId(centroId).build(),
+              Product.builder().name("Nuggets").stock(3).branchId(norteId).build()));
+
+      // Assert
+      assertThat(topStockOf(centroId).productName()).isEqualTo("Papas");
+      assertThat(topStockOf(norteId).productName()).isEqualTo("Nuggets");
+    }
+
+    @Test
+    @DisplayName("Debe eliminar la fila de la sucursal borrada")
+    void shouldRemoveRowOfDeletedBranch() {
+      // Arrange
+      givenProduct(centroId, "Big Mac", 50);
+      givenProduct(norteId, "Nuggets", 5);
+      // Se borra en otra transacción, sin la lista vacía de productos con la que se creó
+      entityManager.clear();
+
+      // Act
+      branchAdapter.deleteById(norteId);
+
+      // Assert
+      assertThat(topStock()).extracting(ProductStock::branchId).containsExactly(centroId);
+      assertThat(
+              jdbcTemplate.queryForObject(
+                  "SELECT COUNT(*) FROM branch_top_stock WHERE branch_id = ?",
+                  Integer.class,
+                  norteId))
+          .isZero();
+    }
+  }
+
+  @Nested
+  @DisplayName("Conciliación de recálculos concurrentes")
+  class ReconcileTests {
+
+    @Test
+    @DisplayName("Debe leer el stock actual del producto aunque la fila vaya por detrás")
+    void shouldReadCurrentStockOfProductWhenRowIsBehind() {
+      // Arrange
+      UUID bigMac = givenProduct(centroId, "Big Mac", 50);
+      jdbcTemplate.update("UPDATE products SET stock = 45 WHERE id = ?", bigMac);
+
+      // Act
+      ProductStock top = topStockOf(centroId);
+
+      // Assert
+      assertThat(top.productId()).isEqualTo(bigMac);
+      assertThat(top.stock()).isEqualTo(45);
+    }
+
+    @Test
+    @DisplayName("Debe corregir el máximo que dejó un recálculo con un stock anterior")
+    void shouldFixTopLeftByRefreshWithPreviousStock() {
+      // Arrange
+      UUID bigMac = givenProduct(centroId, "Big Mac", 50);
+      UUID papas = givenProduct(centroId, "Papas", 30);
+      jdbcTemplate.update(
+          "UPDATE branch_top_stock SET product_id = ?, product_name = 'Papas', stock = 60"
+              + " WHERE branch_id = ?",
+          papas,
+          centroId);
+
+      // Act
+      topStockTracker.reconcile(centroId);
+
+      // Assert
+      assertThat(topStockOf(centroId).productId()).isEqualTo(bigMac);
+      assertThat(topStockOf(centroId).stock()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("Debe dejar vacía la fila de una sucursal sin productos al conciliarla")
+    void shouldClearRowOfBranchWithoutProducts() {
+      // Arrange
+      UUID papas = givenProduct(centroId, "Papas", 30);
+      jdbcTemplate.update("DELETE FROM products WHERE id = ?", papas);
+
+      // Act
+      topStockTracker.reconcile(centroId);
+
+      // Assert
+      assertThat(
+              jdbcTemplate.queryForObject(
+                  "SELECT COUNT(*) FROM branch_top_stock"
+                      + " WHERE branch_id = ? AND product_id IS NULL",
+                  Integer.class,
+                  centroId))
+          .isEqualTo(1);
+    }
+  }
+}
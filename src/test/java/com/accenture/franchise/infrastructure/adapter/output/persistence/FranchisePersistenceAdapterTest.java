@@ -0,0 +1,209 @@
+package com.accenture.franchise.infrastructure.adapter.output.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.accenture.franchise.domain.model.Branch;
+import com.accenture.franchise.domain.model.Franchise;
+import com.accenture.franchise.domain.model.Product;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.BranchEntity;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.ProductEntity;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.repository.BranchJpaRepository;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.repository.FranchiseJpaRepository;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.repository.ProductJpaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Tests de integración para {@link FranchisePersistenceAdapter}. */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("FranchisePersistenceAdapter - Pruebas de Integración")
+class FranchisePersistenceAdapterTest {
+
+  @Autowired private FranchisePersistenceAdapter adapter;
+  @Autowired private FranchiseJpaRepository franchiseRepository;
+  @Autowired private BranchJpaRepository branchRepository;
+  @Autowired private ProductJpaRepository productRepository;
+  @Autowired private EntityManager entityManager;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  private UUID givenFranchiseWith(int branches, int productsPerBranch) {
+    FranchiseEntity franchise =
+        franchiseRepository.save(FranchiseEntity.builder().name("McDonald's").build());
+    for (int b = 0; b < branches; b++) {
+      BranchEntity branch =
+          branchRepository.save(
+              BranchEntity.builder().name("Sucursal " + b).franchise(franchise).build());
+      for (int p = 0; p < productsPerBranch; p++) {
+        productRepository.save(
+            ProductEntity.builder().name("Producto " + p).stock(p * 10).branch(branch).build());
+      }
+    }
+    // Vaciar el contexto de persistencia para que la carga vaya realmente a la base de datos
+    entityManager.flush();
+    entityManager.clear();
+    statistics.clear();
+    return franchise.getId();
+  }
+
+  @Nested
+  @DisplayName("findById - Carga del agregado completo")
+  class FindByIdTests {
+
+    @ParameterizedTest(name = "{0} sucursales")
+    @ValueSource(ints = {1, 5, 50})
+    @DisplayName("Debe cargar el agregado con un número fijo de sentencias SQL")
+    void shouldLoadAggregateWithFixedStatementCount(int branches) {
+      // Arrange
+      UUID franchiseId = givenFranchiseWith(branches, 3);
+
+      // Act
+      Optional<Franchise> franchise = adapter.findById(franchiseId);
+
+      // Assert
+      assertThat(franchise).isPresent();
+      assertThat(franchise.get().getBranches()).hasSize(branches);
+      assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Debe mapear los productos de cada sucursal")
+    void shouldMapProductsOfEachBranch() {
+      // Arrange
+      UUID franchiseId = givenFranchiseWith(2, 3);
+
+      // Act
+      Franchise franchise = adapter.findById(franchiseId).orElseThrow();
+
+      // Assert
+      assertThat(franchise.getBranches())
+          .allSatisfy(
+              branch -> {
+                assertThat(branch.getFranchiseId()).isEqualTo(franchiseId);
+                assertThat(branch.getProducts())
+                    .extracting(Product::getName)
+                    .containsExactlyInAnyOrder("Producto 0", "Producto 1", "Producto 2");
+              });
+      assertThat(franchise.getBranches())
+          .extracting(Branch::getName)
+          .containsExactlyInAnyOrder("Sucursal 0", "Sucursal 1");
+    }
+
+    @Test
+    @DisplayName("Debe usar una sola sentencia si la franquicia no existe")
+    void shouldUseSingleStatementWhenFranchiseNotExists() {
+      // Arrange
+      statistics.clear();
+
+      // Act
+      Optional<Franchise> franchise = adapter.findById(UUID.randomUUID());
+
+      // Assert
+      assertThat(franchise).isEmpty();
+      assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+  }
+
+  @Nested
+  @DisplayName("save - Renombrado")
+  class SaveTests {
+
+    @Test
+    @DisplayName("Debe cambiar solo el nombre sin sobrescribir el stock escrito entre tanto")
+    void shouldRenameWithoutOverwritingConcurrentStock() {
+      // Arrange
+      UUID franchiseId = givenFranchiseWith(1, 1);
+      Franchise stale = adapter.findById(franchiseId).orElseThrow();
+      entityManager.clear();
+      ProductEntity product = productRepository.findAll().get(0);
+      product.setStock(999);
+      entityManager.flush();
+      entityManager.clear();
+
+      // Act
+      stale.updateName("Burger King");
+      adapter.save(stale);
+      entityManager.flush();
+      entityManager.clear();
+
+      // Assert
+      assertThat(franchiseRepository.findById(franchiseId).orElseThrow().getName())
+          .isEqualTo("Burger King");
+      assertThat(productRepository.findById(product.getId()).orElseThrow().getStock())
+          .isEqualTo(999);
+    }
+  }
+
+  @Nested
+  @DisplayName("findPageOrderedByName - Listado paginado")
+  class FindPageOrderedByNameTests {
+
+    private void givenFranchises(String... names) {
+      for (String name : names) {
+        franchiseRepository.save(FranchiseEntity.builder().name(name).build());
+      }
+      entityManager.flush();
+      entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Debe recorrer las franquicias por nombre sin repetir ni saltar ninguna")
+    void shouldWalkFranchisesByNameWithoutGapsOrDuplicates() {
+      // Arrange
+      givenFranchises("KFC", "Burger King", "Subway", "McDonald's", "Domino's");
+
+      // Act
+      List<Franchise> first = adapter.findPageOrderedByName(null, null, 2);
+      Franchise lastOfFirst = first.get(1);
+      List<Franchise> second =
+          adapter.findPageOrderedByName(lastOfFirst.getName(), lastOfFirst.getId(), 2);
+      Franchise lastOfSecond = second.get(1);
+      List<Franchise> third =
+          adapter.findPageOrderedByName(lastOfSecond.getName(), lastOfSecond.getId(), 2);
+
+      // Assert
+      assertThat(first).extracting(Franchise::getName).containsExactly("Burger King", "Domino's");
+      assertThat(second).extracting(Franchise::getName).containsExactly("KFC", "McDonald's");
+      assertThat(third).extracting(Franchise::getName).containsExactly("Subway");
+    }
+
+    @Test
+    @DisplayName("Debe cargar la página en una sola sentencia sin sucursales")
+    void shouldLoadPageInSingleStatementWithoutBranches() {
+      // Arrange
+      givenFranchiseWith(3, 2);
+      statistics.clear();
+
+      // Act
+      List<Franchise> page = adapter.findPageOrderedByName(null, null, 10);
+
+      // Assert
+      assertThat(page).hasSize(1);
+      assertThat(page.get(0).getBranches()).isEmpty();
+      assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+  }
+}
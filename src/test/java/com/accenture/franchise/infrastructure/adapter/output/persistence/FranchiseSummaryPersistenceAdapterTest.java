@@ -0,0 +1,271 @@
+package com.accenture.franchise.infrastructure.adapter.output.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.accenture.franchise.domain.model.Branch;
+import com.accenture.franchise.domain.model.Franchise;
+import com.accenture.franchise.domain.model.FranchiseSummary;
+import com.accenture.franchise.domain.model.Product;
+import com.accenture.franchise.domain.model.StockChange;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Tests de integración para {@link FranchiseSummaryPersistenceAdapter}: el resumen se lee tras
+ * escribir por los adapters, que lo mantienen con {@link FranchiseSummaryProjector}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("FranchiseSummaryPersistenceAdapter - Pruebas de Integración")
+class FranchiseSummaryPersistenceAdapterTest {
+
+  @Autowired private FranchiseSummaryPersistenceAdapter adapter;
+  @Autowired private FranchisePersistenceAdapter franchiseAdapter;
+  @Autowired private BranchPersistenceAdapter branchAdapter;
+  @Autowired private ProductPersistenceAdapter productAdapter;
+  @Autowired private EntityManager entityManager;
+
+  private UUID franchiseId;
+  private UUID centroId;
+  private UUID norteId;
+
+  @BeforeEach
+  void setUp() {
+    franchiseId = franchiseAdapter.save(Franchise.builder().name("McDonald's").build()).getId();
+    norteId =
+        branchAdapter.save(Branch.builder().name("Norte").franchiseId(franchiseId).build()).getId();
+    centroId =
+        branchAdapter
+            .save(Branch.builder().name("Centro").franchiseId(franchiseId).build())
+            .getId();
+    flushAndClear();
+  }
+
+  /** Las escrituras de contadores van por JDBC: las filas deben existir antes y leerse después. */
+  private void flushAndClear() {
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  private FranchiseSummary summary() {
+    flushAndClear();
+    return adapter.findById(franchiseId).orElseThrow();
+  }
+
+  private UUID givenProduct(UUID branchId, String name, int stock) {
+    UUID id =
+        productAdapter
+            .save(Product.builder().name(name).stock(stock).branchId(branchId).build())
+            .getId();
+    flushAndClear();
+    return id;
+  }
+
+  @Nested
+  @DisplayName("Franquicias y sucursales")
+  class HeaderTests {
+
+    @Test
+    @DisplayName("Debe crear el resumen con las sucursales ordenadas por nombre")
+    void shouldCreateSummaryWithBranchesOrderedByName() {
+      // Act
+      FranchiseSummary summary = summary();
+
+      // Assert
+      assertThat(summary.name()).isEqualTo("McDonald's");
+      assertThat(summary.branches())
+          .extracting(FranchiseSummary.BranchHeader::name)
+          .containsExactly("Centro", "Norte");
+      assertThat(summary.branchCount()).isEqualTo(2);
+      assertThat(summary.productCount()).isZero();
+      assertThat(summary.totalStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe reflejar los cambios de nombre de franquicia y sucursal")
+    void shouldReflectFranchiseAndBranchRenames() {
+      // Arrange
+      Franchise franchise = franchiseAdapter.findById(franchiseId).orElseThrow();
+      franchise.updateName("McDonald's España");
+      Branch branch = branchAdapter.findById(norteId).orElseThrow().withName("Aeropuerto");
+
+      // Act
+      franchiseAdapter.save(franchise);
+      branchAdapter.save(branch);
+
+      // Assert
+      FranchiseSummary summary = summary();
+      assertThat(summary.name()).isEqualTo("McDonald's España");
+      assertThat(summary.branches())
+          .extracting(FranchiseSummary.BranchHeader::name)
+          .containsExactly("Aeropuerto", "Centro");
+      assertThat(summary.branchCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Debe descontar la sucursal borrada y sus productos")
+    void shouldSubtractDeletedBranchAndItsProducts() {
+      // Arrange
+      givenProduct(norteId, "Big Mac", 30);
+      givenProduct(norteId, "McFlurry", 12);
+      givenProduct(centroId, "Big Mac", 5);
+
+      // Act
+      branchAdapter.deleteById(norteId);
+
+      // Assert
+      FranchiseSummary summary = summary();
+      assertThat(summary.branches())
+          .extracting(FranchiseSummary.BranchHeader::id)
+          .containsExactly(centroId);
+      assertThat(summary.branchCount()).isEqualTo(1);
+      assertThat(summary.productCount()).isEqualTo(1);
+      assertThat(summary.totalStock()).isEqualTo(5);
+    }
+  }
+
+  @Nested
+  @DisplayName("Contadores de productos y stock")
+  class CounterTests {
+
+    @Test
+    @DisplayName("Debe sumar los productos creados e importados sin contar los repetidos")
+    void shouldCountCreatedAndImportedProductsExceptDuplicates() {
+      // Arrange
+      givenProduct(centroId, "Big Mac", 10);
+
+      // Act
+      productAdapter.insertIfAbsent(
+          franchiseId,
+          List.of(
+              Product.builder().name("Big Mac").stock(99).branchId(centroId).build(),
+              Product.builder().name("McFlurry").stock(7).branchId(centroId).build(),
+              Product.builder().name("Patatas").stock(3).branchId(norteId).build()));
+
+      // Assert
+      FranchiseSummary summary = summary();
+      assertThat(summary.productCount()).isEqualTo(3);
+      assertThat(summary.totalStock()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Debe aplicar la variación de stock de las actualizaciones masivas")
+    void shouldApplyStockVariationOfBulkUpdates() {
+      // Arrange
+      UUID bigMac = givenProduct(centroId, "Big Mac", 10);
+      UUID mcFlurry = givenProduct(norteId, "McFlurry", 20);
+
+      // Act
+      productAdapter.updateStocks(
+          List.of(
+              new StockChange(bigMac, 15),
+              new StockChange(mcFlurry, 4),
+              new StockChange(bigMac, 12),
+              new StockChange(UUID.randomUUID(), 50)));
+
+      // Assert
+      assertThat(summary().totalStock()).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("Debe sumar solo los ajustes relativos aplicados")
+    void shouldAddOnlyAppliedRelativeAdjustments() {
+      // Arrange
+      UUID bigMac = givenProduct(centroId, "Big Mac", 10);
+      UUID mcFlurry = givenProduct(norteId, "McFlurry", 2);
+
+      // Act
+      productAdapter.adjustStocks(Map.of(bigMac, 5, mcFlurry, -3));
+
+      // Assert
+      assertThat(summary().totalStock()).isEqualTo(17);
+    }
+
+    @Test
+    @DisplayName("Debe descontar el producto borrado y aplicar la variación al guardarlo")
+    void shouldSubtractDeletedProductAndApplyVariationOnSave() {
+      // Arrange
+      UUID bigMac = givenProduct(centroId, "Big Mac", 10);
+      UUID mcFlurry = givenProduct(centroId, "McFlurry", 6);
+      Product product = productAdapter.findById(mcFlurry).orElseThrow();
+      product.updateStock(9);
+
+      // Act
+      productAdapter.deleteById(bigMac);
+      productAdapter.save(product);
+
+      // Assert
+      FranchiseSummary summary = summary();
+      assertThat(summary.productCount()).isEqualTo(1);
+      assertThat(summary.totalStock()).isEqualTo(9);
+    }
+  }
+
+  @Nested
+  @DisplayName("findVersionById - Versión de la franquicia")
+  class VersionTests {
+
+    private long version() {
+      flushAndClear();
+      return adapter.findVersionById(franchiseId).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Debe avanzar la versión con cada escritura aunque no cambien los contadores")
+    void shouldAdvanceVersionOnEveryWriteEvenWithoutCounterChanges() {
+      // Arrange
+      UUID bigMac = givenProduct(centroId, "Big Mac", 10);
+      UUID mcFlurry = givenProduct(norteId, "McFlurry", 10);
+      long before = version();
+      Product product = productAdapter.findById(bigMac).orElseThrow().withName("Big Mac Doble");
+
+      // Act
+      productAdapter.save(product);
+      long afterRename = version();
+      productAdapter.updateStocks(
+          List.of(new StockChange(bigMac, 15), new StockChange(mcFlurry, 5)));
+      long afterTransfer = version();
+
+      // Assert
+      assertThat(afterRename).isGreaterThan(before);
+      assertThat(afterTransfer).isGreaterThan(afterRename);
+      assertThat(summary().totalStock()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Debe avanzar la versión al cambiar franquicia y sucursales")
+    void shouldAdvanceVersionOnFranchiseAndBranchChanges() {
+      // Arrange
+      long before = version();
+      Branch branch = branchAdapter.findById(norteId).orElseThrow().withName("Aeropuerto");
+
+      // Act
+      branchAdapter.save(branch);
+      long afterRename = version();
+      branchAdapter.deleteById(centroId);
+      long afterDelete = version();
+
+      // Assert
+      assertThat(afterRename).isGreaterThan(before);
+      assertThat(afterDelete).isGreaterThan(afterRename);
+    }
+
+    @Test
+    @DisplayName("Debe retornar vacío si la franquicia no existe")
+    void shouldReturnEmptyWhenFranchiseNotExists() {
+      // Act & Assert
+      assertThat(adapter.findVersionById(UUID.randomUUID())).isEmpty();
+    }
+  }
+}
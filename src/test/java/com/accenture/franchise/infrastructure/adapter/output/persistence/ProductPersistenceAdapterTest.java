@@ -0,0 +1,272 @@
+package com.accenture.franchise.infrastructure.adapter.output.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.accenture.franchise.domain.model.Product;
+import com.accenture.franchise.domain.model.ProductStock;
+import com.accenture.franchise.domain.model.StockChange;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.BranchEntity;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.ProductEntity;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.repository.BranchJpaRepository;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.repository.FranchiseJpaRepository;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.repository.ProductJpaRepository;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Tests de integración para {@link ProductPersistenceAdapter}. */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("ProductPersistenceAdapter - Pruebas de Integración")
+class ProductPersistenceAdapterTest {
+
+  @Autowired private ProductPersistenceAdapter adapter;
+  @Autowired private FranchiseJpaRepository franchiseRepository;
+  @Autowired private BranchJpaRepository branchRepository;
+  @Autowired private ProductJpaRepository productRepository;
+  @Autowired private EntityManager entityManager;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private List<UUID> givenProducts(int count) {
+    FranchiseEntity franchise =
+        franchiseRepository.save(FranchiseEntity.builder().name("McDonald's").build());
+    BranchEntity branch =
+        branchRepository.save(BranchEntity.builder().name("Centro").franchise(franchise).build());
+    List<UUID> ids = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      ids.add(
+          productRepository
+              .save(ProductEntity.builder().name("Producto " + i).stock(1).branch(branch).build())
+              .getId());
+    }
+    // Las escrituras por lotes van por JDBC, así que las filas deben existir en la base de datos
+    entityManager.flush();
+    entityManager.clear();
+    return ids;
+  }
+
+  @Nested
+  @DisplayName("updateStocks - Actualización masiva por lotes")
+  class UpdateStocksTests {
+
+    @Test
+    @DisplayName("Debe actualizar todos los productos aunque ocupen varios lotes")
+    void shouldUpdateProductsAcrossSeveralBatches() {
+      // Arrange
+      List<UUID> ids = givenProducts(ProductPersistenceAdapter.BATCH_SIZE + 3);
+      List<StockChange> changes = new ArrayList<>();
+      for (int i = 0; i < ids.size(); i++) {
+        changes.add(new StockChange(ids.get(i), i));
+      }
+
+      // Act
+      Set<UUID> updated = adapter.updateStocks(changes);
+
+      // Assert
+      assertThat(updated).containsExactlyElementsOf(ids);
+      ProductEntity last = productRepository.findById(ids.get(ids.size() - 1)).orElseThrow();
+      assertThat(last.getStock()).isEqualTo(ids.size() - 1);
+      assertThat(last.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Debe omitir los productos inexistentes")
+    void shouldSkipMissingProducts() {
+      // Arrange
+      List<UUID> ids = givenProducts(2);
+      UUID missing = UUID.randomUUID();
+
+      // Act
+      Set<UUID> updated =
+          adapter.updateStocks(
+              List.of(
+                  new StockChange(ids.get(0), 40),
+                  new StockChange(missing, 10),
+                  new StockChange(ids.get(1), 50)));
+
+      // Assert
+      assertThat(updated).containsExactly(ids.get(0), ids.get(1));
+      assertThat(productRepository.findById(ids.get(1)).orElseThrow().getStock()).isEqualTo(50);
+    }
+  }
+
+  @Nested
+  @DisplayName("Orden de bloqueo")
+  class LockOrderTests {
+
+    @Test
+    @DisplayName("Debe ordenar los identificadores igual que la base de datos")
+    void shouldOrderIdsLikeDatabase() {
+      // Arrange
+      List<UUID> ids = givenProducts(50);
+      UUID branchId = productRepository.findOwnerById(ids.get(0)).orElseThrow().getBranchId();
+
+      // Act
+      List<UUID> locked =
+          jdbcTemplate.query(
+              "SELECT id FROM products WHERE branch_id = ? ORDER BY id FOR UPDATE",
+              (row, rowNum) -> row.getObject("id", UUID.class),
+              branchId);
+
+      // Assert
+      assertThat(locked)
+          .containsExactlyInAnyOrderElementsOf(ids)
+          .isSortedAccordingTo(ProductPersistenceAdapter.DATABASE_ORDER);
+    }
+  }
+
+  @Nested
+  @DisplayName("insertIfAbsent - Inserción por lotes sin duplicados")
+  class InsertIfAbsentTests {
+
+    @Test
+    @DisplayName("Debe omitir los nombres que ya existen en la sucursal")
+    void shouldSkipNamesAlreadyInBranch() {
+      // Arrange
+      UUID existingId = givenProducts(1).get(0);
+      UUID branchId = productRepository.findOwnerById(existingId).orElseThrow().getBranchId();
+      UUID franchiseId = branchRepository.findFranchiseIdById(branchId).orElseThrow();
+
+      // Act
+      int inserted =
+          adapter.insertIfAbsent(
+              franchiseId,
+              List.of(
+                  Product.builder().name("Producto 0").stock(5).branchId(branchId).build(),
+                  Product.builder().name("Nuevo").stock(7).branchId(branchId).build()));
+
+      // Assert
+      assertThat(inserted).isEqualTo(1);
+      assertThat(productRepository.findByBranchId(branchId))
+          .extracting(ProductEntity::getName, ProductEntity::getStock)
+          .containsExactlyInAnyOrder(tuple("Producto 0", 1), tuple("Nuevo", 7));
+    }
+  }
+
+  @Nested
+  @DisplayName("streamCatalogByFranchiseId - Recorrido del catálogo con cursor")
+  class StreamCatalogTests {
+
+    @Test
+    @DisplayName("Debe entregar cada producto y las sucursales vacías una vez")
+    void shouldStreamProductsAndEmptyBranches() {
+      // Arrange
+      UUID productId = givenProducts(3).get(0);
+      UUID franchiseId = productRepository.findOwnerById(productId).orElseThrow().getFranchiseId();
+      branchRepository.save(
+          BranchEntity.builder()
+              .name("Vacía")
+              .franchise(franchiseRepository.getReferenceById(franchiseId))
+              .build());
+      entityManager.flush();
+      List<ProductStock> rows = new ArrayList<>();
+
+      // Act
+      adapter.streamCatalogByFranchiseId(franchiseId, rows::add);
+
+      // Assert
+      assertThat(rows).hasSize(4);
+      assertThat(rows)
+          .filteredOn(row -> row.productId() == null)
+          .extracting(ProductStock::branchName)
+          .containsExactly("Vacía");
+      assertThat(rows)
+          .filteredOn(row -> row.productId() != null)
+          .extracting(ProductStock::productName, ProductStock::stock, ProductStock::branchName)
+          .containsExactlyInAnyOrder(
+              tuple("Producto 0", 1, "Centro"),
+              tuple("Producto 1", 1, "Centro"),
+              tuple("Producto 2", 1, "Centro"));
+    }
+  }
+
+  @Nested
+  @DisplayName("findPageByBranchId - Listado paginado por stock")
+  class FindPageByBranchIdTests {
+
+    private UUID givenBranchWithStocks(int... stocks) {
+      FranchiseEntity franchise =
+          franchiseRepository.save(FranchiseEntity.builder().name("Burger King").build());
+      BranchEntity branch =
+          branchRepository.save(BranchEntity.builder().name("Centro").franchise(franchise).build());
+      for (int i = 0; i < stocks.length; i++) {
+        productRepository.save(
+            ProductEntity.builder().name("Producto " + i).stock(stocks[i]).branch(branch).build());
+      }
+      // La consulta va por JDBC, así que las filas deben existir en la base de datos
+      entityManager.flush();
+      entityManager.clear();
+      return branch.getId();
+    }
+
+    private List<Product> walk(UUID branchId, Integer minStock, Integer maxStock, int size) {
+      List<Product> all = new ArrayList<>();
+      List<Product> page =
+          adapter.findPageByBranchId(branchId, minStock, maxStock, null, null, size);
+      while (!page.isEmpty()) {
+        all.addAll(page);
+        Product last = page.get(page.size() - 1);
+        page =
+            adapter.findPageByBranchId(
+                branchId, minStock, maxStock, last.getStock(), last.getId(), size);
+      }
+      return all;
+    }
+
+    @Test
+    @DisplayName("Debe recorrer los productos por stock descendente sin repetir ni saltar empates")
+    void shouldWalkProductsByStockWithoutGapsOrDuplicatesOnTies() {
+      // Arrange
+      UUID branchId = givenBranchWithStocks(10, 30, 10, 0, 10, 20);
+
+      // Act
+      List<Product> products = walk(branchId, null, null, 2);
+
+      // Assert
+      assertThat(products).extracting(Product::getStock).containsExactly(30, 20, 10, 10, 10, 0);
+      assertThat(products).extracting(Product::getId).doesNotHaveDuplicates();
+      assertThat(products).allSatisfy(p -> assertThat(p.getBranchId()).isEqualTo(branchId));
+    }
+
+    @Test
+    @DisplayName("Debe aplicar el rango de stock en todas las páginas")
+    void shouldApplyStockRangeOnEveryPage() {
+      // Arrange
+      UUID branchId = givenBranchWithStocks(5, 15, 25, 35, 15);
+
+      // Act
+      List<Product> products = walk(branchId, 10, 30, 1);
+
+      // Assert
+      assertThat(products).extracting(Product::getStock).containsExactly(25, 15, 15);
+    }
+
+    @Test
+    @DisplayName("Debe limitar la página y excluir productos de otras sucursales")
+    void shouldLimitPageAndExcludeOtherBranches() {
+      // Arrange
+      UUID branchId = givenBranchWithStocks(1, 2, 3);
+      givenProducts(4);
+
+      // Act
+      List<Product> page = adapter.findPageByBranchId(branchId, null, null, null, null, 2);
+
+      // Assert
+      assertThat(page).extracting(Product::getStock).containsExactly(3, 2);
+      assertThat(page).allSatisfy(p -> assertThat(p.getVersion()).isZero());
+    }
+  }
+}
@@ -10,6 +10,7 @@ import com.accenture.franchise.domain.model.Branch;
 import com.accenture.franchise.domain.model.Franchise;
 import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.BranchEntity;
 import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.projection.FranchiseHeaderProjection;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -362,6 +363,45 @@ class FranchisePersistenceMapperTest {
     }
   }
 
+  @Nested
+  @DisplayName("toFranchiseHeader - Mapeo de la proyección de listado")
+  class ToFranchiseHeaderTests {
+
+    @Test
+    @DisplayName("Debe mapear la proyección a una franquicia sin sucursales")
+    void shouldMapProjectionToFranchiseWithoutBranches() {
+      // Arrange
+      UUID franchiseId = UUID.randomUUID();
+      FranchiseHeaderProjection projection =
+          new FranchiseHeaderProjection() {
+            @Override
+            public UUID getId() {
+              return franchiseId;
+            }
+
+            @Override
+            public String getName() {
+              return "Subway";
+            }
+          };
+
+      // Act
+      Franchise franchise = franchisePersistenceMapper.toFranchiseHeader(projection);
+
+      // Assert
+      assertThat(franchise.getId()).isEqualTo(franchiseId);
+      assertThat(franchise.getName()).isEqualTo("Subway");
+      assertThat(franchise.getBranches()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe retornar null cuando la proyección es null")
+    void shouldReturnNullWhenProjectionIsNull() {
+      // Act & Assert
+      assertThat(franchisePersistenceMapper.toFranchiseHeader(null)).isNull();
+    }
+  }
+
   @Nested
   @DisplayName("Casos de integración - Mapeo bidireccional")
   class IntegrationTests {
@@ -167,6 +167,27 @@ class ProductPersistenceMapperTest {
     }
   }
 
+  @Nested
+  @DisplayName("Versión - Control de concurrencia optimista")
+  class VersionTests {
+
+    @Test
+    @DisplayName("Debe conservar la versión en ambos sentidos del mapeo")
+    void shouldPreserveVersionBothWays() {
+      // Arrange
+      Product product =
+          Product.builder().id(UUID.randomUUID()).name("Pizza").stock(5).version(7L).build();
+
+      // Act
+      ProductEntity productEntity = productPersistenceMapper.toEntity(product);
+      Product mapped = productPersistenceMapper.toDomain(productEntity);
+
+      // Assert
+      assertThat(productEntity.getVersion()).isEqualTo(7L);
+      assertThat(mapped.getVersion()).isEqualTo(7L);
+    }
+  }
+
   @Nested
   @DisplayName("toEntity - Mapeo de Product a ProductEntity")
   class ToEntityTests {
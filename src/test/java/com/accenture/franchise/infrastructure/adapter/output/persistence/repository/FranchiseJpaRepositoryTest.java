@@ -207,8 +207,8 @@ class FranchiseJpaRepositoryTest {
   }
 
   @Nested
-  @DisplayName("findByIdWithBranchesAndProducts - Buscar con relaciones")
-  class FindByIdWithBranchesAndProductsTests {
+  @DisplayName("findByIdWithBranches - Buscar con relaciones")
+  class FindByIdWithBranchesTests {
 
     @Test
     @DisplayName("Debe cargar franquicia con sucursales y productos")
@@ -238,7 +238,7 @@ class FranchiseJpaRepositoryTest {
 
       // Act
       Optional<FranchiseEntity> foundFranchise =
-          franchiseRepository.findByIdWithBranchesAndProducts(franchiseId);
+          franchiseRepository.findByIdWithBranches(franchiseId);
 
       // Assert
       assertThat(foundFranchise).isPresent();
@@ -262,7 +262,7 @@ class FranchiseJpaRepositoryTest {
 
       // Act
       Optional<FranchiseEntity> foundFranchise =
-          franchiseRepository.findByIdWithBranchesAndProducts(franchiseId);
+          franchiseRepository.findByIdWithBranches(franchiseId);
 
       // Assert
       assertThat(foundFranchise).isPresent();
@@ -278,7 +278,7 @@ class FranchiseJpaRepositoryTest {
 
       // Act
       Optional<FranchiseEntity> foundFranchise =
-          franchiseRepository.findByIdWithBranchesAndProducts(nonExistentId);
+          franchiseRepository.findByIdWithBranches(nonExistentId);
 
       // Assert
       assertThat(foundFranchise).isEmpty();
@@ -1,10 +1,12 @@
 package com.accenture.franchise.infrastructure.adapter.output.persistence.repository;
 
+import static com.accenture.franchise.support.SqlStatements.assertStatementCount;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.BranchEntity;
 import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
 import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.ProductEntity;
+import jakarta.persistence.EntityManager;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -27,6 +29,7 @@ class ProductJpaRepositoryTest {
   @Autowired private ProductJpaRepository productRepository;
   @Autowired private BranchJpaRepository branchRepository;
   @Autowired private FranchiseJpaRepository franchiseRepository;
+  @Autowired private EntityManager entityManager;
 
   @AfterEach
   void cleanup() {
@@ -324,4 +327,46 @@ class ProductJpaRepositoryTest {
       assertThat(count).isEqualTo(8);
     }
   }
+
+  @Nested
+  @DisplayName("Sentencias SQL por consulta")
+  class StatementCountTests {
+
+    private BranchEntity givenBranchWithProducts(int products) {
+      FranchiseEntity franchise =
+          franchiseRepository.save(FranchiseEntity.builder().name("McDonald's").build());
+      BranchEntity branch =
+          branchRepository.save(
+              BranchEntity.builder().name("Sucursal Centro").franchise(franchise).build());
+      for (int i = 0; i < products; i++) {
+        productRepository.save(
+            ProductEntity.builder().name("Producto " + i).stock(i).branch(branch).build());
+      }
+      // Las inserciones pendientes se vaciarían dentro de la consulta medida
+      entityManager.flush();
+      entityManager.clear();
+      return branch;
+    }
+
+    @Test
+    @DisplayName("Debe listar los productos de una sucursal en una sola sentencia")
+    void shouldListBranchProductsInSingleStatement() {
+      // Arrange
+      UUID branchId = givenBranchWithProducts(5).getId();
+
+      // Act & Assert
+      assertStatementCount(1, () -> productRepository.findByBranchIdOrderByStockDesc(branchId));
+    }
+
+    @Test
+    @DisplayName("Debe comprobar la existencia por nombre en una sola sentencia")
+    void shouldCheckExistenceInSingleStatement() {
+      // Arrange
+      UUID branchId = givenBranchWithProducts(2).getId();
+
+      // Act & Assert
+      assertStatementCount(
+          1, () -> productRepository.existsByNameAndBranchId("Producto 1", branchId));
+    }
+  }
 }
@@ -0,0 +1,150 @@
+package com.accenture.franchise.infrastructure.adapter.output.persistence.writebehind;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Pruebas unitarias para {@link StockWriteLog}. */
+@DisplayName("StockWriteLog - Pruebas Unitarias")
+class StockWriteLogTest {
+
+  @TempDir private Path directory;
+
+  private List<Map.Entry<UUID, PendingStock>> replay(StockWriteLog log, List<Path> segments)
+      throws IOException {
+    List<Map.Entry<UUID, PendingStock>> writes = new ArrayList<>();
+    log.replay(segments, (id, write) -> writes.add(Map.entry(id, write)));
+    return writes;
+  }
+
+  @Nested
+  @DisplayName("Anexado y reproducción")
+  class ReplayTests {
+
+    @Test
+    @DisplayName("Debe reproducir las escrituras en el orden en que se anexaron")
+    void shouldReplayWritesInAppendOrder() throws IOException {
+      // Arrange
+      UUID productId = UUID.randomUUID();
+      UUID otherId = UUID.randomUUID();
+      try (StockWriteLog log = new StockWriteLog(directory)) {
+        log.append(productId, PendingStock.set(100));
+        log.append(otherId, PendingStock.add(-5));
+        log.append(productId, PendingStock.add(3));
+        log.sync();
+
+        // Act
+        List<Map.Entry<UUID, PendingStock>> writes = replay(log, log.segments());
+
+        // Assert
+        assertThat(writes)
+            .containsExactly(
+                Map.entry(productId, PendingStock.set(100)),
+                Map.entry(otherId, PendingStock.add(-5)),
+                Map.entry(productId, PendingStock.add(3)));
+      }
+    }
+
+    @Test
+    @DisplayName("Debe descartar una línea incompleta al final del segmento")
+    void shouldSkipTruncatedTrailingLine() throws IOException {
+      // Arrange
+      UUID productId = UUID.randomUUID();
+      try (StockWriteLog log = new StockWriteLog(directory)) {
+        log.append(productId, PendingStock.set(10));
+        log.sync();
+        String torn = StockWriteLog.encode(UUID.randomUUID(), PendingStock.set(20));
+        Files.writeString(
+            log.segments().getFirst(),
+            torn.substring(0, torn.length() / 2),
+            StandardCharsets.UTF_8,
+            StandardOpenOption.APPEND);
+
+        // Act
+        List<Map.Entry<UUID, PendingStock>> writes = replay(log, log.segments());
+
+        // Assert
+        assertThat(writes).containsExactly(Map.entry(productId, PendingStock.set(10)));
+      }
+    }
+
+    @Test
+    @DisplayName("Debe descartar una línea cuyo CRC no coincide")
+    void shouldSkipLineWithWrongChecksum() throws IOException {
+      // Arrange
+      UUID productId = UUID.randomUUID();
+      try (StockWriteLog log = new StockWriteLog(directory)) {
+        log.sync();
+        String line = StockWriteLog.encode(productId, PendingStock.add(7));
+        Files.writeString(
+            log.segments().getFirst(),
+            line.replace(" 7\n", " 8\n"),
+            StandardCharsets.UTF_8,
+            StandardOpenOption.APPEND);
+
+        // Act & Assert
+        assertThat(replay(log, log.segments())).isEmpty();
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Rotación de segmentos")
+  class RotateTests {
+
+    @Test
+    @DisplayName("Debe devolver el segmento cerrado y anexar en uno nuevo")
+    void shouldReturnClosedSegmentAndAppendToNewOne() throws IOException {
+      // Arrange
+      UUID before = UUID.randomUUID();
+      UUID after = UUID.randomUUID();
+      try (StockWriteLog log = new StockWriteLog(directory)) {
+        log.append(before, PendingStock.set(1));
+
+        // Act
+        List<Path> closed = log.rotate();
+        log.append(after, PendingStock.set(2));
+        log.sync();
+
+        // Assert
+        assertThat(closed).hasSize(1);
+        assertThat(replay(log, closed)).containsExactly(Map.entry(before, PendingStock.set(1)));
+        log.delete(closed);
+        assertThat(replay(log, log.segments()))
+            .containsExactly(Map.entry(after, PendingStock.set(2)));
+      }
+    }
+
+    @Test
+    @DisplayName("Debe continuar la numeración de los segmentos que ya existían")
+    void shouldContinueSequenceOfExistingSegments() throws IOException {
+      // Arrange
+      UUID productId = UUID.randomUUID();
+      try (StockWriteLog log = new StockWriteLog(directory)) {
+        log.append(productId, PendingStock.add(4));
+      }
+
+      // Act
+      try (StockWriteLog reopened = new StockWriteLog(directory)) {
+        List<Path> segments = reopened.segments();
+
+        // Assert
+        assertThat(segments).hasSize(2);
+        assertThat(replay(reopened, segments.subList(0, 1)))
+            .containsExactly(Map.entry(productId, PendingStock.add(4)));
+      }
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package com.accenture.franchise.infrastructure.adapter.output.persistence.writebehind;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.accenture.franchise.application.dto.UpdateProductStockRequest;
+import com.accenture.franchise.application.usecase.product.UpdateProductStockUseCase;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** Pruebas unitarias para {@link WriteBehindFlushAdvisor}. */
+@DisplayName("WriteBehindFlushAdvisor - Pruebas Unitarias")
+class WriteBehindFlushAdvisorTest {
+
+  private final WriteBehindFlushAdvisor advisor = new WriteBehindFlushAdvisor(() -> null);
+
+  @Nested
+  @DisplayName("matches - Selección de métodos")
+  class MatchesTests {
+
+    @Test
+    @DisplayName("Debe aplicarse a la actualización con versión esperada")
+    void shouldMatchConditionalUpdate() throws Exception {
+      // Act
+      boolean matches =
+          advisor.matches(
+              UpdateProductStockUseCase.class.getMethod(
+                  "execute", UUID.class, UpdateProductStockRequest.class, Long.class),
+              UpdateProductStockUseCase.class);
+
+      // Assert
+      assertThat(matches).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe ignorar la actualización sin versión esperada")
+    void shouldNotMatchUnconditionalUpdate() throws Exception {
+      // Act
+      boolean matches =
+          advisor.matches(
+              UpdateProductStockUseCase.class.getMethod(
+                  "execute", UUID.class, UpdateProductStockRequest.class),
+              UpdateProductStockUseCase.class);
+
+      // Assert
+      assertThat(matches).isFalse();
+    }
+  }
+}
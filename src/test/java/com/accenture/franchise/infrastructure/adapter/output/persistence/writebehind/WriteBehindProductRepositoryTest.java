@@ -0,0 +1,225 @@
+package com.accenture.franchise.infrastructure.adapter.output.persistence.writebehind;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.accenture.franchise.domain.model.Product;
+import com.accenture.franchise.domain.model.StockChange;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.ProductPersistenceAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionOperations;
+
+/** Pruebas unitarias para {@link WriteBehindProductRepository}. */
+@DisplayName("WriteBehindProductRepository - Pruebas Unitarias")
+class WriteBehindProductRepositoryTest {
+
+  @TempDir private Path directory;
+
+  private final ProductPersistenceAdapter delegate = mock(ProductPersistenceAdapter.class);
+  private final UUID productId = UUID.randomUUID();
+  private final Product stored =
+      Product.builder()
+          .id(productId)
+          .name("Hamburguesa")
+          .stock(50)
+          .branchId(UUID.randomUUID())
+          .version(3L)
+          .build();
+
+  private WriteBehindStockBuffer buffer;
+  private WriteBehindProductRepository repository;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    buffer =
+        new WriteBehindStockBuffer(
+            directory,
+            delegate,
+            TransactionOperations.withoutTransaction(),
+            new SimpleMeterRegistry(),
+            100,
+            Duration.ofHours(1));
+    repository = new WriteBehindProductRepository(delegate, buffer);
+    given(delegate.findById(productId)).willReturn(Optional.of(stored));
+    given(delegate.findStoredById(productId)).willReturn(Optional.of(stored));
+    given(delegate.save(any(Product.class))).willAnswer(invocation -> invocation.getArgument(0));
+  }
+
+  private Product edited(String name, int stock) {
+    return Product.builder()
+        .id(productId)
+        .name(name)
+        .stock(stock)
+        .branchId(stored.getBranchId())
+        .version(stored.getVersion())
+        .build();
+  }
+
+  private Product savedByDelegate() {
+    ArgumentCaptor<Product> captor = ArgumentCaptor.forClass(Product.class);
+    verify(delegate).save(captor.capture());
+    return captor.getValue();
+  }
+
+  @Nested
+  @DisplayName("save - Guardado de productos")
+  class SaveTests {
+
+    @Test
+    @DisplayName("Debe delegar el guardado si el producto no tiene escrituras pendientes")
+    void shouldDelegateSaveWhenNothingPending() {
+      // Arrange
+      Product product = edited("Hamburguesa Doble", 50);
+
+      // Act
+      repository.save(product);
+
+      // Assert
+      verify(delegate).save(product);
+      verify(delegate, never()).findStoredById(any());
+    }
+
+    @Test
+    @DisplayName("Debe guardar sobre el stock persistido sin volcar lo pendiente")
+    void shouldSaveOverStoredStockWithoutFlushing() {
+      // Arrange
+      buffer.adjust(productId, 5, () -> Optional.of(stored));
+
+      // Act
+      Product result = repository.save(edited("Hamburguesa Doble", 55));
+
+      // Assert
+      Product saved = savedByDelegate();
+      assertThat(saved.getStock()).isEqualTo(50);
+      assertThat(saved.getVersion()).isEqualTo(3L);
+      assertThat(result.getName()).isEqualTo("Hamburguesa Doble");
+      assertThat(result.getStock()).isEqualTo(55);
+      verify(delegate, never()).adjustStocks(anyMap());
+      verify(delegate, never()).updateStocks(anyList());
+    }
+
+    @Test
+    @DisplayName("Debe aceptar en el búfer un stock distinto del leído")
+    void shouldBufferChangedStock() {
+      // Arrange
+      buffer.adjust(productId, 5, () -> Optional.of(stored));
+
+      // Act
+      Product result = repository.save(edited("Hamburguesa", 70));
+
+      // Assert
+      assertThat(savedByDelegate().getStock()).isEqualTo(50);
+      assertThat(result.getStock()).isEqualTo(70);
+      assertThat(repository.findById(productId)).get().extracting(Product::getStock).isEqualTo(70);
+    }
+  }
+
+  @Nested
+  @DisplayName("updateStock - Actualización con versión esperada")
+  class VersionedUpdateTests {
+
+    @Test
+    @DisplayName("Debe devolver vacío sin escribir si el producto tiene escrituras pendientes")
+    void shouldReturnEmptyWhenProductHasPendingWrites() {
+      // Arrange
+      buffer.adjust(productId, 5, () -> Optional.of(stored));
+
+      // Act
+      Optional<Product> result = repository.updateStock(productId, 80, 3L);
+
+      // Assert
+      assertThat(result).isEmpty();
+      verify(delegate, never()).updateStock(any(), anyInt(), any());
+      verify(delegate, never()).adjustStocks(anyMap());
+    }
+
+    @Test
+    @DisplayName("Debe delegar si el producto no tiene escrituras pendientes")
+    void shouldDelegateWhenNothingPending() {
+      // Arrange
+      given(delegate.updateStock(productId, 80, 3L)).willReturn(Optional.of(stored));
+
+      // Act
+      Optional<Product> result = repository.updateStock(productId, 80, 3L);
+
+      // Assert
+      assertThat(result).contains(stored);
+      verify(delegate).updateStock(productId, 80, 3L);
+    }
+  }
+
+  @Nested
+  @DisplayName("adjustStock - Ajuste relativo")
+  class AdjustStockTests {
+
+    @Test
+    @DisplayName("Debe validar el ajuste contra el stock de la base de datos y no el de la caché")
+    void shouldValidateAdjustmentAgainstStoredStock() {
+      // Arrange
+      Product cached =
+          Product.builder()
+              .id(productId)
+              .name(stored.getName())
+              .stock(100)
+              .branchId(stored.getBranchId())
+              .version(stored.getVersion())
+              .build();
+      given(delegate.findById(productId)).willReturn(Optional.of(cached));
+
+      // Act
+      Optional<Product> rejected = repository.adjustStock(productId, -60);
+      Optional<Product> accepted = repository.adjustStock(productId, -50);
+
+      // Assert
+      assertThat(rejected).isEmpty();
+      assertThat(accepted).get().extracting(Product::getStock).isEqualTo(0);
+      verify(delegate, never()).findById(productId);
+    }
+  }
+
+  @Nested
+  @DisplayName("updateStocks - Actualización masiva")
+  class BulkUpdateTests {
+
+    @Test
+    @DisplayName("Debe enviar al búfer los productos pendientes y el resto a la base de datos")
+    void shouldRoutePendingProductsThroughBuffer() {
+      // Arrange
+      UUID otherId = UUID.randomUUID();
+      buffer.adjust(productId, 5, () -> Optional.of(stored));
+      List<StockChange> direct = List.of(new StockChange(otherId, 9));
+      given(delegate.updateStocks(direct)).willReturn(Set.of(otherId));
+
+      // Act
+      Set<UUID> updated =
+          repository.updateStocks(
+              List.of(new StockChange(productId, 30), new StockChange(otherId, 9)));
+
+      // Assert
+      assertThat(updated).containsExactlyInAnyOrder(productId, otherId);
+      verify(delegate).updateStocks(direct);
+      verify(delegate, never()).adjustStocks(anyMap());
+      assertThat(repository.findById(productId)).get().extracting(Product::getStock).isEqualTo(30);
+    }
+  }
+}
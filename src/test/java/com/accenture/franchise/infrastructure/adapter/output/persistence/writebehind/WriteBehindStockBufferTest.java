@@ -0,0 +1,283 @@
+package com.accenture.franchise.infrastructure.adapter.output.persistence.writebehind;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.accenture.franchise.domain.model.Product;
+import com.accenture.franchise.domain.model.StockChange;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.ProductPersistenceAdapter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionOperations;
+
+/** Pruebas unitarias para {@link WriteBehindStockBuffer}. */
+@DisplayName("WriteBehindStockBuffer - Pruebas Unitarias")
+class WriteBehindStockBufferTest {
+
+  @TempDir private Path directory;
+
+  private final ProductPersistenceAdapter delegate = mock(ProductPersistenceAdapter.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final UUID productId = UUID.randomUUID();
+  private final Product stored =
+      Product.builder()
+          .id(productId)
+          .name("Hamburguesa")
+          .stock(50)
+          .branchId(UUID.randomUUID())
+          .version(3L)
+          .build();
+
+  private WriteBehindStockBuffer buffer;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    buffer = newBuffer();
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (buffer.isRunning()) {
+      buffer.stop();
+    }
+  }
+
+  private WriteBehindStockBuffer newBuffer() throws IOException {
+    return new WriteBehindStockBuffer(
+        directory,
+        delegate,
+        TransactionOperations.withoutTransaction(),
+        meterRegistry,
+        100,
+        Duration.ofHours(1));
+  }
+
+  private double flushed(String outcome) {
+    return meterRegistry
+        .counter(WriteBehindStockBuffer.METRIC_PREFIX + ".flushed", "outcome", outcome)
+        .count();
+  }
+
+  @Nested
+  @DisplayName("Aceptación de escrituras")
+  class AcceptTests {
+
+    @Test
+    @DisplayName("Debe aceptar un stock absoluto sin escribir en la base de datos")
+    void shouldAcceptAbsoluteStockWithoutWritingToDatabase() {
+      // Act
+      Optional<Product> result = buffer.set(productId, 80, () -> Optional.of(stored));
+
+      // Assert
+      assertThat(result).get().extracting(Product::getStock).isEqualTo(80);
+      assertThat(result.get().getVersion()).isNull();
+      assertThat(buffer.hasPending(productId)).isTrue();
+      verify(delegate, never()).updateStocks(anyList());
+    }
+
+    @Test
+    @DisplayName("Debe aplicar los ajustes pendientes al leer el producto")
+    void shouldOverlayPendingAdjustmentsOnRead() {
+      // Arrange
+      buffer.adjust(productId, -10, () -> Optional.of(stored));
+      buffer.adjust(productId, 4, () -> Optional.of(stored));
+
+      // Act
+      Optional<Product> result = buffer.read(productId, () -> Optional.of(stored));
+
+      // Assert
+      assertThat(result).get().extracting(Product::getStock).isEqualTo(44);
+      assertThat(result.get().getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un ajuste que deja el stock negativo contando lo pendiente")
+    void shouldRejectAdjustmentBelowZeroIncludingPending() {
+      // Arrange
+      buffer.adjust(productId, -40, () -> Optional.of(stored));
+
+      // Act
+      Optional<Product> result = buffer.adjust(productId, -11, () -> Optional.of(stored));
+
+      // Assert
+      assertThat(result).isEmpty();
+      assertThat(buffer.read(productId, () -> Optional.of(stored)))
+          .get()
+          .extracting(Product::getStock)
+          .isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Debe devolver vacío si el producto no existe")
+    void shouldReturnEmptyWhenProductNotExists() {
+      // Act & Assert
+      assertThat(buffer.set(productId, 5, Optional::empty)).isEmpty();
+      assertThat(buffer.adjust(productId, 5, Optional::empty)).isEmpty();
+      assertThat(buffer.hasPending(productId)).isFalse();
+    }
+  }
+
+  @Nested
+  @DisplayName("Volcado")
+  class FlushTests {
+
+    @Test
+    @DisplayName("Debe fusionar las escrituras de un producto en una sola sentencia")
+    void shouldCoalesceWritesIntoSingleStatement() {
+      // Arrange
+      given(delegate.updateStocks(anyList())).willReturn(Set.of(productId));
+      buffer.adjust(productId, 5, () -> Optional.of(stored));
+      buffer.set(productId, 20, () -> Optional.of(stored));
+      buffer.adjust(productId, 2, () -> Optional.of(stored));
+
+      // Act
+      buffer.flush();
+
+      // Assert
+      verify(delegate).updateStocks(List.of(new StockChange(productId, 22)));
+      verify(delegate, never()).adjustStocks(anyMap());
+      assertThat(buffer.hasPending(productId)).isFalse();
+      assertThat(flushed("applied")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Debe volcar los deltas acumulados como ajuste relativo")
+    void shouldFlushAccumulatedDeltasAsRelativeAdjustment() {
+      // Arrange
+      given(delegate.adjustStocks(anyMap())).willReturn(Set.of());
+      buffer.adjust(productId, -30, () -> Optional.of(stored));
+      buffer.adjust(productId, -15, () -> Optional.of(stored));
+
+      // Act
+      buffer.flush();
+
+      // Assert
+      verify(delegate).adjustStocks(Map.of(productId, -45));
+      assertThat(flushed("rejected")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Debe apartar en el registro de rechazadas las escrituras no aplicadas")
+    void shouldKeepUnappliedWritesInRejectedLog() throws IOException {
+      // Arrange
+      given(delegate.adjustStocks(anyMap())).willReturn(Set.of());
+      buffer.adjust(productId, -30, () -> Optional.of(stored));
+
+      // Act
+      buffer.flush();
+
+      // Assert
+      assertThat(Files.readString(directory.resolve("rejected.log")))
+          .isEqualTo(StockWriteLog.encode(productId, PendingStock.add(-30)));
+      assertThat(buffer.hasPending(productId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe conservar las escrituras si el volcado falla")
+    void shouldKeepWritesWhenFlushFails() {
+      // Arrange
+      given(delegate.adjustStocks(anyMap())).willThrow(new IllegalStateException("Database down"));
+      buffer.adjust(productId, 5, () -> Optional.of(stored));
+
+      // Act
+      buffer.flush();
+      buffer.adjust(productId, 1, () -> Optional.of(stored));
+
+      // Assert
+      assertThat(buffer.hasPending(productId)).isTrue();
+      assertThat(buffer.read(productId, () -> Optional.of(stored)))
+          .get()
+          .extracting(Product::getStock)
+          .isEqualTo(56);
+      assertThat(meterRegistry.counter(WriteBehindStockBuffer.METRIC_PREFIX + ".flush.failures"))
+          .extracting(Counter::count)
+          .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Debe volcar en el hilo actual al esperar el volcado con el búfer parado")
+    void shouldFlushInCallerThreadWhenAwaitingStoppedBuffer() {
+      // Arrange
+      given(delegate.updateStocks(anyList())).willReturn(Set.of(productId));
+      buffer.set(productId, 20, () -> Optional.of(stored));
+
+      // Act
+      buffer.awaitFlush();
+
+      // Assert
+      verify(delegate).updateStocks(List.of(new StockChange(productId, 20)));
+      assertThat(buffer.hasPending(productId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe fallar al esperar un volcado que no se pudo confirmar")
+    void shouldFailWhenAwaitedFlushFails() {
+      // Arrange
+      given(delegate.updateStocks(anyList())).willThrow(new IllegalStateException("Database down"));
+      buffer.set(productId, 20, () -> Optional.of(stored));
+
+      // Act & Assert
+      assertThatThrownBy(buffer::awaitFlush).isInstanceOf(IllegalStateException.class);
+      assertThat(buffer.hasPending(productId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("No debe escribir nada si no hay escrituras pendientes")
+    void shouldNotWriteWhenNothingPending() {
+      // Act
+      buffer.flush();
+
+      // Assert
+      verify(delegate, never()).updateStocks(any());
+      verify(delegate, never()).adjustStocks(any());
+    }
+  }
+
+  @Nested
+  @DisplayName("Recuperación")
+  class RecoveryTests {
+
+    @Test
+    @DisplayName("Debe volcar al arrancar las escrituras que quedaron en el registro")
+    void shouldFlushLoggedWritesOnStart() throws IOException {
+      // Arrange
+      given(delegate.adjustStocks(anyMap())).willThrow(new IllegalStateException("Crash"));
+      buffer.adjust(productId, 7, () -> Optional.of(stored));
+      buffer.flush();
+      WriteBehindStockBuffer restarted = newBuffer();
+      willReturn(Set.of(productId)).given(delegate).adjustStocks(anyMap());
+
+      // Act
+      restarted.start();
+      restarted.stop();
+
+      // Assert
+      verify(delegate, times(2)).adjustStocks(Map.of(productId, 7));
+      assertThat(restarted.hasPending(productId)).isFalse();
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package com.accenture.franchise.infrastructure.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.accenture.franchise.infrastructure.adapter.output.cache.TwoTierCacheManager;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.cache.autoconfigure.CacheAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** Pruebas unitarias para {@link CacheConfig}. */
+@DisplayName("CacheConfig - Pruebas Unitarias")
+class CacheConfigTest {
+
+  private final ApplicationContextRunner contextRunner =
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(CacheAutoConfiguration.class))
+          .withUserConfiguration(
+              CacheConfig.class, RedisCacheConfig.class, CountingServiceConfig.class)
+          .withPropertyValues("spring.cache.type=simple");
+
+  @Test
+  @DisplayName("Debe activar la caché declarativa aunque la caché no sea Redis")
+  void shouldEnableCachingWithoutRedis() {
+    contextRunner.run(
+        context -> {
+          // Arrange
+          CountingService service = context.getBean(CountingService.class);
+
+          // Act
+          service.load("key");
+          service.load("key");
+
+          // Assert
+          assertThat(context).doesNotHaveBean(TwoTierCacheManager.class);
+          assertThat(service.calls()).isEqualTo(1);
+        });
+  }
+
+  @Configuration
+  static class CountingServiceConfig {
+
+    @Bean
+    CountingService countingService() {
+      return new CountingService();
+    }
+  }
+
+  static class CountingService {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Cacheable("counting")
+    public String load(String key) {
+      calls.incrementAndGet();
+      return key;
+    }
+
+    public int calls() {
+      return calls.get();
+    }
+  }
+}
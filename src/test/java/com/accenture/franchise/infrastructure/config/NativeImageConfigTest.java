@@ -0,0 +1,78 @@
+package com.accenture.franchise.infrastructure.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.accenture.franchise.application.dto.ProductStockResponse;
+import com.accenture.franchise.domain.model.Franchise;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.BranchEntity;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
+import com.accenture.franchise.infrastructure.adapter.output.persistence.entity.ProductEntity;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+/** Pruebas unitarias para las pistas de {@link NativeImageConfig}. */
+@DisplayName("NativeImageConfig - Pruebas Unitarias")
+class NativeImageConfigTest {
+
+  private final RuntimeHints hints = new RuntimeHints();
+
+  @BeforeEach
+  void setUp() {
+    new NativeImageConfig.FranchiseRuntimeHints().registerHints(hints, getClass().getClassLoader());
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @ValueSource(classes = {FranchiseEntity.class, BranchEntity.class, ProductEntity.class})
+  @DisplayName("Debe permitir a Hibernate instanciar las entidades y acceder a sus campos")
+  void shouldRegisterEntitiesForHibernate(Class<?> entity) {
+    // Act & Assert
+    assertThat(
+            RuntimeHintsPredicates.reflection()
+                .onType(entity)
+                .withMemberCategories(
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.ACCESS_DECLARED_FIELDS))
+        .accepts(hints);
+  }
+
+  @Test
+  @DisplayName("Debe registrar los tipos serializados a JSON fuera de los controladores")
+  void shouldRegisterJsonSerializedTypes() {
+    // Act & Assert
+    assertThat(RuntimeHintsPredicates.reflection().onType(Franchise.class)).accepts(hints);
+    assertThat(RuntimeHintsPredicates.reflection().onType(ProductStockResponse.class))
+        .accepts(hints);
+  }
+
+  @Test
+  @DisplayName("Debe registrar los proxies JDBC del conteo de sentencias")
+  void shouldRegisterJdbcProxies() {
+    // Act & Assert
+    assertThat(RuntimeHintsPredicates.proxies().forInterfaces(Connection.class)).accepts(hints);
+    assertThat(RuntimeHintsPredicates.proxies().forInterfaces(PreparedStatement.class))
+        .accepts(hints);
+  }
+
+  @Test
+  @DisplayName("Debe incluir las migraciones de Flyway y la implementación Java de LZ4")
+  void shouldIncludeMigrationsAndLz4JavaImplementation() {
+    // Act & Assert
+    assertThat(
+            RuntimeHintsPredicates.resource()
+                .forResource("db/migration/V1__create_franchises_table.sql"))
+        .accepts(hints);
+    assertThat(
+            RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("net.jpountz.lz4.LZ4JavaSafeCompressor")))
+        .accepts(hints);
+  }
+}
@@ -0,0 +1,51 @@
+package com.accenture.franchise.infrastructure.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.accenture.franchise.domain.model.Branch;
+import com.accenture.franchise.domain.model.Franchise;
+import com.accenture.franchise.domain.model.Product;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Pruebas unitarias para {@link AggregateSizeMetrics}. */
+@DisplayName("AggregateSizeMetrics - Pruebas Unitarias")
+class AggregateSizeMetricsTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AggregateSizeMetrics metrics = new AggregateSizeMetrics(meterRegistry);
+
+  private static Branch branchWith(String name, int products) {
+    Branch branch = Branch.builder().id(UUID.randomUUID()).name(name).build();
+    for (int i = 0; i < products; i++) {
+      branch.addProduct(
+          Product.builder().id(UUID.randomUUID()).name("Producto " + i).stock(i).build());
+    }
+    return branch;
+  }
+
+  @Test
+  @DisplayName("Debe registrar las sucursales de la franquicia y los productos de cada una")
+  void shouldRecordBranchesAndProductsPerBranch() {
+    // Arrange
+    Franchise franchise = Franchise.builder().id(UUID.randomUUID()).name("Franquicia").build();
+    franchise.addBranch(branchWith("Sucursal Centro", 2));
+    franchise.addBranch(branchWith("Sucursal Norte", 4));
+
+    // Act
+    metrics.record(franchise);
+
+    // Assert
+    DistributionSummary branches =
+        meterRegistry.get(AggregateSizeMetrics.BRANCHES_PER_FRANCHISE).summary();
+    DistributionSummary products =
+        meterRegistry.get(AggregateSizeMetrics.PRODUCTS_PER_BRANCH).summary();
+    assertThat(branches.count()).isEqualTo(1);
+    assertThat(branches.totalAmount()).isEqualTo(2.0);
+    assertThat(products.count()).isEqualTo(2);
+    assertThat(products.max()).isEqualTo(4.0);
+  }
+}
@@ -0,0 +1,111 @@
+package com.accenture.franchise.infrastructure.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** Pruebas unitarias para {@link SqlStatementCounter}. */
+@DisplayName("SqlStatementCounter - Pruebas Unitarias")
+class SqlStatementCounterTest {
+
+  private static final String ENDPOINT = "GET /api/v1/franchises/{franchiseId}";
+
+  private static SqlStatementBudget budget(SqlStatementBudget.Mode mode, int limit) {
+    return new SqlStatementBudget(mode, 0, Map.of(ENDPOINT, limit));
+  }
+
+  @Nested
+  @DisplayName("Conteo")
+  class CountTests {
+
+    @Test
+    @DisplayName("Debe ignorar las sentencias fuera de un ámbito")
+    void shouldIgnoreStatementsOutsideScope() {
+      // Act
+      SqlStatementCounter.statementExecuted();
+
+      // Assert
+      try (SqlStatementCounter.Scope scope = SqlStatementCounter.start()) {
+        assertThat(scope.count()).isZero();
+      }
+    }
+
+    @Test
+    @DisplayName("Debe contar cada sentencia en todos los ámbitos anidados")
+    void shouldCountInEveryNestedScope() {
+      // Arrange
+      try (SqlStatementCounter.Scope outer = SqlStatementCounter.start()) {
+        SqlStatementCounter.statementExecuted();
+        try (SqlStatementCounter.Scope inner = SqlStatementCounter.start()) {
+
+          // Act
+          SqlStatementCounter.statementExecuted();
+          SqlStatementCounter.statementExecuted();
+
+          // Assert
+          assertThat(inner.count()).isEqualTo(2);
+        }
+        assertThat(outer.count()).isEqualTo(3);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Presupuesto")
+  class BudgetTests {
+
+    @Test
+    @DisplayName("Debe abortar en la sentencia que supera el presupuesto en modo FAIL")
+    void shouldFailOnStatementOverBudget() {
+      // Arrange
+      SqlStatementBudget budget = budget(SqlStatementBudget.Mode.FAIL, 2);
+
+      try (SqlStatementCounter.Scope scope =
+          SqlStatementCounter.start(() -> budget.limitFor(ENDPOINT))) {
+        SqlStatementCounter.statementExecuted();
+        SqlStatementCounter.statementExecuted();
+
+        // Act & Assert
+        assertThatThrownBy(SqlStatementCounter::statementExecuted)
+            .isInstanceOf(SqlStatementBudgetExceededException.class)
+            .hasMessageContaining(ENDPOINT)
+            .hasMessageContaining("3 statements, budget 2");
+      }
+    }
+
+    @Test
+    @DisplayName("Debe solo marcar el exceso en modo LOG")
+    void shouldOnlyFlagExcessInLogMode() {
+      // Arrange
+      SqlStatementBudget budget = budget(SqlStatementBudget.Mode.LOG, 1);
+
+      try (SqlStatementCounter.Scope scope =
+          SqlStatementCounter.start(() -> budget.limitFor(ENDPOINT))) {
+
+        // Act
+        SqlStatementCounter.statementExecuted();
+        SqlStatementCounter.statementExecuted();
+
+        // Assert
+        assertThat(scope.budget().isExceededBy(scope.count())).isTrue();
+      }
+    }
+
+    @Test
+    @DisplayName("Debe usar el límite por defecto para endpoints sin entrada propia")
+    void shouldUseDefaultLimitForUnlistedEndpoints() {
+      // Arrange
+      SqlStatementBudget budget = new SqlStatementBudget(null, 5, Map.of(ENDPOINT, 0));
+
+      // Act & Assert
+      assertThat(budget.limitFor("GET /api/v1/franchises").statements()).isEqualTo(5);
+      assertThat(budget.limitFor("GET /api/v1/franchises").mode())
+          .isEqualTo(SqlStatementBudget.Mode.LOG);
+      assertThat(budget.limitFor(ENDPOINT)).isNull();
+    }
+  }
+}
@@ -0,0 +1,162 @@
+package com.accenture.franchise.infrastructure.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+/** Pruebas unitarias para {@link SqlStatementCountingFilter}. */
+@DisplayName("SqlStatementCountingFilter - Pruebas Unitarias")
+class SqlStatementCountingFilterTest {
+
+  private static final String PATTERN = "/api/v1/franchises/{franchiseId}";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final MockHttpServletRequest request =
+      new MockHttpServletRequest("GET", "/api/v1/franchises/42");
+  private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+  private SqlStatementCountingFilter filter(SqlStatementBudget.Mode mode, boolean header) {
+    return new SqlStatementCountingFilter(
+        new SqlStatementBudget(mode, 0, Map.of("GET " + PATTERN, 2)), meterRegistry, header);
+  }
+
+  /** Simula un controlador que ejecuta {@code statements} sentencias y escribe un cuerpo. */
+  private FilterChain handlerExecuting(int statements) {
+    return (servletRequest, servletResponse) -> {
+      servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, PATTERN);
+      for (int i = 0; i < statements; i++) {
+        SqlStatementCounter.statementExecuted();
+      }
+      servletResponse.getWriter().write("{}");
+    };
+  }
+
+  @Nested
+  @DisplayName("Métrica y cabecera")
+  class ReportingTests {
+
+    @Test
+    @DisplayName("Debe registrar las sentencias de la petición por patrón de ruta")
+    void shouldRecordStatementsByRoutePattern() throws Exception {
+      // Act
+      filter(SqlStatementBudget.Mode.LOG, false).doFilter(request, response, handlerExecuting(3));
+
+      // Assert
+      DistributionSummary summary =
+          meterRegistry
+              .get(SqlStatementCountingFilter.METRIC_NAME)
+              .tag("method", "GET")
+              .tag("uri", PATTERN)
+              .summary();
+      assertThat(summary.count()).isEqualTo(1);
+      assertThat(summary.totalAmount()).isEqualTo(3.0);
+      assertThat(response.getHeader(SqlStatementCountingFilter.HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe devolver el total en la cabecera sin alterar el cuerpo")
+    void shouldExposeCountInHeader() throws Exception {
+      // Act
+      filter(SqlStatementBudget.Mode.LOG, true).doFilter(request, response, handlerExecuting(1));
+
+      // Assert
+      assertThat(response.getHeader(SqlStatementCountingFilter.HEADER)).isEqualTo("1");
+      assertThat(response.getContentAsString()).isEqualTo("{}");
+    }
+  }
+
+  @Nested
+  @DisplayName("Respuestas en flujo y asíncronas")
+  class StreamingTests {
+
+    @Test
+    @DisplayName("Debe escribir las respuestas NDJSON directamente y sin cabecera")
+    void shouldStreamNdjsonResponseWithoutBuffering() throws Exception {
+      // Arrange
+      AtomicReference<String> sentWhileWriting = new AtomicReference<>();
+      FilterChain exporter =
+          (servletRequest, servletResponse) -> {
+            servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, PATTERN);
+            SqlStatementCounter.statementExecuted();
+            servletResponse.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            servletResponse.getOutputStream().write("{}\n".getBytes(StandardCharsets.UTF_8));
+            servletResponse.flushBuffer();
+            sentWhileWriting.set(response.getContentAsString());
+          };
+
+      // Act
+      filter(SqlStatementBudget.Mode.LOG, true).doFilter(request, response, exporter);
+
+      // Assert
+      assertThat(sentWhileWriting).hasValue("{}\n");
+      assertThat(response.getContentAsString()).isEqualTo("{}\n");
+      assertThat(response.getHeader(SqlStatementCountingFilter.HEADER)).isNull();
+      assertThat(meterRegistry.get(SqlStatementCountingFilter.METRIC_NAME).summary().count())
+          .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe escribir directamente lo que llega tras iniciar una petición asíncrona")
+    void shouldPassThroughBodyWrittenAfterAsyncStart() throws Exception {
+      // Arrange
+      AtomicReference<ServletResponse> asyncResponse = new AtomicReference<>();
+      request.setAsyncSupported(true);
+      FilterChain asyncHandler =
+          (servletRequest, servletResponse) -> {
+            servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, PATTERN);
+            servletRequest.startAsync();
+            asyncResponse.set(servletResponse);
+          };
+
+      // Act
+      filter(SqlStatementBudget.Mode.LOG, true).doFilter(request, response, asyncHandler);
+      asyncResponse.get().getWriter().write("{}");
+
+      // Assert
+      assertThat(response.getContentAsString()).isEqualTo("{}");
+      assertThat(response.getHeader(SqlStatementCountingFilter.HEADER)).isNull();
+    }
+  }
+
+  @Nested
+  @DisplayName("Presupuesto")
+  class BudgetTests {
+
+    @Test
+    @DisplayName("Debe abortar la petición que supera el presupuesto en modo FAIL")
+    void shouldFailRequestOverBudget() {
+      // Act & Assert
+      assertThatThrownBy(
+              () ->
+                  filter(SqlStatementBudget.Mode.FAIL, false)
+                      .doFilter(request, response, handlerExecuting(3)))
+          .isInstanceOf(SqlStatementBudgetExceededException.class);
+      assertThat(meterRegistry.get(SqlStatementCountingFilter.METRIC_NAME).summary().totalAmount())
+          .isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("Debe completar la petición que supera el presupuesto en modo LOG")
+    void shouldCompleteRequestOverBudgetInLogMode() throws Exception {
+      // Act
+      filter(SqlStatementBudget.Mode.LOG, false).doFilter(request, response, handlerExecuting(3));
+
+      // Assert
+      assertThat(response.getContentAsString()).isEqualTo("{}");
+    }
+  }
+}
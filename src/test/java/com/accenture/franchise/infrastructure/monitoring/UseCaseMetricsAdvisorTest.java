@@ -0,0 +1,136 @@
+package com.accenture.franchise.infrastructure.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.accenture.franchise.application.usecase.franchise.GetFranchiseVersionUseCase;
+import com.accenture.franchise.domain.exception.EntityNotFoundException;
+import com.accenture.franchise.domain.repository.FranchiseSummaryRepository;
+import com.accenture.franchise.infrastructure.adapter.output.cache.CacheEntryWeigher;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+/** Pruebas unitarias para {@link UseCaseMetricsAdvisor}. */
+@DisplayName("UseCaseMetricsAdvisor - Pruebas Unitarias")
+class UseCaseMetricsAdvisorTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicInteger registrations = new AtomicInteger();
+  private final UseCaseMetricsAdvisor advisor =
+      new UseCaseMetricsAdvisor(
+          () -> {
+            registrations.incrementAndGet();
+            return meterRegistry;
+          });
+
+  private FranchiseSummaryRepository repository;
+  private GetFranchiseVersionUseCase useCase;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(FranchiseSummaryRepository.class);
+    ProxyFactory proxyFactory = new ProxyFactory(new GetFranchiseVersionUseCase(repository));
+    proxyFactory.setProxyTargetClass(true);
+    proxyFactory.addAdvisor(advisor);
+    useCase = (GetFranchiseVersionUseCase) proxyFactory.getProxy();
+  }
+
+  private Timer timer(String outcome, String exception) {
+    return meterRegistry
+        .find(UseCaseMetricsAdvisor.METRIC_NAME)
+        .tag("usecase", "GetFranchiseVersionUseCase")
+        .tag("outcome", outcome)
+        .tag("exception", exception)
+        .timer();
+  }
+
+  @Nested
+  @DisplayName("Selección de métodos")
+  class MatchingTests {
+
+    @Test
+    @DisplayName("Debe aplicarse a los métodos públicos de los casos de uso")
+    void shouldMatchPublicUseCaseMethods() throws Exception {
+      // Act & Assert
+      assertThat(
+              advisor.matches(
+                  GetFranchiseVersionUseCase.class.getMethod("execute", UUID.class),
+                  GetFranchiseVersionUseCase.class))
+          .isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe ignorar clases fuera de los casos de uso")
+    void shouldIgnoreClassesOutsideUseCases() throws Exception {
+      // Act & Assert
+      assertThat(
+              advisor.matches(
+                  CacheEntryWeigher.class.getMethod("weigh", String.class, Object.class),
+                  CacheEntryWeigher.class))
+          .isFalse();
+    }
+  }
+
+  @Nested
+  @DisplayName("Medición")
+  class TimingTests {
+
+    @Test
+    @DisplayName("Debe medir las ejecuciones correctas por caso de uso")
+    void shouldTimeSuccessfulExecutions() {
+      // Arrange
+      UUID franchiseId = UUID.randomUUID();
+      given(repository.findVersionById(franchiseId)).willReturn(Optional.of(3L));
+
+      // Act
+      useCase.execute(franchiseId);
+      useCase.execute(franchiseId);
+
+      // Assert
+      assertThat(timer("success", "none")).isNotNull();
+      assertThat(timer("success", "none").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Debe etiquetar los fallos con la clase de la excepción")
+    void shouldTagFailuresWithExceptionClass() {
+      // Arrange
+      UUID franchiseId = UUID.randomUUID();
+      given(repository.findVersionById(franchiseId)).willReturn(Optional.empty());
+
+      // Act & Assert
+      assertThatThrownBy(() -> useCase.execute(franchiseId))
+          .isInstanceOf(EntityNotFoundException.class);
+      assertThat(timer("error", "EntityNotFoundException").count()).isEqualTo(1);
+      assertThat(timer("success", "none")).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe reutilizar el timer de cada caso de uso y excepción")
+    void shouldReuseErrorTimerPerUseCaseAndException() {
+      // Arrange
+      UUID franchiseId = UUID.randomUUID();
+      given(repository.findVersionById(franchiseId)).willReturn(Optional.empty());
+
+      // Act
+      for (int i = 0; i < 3; i++) {
+        assertThatThrownBy(() -> useCase.execute(franchiseId))
+            .isInstanceOf(EntityNotFoundException.class);
+      }
+
+      // Assert
+      assertThat(timer("error", "EntityNotFoundException").count()).isEqualTo(3);
+      assertThat(registrations).hasValue(1);
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.accenture.franchise.infrastructure.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** Pruebas unitarias para {@link VirtualThreadPinningMonitor}. */
+@DisplayName("VirtualThreadPinningMonitor - Pruebas Unitarias")
+class VirtualThreadPinningMonitorTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final VirtualThreadPinningMonitor monitor =
+      new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(20));
+
+  private Timer pinned(String source) {
+    return meterRegistry
+        .find(VirtualThreadPinningMonitor.METRIC_NAME)
+        .tag("source", source)
+        .timer();
+  }
+
+  @Nested
+  @DisplayName("Registro de eventos")
+  class EventTests {
+
+    @Test
+    @DisplayName("Debe etiquetar el fijado por el primer marco reconocido")
+    void shouldTagPinningByFirstKnownFrame() {
+      // Act
+      monitor.onPinned(
+          Duration.ofMillis(35),
+          List.of(
+              "java.lang.Object.wait0:-1",
+              "org.postgresql.core.PGStream.receiveChar:480",
+              "com.accenture.franchise.infrastructure.adapter.output.Adapter.load:12"));
+
+      // Assert
+      Timer timer = pinned("jdbc");
+      assertThat(timer).isNotNull();
+      assertThat(timer.count()).isEqualTo(1);
+      assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(35.0);
+    }
+
+    @Test
+    @DisplayName("Debe acumular por capa los fijados de Redis")
+    void shouldAccumulateRedisPinningBySource() {
+      // Act
+      monitor.onPinned(Duration.ofMillis(25), List.of("io.lettuce.core.RedisChannel.write:10"));
+      monitor.onPinned(
+          Duration.ofMillis(30), List.of("org.apache.commons.pool2.impl.Pool.borrow:99"));
+
+      // Assert
+      assertThat(pinned("redis").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Debe usar 'other' cuando no hay marcos reconocidos o no hay pila")
+    void shouldUseOtherWhenNoKnownFrames() {
+      // Act
+      monitor.onPinned(Duration.ofMillis(40), List.of("java.lang.Thread.sleep:1"));
+      monitor.onPinned(Duration.ofMillis(40), List.of());
+
+      // Assert
+      assertThat(pinned("other").count()).isEqualTo(2);
+    }
+  }
+
+  @Nested
+  @DisplayName("Ciclo de vida")
+  class LifecycleTests {
+
+    @Test
+    @DisplayName("Debe abrir la grabación JFR al arrancar y cerrarla al parar")
+    void shouldOpenRecordingOnStartAndCloseOnStop() {
+      // Act
+      monitor.start();
+      boolean runningAfterStart = monitor.isRunning();
+      monitor.stop();
+
+      // Assert
+      assertThat(runningAfterStart).isTrue();
+      assertThat(monitor.isRunning()).isFalse();
+    }
+  }
+}
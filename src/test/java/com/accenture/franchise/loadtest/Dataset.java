@@ -0,0 +1,36 @@
+package com.accenture.franchise.loadtest;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** Identificadores del conjunto de datos sembrado, elegidos al azar por cada petición. */
+record Dataset(List<UUID> franchiseIds, List<UUID> branchIds, List<UUID> productIds) {
+
+  private static final AtomicLong SEQUENCE = new AtomicLong();
+
+  UUID anyFranchise() {
+    return any(franchiseIds);
+  }
+
+  UUID anyBranch() {
+    return any(branchIds);
+  }
+
+  UUID anyProduct() {
+    return any(productIds);
+  }
+
+  /**
+   * Sufijo único para los nombres creados durante la carga; van con su propio prefijo para no
+   * coincidir con los sembrados.
+   */
+  static long nextSequence() {
+    return SEQUENCE.incrementAndGet();
+  }
+
+  private static UUID any(List<UUID> ids) {
+    return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+  }
+}
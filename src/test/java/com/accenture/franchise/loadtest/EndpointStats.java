@@ -0,0 +1,31 @@
+package com.accenture.franchise.loadtest;
+
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Latencias y errores de un endpoint. {@link Recorder} admite registros concurrentes sin bloqueo
+ * desde todos los clientes.
+ */
+final class EndpointStats {
+
+  private final Recorder latencies = new Recorder(3);
+  private final LongAdder errors = new LongAdder();
+
+  void record(long latencyNanos, boolean success) {
+    latencies.recordValue(Math.max(1, latencyNanos / 1_000));
+    if (!success) {
+      errors.increment();
+    }
+  }
+
+  /** Latencias en microsegundos registradas desde la llamada anterior. */
+  Histogram drain() {
+    return latencies.getIntervalHistogram();
+  }
+
+  long errors() {
+    return errors.sum();
+  }
+}
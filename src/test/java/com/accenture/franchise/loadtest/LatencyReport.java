@@ -0,0 +1,51 @@
+package com.accenture.franchise.loadtest;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+/** Tabla de rendimiento y percentiles de latencia por endpoint, en milisegundos. */
+final class LatencyReport {
+
+  private static final String ROW = "%-42s %9s %9s %7s %8s %8s %8s %8s %8s%n";
+
+  private LatencyReport() {}
+
+  static void print(PrintStream out, Map<Operation, EndpointStats> stats, Duration duration) {
+    double seconds = duration.toMillis() / 1000.0;
+    out.printf(ROW, "Endpoint", "Requests", "Req/s", "Errors", "p50", "p90", "p99", "p99.9", "Max");
+
+    Histogram total = new Histogram(3);
+    long totalErrors = 0;
+    for (Map.Entry<Operation, EndpointStats> entry : stats.entrySet()) {
+      Histogram histogram = entry.getValue().drain();
+      if (histogram.getTotalCount() == 0) {
+        continue;
+      }
+      total.add(histogram);
+      totalErrors += entry.getValue().errors();
+      printRow(out, entry.getKey().label(), histogram, entry.getValue().errors(), seconds);
+    }
+    printRow(out, "TOTAL", total, totalErrors, seconds);
+  }
+
+  private static void printRow(
+      PrintStream out, String label, Histogram histogram, long errors, double seconds) {
+    out.printf(
+        ROW,
+        label,
+        histogram.getTotalCount(),
+        String.format("%.1f", histogram.getTotalCount() / seconds),
+        errors,
+        millis(histogram.getValueAtPercentile(50)),
+        millis(histogram.getValueAtPercentile(90)),
+        millis(histogram.getValueAtPercentile(99)),
+        millis(histogram.getValueAtPercentile(99.9)),
+        millis(histogram.getMaxValue()));
+  }
+
+  private static String millis(long micros) {
+    return String.format("%.2f", micros / 1000.0);
+  }
+}
@@ -0,0 +1,98 @@
+package com.accenture.franchise.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lanza las peticiones de la mezcla desde un número fijo de clientes, cada uno en su hilo virtual.
+ *
+ * <p>Sin {@code rate} cada cliente envía la siguiente petición en cuanto recibe la respuesta
+ * anterior (lazo cerrado): mide el rendimiento máximo, pero una pausa del servidor frena a los
+ * clientes y oculta la latencia que habrían sufrido. Con {@code rate} los clientes siguen un
+ * calendario fijo y la latencia se mide desde el instante en que la petición debía salir, así que
+ * los retrasos acumulados sí aparecen en los percentiles.
+ */
+final class LoadGenerator {
+
+  private final HttpClient client;
+  private final URI baseUri;
+  private final Dataset dataset;
+  private final WorkloadMix mix;
+  private final int concurrency;
+  private final int rate;
+
+  LoadGenerator(
+      HttpClient client, URI baseUri, Dataset dataset, WorkloadMix mix, int concurrency, int rate) {
+    this.client = client;
+    this.baseUri = baseUri;
+    this.dataset = dataset;
+    this.mix = mix;
+    this.concurrency = concurrency;
+    this.rate = rate;
+  }
+
+  /** Genera carga durante {@code duration} y devuelve lo registrado por cada operación. */
+  Map<Operation, EndpointStats> run(Duration duration) throws InterruptedException {
+    Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+    for (Operation operation : Operation.values()) {
+      stats.put(operation, new EndpointStats());
+    }
+    long start = System.nanoTime();
+    long deadline = start + duration.toNanos();
+    long interval = rate > 0 ? TimeUnit.SECONDS.toNanos(concurrency) / rate : 0;
+
+    try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < concurrency; i++) {
+        // Escalonar los calendarios para que los clientes no disparen a la vez
+        long firstSend = start + (interval * i) / concurrency;
+        clients.submit(() -> runClient(stats, firstSend, interval, deadline));
+      }
+      clients.shutdown();
+      if (!clients.awaitTermination(duration.toMillis() + 60_000, TimeUnit.MILLISECONDS)) {
+        clients.shutdownNow();
+      }
+    }
+    return stats;
+  }
+
+  private void runClient(
+      Map<Operation, EndpointStats> stats, long firstSend, long interval, long deadline) {
+    long scheduled = firstSend;
+    while (true) {
+      long sendAt;
+      if (interval > 0) {
+        LockSupport.parkNanos(scheduled - System.nanoTime());
+        sendAt = scheduled;
+        scheduled += interval;
+      } else {
+        sendAt = System.nanoTime();
+      }
+      if (sendAt >= deadline || Thread.currentThread().isInterrupted()) {
+        return;
+      }
+      Operation operation = mix.next();
+      boolean success;
+      try {
+        HttpResponse<Void> response =
+            client.send(
+                operation.request(baseUri, dataset), HttpResponse.BodyHandlers.discarding());
+        success = response.statusCode() < 400;
+      } catch (IOException e) {
+        success = false;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      stats.get(operation).record(System.nanoTime() - sendAt, success);
+    }
+  }
+}
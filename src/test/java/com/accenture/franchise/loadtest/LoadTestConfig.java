@@ -0,0 +1,58 @@
+package com.accenture.franchise.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Parámetros de una ejecución de carga, leídos de propiedades de sistema {@code load.*}.
+ *
+ * @param mix mezcla de operaciones: un preset ({@code read-heavy}, {@code write-heavy}, {@code
+ *     top-stock-heavy}) o pesos explícitos como {@code GET_FRANCHISE:8,UPDATE_STOCK:2}
+ * @param concurrency clientes concurrentes
+ * @param rate peticiones por segundo entre todos los clientes; {@code 0} envía sin pausa
+ * @param warmup duración del calentamiento, que no se mide
+ * @param duration duración de la medición
+ * @param franchises franquicias del conjunto de datos
+ * @param branchesPerFranchise sucursales por franquicia
+ * @param productsPerBranch productos por sucursal
+ * @param standIns {@code true} para arrancar PostgreSQL y Redis embebidos; con {@code false} se
+ *     usan los del perfil {@code profile}
+ * @param profile perfil de Spring con el que arranca la aplicación
+ */
+record LoadTestConfig(
+    String mix,
+    int concurrency,
+    int rate,
+    Duration warmup,
+    Duration duration,
+    int franchises,
+    int branchesPerFranchise,
+    int productsPerBranch,
+    boolean standIns,
+    String profile) {
+
+  static LoadTestConfig fromSystemProperties() {
+    return new LoadTestConfig(
+        System.getProperty("load.mix", "read-heavy"),
+        Integer.getInteger("load.concurrency", 64),
+        Integer.getInteger("load.rate", 0),
+        duration("load.warmup", "30s"),
+        duration("load.duration", "60s"),
+        Integer.getInteger("load.franchises", 20),
+        Integer.getInteger("load.branches", 10),
+        Integer.getInteger("load.products", 100),
+        Boolean.parseBoolean(System.getProperty("load.stand-ins", "true")),
+        System.getProperty("load.profile", "loadtest"));
+  }
+
+  /** Acepta segundos ({@code 30s}), minutos ({@code 2m}) o el formato ISO-8601 ({@code PT30S}). */
+  private static Duration duration(String property, String defaultValue) {
+    String value = System.getProperty(property, defaultValue).trim().toLowerCase();
+    if (value.endsWith("s")) {
+      return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+    }
+    if (value.endsWith("m")) {
+      return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+    }
+    return Duration.parse(value.toUpperCase());
+  }
+}
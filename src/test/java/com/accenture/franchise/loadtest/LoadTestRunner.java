@@ -0,0 +1,131 @@
+package com.accenture.franchise.loadtest;
+
+import com.accenture.franchise.FranchiseApiApplication;
+import com.accenture.franchise.application.dto.CreateBranchRequest;
+import com.accenture.franchise.application.dto.CreateFranchiseRequest;
+import com.accenture.franchise.application.dto.ImportProductRow;
+import com.accenture.franchise.application.usecase.branch.AddBranchToFranchiseUseCase;
+import com.accenture.franchise.application.usecase.franchise.CreateFranchiseUseCase;
+import com.accenture.franchise.application.usecase.product.ImportBranchProductsUseCase;
+import com.accenture.franchise.support.StandIns;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.LongStream;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Prueba de carga de extremo a extremo: arranca la aplicación completa, siembra un conjunto de
+ * datos reproducible, genera carga HTTP con la mezcla elegida e imprime el rendimiento y los
+ * percentiles de latencia por endpoint.
+ *
+ * <p>Se ejecuta con {@code ./mvnw -Ploadtest test}; los parámetros se describen en {@link
+ * LoadTestConfig}.
+ */
+public final class LoadTestRunner {
+
+  /** Semilla fija: dos ejecuciones con los mismos parámetros siembran el mismo stock. */
+  private static final long SEED = 42L;
+
+  private LoadTestRunner() {}
+
+  public static void main(String[] args) throws Exception {
+    // DevTools, presente en el classpath de ejecución, relanzaría main en otro hilo: arrancaría
+    // dos veces los sustitutos y el hilo original terminaría con error al abortar su arranque.
+    System.setProperty("spring.devtools.restart.enabled", "false");
+    LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+    WorkloadMix mix = WorkloadMix.parse(config.mix());
+
+    try (StandIns standIns = config.standIns() ? StandIns.start() : null;
+        ConfigurableApplicationContext context = startApplication(config, standIns)) {
+      Dataset dataset = seed(context, config);
+      int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+      HttpClient client =
+          HttpClient.newBuilder()
+              .version(HttpClient.Version.HTTP_1_1)
+              .connectTimeout(Duration.ofSeconds(5))
+              .build();
+      LoadGenerator generator =
+          new LoadGenerator(
+              client,
+              URI.create("http://localhost:" + port),
+              dataset,
+              mix,
+              config.concurrency(),
+              config.rate());
+
+      System.out.printf(
+          "Mix %s, %d clients, rate %s, warmup %s, duration %s%n",
+          mix,
+          config.concurrency(),
+          config.rate() > 0 ? config.rate() + " req/s" : "unbounded",
+          config.warmup(),
+          config.duration());
+      generator.run(config.warmup());
+      LatencyReport.print(System.out, generator.run(config.duration()), config.duration());
+    }
+  }
+
+  /**
+   * Las propiedades se pasan como argumentos de línea de comandos porque tienen prioridad sobre
+   * {@code application.yml}, que ya fija la base de datos, Redis y el perfil activo.
+   */
+  private static ConfigurableApplicationContext startApplication(
+      LoadTestConfig config, StandIns standIns) {
+    List<String> args = new ArrayList<>();
+    args.add("--spring.profiles.active=" + config.profile());
+    args.add("--server.port=0");
+    if (standIns != null) {
+      standIns.properties().forEach((key, value) -> args.add("--" + key + "=" + value));
+    }
+    return new SpringApplicationBuilder(FranchiseApiApplication.class)
+        .run(args.toArray(String[]::new));
+  }
+
+  /** Siembra los datos a través de los casos de uso, como lo haría la API. */
+  private static Dataset seed(ConfigurableApplicationContext context, LoadTestConfig config) {
+    CreateFranchiseUseCase createFranchise = context.getBean(CreateFranchiseUseCase.class);
+    AddBranchToFranchiseUseCase addBranch = context.getBean(AddBranchToFranchiseUseCase.class);
+    ImportBranchProductsUseCase importProducts = context.getBean(ImportBranchProductsUseCase.class);
+
+    Random random = new Random(SEED);
+    String run = Long.toString(System.currentTimeMillis(), 36);
+    List<UUID> franchiseIds = new ArrayList<>();
+    List<UUID> branchIds = new ArrayList<>();
+    for (int f = 0; f < config.franchises(); f++) {
+      UUID franchiseId =
+          createFranchise.execute(new CreateFranchiseRequest("Carga " + run + " " + f)).id();
+      franchiseIds.add(franchiseId);
+      for (int b = 0; b < config.branchesPerFranchise(); b++) {
+        UUID branchId =
+            addBranch.execute(new CreateBranchRequest(franchiseId, "Sucursal " + b)).id();
+        branchIds.add(branchId);
+        importProducts.execute(
+            branchId,
+            LongStream.rangeClosed(1, config.productsPerBranch())
+                .mapToObj(
+                    line -> new ImportProductRow(line, "Producto " + line, random.nextInt(10_000)))
+                .iterator());
+      }
+    }
+
+    List<UUID> productIds =
+        context
+            .getBean(JdbcTemplate.class)
+            .queryForList(
+                "SELECT p.id FROM products p JOIN branches b ON b.id = p.branch_id"
+                    + " JOIN franchises f ON f.id = b.franchise_id WHERE f.name LIKE ?",
+                UUID.class,
+                "Carga " + run + " %");
+    System.out.printf(
+        "Seeded %d franchises, %d branches, %d products%n",
+        franchiseIds.size(), branchIds.size(), productIds.size());
+    return new Dataset(List.copyOf(franchiseIds), List.copyOf(branchIds), productIds);
+  }
+}
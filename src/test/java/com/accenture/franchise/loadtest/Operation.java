@@ -0,0 +1,108 @@
+package com.accenture.franchise.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiFunction;
+
+/** Peticiones que genera la carga, una por endpoint medido. */
+enum Operation {
+  GET_FRANCHISE(
+      "GET /franchises/{id}",
+      (base, data) -> get(base, "/api/v1/franchises/" + data.anyFranchise())),
+  LIST_FRANCHISES("GET /franchises", (base, data) -> get(base, "/api/v1/franchises?size=20")),
+  TOP_STOCK(
+      "GET /franchises/{id}/top-stock-products",
+      (base, data) ->
+          get(base, "/api/v1/franchises/" + data.anyFranchise() + "/top-stock-products")),
+  LIST_BRANCH_PRODUCTS(
+      "GET /branches/{id}/products",
+      (base, data) -> get(base, "/api/v1/branches/" + data.anyBranch() + "/products?size=20")),
+  RENAME_BRANCH(
+      "PATCH /branches/{id}/name",
+      (base, data) ->
+          send(
+              base,
+              "PATCH",
+              "/api/v1/branches/" + data.anyBranch() + "/name",
+              "{\"name\":\"Sucursal carga " + Dataset.nextSequence() + "\"}")),
+  ADD_PRODUCT(
+      "POST /products",
+      (base, data) ->
+          send(
+              base,
+              "POST",
+              "/api/v1/products",
+              "{\"branchId\":\""
+                  + data.anyBranch()
+                  + "\",\"name\":\"Producto carga "
+                  + Dataset.nextSequence()
+                  + "\",\"stock\":"
+                  + stock()
+                  + "}")),
+  UPDATE_STOCK(
+      "PATCH /products/{id}/stock",
+      (base, data) ->
+          send(
+              base,
+              "PATCH",
+              "/api/v1/products/" + data.anyProduct() + "/stock",
+              "{\"stock\":" + stock() + "}")),
+  ADJUST_STOCK(
+      "POST /products/{id}/stock-adjustments",
+      (base, data) ->
+          send(
+              base,
+              "POST",
+              "/api/v1/products/" + data.anyProduct() + "/stock-adjustments",
+              "{\"delta\":" + (ThreadLocalRandom.current().nextBoolean() ? 1 : -1) + "}")),
+  BULK_UPDATE_STOCK(
+      "PATCH /products/stock",
+      (base, data) -> {
+        StringJoiner items = new StringJoiner(",", "{\"items\":[", "]}");
+        for (int i = 0; i < Operation.BULK_SIZE; i++) {
+          items.add("{\"productId\":\"" + data.anyProduct() + "\",\"stock\":" + stock() + "}");
+        }
+        return send(base, "PATCH", "/api/v1/products/stock", items.toString());
+      });
+
+  /** Productos por petición de {@link #BULK_UPDATE_STOCK}. */
+  static final int BULK_SIZE = 20;
+
+  private final String label;
+  private final BiFunction<URI, Dataset, HttpRequest> factory;
+
+  Operation(String label, BiFunction<URI, Dataset, HttpRequest> factory) {
+    this.label = label;
+    this.factory = factory;
+  }
+
+  String label() {
+    return label;
+  }
+
+  HttpRequest request(URI base, Dataset data) {
+    return factory.apply(base, data);
+  }
+
+  /**
+   * Stock aleatorio alto: los ajustes de una unidad no lo agotan, así que un 409 indica un error y
+   * no un efecto del azar.
+   */
+  static int stock() {
+    return ThreadLocalRandom.current().nextInt(1_000, 10_000);
+  }
+
+  private static HttpRequest get(URI base, String path) {
+    return HttpRequest.newBuilder(base.resolve(path)).GET().build();
+  }
+
+  private static HttpRequest send(URI base, String method, String path, String json) {
+    return HttpRequest.newBuilder(base.resolve(path))
+        .header("Content-Type", "application/json")
+        .method(method, BodyPublishers.ofString(json))
+        .build();
+  }
+}
@@ -0,0 +1,90 @@
+package com.accenture.franchise.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Proporción de cada operación en la carga. Cada petición elige su operación al azar según los
+ * pesos, así que la mezcla se cumple en media sin coordinar a los clientes.
+ */
+final class WorkloadMix {
+
+  /** Paneles y consultas: casi todo lecturas. */
+  static final String READ_HEAVY =
+      "GET_FRANCHISE:40,LIST_FRANCHISES:10,TOP_STOCK:20,LIST_BRANCH_PRODUCTS:20,"
+          + "UPDATE_STOCK:5,ADJUST_STOCK:4,ADD_PRODUCT:1";
+
+  /** Terminales de tienda y sincronizaciones de inventario. */
+  static final String WRITE_HEAVY =
+      "GET_FRANCHISE:10,TOP_STOCK:5,LIST_BRANCH_PRODUCTS:5,UPDATE_STOCK:35,ADJUST_STOCK:30,"
+          + "BULK_UPDATE_STOCK:5,ADD_PRODUCT:8,RENAME_BRANCH:2";
+
+  /** Paneles de analítica sondeando el producto con más stock mientras el stock cambia. */
+  static final String TOP_STOCK_HEAVY =
+      "TOP_STOCK:70,GET_FRANCHISE:10,UPDATE_STOCK:10,ADJUST_STOCK:10";
+
+  private final Operation[] operations;
+  private final int[] cumulativeWeights;
+
+  private WorkloadMix(Map<Operation, Integer> weights) {
+    operations = weights.keySet().toArray(Operation[]::new);
+    cumulativeWeights = new int[operations.length];
+    int total = 0;
+    for (int i = 0; i < operations.length; i++) {
+      total += weights.get(operations[i]);
+      cumulativeWeights[i] = total;
+    }
+  }
+
+  /**
+   * Interpreta un preset ({@code read-heavy}, {@code write-heavy}, {@code top-stock-heavy}) o una
+   * lista de pesos {@code OPERACION:peso} separados por comas.
+   */
+  static WorkloadMix parse(String spec) {
+    String weights =
+        switch (spec) {
+          case "read-heavy" -> READ_HEAVY;
+          case "write-heavy" -> WRITE_HEAVY;
+          case "top-stock-heavy" -> TOP_STOCK_HEAVY;
+          default -> spec;
+        };
+    Map<Operation, Integer> parsed = new EnumMap<>(Operation.class);
+    for (String entry : weights.split(",")) {
+      String[] parts = entry.trim().split(":");
+      if (parts.length != 2) {
+        throw new IllegalArgumentException("Invalid workload entry: " + entry);
+      }
+      int weight = Integer.parseInt(parts[1].trim());
+      if (weight > 0) {
+        parsed.merge(Operation.valueOf(parts[0].trim()), weight, Integer::sum);
+      }
+    }
+    if (parsed.isEmpty()) {
+      throw new IllegalArgumentException("Workload mix has no operations: " + spec);
+    }
+    return new WorkloadMix(parsed);
+  }
+
+  Operation next() {
+    int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+    for (int i = 0; i < cumulativeWeights.length; i++) {
+      if (pick < cumulativeWeights[i]) {
+        return operations[i];
+      }
+    }
+    throw new IllegalStateException("Unreachable");
+  }
+
+  @Override
+  public String toString() {
+    StringJoiner joiner = new StringJoiner(",");
+    int previous = 0;
+    for (int i = 0; i < operations.length; i++) {
+      joiner.add(operations[i] + ":" + (cumulativeWeights[i] - previous));
+      previous = cumulativeWeights[i];
+    }
+    return joiner.toString();
+  }
+}
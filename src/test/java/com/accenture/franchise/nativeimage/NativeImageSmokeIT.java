@@ -0,0 +1,258 @@
+package com.accenture.franchise.nativeimage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.accenture.franchise.support.StandIns;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas de humo contra el binario nativo: lo arranca como un proceso aparte apuntando a
+ * PostgreSQL y Redis embebidos y recorre por HTTP los caminos que dependen de los metadatos de
+ * {@code NativeImageConfig} (entidades JPA, caché en Redis, migraciones, proxies JDBC y NDJSON).
+ *
+ * <p>Se ejecutan con {@code ./mvnw -Pnative verify}; sin binario se omiten.
+ */
+@DisplayName("Imagen nativa - Pruebas de Humo")
+class NativeImageSmokeIT {
+
+  private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(30);
+  private static final ObjectMapper JSON = new ObjectMapper();
+  private static final HttpClient CLIENT =
+      HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+  private static StandIns standIns;
+  private static Process application;
+  private static URI baseUri;
+
+  @BeforeAll
+  static void startNativeBinary() throws Exception {
+    Path binary = Path.of(System.getProperty("native.binary", "target/franchise-api"));
+    assumeTrue(Files.isExecutable(binary), "No native binary at " + binary);
+
+    standIns = StandIns.start();
+    int port = freePort();
+    baseUri = URI.create("http://localhost:" + port);
+
+    List<String> command = new ArrayList<>();
+    command.add(binary.toAbsolutePath().toString());
+    command.add("--server.port=" + port);
+    command.add("--logging.level.root=WARN");
+    standIns.properties().forEach((key, value) -> command.add("--" + key + "=" + value));
+    File log = binary.resolveSibling("native-smoke.log").toFile();
+    long start = System.nanoTime();
+    application = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log).start();
+
+    awaitHealthy();
+    long startupMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+    System.out.printf("Native binary healthy after %d ms%n", startupMillis);
+  }
+
+  @AfterAll
+  static void stopNativeBinary() throws Exception {
+    if (application != null) {
+      application.destroy();
+      application.waitFor();
+    }
+    if (standIns != null) {
+      standIns.close();
+    }
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  private static void awaitHealthy() throws Exception {
+    long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+    while (System.nanoTime() < deadline) {
+      assertThat(application.isAlive()).as("native binary exited during startup").isTrue();
+      try {
+        if (get("/actuator/health").statusCode() == 200) {
+          return;
+        }
+      } catch (IOException e) {
+        // Todavía no escucha en el puerto
+      }
+      Thread.sleep(50);
+    }
+    throw new IllegalStateException("Native binary not healthy after " + STARTUP_TIMEOUT);
+  }
+
+  private static HttpResponse<String> get(String path) throws Exception {
+    return send(HttpRequest.newBuilder(baseUri.resolve(path)).GET());
+  }
+
+  private static HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+    return CLIENT.send(request.build(), HttpResponse.BodyHandlers.ofString());
+  }
+
+  private static JsonNode write(String method, String path, String body, int expectedStatus)
+      throws Exception {
+    HttpResponse<String> response =
+        send(
+            HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body)));
+    assertThat(response.statusCode()).as(method + " " + path).isEqualTo(expectedStatus);
+    return JSON.readTree(response.body());
+  }
+
+  private static UUID givenFranchise() throws Exception {
+    String body = "{\"name\":\"Nativa " + UUID.randomUUID() + "\"}";
+    return UUID.fromString(write("POST", "/api/v1/franchises", body, 201).get("id").asText());
+  }
+
+  private static UUID givenBranch(UUID franchiseId) throws Exception {
+    String body = "{\"franchiseId\":\"" + franchiseId + "\",\"name\":\"Sucursal Centro\"}";
+    return UUID.fromString(write("POST", "/api/v1/branches", body, 201).get("id").asText());
+  }
+
+  private static UUID givenProduct(UUID branchId, String name, int stock) throws Exception {
+    String body =
+        "{\"branchId\":\"" + branchId + "\",\"name\":\"" + name + "\",\"stock\":" + stock + "}";
+    return UUID.fromString(write("POST", "/api/v1/products", body, 201).get("id").asText());
+  }
+
+  @Nested
+  @DisplayName("Arranque")
+  class StartupTests {
+
+    @Test
+    @DisplayName("Debe aplicar las migraciones y responder el health con base de datos y Redis")
+    void shouldReportHealthyDatabaseAndRedis() throws Exception {
+      // Act
+      JsonNode health = JSON.readTree(get("/actuator/health").body());
+
+      // Assert
+      assertThat(health.get("status").asText()).isEqualTo("UP");
+      assertThat(health.at("/components/db/status").asText()).isEqualTo("UP");
+      assertThat(health.at("/components/redis/status").asText()).isEqualTo("UP");
+    }
+
+    @Test
+    @DisplayName("Debe servir la documentación OpenAPI")
+    void shouldServeOpenApiDocumentation() throws Exception {
+      // Act
+      HttpResponse<String> response = get("/api-docs");
+
+      // Assert
+      assertThat(response.statusCode()).isEqualTo(200);
+      assertThat(response.body()).contains("/api/v1/franchises");
+    }
+  }
+
+  @Nested
+  @DisplayName("Escritura y lectura de agregados")
+  class AggregateTests {
+
+    @Test
+    @DisplayName("Debe crear y leer una franquicia con sus sucursales y productos")
+    void shouldCreateAndReadFranchise() throws Exception {
+      // Arrange
+      UUID franchiseId = givenFranchise();
+      UUID branchId = givenBranch(franchiseId);
+      givenProduct(branchId, "Big Mac", 50);
+
+      // Act
+      HttpResponse<String> response = get("/api/v1/franchises/" + franchiseId);
+
+      // Assert
+      assertThat(response.statusCode()).isEqualTo(200);
+      JsonNode franchise = JSON.readTree(response.body());
+      assertThat(franchise.get("branchCount").asInt()).isEqualTo(1);
+      assertThat(franchise.get("totalStock").asLong()).isEqualTo(50);
+      assertThat(response.headers().firstValue("ETag")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Debe actualizar el stock a través de la caché y reflejarlo en el top de stock")
+    void shouldUpdateStockThroughCache() throws Exception {
+      // Arrange
+      UUID franchiseId = givenFranchise();
+      UUID branchId = givenBranch(franchiseId);
+      givenProduct(branchId, "Big Mac", 50);
+      UUID papas = givenProduct(branchId, "Papas", 10);
+
+      // Act
+      write("PATCH", "/api/v1/products/" + papas + "/stock", "{\"stock\":90}", 200);
+      write("PATCH", "/api/v1/products/" + papas + "/stock", "{\"stock\":95}", 200);
+      HttpResponse<String> response =
+          get("/api/v1/franchises/" + franchiseId + "/top-stock-products");
+
+      // Assert
+      assertThat(response.statusCode()).isEqualTo(200);
+      JsonNode top = JSON.readTree(response.body()).get(0);
+      assertThat(top.get("productName").asText()).isEqualTo("Papas");
+      assertThat(top.get("stock").asInt()).isEqualTo(95);
+    }
+
+    @Test
+    @DisplayName("Debe listar franquicias y productos de una sucursal")
+    void shouldListFranchisesAndBranchProducts() throws Exception {
+      // Arrange
+      UUID franchiseId = givenFranchise();
+      UUID branchId = givenBranch(franchiseId);
+      givenProduct(branchId, "Nuggets", 5);
+
+      // Act
+      HttpResponse<String> franchises = get("/api/v1/franchises?size=100");
+      HttpResponse<String> products = get("/api/v1/branches/" + branchId + "/products");
+
+      // Assert
+      assertThat(franchises.statusCode()).isEqualTo(200);
+      assertThat(products.statusCode()).isEqualTo(200);
+      assertThat(products.body()).contains("Nuggets");
+    }
+
+    @Test
+    @DisplayName("Debe exportar el catálogo en NDJSON")
+    void shouldExportCatalogAsNdjson() throws Exception {
+      // Arrange
+      UUID franchiseId = givenFranchise();
+      UUID branchId = givenBranch(franchiseId);
+      givenProduct(branchId, "Big Mac", 50);
+      givenProduct(branchId, "Papas", 10);
+
+      // Act
+      HttpResponse<String> response = get("/api/v1/franchises/" + franchiseId + "/export");
+
+      // Assert
+      assertThat(response.statusCode()).isEqualTo(200);
+      assertThat(response.body().lines()).hasSize(2);
+      assertThat(JSON.readTree(response.body().lines().findFirst().orElseThrow()).isObject())
+          .isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe responder 404 para una franquicia inexistente")
+    void shouldReturnNotFoundForUnknownFranchise() throws Exception {
+      // Act
+      HttpResponse<String> response = get("/api/v1/franchises/" + UUID.randomUUID());
+
+      // Assert
+      assertThat(response.statusCode()).isEqualTo(404);
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package com.accenture.franchise.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.accenture.franchise.infrastructure.monitoring.SqlStatementCounter;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+
+/**
+ * Utilidad de pruebas para fijar el número exacto de sentencias SQL de una operación.
+ *
+ * <p>Cuenta todo lo que pasa por el {@code DataSource} de la aplicación (JPA y {@code
+ * JdbcTemplate}) en el hilo actual, así que sirve en las pruebas de repositorios y adapters y
+ * alrededor de {@code mockMvc.perform(...)} en pruebas con el contexto completo. Las escrituras
+ * pendientes de JPA solo cuentan si se vacían dentro de la operación: conviene hacer {@code flush}
+ * y {@code clear} del {@code EntityManager} antes de medir.
+ *
+ * <pre>{@code
+ * assertStatementCount(2, () -> adapter.findById(franchiseId));
+ * }</pre>
+ */
+public final class SqlStatements {
+
+  private SqlStatements() {}
+
+  /** Ejecuta {@code action} y devuelve las sentencias SQL que ha lanzado. */
+  public static long count(ThrowingCallable action) {
+    try (SqlStatementCounter.Scope scope = SqlStatementCounter.start()) {
+      action.call();
+      return scope.count();
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /** Comprueba que {@code action} lanza exactamente {@code expected} sentencias SQL. */
+  public static void assertStatementCount(long expected, ThrowingCallable action) {
+    assertThat(count(action)).as("SQL statements executed").isEqualTo(expected);
+  }
+}
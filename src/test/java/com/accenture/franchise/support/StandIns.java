@@ -0,0 +1,49 @@
+package com.accenture.franchise.support;
+
+import com.github.fppt.jedismock.RedisServer;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * PostgreSQL y Redis locales para la prueba de carga y las pruebas de humo del binario nativo, sin
+ * red ni Docker.
+ *
+ * <p>PostgreSQL es un servidor real con los binarios empaquetados en el jar de {@code
+ * embedded-postgres}, así que las consultas nativas y las migraciones de Flyway se ejecutan igual
+ * que en producción. Redis es {@code jedis-mock}, un servidor compatible escrito en Java que
+ * atiende el protocolo en un puerto local del mismo proceso: sirve para medir el coste del camino
+ * de caché, no la latencia de un Redis real.
+ */
+public final class StandIns implements AutoCloseable {
+
+  private final EmbeddedPostgres postgres;
+  private final RedisServer redis;
+
+  private StandIns(EmbeddedPostgres postgres, RedisServer redis) {
+    this.postgres = postgres;
+    this.redis = redis;
+  }
+
+  public static StandIns start() throws IOException {
+    EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+    RedisServer redis = RedisServer.newRedisServer().start();
+    return new StandIns(postgres, redis);
+  }
+
+  /** Propiedades que apuntan la aplicación a los servicios embebidos. */
+  public Map<String, Object> properties() {
+    return Map.of(
+        "spring.datasource.url", postgres.getJdbcUrl("postgres", "postgres"),
+        "spring.datasource.username", "postgres",
+        "spring.datasource.password", "postgres",
+        "spring.data.redis.host", redis.getHost(),
+        "spring.data.redis.port", redis.getBindPort());
+  }
+
+  @Override
+  public void close() throws IOException {
+    redis.stop();
+    postgres.close();
+  }
+}